@@ -334,6 +334,147 @@ public class ArrayAndCollectionIntegrationTests implements SessionFactoryScopeAw
         assertEq(item, loadedItem);
     }
 
+    @Test
+    void testArrayAndCollectionValuesHavingOnlyNullElements() {
+        var item = new ItemWithArrayAndCollectionValues(
+                1,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                new Integer[] {null},
+                new Long[] {null, null},
+                new Double[] {null},
+                new Boolean[] {null},
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                new HashSet<>(asList((Integer) null)),
+                asList(null, null),
+                asList((Double) null),
+                asList((Boolean) null),
+                null,
+                null,
+                null,
+                null,
+                null);
+        sessionFactoryScope.inTransaction(session -> session.persist(item));
+        assertCollectionContainsExactly(
+                """
+                {
+                    _id: 1,
+                    bytes: null,
+                    chars: null,
+                    ints: null,
+                    longs: null,
+                    doubles: null,
+                    booleans: null,
+                    boxedChars: null,
+                    boxedInts: [null],
+                    boxedLongs: [null, null],
+                    boxedDoubles: [null],
+                    boxedBooleans: [null],
+                    strings: null,
+                    bigDecimals: null,
+                    objectIds: null,
+                    instants: null,
+                    structAggregateEmbeddables: null,
+                    charsCollection: null,
+                    intsCollection: [null],
+                    longsCollection: [null, null],
+                    doublesCollection: [null],
+                    booleansCollection: [null],
+                    stringsCollection: null,
+                    bigDecimalsCollection: null,
+                    objectIdsCollection: null,
+                    instantsCollection: null,
+                    structAggregateEmbeddablesCollection: null
+                }
+                """);
+        var loadedItem = sessionFactoryScope.fromTransaction(
+                session -> session.find(ItemWithArrayAndCollectionValues.class, item.id));
+        assertEq(item, loadedItem);
+    }
+
+    /**
+     * The elements of a BSON array may have a BSON type other than the one the mapped Java type is encoded as, for
+     * example, if the documents were written by another application. Such arrays are decoded via the generic conversion
+     * rather than the fast path for arrays of primitives, arrays of their wrappers, and collections.
+     */
+    @Test
+    void testArrayAndCollectionValuesHavingMismatchedElementTypes() {
+        mongoCollection.insertOne(BsonDocument.parse(
+                """
+                {
+                    _id: 1,
+                    bytes: null,
+                    chars: null,
+                    ints: [{$numberLong: "5"}],
+                    longs: [1, 2],
+                    doubles: [1, {$numberDouble: "2.5"}],
+                    booleans: null,
+                    boxedChars: null,
+                    boxedInts: null,
+                    boxedLongs: [3, null],
+                    boxedDoubles: [null, 4],
+                    boxedBooleans: null,
+                    strings: null,
+                    bigDecimals: null,
+                    objectIds: null,
+                    instants: null,
+                    structAggregateEmbeddables: null,
+                    charsCollection: null,
+                    intsCollection: null,
+                    longsCollection: [null, 6],
+                    doublesCollection: [{$numberLong: "7"}, null],
+                    booleansCollection: null,
+                    stringsCollection: null,
+                    bigDecimalsCollection: null,
+                    objectIdsCollection: null,
+                    instantsCollection: null,
+                    structAggregateEmbeddablesCollection: null
+                }
+                """));
+        var loadedItem = sessionFactoryScope.fromTransaction(
+                session -> session.find(ItemWithArrayAndCollectionValues.class, 1));
+        assertEq(
+                new ItemWithArrayAndCollectionValues(
+                        1,
+                        null,
+                        null,
+                        new int[] {5},
+                        new long[] {1, 2},
+                        new double[] {1, 2.5},
+                        null,
+                        null,
+                        null,
+                        new Long[] {3L, null},
+                        new Double[] {null, 4d},
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        asList(null, 6L),
+                        asList(7d, null),
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null),
+                loadedItem);
+    }
+
     @Test
     void testArrayAndCollectionValuesOfStructAggregateEmbeddablesHavingArraysAndCollections() {
         var arraysAndCollections = new ArraysAndCollections(
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate;
+
+import static com.mongodb.hibernate.cfg.MongoAvailableSettings.CHANGE_STREAM_CACHE_INVALIDATION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.USE_QUERY_CACHE;
+import static org.hibernate.cfg.AvailableSettings.USE_SECOND_LEVEL_CACHE;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.hibernate.junit.InjectMongoCollection;
+import com.mongodb.hibernate.junit.MongoExtension;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import org.bson.BsonDocument;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.SessionFactoryScopeAware;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SessionFactory(exportSchema = false)
+@DomainModel(annotatedClasses = {ChangeStreamCacheInvalidationIntegrationTests.Item.class})
+@ServiceRegistry(
+        settings = {
+            @Setting(name = USE_SECOND_LEVEL_CACHE, value = "true"),
+            @Setting(name = USE_QUERY_CACHE, value = "true"),
+            @Setting(name = CACHE_REGION_FACTORY, value = "org.hibernate.testing.cache.CachingRegionFactory"),
+            @Setting(name = CHANGE_STREAM_CACHE_INVALIDATION, value = "true")
+        })
+@ExtendWith(MongoExtension.class)
+class ChangeStreamCacheInvalidationIntegrationTests implements SessionFactoryScopeAware {
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @InjectMongoCollection(Item.COLLECTION_NAME)
+    private static MongoCollection<BsonDocument> mongoCollection;
+
+    private SessionFactoryScope sessionFactoryScope;
+
+    @Override
+    public void injectSessionFactoryScope(SessionFactoryScope sessionFactoryScope) {
+        this.sessionFactoryScope = sessionFactoryScope;
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        sessionFactoryScope.inTransaction(session -> session.persist(new Item(1, "initial")));
+    }
+
+    @Test
+    void testEntityEvictedOnExternalUpdate() throws InterruptedException {
+        assertThat(findItemString()).isEqualTo("initial");
+        mongoCollection.updateOne(
+                BsonDocument.parse("{_id: 1}"), BsonDocument.parse("{$set: {string: 'updated externally'}}"));
+        assertEventuallyEqual("updated externally", this::findItemString);
+    }
+
+    @Test
+    void testOnlyChangedEntityEvicted() throws InterruptedException {
+        sessionFactoryScope.inTransaction(session -> session.persist(new Item(2, "unchanged")));
+        var cache = sessionFactoryScope.getSessionFactory().getCache();
+        assertThat(cache.containsEntity(Item.class, 1)).isTrue();
+        assertThat(cache.containsEntity(Item.class, 2)).isTrue();
+        mongoCollection.updateOne(
+                BsonDocument.parse("{_id: 1}"), BsonDocument.parse("{$set: {string: 'updated externally'}}"));
+        assertEventuallyEqual(false, () -> cache.containsEntity(Item.class, 1));
+        assertThat(cache.containsEntity(Item.class, 2)).isTrue();
+    }
+
+    @Test
+    void testCachedQueryResultEvictedOnExternalInsert() throws InterruptedException {
+        assertThat(findItemStrings()).containsExactly("initial");
+        mongoCollection.insertOne(BsonDocument.parse("{_id: 2, string: 'inserted externally'}"));
+        assertEventuallyEqual(List.of("initial", "inserted externally"), this::findItemStrings);
+    }
+
+    private String findItemString() {
+        return sessionFactoryScope.fromTransaction(session -> session.find(Item.class, 1).string);
+    }
+
+    private List<String> findItemStrings() {
+        return sessionFactoryScope.fromTransaction(session -> session.createSelectionQuery(
+                        "select string from Item order by id", String.class)
+                .setCacheable(true)
+                .getResultList());
+    }
+
+    private static <T> void assertEventuallyEqual(T expected, Supplier<T> actualSupplier) throws InterruptedException {
+        var deadline = System.nanoTime() + TIMEOUT.toNanos();
+        var actual = actualSupplier.get();
+        while (!expected.equals(actual) && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            actual = actualSupplier.get();
+        }
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Entity
+    @Table(name = Item.COLLECTION_NAME)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    static class Item {
+        static final String COLLECTION_NAME = "items";
+
+        @Id
+        int id;
+
+        String string;
+
+        Item() {}
+
+        Item(int id, String string) {
+            this.id = id;
+            this.string = string;
+        }
+    }
+}
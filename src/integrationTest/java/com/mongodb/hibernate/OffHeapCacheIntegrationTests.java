@@ -0,0 +1,156 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate;
+
+import static com.mongodb.hibernate.cfg.MongoAvailableSettings.OFF_HEAP_CACHE_REGION_MAX_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.USE_QUERY_CACHE;
+import static org.hibernate.cfg.AvailableSettings.USE_SECOND_LEVEL_CACHE;
+import static org.hibernate.cfg.AvailableSettings.USE_STRUCTURED_CACHE;
+
+import com.mongodb.hibernate.junit.MongoExtension;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import org.bson.types.ObjectId;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.SessionFactoryScopeAware;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SessionFactory(exportSchema = false)
+@DomainModel(annotatedClasses = {OffHeapCacheIntegrationTests.Item.class, OffHeapCacheIntegrationTests.Reference.class})
+@ServiceRegistry(
+        settings = {
+            @Setting(name = USE_SECOND_LEVEL_CACHE, value = "true"),
+            @Setting(name = USE_QUERY_CACHE, value = "true"),
+            @Setting(name = USE_STRUCTURED_CACHE, value = "true"),
+            @Setting(name = CACHE_REGION_FACTORY, value = "com.mongodb.hibernate.cache.MongoOffHeapRegionFactory"),
+            @Setting(name = OFF_HEAP_CACHE_REGION_MAX_SIZE, value = "1048576")
+        })
+@ExtendWith(MongoExtension.class)
+class OffHeapCacheIntegrationTests implements SessionFactoryScopeAware {
+    private static final ObjectId OBJECT_ID = new ObjectId("68c1a1b2c3d4e5f6a7b8c9d0");
+
+    private SessionFactoryScope sessionFactoryScope;
+
+    @Override
+    public void injectSessionFactoryScope(SessionFactoryScope sessionFactoryScope) {
+        this.sessionFactoryScope = sessionFactoryScope;
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        sessionFactoryScope.inTransaction(
+                session -> session.persist(new Item(1, "string", new BigDecimal("1.50"), OBJECT_ID)));
+        TestCommandListener.INSTANCE.clear();
+    }
+
+    @Test
+    void testEntityLoadedFromCache() {
+        var item = sessionFactoryScope.fromTransaction(session -> session.find(Item.class, 1));
+        assertThat(item)
+                .usingRecursiveComparison()
+                .isEqualTo(new Item(1, "string", new BigDecimal("1.50"), OBJECT_ID));
+        assertThat(TestCommandListener.INSTANCE.getStartedCommands()).isEmpty();
+    }
+
+    @Test
+    void testCachedQueryResult() {
+        assertThat(findItemStrings()).containsExactly("string");
+        TestCommandListener.INSTANCE.clear();
+        assertThat(findItemStrings()).containsExactly("string");
+        assertThat(TestCommandListener.INSTANCE.getStartedCommands()).isEmpty();
+    }
+
+    @Test
+    void testStructuredEntityEntryEncodedAsDocument() {
+        sessionFactoryScope.inTransaction(session -> session.persist(new Reference(1, "string")));
+        sessionFactoryScope.inTransaction(session -> session.find(Reference.class, 1));
+        sessionFactoryScope.inSession(session -> {
+            var persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(Reference.class);
+            var cacheAccess = persister.getCacheAccessStrategy();
+            var cacheKey = cacheAccess.generateCacheKey(1, persister, session.getFactory(), null);
+            var entry = cacheAccess.get(session, cacheKey);
+            // a structured entry is a `HashMap`, which is encoded as a BSON document rather than Java serialized
+            assertThat(entry).isInstanceOf(HashMap.class);
+            assertThat((HashMap<?, ?>) entry).containsEntry("string", "string");
+        });
+    }
+
+    private List<String> findItemStrings() {
+        return sessionFactoryScope.fromTransaction(session -> session.createSelectionQuery(
+                        "select string from Item", String.class)
+                .setCacheable(true)
+                .getResultList());
+    }
+
+    @Entity
+    @Table(name = Item.COLLECTION_NAME)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    static class Item {
+        static final String COLLECTION_NAME = "items";
+
+        @Id
+        int id;
+
+        String string;
+
+        BigDecimal bigDecimal;
+
+        ObjectId objectId;
+
+        Item() {}
+
+        Item(int id, String string, BigDecimal bigDecimal, ObjectId objectId) {
+            this.id = id;
+            this.string = string;
+            this.bigDecimal = bigDecimal;
+            this.objectId = objectId;
+        }
+    }
+
+    @Entity
+    @Table(name = Reference.COLLECTION_NAME)
+    @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+    static class Reference {
+        static final String COLLECTION_NAME = "references";
+
+        @Id
+        int id;
+
+        String string;
+
+        Reference() {}
+
+        Reference(int id, String string) {
+            this.id = id;
+            this.string = string;
+        }
+    }
+}
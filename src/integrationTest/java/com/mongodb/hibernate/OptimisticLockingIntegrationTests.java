@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.hibernate.junit.InjectMongoCollection;
+import com.mongodb.hibernate.junit.MongoExtension;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.util.Arrays;
+import java.util.List;
+import org.bson.BsonDocument;
+import org.hibernate.Session;
+import org.hibernate.StaleStateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.SessionFactoryScopeAware;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SessionFactory(exportSchema = false)
+@DomainModel(annotatedClasses = {OptimisticLockingIntegrationTests.Item.class})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "2"))
+@ExtendWith(MongoExtension.class)
+class OptimisticLockingIntegrationTests implements SessionFactoryScopeAware {
+
+    @InjectMongoCollection(Item.COLLECTION_NAME)
+    private static MongoCollection<BsonDocument> mongoCollection;
+
+    private SessionFactoryScope sessionFactoryScope;
+
+    @Override
+    public void injectSessionFactoryScope(SessionFactoryScope sessionFactoryScope) {
+        this.sessionFactoryScope = sessionFactoryScope;
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        sessionFactoryScope.inTransaction(session -> session.persist(new Item(1, "initial")));
+    }
+
+    @Test
+    void testUpdateIncrementsVersion() {
+        sessionFactoryScope.inTransaction(session -> session.find(Item.class, 1).string = "updated");
+        assertCollectionContainsExactly("{_id: 1, string: 'updated', version: 1}");
+    }
+
+    @Test
+    void testStaleUpdate() {
+        var staleItem = sessionFactoryScope.fromTransaction(session -> session.find(Item.class, 1));
+        sessionFactoryScope.inTransaction(session -> session.find(Item.class, 1).string = "updated");
+        staleItem.string = "stale";
+        sessionFactoryScope.inStatelessTransaction(session ->
+                assertThatThrownBy(() -> session.update(staleItem)).isInstanceOf(StaleStateException.class));
+        assertCollectionContainsExactly("{_id: 1, string: 'updated', version: 1}");
+    }
+
+    @Test
+    void testStaleDelete() {
+        var staleItem = sessionFactoryScope.fromTransaction(session -> session.find(Item.class, 1));
+        sessionFactoryScope.inTransaction(session -> session.find(Item.class, 1).string = "updated");
+        sessionFactoryScope.inStatelessTransaction(session ->
+                assertThatThrownBy(() -> session.delete(staleItem)).isInstanceOf(StaleStateException.class));
+        assertCollectionContainsExactly("{_id: 1, string: 'updated', version: 1}");
+    }
+
+    @Test
+    void testStaleBatchedUpdate() {
+        sessionFactoryScope.inTransaction(session -> session.persist(new Item(2, "initial")));
+        sessionFactoryScope.inSession(session -> {
+            session.getTransaction().begin();
+            try {
+                var items = List.of(session.find(Item.class, 1), session.find(Item.class, 2));
+                incrementVersionBypassingPersistenceContext(session, 1);
+                items.forEach(item -> item.string = "stale");
+                assertThatThrownBy(session::flush)
+                        .isInstanceOfAny(StaleStateException.class, OptimisticLockException.class);
+            } finally {
+                session.getTransaction().rollback();
+            }
+        });
+        assertCollectionContainsExactly(
+                "{_id: 1, string: 'initial', version: 0}", "{_id: 2, string: 'initial', version: 0}");
+    }
+
+    @Test
+    void testStaleBatchedDelete() {
+        sessionFactoryScope.inTransaction(session -> session.persist(new Item(2, "initial")));
+        sessionFactoryScope.inSession(session -> {
+            session.getTransaction().begin();
+            try {
+                var items = List.of(session.find(Item.class, 1), session.find(Item.class, 2));
+                incrementVersionBypassingPersistenceContext(session, 1);
+                items.forEach(session::remove);
+                assertThatThrownBy(session::flush)
+                        .isInstanceOfAny(StaleStateException.class, OptimisticLockException.class);
+            } finally {
+                session.getTransaction().rollback();
+            }
+        });
+        assertCollectionContainsExactly(
+                "{_id: 1, string: 'initial', version: 0}", "{_id: 2, string: 'initial', version: 0}");
+    }
+
+    /**
+     * Makes the managed {@link Item} stale within the current transaction. Modifying the document via another
+     * transaction would instead make the flush fail with a write conflict.
+     */
+    private static void incrementVersionBypassingPersistenceContext(Session session, int id) {
+        session.createMutationQuery("update Item set version = version + 1 where id = :id")
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+
+    private static void assertCollectionContainsExactly(String... documentsAsJsonObjects) {
+        assertThat(mongoCollection.find())
+                .containsExactly(Arrays.stream(documentsAsJsonObjects)
+                        .map(BsonDocument::parse)
+                        .toArray(BsonDocument[]::new));
+    }
+
+    @Entity
+    @Table(name = Item.COLLECTION_NAME)
+    static class Item {
+        static final String COLLECTION_NAME = "items";
+
+        @Id
+        int id;
+
+        @Version
+        int version;
+
+        String string;
+
+        Item() {}
+
+        Item(int id, String string) {
+            this.id = id;
+            this.string = string;
+        }
+    }
+}
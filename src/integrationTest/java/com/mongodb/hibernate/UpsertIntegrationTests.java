@@ -16,13 +16,15 @@
 
 package com.mongodb.hibernate;
 
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
 
-import com.mongodb.hibernate.internal.FeatureNotSupportedException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.hibernate.junit.InjectMongoCollection;
 import com.mongodb.hibernate.junit.MongoExtension;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import org.bson.BsonDocument;
 import org.hibernate.testing.orm.junit.DomainModel;
 import org.hibernate.testing.orm.junit.SessionFactory;
 import org.hibernate.testing.orm.junit.SessionFactoryScope;
@@ -34,6 +36,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 @DomainModel(annotatedClasses = {UpsertIntegrationTests.Item.class})
 @ExtendWith(MongoExtension.class)
 class UpsertIntegrationTests implements SessionFactoryScopeAware {
+
+    @InjectMongoCollection(Item.COLLECTION_NAME)
+    private static MongoCollection<BsonDocument> mongoCollection;
+
     private SessionFactoryScope sessionFactoryScope;
 
     @Override
@@ -42,10 +48,23 @@ class UpsertIntegrationTests implements SessionFactoryScopeAware {
     }
 
     @Test
-    void unsupported() {
-        var item = new Item(1, 1);
-        sessionFactoryScope.inStatelessTransaction(session ->
-                assertThatThrownBy(() -> session.upsert(item)).isInstanceOf(FeatureNotSupportedException.class));
+    void testUpsertInsertsAbsentDocument() {
+        sessionFactoryScope.inStatelessTransaction(session -> session.upsert(new Item(1, 1)));
+        assertThat(mongoCollection.find()).containsExactly(BsonDocument.parse("{_id: 1, v: 1}"));
+    }
+
+    @Test
+    void testUpsertUpdatesExistingDocument() {
+        sessionFactoryScope.inTransaction(session -> session.persist(new Item(1, 1)));
+        sessionFactoryScope.inStatelessTransaction(session -> session.upsert(new Item(1, 2)));
+        assertThat(mongoCollection.find()).containsExactly(BsonDocument.parse("{_id: 1, v: 2}"));
+    }
+
+    @Test
+    void testUpsertOfUnchangedValues() {
+        sessionFactoryScope.inTransaction(session -> session.persist(new Item(1, 1)));
+        sessionFactoryScope.inStatelessTransaction(session -> session.upsert(new Item(1, 1)));
+        assertThat(mongoCollection.find()).containsExactly(BsonDocument.parse("{_id: 1, v: 1}"));
     }
 
     @Entity
@@ -65,7 +84,7 @@ class UpsertIntegrationTests implements SessionFactoryScopeAware {
 
         Item(int id, int v) {
             this.id = id;
-            v = 1;
+            this.v = v;
         }
     }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.id;
+
+import static com.mongodb.hibernate.internal.MongoConstants.ID_FIELD_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.hibernate.annotations.MongoSequenceGenerator;
+import com.mongodb.hibernate.junit.InjectMongoCollection;
+import com.mongodb.hibernate.junit.MongoExtension;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.ArrayList;
+import java.util.List;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.SessionFactoryScopeAware;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SessionFactory(exportSchema = false)
+@DomainModel(
+        annotatedClasses = {
+            MongoSequenceGeneratorIntegrationTests.ItemPooledLo.class,
+            MongoSequenceGeneratorIntegrationTests.ItemPooled.class,
+            MongoSequenceGeneratorIntegrationTests.ItemPooledLoThreadLocal.class,
+            MongoSequenceGeneratorIntegrationTests.ItemPooledLoIntId.class
+        })
+@ExtendWith(MongoExtension.class)
+class MongoSequenceGeneratorIntegrationTests implements SessionFactoryScopeAware {
+    private static final String COLLECTION_NAME = "items";
+    private static final String SEQUENCES_COLLECTION_NAME = "hibernate_sequences";
+
+    @InjectMongoCollection(SEQUENCES_COLLECTION_NAME)
+    private static MongoCollection<BsonDocument> sequencesCollection;
+
+    private SessionFactoryScope sessionFactoryScope;
+
+    @Override
+    public void injectSessionFactoryScope(SessionFactoryScope sessionFactoryScope) {
+        this.sessionFactoryScope = sessionFactoryScope;
+    }
+
+    @Test
+    void pooledLo() {
+        var items = new ArrayList<ItemPooledLo>();
+        sessionFactoryScope.inTransaction(session -> {
+            for (var i = 0; i < 4; i++) {
+                var item = new ItemPooledLo();
+                session.persist(item);
+                items.add(item);
+            }
+        });
+        assertEquals(List.of(1L, 2L, 3L, 4L), items.stream().map(item -> item.id).toList());
+        assertThat(sequencesCollection.find()).containsExactly(sequence("ItemPooledLo_SEQ", 6));
+    }
+
+    @Test
+    void pooled() {
+        var items = new ArrayList<ItemPooled>();
+        sessionFactoryScope.inTransaction(session -> {
+            for (var i = 0; i < 4; i++) {
+                var item = new ItemPooled();
+                session.persist(item);
+                items.add(item);
+            }
+        });
+        assertEquals(List.of(10L, 11L, 12L, 13L), items.stream().map(item -> item.id).toList());
+    }
+
+    @Test
+    void pooledLoThreadLocal() throws InterruptedException {
+        var first = new ItemPooledLoThreadLocal();
+        var second = new ItemPooledLoThreadLocal();
+        sessionFactoryScope.inTransaction(session -> session.persist(first));
+        var thread = new Thread(() -> sessionFactoryScope.inTransaction(session -> session.persist(second)));
+        thread.start();
+        thread.join();
+        assertEquals(1, first.id);
+        assertEquals(4, second.id);
+        assertThat(sequencesCollection.find()).containsExactly(sequence("custom_sequence", 6));
+    }
+
+    @Test
+    void pooledLoIntId() {
+        var items = new ArrayList<ItemPooledLoIntId>();
+        sessionFactoryScope.inTransaction(session -> {
+            for (var i = 0; i < 2; i++) {
+                var item = new ItemPooledLoIntId();
+                session.persist(item);
+                items.add(item);
+            }
+        });
+        assertEquals(List.of(1, 2), items.stream().map(item -> item.id).toList());
+        assertThat(sequencesCollection.find()).containsExactly(sequence("ItemPooledLoIntId_SEQ", 3));
+    }
+
+    private static BsonDocument sequence(String name, long allocated) {
+        return new BsonDocument(ID_FIELD_NAME, new BsonString(name)).append("allocated", new BsonInt64(allocated));
+    }
+
+    @Entity(name = "ItemPooledLo")
+    @Table(name = COLLECTION_NAME)
+    static class ItemPooledLo {
+        @Id
+        @MongoSequenceGenerator(incrementSize = 3)
+        long id;
+    }
+
+    @Entity(name = "ItemPooled")
+    @Table(name = COLLECTION_NAME)
+    static class ItemPooled {
+        @Id
+        @MongoSequenceGenerator(
+                initialValue = 10,
+                incrementSize = 3,
+                optimizer = MongoSequenceGenerator.Optimizer.POOLED)
+        Long id;
+    }
+
+    @Entity(name = "ItemPooledLoThreadLocal")
+    @Table(name = COLLECTION_NAME)
+    static class ItemPooledLoThreadLocal {
+        @Id
+        @MongoSequenceGenerator(
+                sequenceName = "custom_sequence",
+                incrementSize = 3,
+                optimizer = MongoSequenceGenerator.Optimizer.POOLED_LOTL)
+        long id;
+    }
+
+    @Entity(name = "ItemPooledLoIntId")
+    @Table(name = COLLECTION_NAME)
+    static class ItemPooledLoIntId {
+        @Id
+        @MongoSequenceGenerator(incrementSize = 3)
+        int id;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.id;
+
+import static com.mongodb.hibernate.internal.MongoConstants.ID_FIELD_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.hibernate.annotations.UuidV7Generator;
+import com.mongodb.hibernate.junit.InjectMongoCollection;
+import com.mongodb.hibernate.junit.MongoExtension;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.UUID;
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.UuidRepresentation;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.SessionFactoryScopeAware;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SessionFactory(exportSchema = false)
+@DomainModel(
+        annotatedClasses = {
+            UuidV7AsIdIntegrationTests.ItemGenerated.class,
+            UuidV7AsIdIntegrationTests.ItemGeneratedWithPropertyAccess.class
+        })
+@ExtendWith(MongoExtension.class)
+class UuidV7AsIdIntegrationTests implements SessionFactoryScopeAware {
+    private static final String COLLECTION_NAME = "items";
+
+    @InjectMongoCollection(COLLECTION_NAME)
+    private static MongoCollection<BsonDocument> mongoCollection;
+
+    private SessionFactoryScope sessionFactoryScope;
+
+    @Override
+    public void injectSessionFactoryScope(SessionFactoryScope sessionFactoryScope) {
+        this.sessionFactoryScope = sessionFactoryScope;
+    }
+
+    @Test
+    void insert() {
+        var item = new ItemGenerated();
+        sessionFactoryScope.inTransaction(session -> session.persist(item));
+        assertNotNull(item.id);
+        assertEquals(7, item.id.version());
+        assertThat(mongoCollection.find()).containsExactly(new BsonDocument(ID_FIELD_NAME, toBsonBinary(item.id)));
+    }
+
+    @Test
+    void insertWithPropertyAccess() {
+        var item = new ItemGeneratedWithPropertyAccess();
+        sessionFactoryScope.inTransaction(session -> session.persist(item));
+        assertNotNull(item.getId());
+        assertThat(mongoCollection.find())
+                .containsExactly(new BsonDocument(ID_FIELD_NAME, toBsonBinary(item.getId())));
+    }
+
+    @Test
+    void assignedValue() {
+        var id = new UUID(1, 0);
+        var item = new ItemGenerated();
+        item.id = id;
+        sessionFactoryScope.inTransaction(session -> session.persist(item));
+        assertEquals(id, item.id);
+    }
+
+    @Test
+    void generatedValuesAreOrderedByInsertion() {
+        var first = new ItemGenerated();
+        var second = new ItemGenerated();
+        sessionFactoryScope.inTransaction(session -> {
+            session.persist(first);
+            session.persist(second);
+        });
+        assertThat(mongoCollection.find().sort(Sorts.ascending(ID_FIELD_NAME)))
+                .containsExactly(
+                        new BsonDocument(ID_FIELD_NAME, toBsonBinary(first.id)),
+                        new BsonDocument(ID_FIELD_NAME, toBsonBinary(second.id)));
+    }
+
+    private static BsonBinary toBsonBinary(UUID value) {
+        return new BsonBinary(value, UuidRepresentation.STANDARD);
+    }
+
+    @Entity
+    @Table(name = COLLECTION_NAME)
+    static class ItemGenerated {
+        @Id
+        @UuidV7Generator
+        UUID id;
+    }
+
+    @Entity
+    @Table(name = COLLECTION_NAME)
+    static class ItemGeneratedWithPropertyAccess {
+        private UUID id;
+
+        @Id
+        @UuidV7Generator
+        UUID getId() {
+            return id;
+        }
+
+        ItemGeneratedWithPropertyAccess setId(UUID id) {
+            this.id = id;
+            return this;
+        }
+    }
+}
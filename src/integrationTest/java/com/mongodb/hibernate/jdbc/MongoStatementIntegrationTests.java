@@ -116,6 +116,44 @@ class MongoStatementIntegrationTests {
         });
     }
 
+    @Test
+    void testExecuteFindQuery() {
+
+        insertTestData(
+                session,
+                """
+                {
+                    insert: "books",
+                    documents: [
+                        { _id: 1, publishYear: 1867, title: "War and Peace", author: "Leo Tolstoy" },
+                        { _id: 2, publishYear: 1878, author: "Leo Tolstoy", title: "Anna Karenina" },
+                        { _id: 3, publishYear: 1866, title: "Crime and Punishment", author: "Fyodor Dostoevsky" }
+                    ]
+                }""");
+
+        doWorkAwareOfAutoCommit(connection -> {
+            try (var stmt = connection.createStatement()) {
+                try (var rs = stmt.executeQuery(
+                        """
+                        {
+                            find: "books",
+                            filter: { author: { $eq: "Leo Tolstoy" } },
+                            sort: { publishYear: -1 },
+                            limit: 1,
+                            projection: { author: 1, _id: 0, publishYear: 1, title: 1 }
+                        }""")) {
+                    assertTrue(rs.next());
+                    assertAll(
+                            () -> assertEquals("Leo Tolstoy", rs.getString(1)),
+                            () -> assertEquals(1878, rs.getInt(2)),
+                            () -> assertEquals("Anna Karenina", rs.getString(3)));
+
+                    assertFalse(rs.next());
+                }
+            }
+        });
+    }
+
     @Nested
     class ExecuteUpdateTests {
 
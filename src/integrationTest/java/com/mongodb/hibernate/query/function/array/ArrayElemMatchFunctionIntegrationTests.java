@@ -0,0 +1,210 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.query.function.array;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.List;
+import java.util.Set;
+import org.hibernate.annotations.Struct;
+import org.hibernate.query.sqm.produce.function.FunctionArgumentException;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@DomainModel(annotatedClasses = ArrayElemMatchFunctionIntegrationTests.PurchaseOrder.class)
+class ArrayElemMatchFunctionIntegrationTests extends AbstractQueryIntegrationTests {
+
+    private final PurchaseOrder order1 =
+            new PurchaseOrder(1, new Line[] {new Line("apple", 3), new Line("pear", 10)});
+    private final PurchaseOrder order2 =
+            new PurchaseOrder(2, new Line[] {new Line("apple", 10), new Line("pear", 3)});
+    private final PurchaseOrder order3 = new PurchaseOrder(3, new Line[] {});
+
+    @BeforeEach
+    void beforeEach() {
+        getSessionFactoryScope().inTransaction(session -> {
+            session.persist(order1);
+            session.persist(order2);
+            session.persist(order3);
+        });
+        getTestCommandListener().clear();
+    }
+
+    @Test
+    void testSingleCondition() {
+        assertSelectionQuery(
+                "from PurchaseOrder o where array_elem_match(o.lines, 'qty', '>=', 10) order by o.id",
+                PurchaseOrder.class,
+                """
+                {
+                  "find": "orders",
+                  "filter": {
+                    "lines": {
+                      "$elemMatch": {
+                        "qty": {
+                          "$gte": 10
+                        }
+                      }
+                    }
+                  },
+                  "sort": {
+                    "_id": 1
+                  },
+                  "projection": {
+                    "_id": true,
+                    "lines": true
+                  }
+                }
+                """,
+                List.of(order1, order2),
+                Set.of(PurchaseOrder.COLLECTION_NAME));
+    }
+
+    @Test
+    void testMultipleConditionsOnTheSameElement() {
+        assertSelectionQuery(
+                "from PurchaseOrder o where array_elem_match(o.lines, 'sku', '=', :sku, 'qty', '>', 5)",
+                PurchaseOrder.class,
+                query -> query.setParameter("sku", "apple"),
+                """
+                {
+                  "find": "orders",
+                  "filter": {
+                    "lines": {
+                      "$elemMatch": {
+                        "$and": [
+                          {
+                            "sku": {
+                              "$eq": "apple"
+                            }
+                          },
+                          {
+                            "qty": {
+                              "$gt": 5
+                            }
+                          }
+                        ]
+                      }
+                    }
+                  },
+                  "projection": {
+                    "_id": true,
+                    "lines": true
+                  }
+                }
+                """,
+                List.of(order2),
+                Set.of(PurchaseOrder.COLLECTION_NAME));
+    }
+
+    @Test
+    void testNegated() {
+        assertSelectionQuery(
+                "from PurchaseOrder o where not array_elem_match(o.lines, 'sku', '<>', 'apple') order by o.id",
+                PurchaseOrder.class,
+                """
+                {
+                  "find": "orders",
+                  "filter": {
+                    "lines": {
+                      "$not": {
+                        "$elemMatch": {
+                          "sku": {
+                            "$ne": "apple"
+                          }
+                        }
+                      }
+                    }
+                  },
+                  "sort": {
+                    "_id": 1
+                  },
+                  "projection": {
+                    "_id": true,
+                    "lines": true
+                  }
+                }
+                """,
+                List.of(order3),
+                Set.of(PurchaseOrder.COLLECTION_NAME));
+    }
+
+    @Test
+    void testIncompleteCondition() {
+        assertInvalidArguments("array_elem_match(o.lines, 'sku', '=', 'apple', 'qty')");
+    }
+
+    @Test
+    void testFieldNameNotLiteral() {
+        assertInvalidArguments("array_elem_match(o.lines, :field, '=', 'apple')");
+    }
+
+    @Test
+    void testUnknownOperator() {
+        assertInvalidArguments("array_elem_match(o.lines, 'sku', 'like', 'apple')");
+    }
+
+    private void assertInvalidArguments(String function) {
+        getSessionFactoryScope().inTransaction(session -> {
+            var query = session.createSelectionQuery("from PurchaseOrder o where " + function, PurchaseOrder.class);
+            if (function.contains(":field")) {
+                query.setParameter("field", "sku");
+            }
+            assertThatThrownBy(query::getResultList)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasCauseInstanceOf(FunctionArgumentException.class);
+        });
+    }
+
+    @Entity(name = "PurchaseOrder")
+    @Table(name = PurchaseOrder.COLLECTION_NAME)
+    static class PurchaseOrder {
+        static final String COLLECTION_NAME = "orders";
+
+        @Id
+        int id;
+
+        Line[] lines;
+
+        PurchaseOrder() {}
+
+        PurchaseOrder(int id, Line[] lines) {
+            this.id = id;
+            this.lines = lines;
+        }
+    }
+
+    @Embeddable
+    @Struct(name = "Line")
+    static class Line {
+        String sku;
+        int qty;
+
+        Line() {}
+
+        Line(String sku, int qty) {
+            this.sku = sku;
+            this.qty = qty;
+        }
+    }
+}
@@ -25,6 +25,7 @@ import com.mongodb.hibernate.internal.dialect.MongoAggregateSupport;
 import com.mongodb.hibernate.junit.InjectMongoCollection;
 import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
 import com.mongodb.hibernate.query.Book;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
@@ -36,12 +37,20 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
-@DomainModel(annotatedClasses = {Book.class, UpdatingIntegrationTests.Unsupported.ItemWithNestedValue.class})
+@DomainModel(
+        annotatedClasses = {
+            Book.class,
+            UpdatingIntegrationTests.Counter.class,
+            UpdatingIntegrationTests.Unsupported.ItemWithNestedValue.class
+        })
 class UpdatingIntegrationTests extends AbstractQueryIntegrationTests {
 
     @InjectMongoCollection(Book.COLLECTION_NAME)
     private static MongoCollection<BsonDocument> mongoCollection;
 
+    @InjectMongoCollection(Counter.COLLECTION_NAME)
+    private static MongoCollection<BsonDocument> counterCollection;
+
     private static final List<Book> testingBooks = List.of(
             new Book(1, "War & Peace", 1869, true),
             new Book(2, "Crime and Punishment", 1866, false),
@@ -55,6 +64,14 @@ class UpdatingIntegrationTests extends AbstractQueryIntegrationTests {
         getTestCommandListener().clear();
     }
 
+    private void persistTestingCounters() {
+        getSessionFactoryScope().inTransaction(session -> {
+            session.persist(new Counter(1, "home", 10));
+            session.persist(new Counter(2, "search", 20));
+        });
+        getTestCommandListener().clear();
+    }
+
     @Test
     void testUpdateWithNonZeroMutationCount() {
         assertMutationQuery(
@@ -325,6 +342,330 @@ class UpdatingIntegrationTests extends AbstractQueryIntegrationTests {
                 Set.of(Book.COLLECTION_NAME));
     }
 
+    @Test
+    void testIncrementAssignment() {
+        persistTestingCounters();
+        assertMutationQuery(
+                "update Counter set hits = hits + 1 where id = 1",
+                1,
+                """
+                {
+                  "update": "counters",
+                  "updates": [
+                    {
+                      "multi": true,
+                      "q": {
+                        "_id": {
+                          "$eq": 1
+                        }
+                      },
+                      "u": {
+                        "$inc": {
+                          "hits": 1
+                        }
+                      }
+                    }
+                  ]
+                }
+                """,
+                counterCollection,
+                List.of(
+                        BsonDocument.parse(
+                                """
+                                {
+                                  "_id": 1,
+                                  "name": "home",
+                                  "hits": 11
+                                }
+                                """),
+                        BsonDocument.parse(
+                                """
+                                {
+                                  "_id": 2,
+                                  "name": "search",
+                                  "hits": 20
+                                }
+                                """)),
+                Set.of(Counter.COLLECTION_NAME));
+    }
+
+    @Test
+    void testMultiplicationAssignment() {
+        persistTestingCounters();
+        assertMutationQuery(
+                "update Counter set hits = :factor * hits, name = :name where id = 2",
+                q -> q.setParameter("factor", 2).setParameter("name", "find"),
+                1,
+                """
+                {
+                  "update": "counters",
+                  "updates": [
+                    {
+                      "multi": true,
+                      "q": {
+                        "_id": {
+                          "$eq": 2
+                        }
+                      },
+                      "u": {
+                        "$set": {
+                          "name": "find"
+                        },
+                        "$mul": {
+                          "hits": 2
+                        }
+                      }
+                    }
+                  ]
+                }
+                """,
+                counterCollection,
+                List.of(
+                        BsonDocument.parse(
+                                """
+                                {
+                                  "_id": 1,
+                                  "name": "home",
+                                  "hits": 10
+                                }
+                                """),
+                        BsonDocument.parse(
+                                """
+                                {
+                                  "_id": 2,
+                                  "name": "find",
+                                  "hits": 40
+                                }
+                                """)),
+                Set.of(Counter.COLLECTION_NAME));
+    }
+
+    @Test
+    void testIncrementAssignmentOfNullableField() {
+        getSessionFactoryScope().inTransaction(session -> session.find(Book.class, 1).publishYear = null);
+        getTestCommandListener().clear();
+        assertMutationQuery(
+                "update Book set publishYear = publishYear + 1 where id <= 2",
+                2,
+                """
+                {
+                  "update": "books",
+                  "updates": [
+                    {
+                      "multi": true,
+                      "q": {
+                        "_id": {
+                          "$lte": 2
+                        }
+                      },
+                      "u": [
+                        {
+                          "$set": {
+                            "publishYear": {
+                              "$add": [
+                                "$publishYear",
+                                {
+                                  "$literal": 1
+                                }
+                              ]
+                            }
+                          }
+                        }
+                      ]
+                    }
+                  ]
+                }
+                """,
+                mongoCollection,
+                List.of(
+                        BsonDocument.parse(
+                                """
+                                {
+                                  "_id": 1,
+                                  "title": "War & Peace",
+                                  "outOfStock": true,
+                                  "publishYear": null,
+                                  "isbn13": null,
+                                  "discount": null,
+                                  "price": null
+                                }
+                                """),
+                        BsonDocument.parse(
+                                """
+                                {
+                                  "_id": 2,
+                                  "title": "Crime and Punishment",
+                                  "outOfStock": false,
+                                  "publishYear": 1867,
+                                  "isbn13": null,
+                                  "discount": null,
+                                  "price": null
+                                }
+                                """),
+                        BsonDocument.parse(
+                                """
+                                {
+                                  "_id": 3,
+                                  "title": "Anna Karenina",
+                                  "outOfStock": false,
+                                  "publishYear": 1877,
+                                  "isbn13": null,
+                                  "discount": null,
+                                  "price": null
+                                }
+                                """),
+                        BsonDocument.parse(
+                                """
+                                {
+                                  "_id": 4,
+                                  "title": "The Brothers Karamazov",
+                                  "outOfStock": false,
+                                  "publishYear": 1880,
+                                  "isbn13": null,
+                                  "discount": null,
+                                  "price": null
+                                }
+                                """),
+                        BsonDocument.parse(
+                                """
+                                {
+                                  "_id": 5,
+                                  "title": "War & Peace",
+                                  "outOfStock": false,
+                                  "publishYear": 2025,
+                                  "isbn13": null,
+                                  "discount": null,
+                                  "price": null
+                                }
+                                """)),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Test
+    void testPipelineAssignment() {
+        assertMutationQuery(
+                "update Book set outOfStock = true, publishYear = publishYear - :years where id = 3",
+                q -> q.setParameter("years", 10),
+                1,
+                """
+                {
+                  "update": "books",
+                  "updates": [
+                    {
+                      "multi": true,
+                      "q": {
+                        "_id": {
+                          "$eq": 3
+                        }
+                      },
+                      "u": [
+                        {
+                          "$set": {
+                            "outOfStock": {
+                              "$literal": true
+                            },
+                            "publishYear": {
+                              "$subtract": [
+                                "$publishYear",
+                                {
+                                  "$literal": 10
+                                }
+                              ]
+                            }
+                          }
+                        }
+                      ]
+                    }
+                  ]
+                }
+                """,
+                mongoCollection,
+                List.of(
+                        BsonDocument.parse(
+                                """
+                                {
+                                  "_id": 1,
+                                  "title": "War & Peace",
+                                  "outOfStock": true,
+                                  "publishYear": 1869,
+                                  "isbn13": null,
+                                  "discount": null,
+                                  "price": null
+                                }
+                                """),
+                        BsonDocument.parse(
+                                """
+                                {
+                                  "_id": 2,
+                                  "title": "Crime and Punishment",
+                                  "outOfStock": false,
+                                  "publishYear": 1866,
+                                  "isbn13": null,
+                                  "discount": null,
+                                  "price": null
+                                }
+                                """),
+                        BsonDocument.parse(
+                                """
+                                {
+                                  "_id": 3,
+                                  "title": "Anna Karenina",
+                                  "outOfStock": true,
+                                  "publishYear": 1867,
+                                  "isbn13": null,
+                                  "discount": null,
+                                  "price": null
+                                }
+                                """),
+                        BsonDocument.parse(
+                                """
+                                {
+                                  "_id": 4,
+                                  "title": "The Brothers Karamazov",
+                                  "outOfStock": false,
+                                  "publishYear": 1880,
+                                  "isbn13": null,
+                                  "discount": null,
+                                  "price": null
+                                }
+                                """),
+                        BsonDocument.parse(
+                                """
+                                {
+                                  "_id": 5,
+                                  "title": "War & Peace",
+                                  "outOfStock": false,
+                                  "publishYear": 2025,
+                                  "isbn13": null,
+                                  "discount": null,
+                                  "price": null
+                                }
+                                """)),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Entity(name = "Counter")
+    @Table(name = Counter.COLLECTION_NAME)
+    static class Counter {
+        static final String COLLECTION_NAME = "counters";
+
+        @Id
+        int id;
+
+        String name;
+
+        @Column(nullable = false)
+        int hits;
+
+        Counter() {}
+
+        Counter(int id, String name, int hits) {
+            this.id = id;
+            this.name = name;
+            this.hits = hits;
+        }
+    }
+
     @Nested
     class Unsupported {
         @Test
@@ -357,6 +698,16 @@ class UpdatingIntegrationTests extends AbstractQueryIntegrationTests {
                     "Path expression as update assignment value for field path [publishYear] is not supported");
         }
 
+        @Test
+        void testDivisionAssignment() {
+            var hql = "update Book b set b.publishYear = b.publishYear / 2 where b.id = 4";
+            assertMutationQueryFailure(
+                    hql,
+                    query -> {},
+                    FeatureNotSupportedException.class,
+                    "Arithmetic operator [/] in update assignment value for field path [publishYear] is not supported");
+        }
+
         @Test
         void testStructAggregateEmbeddablePathExpressionAssignment() {
             assertMutationQueryFailure(
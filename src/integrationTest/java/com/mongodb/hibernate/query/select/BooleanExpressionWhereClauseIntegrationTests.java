@@ -59,27 +59,21 @@ class BooleanExpressionWhereClauseIntegrationTests extends AbstractQueryIntegrat
                 Book.class,
                 """
                 {
-                  "aggregate": "books",
-                  "pipeline": [
-                    {
-                      "$match": {
-                        "outOfStock": {
-                          "$eq": %s
-                        }
-                      }
-                    },
-                    {
-                      "$project": {
-                        "_id": true,
-                        "discount": true,
-                        "isbn13": true,
-                        "outOfStock": true,
-                        "price": true,
-                        "publishYear": true,
-                        "title": true
-                      }
+                  "find": "books",
+                  "filter": {
+                    "outOfStock": {
+                      "$eq": %s
                     }
-                  ]
+                  },
+                  "projection": {
+                    "_id": true,
+                    "discount": true,
+                    "isbn13": true,
+                    "outOfStock": true,
+                    "price": true,
+                    "publishYear": true,
+                    "title": true
+                  }
                 }
                 """
                         .formatted(negated ? "false" : "true"),
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.query.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
+import com.mongodb.hibernate.query.Book;
+import com.mongodb.hibernate.query.MongoQueryHints;
+import java.util.List;
+import java.util.Set;
+import org.bson.BsonDocument;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@DomainModel(annotatedClasses = Book.class)
+class CountIntegrationTests extends AbstractQueryIntegrationTests {
+
+    private static final List<Book> testingBooks = List.of(
+            new Book(1, "War and Peace", 1869, true),
+            new Book(2, "Crime and Punishment", 1866, false),
+            new Book(3, "Anna Karenina", 1877, false));
+
+    @BeforeEach
+    void beforeEach() {
+        getSessionFactoryScope().inTransaction(session -> testingBooks.forEach(session::persist));
+        getTestCommandListener().clear();
+    }
+
+    @Test
+    void testCount() {
+        assertSelectionQuery(
+                "select count(*) from Book b where b.outOfStock = false",
+                Long.class,
+                """
+                {
+                  "aggregate": "books",
+                  "pipeline": [
+                    {
+                      "$match": {
+                        "outOfStock": {
+                          "$eq": false
+                        }
+                      }
+                    },
+                    {
+                      "$count": "a0"
+                    },
+                    {
+                      "$project": {
+                        "a0": true,
+                        "_id": false
+                      }
+                    }
+                  ]
+                }
+                """,
+                List.of(2L),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Test
+    void testCountOfNoDocuments() {
+        assertSelectionQuery(
+                "select count(*) from Book b where b.publishYear > 2000",
+                Long.class,
+                """
+                {
+                  "aggregate": "books",
+                  "pipeline": [
+                    {
+                      "$match": {
+                        "publishYear": {
+                          "$gt": 2000
+                        }
+                      }
+                    },
+                    {
+                      "$count": "a0"
+                    },
+                    {
+                      "$project": {
+                        "a0": true,
+                        "_id": false
+                      }
+                    }
+                  ]
+                }
+                """,
+                List.of(0L),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Test
+    void testCountWithHavingIsNotCountStage() {
+        assertSelectionQuery(
+                "select count(*) from Book b having count(*) > 1",
+                Long.class,
+                """
+                {
+                  "aggregate": "books",
+                  "pipeline": [
+                    {
+                      "$facet": {
+                        "grouped": [
+                          {
+                            "$group": {
+                              "_id": null,
+                              "a0": {
+                                "$sum": {"$numberLong": "1"}
+                              }
+                            }
+                          }
+                        ]
+                      }
+                    },
+                    {
+                      "$replaceWith": {
+                        "$ifNull": [
+                          {"$arrayElemAt": ["$grouped", 0]},
+                          {"_id": null, "a0": {"$numberLong": "0"}}
+                        ]
+                      }
+                    },
+                    {
+                      "$match": {
+                        "a0": {
+                          "$gt": 1
+                        }
+                      }
+                    },
+                    {
+                      "$project": {
+                        "a0": true,
+                        "_id": false
+                      }
+                    }
+                  ]
+                }
+                """,
+                List.of(3L),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Test
+    void testEstimatedDocumentCount() {
+        getSessionFactoryScope().inSession(session -> {
+            var count = session.createQuery("select count(*) from Book b", Long.class)
+                    .addQueryHint(MongoQueryHints.ESTIMATED_DOCUMENT_COUNT)
+                    .getSingleResult();
+            assertActualCommandsInOrder(BsonDocument.parse(
+                    """
+                    {
+                      "count": "books"
+                    }
+                    """));
+            assertThat(count).isEqualTo(3L);
+        });
+    }
+
+    @Test
+    void testEstimatedDocumentCountHintIgnoredInTransaction() {
+        getSessionFactoryScope().inTransaction(session -> {
+            var count = session.createQuery("select count(*) from Book b", Long.class)
+                    .addQueryHint(MongoQueryHints.ESTIMATED_DOCUMENT_COUNT)
+                    .getSingleResult();
+            assertActualCommandsInOrder(BsonDocument.parse(
+                    """
+                    {
+                      "aggregate": "books",
+                      "pipeline": [
+                        {
+                          "$match": {}
+                        },
+                        {
+                          "$group": {
+                            "_id": 1,
+                            "n": {
+                              "$sum": 1
+                            }
+                          }
+                        }
+                      ],
+                      "autocommit": false
+                    }
+                    """));
+            assertThat(count).isEqualTo(3L);
+        });
+    }
+
+    @Test
+    void testEstimatedDocumentCountHintIgnoredWhenFiltering() {
+        getSessionFactoryScope().inTransaction(session -> {
+            var count = session.createQuery("select count(*) from Book b where b.outOfStock = true", Long.class)
+                    .addQueryHint(MongoQueryHints.ESTIMATED_DOCUMENT_COUNT)
+                    .getSingleResult();
+            assertActualCommandsInOrder(BsonDocument.parse(
+                    """
+                    {
+                      "aggregate": "books",
+                      "pipeline": [
+                        {
+                          "$match": {
+                            "outOfStock": {
+                              "$eq": true
+                            }
+                          }
+                        },
+                        {
+                          "$count": "a0"
+                        },
+                        {
+                          "$project": {
+                            "a0": true,
+                            "_id": false
+                          }
+                        }
+                      ]
+                    }
+                    """));
+            assertThat(count).isEqualTo(1L);
+        });
+    }
+}
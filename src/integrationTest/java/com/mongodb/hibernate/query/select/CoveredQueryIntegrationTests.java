@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.query.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.hibernate.junit.InjectMongoCollection;
+import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
+import com.mongodb.hibernate.query.Book;
+import java.util.List;
+import java.util.Set;
+import org.bson.BsonDocument;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@DomainModel(annotatedClasses = Book.class)
+class CoveredQueryIntegrationTests extends AbstractQueryIntegrationTests {
+
+    @InjectMongoCollection(Book.COLLECTION_NAME)
+    private static MongoCollection<BsonDocument> mongoCollection;
+
+    private static final List<Book> testingBooks = List.of(
+            new Book(1, "War and Peace", 1869, true),
+            new Book(2, "Crime and Punishment", 1866, false),
+            new Book(3, "Anna Karenina", 1877, false),
+            new Book(4, "War and Peace", 2025, false));
+
+    @BeforeEach
+    void beforeEach() {
+        getSessionFactoryScope().inTransaction(session -> testingBooks.forEach(session::persist));
+        getTestCommandListener().clear();
+    }
+
+    @Test
+    void testIdExcludedWhenNotSelected() {
+        assertSelectionQuery(
+                "select b.title, b.publishYear from Book b where b.title = 'War and Peace' order by b.publishYear",
+                Object[].class,
+                """
+                {
+                  "find": "books",
+                  "filter": {
+                    "title": {
+                      "$eq": "War and Peace"
+                    }
+                  },
+                  "sort": {
+                    "publishYear": 1
+                  },
+                  "projection": {
+                    "title": true,
+                    "publishYear": true,
+                    "_id": false
+                  }
+                }""",
+                List.of(new Object[] {"War and Peace", 1869}, new Object[] {"War and Peace", 2025}),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Test
+    void testIdIncludedWhenSelected() {
+        assertSelectionQuery(
+                "select b.id, b.title from Book b where b.title = 'Anna Karenina'",
+                Object[].class,
+                """
+                {
+                  "find": "books",
+                  "filter": {
+                    "title": {
+                      "$eq": "Anna Karenina"
+                    }
+                  },
+                  "projection": {
+                    "_id": true,
+                    "title": true
+                  }
+                }""",
+                List.<Object[]>of(new Object[] {3, "Anna Karenina"}),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Test
+    void testProjectionCoveredByIndex() {
+        mongoCollection.createIndex(Indexes.ascending("title", "publishYear"));
+        getSessionFactoryScope()
+                .inTransaction(session -> session.createSelectionQuery(
+                                "select b.title, b.publishYear from Book b where b.title = 'War and Peace'",
+                                Object[].class)
+                        .getResultList());
+        var command = getTestCommandListener().getStartedCommands().get(0);
+        var explanation = mongoCollection
+                .find(command.getDocument("filter"))
+                .projection(command.getDocument("projection"))
+                .explain(BsonDocument.class, ExplainVerbosity.EXECUTION_STATS);
+        assertThat(explanation
+                        .getDocument("executionStats")
+                        .getNumber("totalDocsExamined")
+                        .intValue())
+                .isZero();
+    }
+}
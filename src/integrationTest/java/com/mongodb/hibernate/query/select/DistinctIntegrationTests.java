@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.query.select;
+
+import com.mongodb.hibernate.internal.FeatureNotSupportedException;
+import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
+import com.mongodb.hibernate.query.Book;
+import java.util.List;
+import java.util.Set;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@DomainModel(annotatedClasses = Book.class)
+class DistinctIntegrationTests extends AbstractQueryIntegrationTests {
+
+    private static final List<Book> testingBooks = List.of(
+            new Book(1, "War and Peace", 1869, true),
+            new Book(2, "Crime and Punishment", 1866, false),
+            new Book(3, "Anna Karenina", 1877, false),
+            new Book(4, "The Brothers Karamazov", 1880, false),
+            new Book(5, "War and Peace", 2025, false));
+
+    @BeforeEach
+    void beforeEach() {
+        getSessionFactoryScope().inTransaction(session -> testingBooks.forEach(session::persist));
+        getTestCommandListener().clear();
+    }
+
+    @Test
+    void testDistinctSingleField() {
+        assertSelectionQuery(
+                "select distinct b.title from Book b order by b.title",
+                String.class,
+                """
+                {
+                  "aggregate": "books",
+                  "pipeline": [
+                    {
+                      "$group": {
+                        "_id": {
+                          "k0": "$title"
+                        }
+                      }
+                    },
+                    {
+                      "$sort": {
+                        "_id.k0": 1
+                      }
+                    },
+                    {
+                      "$project": {
+                        "_id.k0": true
+                      }
+                    }
+                  ]
+                }
+                """,
+                List.of("Anna Karenina", "Crime and Punishment", "The Brothers Karamazov", "War and Peace"),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Test
+    void testDistinctMultipleFields() {
+        assertSelectionQuery(
+                """
+                select distinct b.title, b.outOfStock
+                from Book b
+                where b.publishYear > 1866
+                order by b.title, b.outOfStock
+                """,
+                Object[].class,
+                """
+                {
+                  "aggregate": "books",
+                  "pipeline": [
+                    {
+                      "$match": {
+                        "publishYear": {
+                          "$gt": 1866
+                        }
+                      }
+                    },
+                    {
+                      "$group": {
+                        "_id": {
+                          "k0": "$title",
+                          "k1": "$outOfStock"
+                        }
+                      }
+                    },
+                    {
+                      "$sort": {
+                        "_id.k0": 1,
+                        "_id.k1": 1
+                      }
+                    },
+                    {
+                      "$project": {
+                        "_id.k0": true,
+                        "_id.k1": true
+                      }
+                    }
+                  ]
+                }
+                """,
+                List.of(
+                        new Object[] {"Anna Karenina", false},
+                        new Object[] {"The Brothers Karamazov", false},
+                        new Object[] {"War and Peace", false},
+                        new Object[] {"War and Peace", true}),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Test
+    void testDistinctOrderByFieldNotSelectedNotSupported() {
+        assertSelectQueryFailure(
+                "select distinct b.title from Book b order by b.publishYear",
+                String.class,
+                FeatureNotSupportedException.class,
+                "Field [publishYear] must be either grouped by, or used in an aggregate function");
+    }
+
+    @Test
+    void testDistinctWithGroupByNotSupported() {
+        assertSelectQueryFailure(
+                "select distinct b.title, count(*) from Book b group by b.title",
+                Object[].class,
+                FeatureNotSupportedException.class,
+                "Distinct together with grouping is not supported");
+    }
+}
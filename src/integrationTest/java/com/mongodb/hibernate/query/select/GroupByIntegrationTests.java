@@ -0,0 +1,451 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.query.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mongodb.hibernate.internal.FeatureNotSupportedException;
+import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
+import com.mongodb.hibernate.query.Book;
+import java.util.List;
+import java.util.Set;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@DomainModel(annotatedClasses = Book.class)
+class GroupByIntegrationTests extends AbstractQueryIntegrationTests {
+
+    private static final List<Book> testingBooks = List.of(
+            new Book(1, "War and Peace", 1869, true),
+            new Book(2, "Crime and Punishment", 1866, false),
+            new Book(3, "Anna Karenina", 1877, false),
+            new Book(4, "The Brothers Karamazov", 1880, false),
+            new Book(5, "War and Peace", 2025, false));
+
+    static {
+        testingBooks.get(0).isbn13 = 9780140447934L;
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        getSessionFactoryScope().inTransaction(session -> testingBooks.forEach(session::persist));
+        getTestCommandListener().clear();
+    }
+
+    @Test
+    void testGroupByWithCount() {
+        assertSelectionQuery(
+                "select b.title, count(*) from Book b group by b.title order by b.title",
+                Object[].class,
+                """
+                {
+                  "aggregate": "books",
+                  "pipeline": [
+                    {
+                      "$group": {
+                        "_id": {
+                          "k0": "$title"
+                        },
+                        "a0": {
+                          "$sum": {"$numberLong": "1"}
+                        }
+                      }
+                    },
+                    {
+                      "$sort": {
+                        "_id.k0": 1
+                      }
+                    },
+                    {
+                      "$project": {
+                        "_id.k0": true,
+                        "a0": true
+                      }
+                    }
+                  ]
+                }
+                """,
+                List.of(
+                        new Object[] {"Anna Karenina", 1L},
+                        new Object[] {"Crime and Punishment", 1L},
+                        new Object[] {"The Brothers Karamazov", 1L},
+                        new Object[] {"War and Peace", 2L}),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Test
+    void testAggregatesWithoutGroupBy() {
+        assertSelectionQuery(
+                """
+                select count(*), sum(b.publishYear), avg(b.publishYear), min(b.publishYear), max(b.title)
+                from Book b
+                where b.outOfStock = false
+                """,
+                Object[].class,
+                """
+                {
+                  "aggregate": "books",
+                  "pipeline": [
+                    {
+                      "$match": {
+                        "outOfStock": {
+                          "$eq": false
+                        }
+                      }
+                    },
+                    {
+                      "$facet": {
+                        "grouped": [
+                          {
+                            "$group": {
+                              "_id": null,
+                              "a0": {
+                                "$sum": {"$numberLong": "1"}
+                              },
+                              "a1": {
+                                "$sum": {
+                                  "$toLong": "$publishYear"
+                                }
+                              },
+                              "a2": {
+                                "$avg": {
+                                  "$toDouble": "$publishYear"
+                                }
+                              },
+                              "a3": {
+                                "$min": "$publishYear"
+                              },
+                              "a4": {
+                                "$max": "$title"
+                              }
+                            }
+                          }
+                        ]
+                      }
+                    },
+                    {
+                      "$replaceWith": {
+                        "$ifNull": [
+                          {"$arrayElemAt": ["$grouped", 0]},
+                          {"_id": null, "a0": {"$numberLong": "0"}, "a1": null, "a2": null, "a3": null, "a4": null}
+                        ]
+                      }
+                    },
+                    {
+                      "$project": {
+                        "a0": true,
+                        "a1": true,
+                        "a2": true,
+                        "a3": true,
+                        "a4": true,
+                        "_id": false
+                      }
+                    }
+                  ]
+                }
+                """,
+                List.<Object[]>of(new Object[] {4L, 7648L, 1912.0, 1866, "War and Peace"}),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Test
+    void testAggregatesWithoutGroupByOfNoDocuments() {
+        assertSelectionQuery(
+                "select count(*), sum(b.publishYear), min(b.publishYear), max(b.title) from Book b where b.id > 5",
+                Object[].class,
+                """
+                {
+                  "aggregate": "books",
+                  "pipeline": [
+                    {
+                      "$match": {
+                        "_id": {
+                          "$gt": 5
+                        }
+                      }
+                    },
+                    {
+                      "$facet": {
+                        "grouped": [
+                          {
+                            "$group": {
+                              "_id": null,
+                              "a0": {
+                                "$sum": {"$numberLong": "1"}
+                              },
+                              "a1": {
+                                "$sum": {
+                                  "$toLong": "$publishYear"
+                                }
+                              },
+                              "a2": {
+                                "$min": "$publishYear"
+                              },
+                              "a3": {
+                                "$max": "$title"
+                              }
+                            }
+                          }
+                        ]
+                      }
+                    },
+                    {
+                      "$replaceWith": {
+                        "$ifNull": [
+                          {"$arrayElemAt": ["$grouped", 0]},
+                          {"_id": null, "a0": {"$numberLong": "0"}, "a1": null, "a2": null, "a3": null}
+                        ]
+                      }
+                    },
+                    {
+                      "$project": {
+                        "a0": true,
+                        "a1": true,
+                        "a2": true,
+                        "a3": true,
+                        "_id": false
+                      }
+                    }
+                  ]
+                }
+                """,
+                List.<Object[]>of(new Object[] {0L, null, null, null}),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Test
+    void testMaxOfNoDocumentsIsSingleResult() {
+        getSessionFactoryScope().inTransaction(session -> assertThat(session.createSelectionQuery(
+                                "select max(b.publishYear) from Book b where b.id > 5", Integer.class)
+                        .getSingleResult())
+                .isNull());
+    }
+
+    @Test
+    void testSumOfNoDocumentsIsNull() {
+        getSessionFactoryScope().inTransaction(session -> assertThat(session.createSelectionQuery(
+                                "select sum(b.publishYear) from Book b where b.id > 5", Long.class)
+                        .getSingleResult())
+                .isNull());
+    }
+
+    @Test
+    void testSumOfOnlyNullValuesIsZero() {
+        getSessionFactoryScope().inTransaction(session -> session.find(Book.class, 1).publishYear = null);
+        getSessionFactoryScope().inTransaction(session -> assertThat(session.createSelectionQuery(
+                                "select sum(b.publishYear) from Book b where b.id = 1", Long.class)
+                        .getSingleResult())
+                .isEqualTo(0L));
+    }
+
+    @Test
+    void testCountField() {
+        assertSelectionQuery(
+                "select count(b.isbn13) from Book b",
+                Long.class,
+                """
+                {
+                  "aggregate": "books",
+                  "pipeline": [
+                    {
+                      "$facet": {
+                        "grouped": [
+                          {
+                            "$group": {
+                              "_id": null,
+                              "a0": {
+                                "$sum": {
+                                  "$cond": [
+                                    {
+                                      "$gt": ["$isbn13", null]
+                                    },
+                                    {"$numberLong": "1"},
+                                    {"$numberLong": "0"}
+                                  ]
+                                }
+                              }
+                            }
+                          }
+                        ]
+                      }
+                    },
+                    {
+                      "$replaceWith": {
+                        "$ifNull": [
+                          {"$arrayElemAt": ["$grouped", 0]},
+                          {"_id": null, "a0": {"$numberLong": "0"}}
+                        ]
+                      }
+                    },
+                    {
+                      "$project": {
+                        "a0": true,
+                        "_id": false
+                      }
+                    }
+                  ]
+                }
+                """,
+                List.of(1L),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Test
+    void testHaving() {
+        assertSelectionQuery(
+                "select b.title, count(*) from Book b group by b.title having count(*) > 1",
+                Object[].class,
+                """
+                {
+                  "aggregate": "books",
+                  "pipeline": [
+                    {
+                      "$group": {
+                        "_id": {
+                          "k0": "$title"
+                        },
+                        "a0": {
+                          "$sum": {"$numberLong": "1"}
+                        }
+                      }
+                    },
+                    {
+                      "$match": {
+                        "a0": {
+                          "$gt": 1
+                        }
+                      }
+                    },
+                    {
+                      "$project": {
+                        "_id.k0": true,
+                        "a0": true
+                      }
+                    }
+                  ]
+                }
+                """,
+                List.<Object[]>of(new Object[] {"War and Peace", 2L}),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Test
+    void testOrderByAggregate() {
+        assertSelectionQuery(
+                """
+                select b.outOfStock, max(b.publishYear)
+                from Book b
+                group by b.outOfStock
+                order by max(b.publishYear) desc
+                """,
+                Object[].class,
+                """
+                {
+                  "aggregate": "books",
+                  "pipeline": [
+                    {
+                      "$group": {
+                        "_id": {
+                          "k0": "$outOfStock"
+                        },
+                        "a0": {
+                          "$max": "$publishYear"
+                        }
+                      }
+                    },
+                    {
+                      "$sort": {
+                        "a0": -1
+                      }
+                    },
+                    {
+                      "$project": {
+                        "_id.k0": true,
+                        "a0": true
+                      }
+                    }
+                  ]
+                }
+                """,
+                List.of(new Object[] {false, 2025}, new Object[] {true, 1869}),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Test
+    void testArrayAgg() {
+        assertSelectionQuery(
+                "select b.title, array_agg(b.publishYear) from Book b group by b.title having count(*) > 1",
+                Object[].class,
+                """
+                {
+                  "aggregate": "books",
+                  "pipeline": [
+                    {
+                      "$group": {
+                        "_id": {
+                          "k0": "$title"
+                        },
+                        "a0": {
+                          "$sum": {"$numberLong": "1"}
+                        },
+                        "a1": {
+                          "$push": "$publishYear"
+                        }
+                      }
+                    },
+                    {
+                      "$match": {
+                        "a0": {
+                          "$gt": 1
+                        }
+                      }
+                    },
+                    {
+                      "$project": {
+                        "_id.k0": true,
+                        "a1": true
+                      }
+                    }
+                  ]
+                }
+                """,
+                resultList -> assertThat(resultList).singleElement().satisfies(row -> {
+                    assertThat(row[0]).isEqualTo("War and Peace");
+                    assertThat((Integer[]) row[1]).containsExactlyInAnyOrder(1869, 2025);
+                }),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Test
+    void testFieldNeitherGroupedByNorAggregatedNotSupported() {
+        assertSelectQueryFailure(
+                "select b.title, count(*) from Book b group by b.publishYear",
+                Object[].class,
+                FeatureNotSupportedException.class,
+                "Field [title] must be either grouped by, or used in an aggregate function");
+    }
+
+    @Test
+    void testCountDistinctNotSupported() {
+        assertSelectQueryFailure(
+                "select count(distinct b.title) from Book b",
+                Long.class,
+                FeatureNotSupportedException.class,
+                "Only a single field path is supported as the argument of aggregate function [count]");
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.query.select;
+
+import static jakarta.persistence.FetchType.LAZY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.hibernate.Hibernate;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@DomainModel(
+        annotatedClasses = {
+            JoinFetchIntegrationTests.Customer.class,
+            JoinFetchIntegrationTests.PurchaseOrder.class,
+            JoinFetchIntegrationTests.OrderLine.class
+        })
+class JoinFetchIntegrationTests extends AbstractQueryIntegrationTests {
+
+    @BeforeEach
+    void beforeEach() {
+        getSessionFactoryScope().inTransaction(session -> {
+            var jane = new Customer(1, "Jane");
+            var john = new Customer(2, "John");
+            session.persist(jane);
+            session.persist(john);
+            var order1 = new PurchaseOrder(1, jane);
+            var order2 = new PurchaseOrder(2, john);
+            var order3 = new PurchaseOrder(3, jane);
+            session.persist(order1);
+            session.persist(order2);
+            session.persist(order3);
+            session.persist(new OrderLine(1, order1, "pen"));
+            session.persist(new OrderLine(2, order1, "paper"));
+            session.persist(new OrderLine(3, order2, "ink"));
+        });
+        getTestCommandListener().clear();
+    }
+
+    @Test
+    void testToOneJoinFetch() {
+        assertSelectionQuery(
+                "from PurchaseOrder o join fetch o.customer where o.id = 2",
+                PurchaseOrder.class,
+                """
+                {
+                  "aggregate": "orders",
+                  "pipeline": [
+                    {"$match": {"_id": {"$eq": 2}}},
+                    {
+                      "$lookup": {
+                        "from": "customers",
+                        "localField": "customer_id",
+                        "foreignField": "_id",
+                        "as": "c1_0"
+                      }
+                    },
+                    {"$unwind": {"path": "$c1_0", "preserveNullAndEmptyArrays": false}},
+                    {"$project": {"_id": true, "c1_0._id": true, "c1_0.name": true}}
+                  ]
+                }
+                """,
+                orders -> assertThat(orders).singleElement().satisfies(order -> {
+                    assertThat(Hibernate.isInitialized(order.customer)).isTrue();
+                    assertThat(order.customer.name).isEqualTo("John");
+                }),
+                Set.of("orders", "customers"));
+    }
+
+    @Test
+    void testToOneJoinFetchFilteredByJoinedField() {
+        assertSelectionQuery(
+                "from PurchaseOrder o join fetch o.customer c where c.name = 'Jane' order by o.id",
+                PurchaseOrder.class,
+                """
+                {
+                  "aggregate": "orders",
+                  "pipeline": [
+                    {
+                      "$lookup": {
+                        "from": "customers",
+                        "localField": "customer_id",
+                        "foreignField": "_id",
+                        "as": "c1_0"
+                      }
+                    },
+                    {"$unwind": {"path": "$c1_0", "preserveNullAndEmptyArrays": false}},
+                    {"$match": {"c1_0.name": {"$eq": "Jane"}}},
+                    {"$sort": {"_id": 1}},
+                    {"$project": {"_id": true, "c1_0._id": true, "c1_0.name": true}}
+                  ]
+                }
+                """,
+                orders -> {
+                    assertThat(orders).extracting(order -> order.id).containsExactly(1, 3);
+                    assertThat(orders).allSatisfy(order -> assertThat(Hibernate.isInitialized(order.customer))
+                            .isTrue());
+                },
+                Set.of("orders", "customers"));
+    }
+
+    @Test
+    void testToManyLeftJoinFetch() {
+        assertSelectionQuery(
+                "from PurchaseOrder o left join fetch o.lines order by o.id",
+                PurchaseOrder.class,
+                """
+                {
+                  "aggregate": "orders",
+                  "pipeline": [
+                    {
+                      "$lookup": {
+                        "from": "order_lines",
+                        "localField": "_id",
+                        "foreignField": "purchaseOrder_id",
+                        "as": "l1_0"
+                      }
+                    },
+                    {"$unwind": {"path": "$l1_0", "preserveNullAndEmptyArrays": true}},
+                    {"$sort": {"_id": 1}},
+                    {
+                      "$project": {
+                        "_id": true,
+                        "customer_id": true,
+                        "l1_0.purchaseOrder_id": true,
+                        "l1_0._id": true,
+                        "l1_0.product": true
+                      }
+                    }
+                  ]
+                }
+                """,
+                resultList -> {
+                    var orders = new ArrayList<PurchaseOrder>();
+                    resultList.forEach(orders::add);
+                    assertThat(orders).extracting(order -> order.id).containsExactly(1, 2, 3);
+                    assertThat(orders).allSatisfy(order -> assertThat(Hibernate.isInitialized(order.lines))
+                            .isTrue());
+                    assertThat(orders.get(0).lines)
+                            .extracting(line -> line.product)
+                            .containsExactlyInAnyOrder("pen", "paper");
+                    assertThat(orders.get(1).lines).extracting(line -> line.product).containsExactly("ink");
+                    assertThat(orders.get(2).lines).isEmpty();
+                },
+                Set.of("orders", "order_lines"));
+    }
+
+    @Test
+    void testNestedJoinFetch() {
+        assertSelectionQuery(
+                "from OrderLine l join fetch l.purchaseOrder o join fetch o.customer order by l.id",
+                OrderLine.class,
+                """
+                {
+                  "aggregate": "order_lines",
+                  "pipeline": [
+                    {
+                      "$lookup": {
+                        "from": "orders",
+                        "localField": "purchaseOrder_id",
+                        "foreignField": "_id",
+                        "as": "p1_0"
+                      }
+                    },
+                    {"$unwind": {"path": "$p1_0", "preserveNullAndEmptyArrays": false}},
+                    {
+                      "$lookup": {
+                        "from": "customers",
+                        "localField": "p1_0.customer_id",
+                        "foreignField": "_id",
+                        "as": "c1_0"
+                      }
+                    },
+                    {"$unwind": {"path": "$c1_0", "preserveNullAndEmptyArrays": false}},
+                    {"$sort": {"_id": 1}},
+                    {
+                      "$project": {
+                        "_id": true,
+                        "product": true,
+                        "p1_0._id": true,
+                        "c1_0._id": true,
+                        "c1_0.name": true
+                      }
+                    }
+                  ]
+                }
+                """,
+                lines -> assertThat(lines)
+                        .extracting(line -> line.purchaseOrder.customer.name)
+                        .containsExactly("Jane", "Jane", "John"),
+                Set.of("order_lines", "orders", "customers"));
+    }
+
+    @Entity(name = "Customer")
+    @Table(name = "customers")
+    static class Customer {
+        @Id
+        int id;
+
+        String name;
+
+        Customer() {}
+
+        Customer(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    @Entity(name = "PurchaseOrder")
+    @Table(name = "orders")
+    static class PurchaseOrder {
+        @Id
+        int id;
+
+        @ManyToOne(fetch = LAZY)
+        Customer customer;
+
+        @OneToMany(mappedBy = "purchaseOrder")
+        List<OrderLine> lines = new ArrayList<>();
+
+        PurchaseOrder() {}
+
+        PurchaseOrder(int id, Customer customer) {
+            this.id = id;
+            this.customer = customer;
+        }
+    }
+
+    @Entity(name = "OrderLine")
+    @Table(name = "order_lines")
+    static class OrderLine {
+        @Id
+        int id;
+
+        @ManyToOne(fetch = LAZY)
+        PurchaseOrder purchaseOrder;
+
+        String product;
+
+        OrderLine() {}
+
+        OrderLine(int id, PurchaseOrder purchaseOrder, String product) {
+            this.id = id;
+            this.purchaseOrder = purchaseOrder;
+            this.product = product;
+        }
+    }
+}
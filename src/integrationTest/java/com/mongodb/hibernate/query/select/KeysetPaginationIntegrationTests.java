@@ -0,0 +1,246 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.query.select;
+
+import static com.mongodb.hibernate.internal.MongoAssertions.fail;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
+import com.mongodb.hibernate.query.Book;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import org.hibernate.query.Order;
+import org.hibernate.query.Page;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@DomainModel(annotatedClasses = Book.class)
+class KeysetPaginationIntegrationTests extends AbstractQueryIntegrationTests {
+
+    private static final List<Book> testingBooks = List.of(
+            new Book(1, "War and Peace", 1869, true),
+            new Book(2, "Crime and Punishment", 1866, false),
+            new Book(3, "Anna Karenina", 1877, false),
+            new Book(4, "The Brothers Karamazov", 1880, false),
+            new Book(5, "War and Peace", 2025, false));
+
+    private static List<Book> getBooksByIds(int... ids) {
+        return Arrays.stream(ids)
+                .mapToObj(id -> testingBooks.stream()
+                        .filter(c -> c.id == id)
+                        .findAny()
+                        .orElseThrow(() -> fail("id does not exist: " + id)))
+                .toList();
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        getSessionFactoryScope().inTransaction(session -> testingBooks.forEach(session::persist));
+        getTestCommandListener().clear();
+    }
+
+    @Test
+    void testTupleGreaterThan() {
+        assertSelectionQuery(
+                "from Book b where (b.publishYear, b.id) > (1869, 1) order by b.publishYear, b.id",
+                Book.class,
+                """
+                {
+                  "find": "books",
+                  "filter": {
+                    "$or": [
+                      {
+                        "publishYear": {
+                          "$gt": 1869
+                        }
+                      },
+                      {
+                        "$and": [
+                          {
+                            "publishYear": {
+                              "$eq": 1869
+                            }
+                          },
+                          {
+                            "_id": {
+                              "$gt": 1
+                            }
+                          }
+                        ]
+                      }
+                    ]
+                  },
+                  "sort": {
+                    "publishYear": 1,
+                    "_id": 1
+                  },
+                  "projection": {
+                    "_id": true,
+                    "discount": true,
+                    "isbn13": true,
+                    "outOfStock": true,
+                    "price": true,
+                    "publishYear": true,
+                    "title": true
+                  }
+                }
+                """,
+                getBooksByIds(3, 4, 5),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Test
+    void testTupleLessThanOrEqualWithParameters() {
+        assertSelectionQuery(
+                """
+                from Book b
+                where (b.title, b.publishYear, b.id) <= (:title, :publishYear, :id)
+                order by b.title desc, b.publishYear desc, b.id desc
+                """,
+                Book.class,
+                query -> query.setParameter("title", "War and Peace")
+                        .setParameter("publishYear", 1869)
+                        .setParameter("id", 1),
+                """
+                {
+                  "find": "books",
+                  "filter": {
+                    "$or": [
+                      {
+                        "title": {
+                          "$lt": "War and Peace"
+                        }
+                      },
+                      {
+                        "$and": [
+                          {
+                            "title": {
+                              "$eq": "War and Peace"
+                            }
+                          },
+                          {
+                            "publishYear": {
+                              "$lt": 1869
+                            }
+                          }
+                        ]
+                      },
+                      {
+                        "$and": [
+                          {
+                            "title": {
+                              "$eq": "War and Peace"
+                            }
+                          },
+                          {
+                            "publishYear": {
+                              "$eq": 1869
+                            }
+                          },
+                          {
+                            "_id": {
+                              "$lte": 1
+                            }
+                          }
+                        ]
+                      }
+                    ]
+                  },
+                  "sort": {
+                    "title": -1,
+                    "publishYear": -1,
+                    "_id": -1
+                  },
+                  "projection": {
+                    "_id": true,
+                    "discount": true,
+                    "isbn13": true,
+                    "outOfStock": true,
+                    "price": true,
+                    "publishYear": true,
+                    "title": true
+                  }
+                }
+                """,
+                getBooksByIds(1, 4, 2, 3),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Test
+    void testTupleEqual() {
+        assertSelectionQuery(
+                "from Book b where (b.title, b.publishYear) = ('War and Peace', 2025)",
+                Book.class,
+                """
+                {
+                  "find": "books",
+                  "filter": {
+                    "$and": [
+                      {
+                        "title": {
+                          "$eq": "War and Peace"
+                        }
+                      },
+                      {
+                        "publishYear": {
+                          "$eq": 2025
+                        }
+                      }
+                    ]
+                  },
+                  "projection": {
+                    "_id": true,
+                    "discount": true,
+                    "isbn13": true,
+                    "outOfStock": true,
+                    "price": true,
+                    "publishYear": true,
+                    "title": true
+                  }
+                }
+                """,
+                getBooksByIds(5),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Test
+    void testKeyedResultList() {
+        var keyDefinition = List.of(Order.asc(Book.class, "publishYear"), Order.asc(Book.class, "id"));
+        getSessionFactoryScope().inTransaction(session -> {
+            var firstPage = session.createSelectionQuery("from Book", Book.class)
+                    .getKeyedResultList(Page.first(2).keyedBy(keyDefinition));
+            assertThat(firstPage.getResultList()).extracting(book -> book.id).containsExactly(2, 1);
+
+            getTestCommandListener().clear();
+            var secondPage = session.createSelectionQuery("from Book", Book.class)
+                    .getKeyedResultList(firstPage.getNextPage());
+            assertThat(secondPage.getResultList()).extracting(book -> book.id).containsExactly(3, 4);
+            assertThat(getTestCommandListener().getStartedCommands())
+                    .singleElement()
+                    .satisfies(command -> assertThat(command)
+                            .containsKeys("filter", "sort")
+                            .doesNotContainKey("skip"));
+
+            var lastPage = session.createSelectionQuery("from Book", Book.class)
+                    .getKeyedResultList(secondPage.getNextPage());
+            assertThat(lastPage.getResultList()).extracting(book -> book.id).containsExactly(5);
+            assertThat(lastPage.isLastPage()).isTrue();
+        });
+    }
+}
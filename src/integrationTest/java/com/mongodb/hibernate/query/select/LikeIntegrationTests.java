@@ -0,0 +1,236 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.query.select;
+
+import static com.mongodb.hibernate.internal.MongoAssertions.fail;
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.hibernate.junit.InjectMongoCollection;
+import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
+import com.mongodb.hibernate.query.Book;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.bson.BsonDocument;
+import org.hibernate.query.SelectionQuery;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@DomainModel(annotatedClasses = Book.class)
+class LikeIntegrationTests extends AbstractQueryIntegrationTests {
+
+    @InjectMongoCollection(Book.COLLECTION_NAME)
+    private static MongoCollection<BsonDocument> mongoCollection;
+
+    private static final List<Book> testingBooks = List.of(
+            new Book(1, "War and Peace", 1869, true),
+            new Book(2, "Crime and Punishment", 1866, false),
+            new Book(3, "Anna Karenina", 1877, false),
+            new Book(4, "The Brothers Karamazov", 1880, false),
+            new Book(5, "War and Peace", 2025, false),
+            new Book(6, "100% Java", 2024, false));
+
+    private static List<Book> getBooksByIds(int... ids) {
+        return Arrays.stream(ids)
+                .mapToObj(id -> testingBooks.stream()
+                        .filter(c -> c.id == id)
+                        .findAny()
+                        .orElseThrow(() -> fail("id does not exist: " + id)))
+                .toList();
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        getSessionFactoryScope().inTransaction(session -> testingBooks.forEach(session::persist));
+        getTestCommandListener().clear();
+    }
+
+    @Test
+    void testPrefix() {
+        assertLikeQuery(
+                "from Book b where b.title like 'War%' order by b.id",
+                null,
+                """
+                {"title": {"$regex": "^War"}}
+                """,
+                1,
+                5);
+    }
+
+    @Test
+    void testSuffix() {
+        assertLikeQuery(
+                "from Book b where b.title like '%Karamazov' order by b.id",
+                null,
+                """
+                {"title": {"$regex": "Karamazov\\\\z"}}
+                """,
+                4);
+    }
+
+    @Test
+    void testInfix() {
+        assertLikeQuery(
+                "from Book b where b.title like '%and%' order by b.id",
+                null,
+                """
+                {"title": {"$regex": "and"}}
+                """,
+                1,
+                2,
+                5);
+    }
+
+    @Test
+    void testSingleCharacterWildcard() {
+        assertLikeQuery(
+                "from Book b where b.title like 'Anna_Karenina' order by b.id",
+                null,
+                """
+                {"title": {"$regex": "^Anna[\\\\s\\\\S]Karenina\\\\z"}}
+                """,
+                3);
+    }
+
+    @Test
+    void testEscapeCharacter() {
+        assertLikeQuery(
+                "from Book b where b.title like '100!%%' escape '!' order by b.id",
+                null,
+                """
+                {"title": {"$regex": "^100%"}}
+                """,
+                6);
+    }
+
+    @Test
+    void testRegexMetacharactersMatchLiterally() {
+        assertLikeQuery(
+                "from Book b where b.title like 'War.and%' order by b.id",
+                null,
+                """
+                {"title": {"$regex": "^War\\\\.and"}}
+                """);
+    }
+
+    @Test
+    void testParameter() {
+        assertLikeQuery(
+                "from Book b where b.title like :pattern order by b.id",
+                query -> query.setParameter("pattern", "Crime%"),
+                """
+                {"title": {"$regex": "^Crime"}}
+                """,
+                2);
+    }
+
+    @Test
+    void testNullParameterMatchesNothing() {
+        assertLikeQuery(
+                "from Book b where b.title like :pattern order by b.id",
+                query -> query.setParameter("pattern", null),
+                """
+                {"title": {"$regex": "(?!)"}}
+                """);
+    }
+
+    @Test
+    void testNegatedNullParameterMatchesNothing() {
+        assertLikeQuery(
+                "from Book b where b.title not like :pattern order by b.id",
+                query -> query.setParameter("pattern", null),
+                """
+                {"title": {"$not": {"$regex": ""}}}
+                """);
+    }
+
+    @Test
+    void testCaseInsensitive() {
+        assertLikeQuery(
+                "from Book b where b.title ilike 'war%' order by b.id",
+                null,
+                """
+                {"title": {"$regex": "^war", "$options": "i"}}
+                """,
+                1,
+                5);
+    }
+
+    @Test
+    void testNegated() {
+        assertLikeQuery(
+                "from Book b where b.title not like '%and%' order by b.id",
+                null,
+                """
+                {"title": {"$not": {"$regex": "and"}}}
+                """,
+                3,
+                4,
+                6);
+    }
+
+    @Test
+    void testPrefixUsesIndexRangeScan() {
+        mongoCollection.createIndex(Indexes.ascending("title"));
+        getSessionFactoryScope()
+                .inTransaction(session -> session.createSelectionQuery(
+                                "from Book b where b.title like 'War%'", Book.class)
+                        .getResultList());
+        var filter = getTestCommandListener().getStartedCommands().get(0).getDocument("filter");
+        var explanation = mongoCollection.find(filter).explain(BsonDocument.class);
+        assertThat(explanation.toJson()).contains("IXSCAN").doesNotContain("COLLSCAN");
+    }
+
+    private void assertLikeQuery(
+            String hql,
+            @Nullable Consumer<SelectionQuery<Book>> queryPostProcessor,
+            String expectedFilter,
+            int... expectedIds) {
+        assertSelectionQuery(
+                hql,
+                Book.class,
+                queryPostProcessor,
+                format(
+                        """
+                        {
+                          "find": "books",
+                          "filter": %s,
+                          "sort": {
+                            "_id": 1
+                          },
+                          "projection": {
+                            "_id": true,
+                            "discount": true,
+                            "isbn13": true,
+                            "outOfStock": true,
+                            "price": true,
+                            "publishYear": true,
+                            "title": true
+                          }
+                        }
+                        """,
+                        expectedFilter),
+                getBooksByIds(expectedIds),
+                Set.of(Book.COLLECTION_NAME));
+    }
+}
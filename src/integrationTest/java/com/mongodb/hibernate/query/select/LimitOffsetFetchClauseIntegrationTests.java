@@ -99,28 +99,20 @@ class LimitOffsetFetchClauseIntegrationTests extends AbstractQueryIntegrationTes
                     useLiteralParameter ? null : q -> q.setParameter("limit", 5),
                     """
                     {
-                      "aggregate": "books",
-                      "pipeline": [
-                        {
-                          "$sort": {
-                            "_id": 1
-                          }
-                        },
-                        {
-                          "$limit": %d
-                        },
-                        {
-                          "$project": {
-                            "_id": true,
-                            "discount": true,
-                            "isbn13": true,
-                            "outOfStock": true,
-                            "price": true,
-                            "publishYear": true,
-                            "title": true
-                          }
-                        }
-                      ]
+                      "find": "books",
+                      "sort": {
+                        "_id": 1
+                      },
+                      "limit": %d,
+                      "projection": {
+                        "_id": true,
+                        "discount": true,
+                        "isbn13": true,
+                        "outOfStock": true,
+                        "price": true,
+                        "publishYear": true,
+                        "title": true
+                      }
                     }
                     """
                             .formatted(5),
@@ -137,28 +129,20 @@ class LimitOffsetFetchClauseIntegrationTests extends AbstractQueryIntegrationTes
                     useLiteralParameter ? null : q -> q.setParameter("offset", 7),
                     """
                     {
-                      "aggregate": "books",
-                      "pipeline": [
-                        {
-                          "$sort": {
-                            "_id": 1
-                          }
-                        },
-                        {
-                          "$skip": %d
-                        },
-                        {
-                          "$project": {
-                            "_id": true,
-                            "discount": true,
-                            "isbn13": true,
-                            "outOfStock": true,
-                            "price": true,
-                            "publishYear": true,
-                            "title": true
-                          }
-                        }
-                      ]
+                      "find": "books",
+                      "sort": {
+                        "_id": 1
+                      },
+                      "skip": %d,
+                      "projection": {
+                        "_id": true,
+                        "discount": true,
+                        "isbn13": true,
+                        "outOfStock": true,
+                        "price": true,
+                        "publishYear": true,
+                        "title": true
+                      }
                     }
                     """
                             .formatted(7),
@@ -179,31 +163,21 @@ class LimitOffsetFetchClauseIntegrationTests extends AbstractQueryIntegrationTes
                             : q -> q.setParameter("offset", 3).setParameter("limit", 2),
                     """
                     {
-                      "aggregate": "books",
-                      "pipeline": [
-                        {
-                          "$sort": {
-                            "_id": 1
-                          }
-                        },
-                        {
-                          "$skip": %d
-                        },
-                        {
-                          "$limit": %d
-                        },
-                        {
-                          "$project": {
-                            "_id": true,
-                            "discount": true,
-                            "isbn13": true,
-                            "outOfStock": true,
-                            "price": true,
-                            "publishYear": true,
-                            "title": true
-                          }
-                        }
-                      ]
+                      "find": "books",
+                      "sort": {
+                        "_id": 1
+                      },
+                      "skip": %d,
+                      "limit": %d,
+                      "projection": {
+                        "_id": true,
+                        "discount": true,
+                        "isbn13": true,
+                        "outOfStock": true,
+                        "price": true,
+                        "publishYear": true,
+                        "title": true
+                      }
                     }
                     """
                             .formatted(3, 2),
@@ -224,28 +198,20 @@ class LimitOffsetFetchClauseIntegrationTests extends AbstractQueryIntegrationTes
                     q -> q.setParameter("limit", 5),
                     """
                     {
-                      "aggregate": "books",
-                      "pipeline": [
-                        {
-                          "$sort": {
-                            "_id": 1
-                          }
-                        },
-                        {
-                          "$limit": %d
-                        },
-                        {
-                          "$project": {
-                            "_id": true,
-                            "discount": true,
-                            "isbn13": true,
-                            "outOfStock": true,
-                            "price": true,
-                            "publishYear": true,
-                            "title": true
-                          }
-                        }
-                      ]
+                      "find": "books",
+                      "sort": {
+                        "_id": 1
+                      },
+                      "limit": %d,
+                      "projection": {
+                        "_id": true,
+                        "discount": true,
+                        "isbn13": true,
+                        "outOfStock": true,
+                        "price": true,
+                        "publishYear": true,
+                        "title": true
+                      }
                     }
                     """
                             .formatted(5),
@@ -267,28 +233,20 @@ class LimitOffsetFetchClauseIntegrationTests extends AbstractQueryIntegrationTes
                         q -> q.setFirstResult(6),
                         """
                         {
-                          "aggregate": "books",
-                          "pipeline": [
-                            {
-                              "$sort": {
-                                "_id": 1
-                              }
-                            },
-                            {
-                              "$skip": %d
-                            },
-                            {
-                              "$project": {
-                                "_id": true,
-                                "discount": true,
-                                "isbn13": true,
-                                "outOfStock": true,
-                                "price": true,
-                                "publishYear": true,
-                                "title": true
-                              }
-                            }
-                          ]
+                          "find": "books",
+                          "sort": {
+                            "_id": 1
+                          },
+                          "skip": %d,
+                          "projection": {
+                            "_id": true,
+                            "discount": true,
+                            "isbn13": true,
+                            "outOfStock": true,
+                            "price": true,
+                            "publishYear": true,
+                            "title": true
+                          }
                         }
                         """
                                 .formatted(6),
@@ -304,28 +262,20 @@ class LimitOffsetFetchClauseIntegrationTests extends AbstractQueryIntegrationTes
                         q -> q.setMaxResults(3),
                         """
                         {
-                          "aggregate": "books",
-                          "pipeline": [
-                            {
-                              "$sort": {
-                                "_id": 1
-                              }
-                            },
-                            {
-                              "$limit": %d
-                            },
-                            {
-                              "$project": {
-                                "_id": true,
-                                "discount": true,
-                                "isbn13": true,
-                                "outOfStock": true,
-                                "price": true,
-                                "publishYear": true,
-                                "title": true
-                              }
-                            }
-                          ]
+                          "find": "books",
+                          "sort": {
+                            "_id": 1
+                          },
+                          "limit": %d,
+                          "projection": {
+                            "_id": true,
+                            "discount": true,
+                            "isbn13": true,
+                            "outOfStock": true,
+                            "price": true,
+                            "publishYear": true,
+                            "title": true
+                          }
                         }
                         """
                                 .formatted(3),
@@ -341,31 +291,21 @@ class LimitOffsetFetchClauseIntegrationTests extends AbstractQueryIntegrationTes
                         q -> q.setFirstResult(2).setMaxResults(3),
                         """
                         {
-                          "aggregate": "books",
-                          "pipeline": [
-                            {
-                              "$sort": {
-                                "_id": 1
-                              }
-                            },
-                            {
-                              "$skip": %d
-                            },
-                            {
-                              "$limit": %d
-                            },
-                            {
-                              "$project": {
-                                "_id": true,
-                                "discount": true,
-                                "isbn13": true,
-                                "outOfStock": true,
-                                "price": true,
-                                "publishYear": true,
-                                "title": true
-                              }
-                            }
-                          ]
+                          "find": "books",
+                          "sort": {
+                            "_id": 1
+                          },
+                          "skip": %d,
+                          "limit": %d,
+                          "projection": {
+                            "_id": true,
+                            "discount": true,
+                            "isbn13": true,
+                            "outOfStock": true,
+                            "price": true,
+                            "publishYear": true,
+                            "title": true
+                          }
                         }
                         """
                                 .formatted(2, 3),
@@ -380,26 +320,20 @@ class LimitOffsetFetchClauseIntegrationTests extends AbstractQueryIntegrationTes
             private static final String EXPECTED_MQL_TEMPLATE =
                     """
                     {
-                      "aggregate": "books",
-                      "pipeline": [
-                        {
-                          "$sort": {
-                            "_id": 1
-                          }
-                        },
-                        %s,
-                        {
-                          "$project": {
-                            "_id": true,
-                            "discount": true,
-                            "isbn13": true,
-                            "outOfStock": true,
-                            "price": true,
-                            "publishYear": true,
-                            "title": true
-                          }
-                        }
-                      ]
+                      "find": "books",
+                      "sort": {
+                        "_id": 1
+                      },
+                      %s,
+                      "projection": {
+                        "_id": true,
+                        "discount": true,
+                        "isbn13": true,
+                        "outOfStock": true,
+                        "price": true,
+                        "publishYear": true,
+                        "title": true
+                      }
                     }
                     """;
 
@@ -415,7 +349,7 @@ class LimitOffsetFetchClauseIntegrationTests extends AbstractQueryIntegrationTes
                                 q.setParameter("limit", 10)
                                         .setParameter("offset", 0)
                                         .setFirstResult(firstResult),
-                        EXPECTED_MQL_TEMPLATE.formatted("{\"$skip\": " + firstResult + "}"),
+                        EXPECTED_MQL_TEMPLATE.formatted("\"skip\": " + firstResult),
                         expectedBooks,
                         Set.of(Book.COLLECTION_NAME));
             }
@@ -432,7 +366,7 @@ class LimitOffsetFetchClauseIntegrationTests extends AbstractQueryIntegrationTes
                                 q.setParameter("limit", 10)
                                         .setParameter("offset", 0)
                                         .setMaxResults(maxResults),
-                        EXPECTED_MQL_TEMPLATE.formatted("{\"$limit\": " + maxResults + "}"),
+                        EXPECTED_MQL_TEMPLATE.formatted("\"limit\": " + maxResults),
                         expectedBooks,
                         Set.of(Book.COLLECTION_NAME));
             }
@@ -452,7 +386,7 @@ class LimitOffsetFetchClauseIntegrationTests extends AbstractQueryIntegrationTes
                                         .setFirstResult(firstResult)
                                         .setMaxResults(maxResults),
                         EXPECTED_MQL_TEMPLATE.formatted(
-                                "{\"$skip\": " + firstResult + "}," + "{\"$limit\": " + maxResults + "}"),
+                                "\"skip\": " + firstResult + "," + "\"limit\": " + maxResults),
                         expectedBooks,
                         Set.of(Book.COLLECTION_NAME));
             }
@@ -500,27 +434,21 @@ class LimitOffsetFetchClauseIntegrationTests extends AbstractQueryIntegrationTes
         private static final String EXPECTED_MQL_TEMPLATE =
                 """
                 {
-                  "aggregate": "books",
-                  "pipeline": [
-                    {
-                      "$sort": {
-                        "_id": 1
-                      }
-                    },
-                    %s
-                    %s
-                    {
-                      "$project": {
-                        "_id": true,
-                        "discount": true,
-                        "isbn13": true,
-                        "outOfStock": true,
-                        "price": true,
-                        "publishYear": true,
-                        "title": true
-                      }
-                    }
-                  ]
+                  "find": "books",
+                  "sort": {
+                    "_id": 1
+                  },
+                  %s
+                  %s
+                  "projection": {
+                    "_id": true,
+                    "discount": true,
+                    "isbn13": true,
+                    "outOfStock": true,
+                    "price": true,
+                    "publishYear": true,
+                    "title": true
+                  }
                 }
                 """;
 
@@ -545,8 +473,8 @@ class LimitOffsetFetchClauseIntegrationTests extends AbstractQueryIntegrationTes
                         isMaxResultsSet ? 10 : null,
                         format(
                                 EXPECTED_MQL_TEMPLATE,
-                                (isFirstResultSet ? "{\"$skip\": 5}," : ""),
-                                (isMaxResultsSet ? "{\"$limit\": 10}," : "")));
+                                (isFirstResultSet ? "\"skip\": 5," : ""),
+                                (isMaxResultsSet ? "\"limit\": 10," : "")));
                 var initialSelectTranslatingCount = translatingCacheTestingDialect.getSelectTranslatingCount();
 
                 assertThat(initialSelectTranslatingCount).isPositive();
@@ -557,8 +485,8 @@ class LimitOffsetFetchClauseIntegrationTests extends AbstractQueryIntegrationTes
                         isMaxResultsSet ? 6 : null,
                         format(
                                 EXPECTED_MQL_TEMPLATE,
-                                (isFirstResultSet ? "{\"$skip\": 3}," : ""),
-                                (isMaxResultsSet ? "{\"$limit\": 6}," : "")));
+                                (isFirstResultSet ? "\"skip\": 3," : ""),
+                                (isMaxResultsSet ? "\"limit\": 6," : "")));
                 assertThat(translatingCacheTestingDialect.getSelectTranslatingCount())
                         .isEqualTo(initialSelectTranslatingCount);
             });
@@ -571,12 +499,12 @@ class LimitOffsetFetchClauseIntegrationTests extends AbstractQueryIntegrationTes
                 var initialSelectTranslatingCount = translatingCacheTestingDialect.getSelectTranslatingCount();
                 assertThat(initialSelectTranslatingCount).isPositive();
 
-                setQueryOptionsAndQuery(session, 1, null, format(EXPECTED_MQL_TEMPLATE, "{\"$skip\": 1},", ""));
+                setQueryOptionsAndQuery(session, 1, null, format(EXPECTED_MQL_TEMPLATE, "\"skip\": 1,", ""));
                 assertThat(translatingCacheTestingDialect.getSelectTranslatingCount())
                         .isEqualTo(initialSelectTranslatingCount + 1);
 
                 setQueryOptionsAndQuery(
-                        session, 1, 5, format(EXPECTED_MQL_TEMPLATE, "{\"$skip\": 1},", "{\"$limit\": 5},"));
+                        session, 1, 5, format(EXPECTED_MQL_TEMPLATE, "\"skip\": 1,", "\"limit\": 5,"));
                 assertThat(translatingCacheTestingDialect.getSelectTranslatingCount())
                         .isEqualTo(initialSelectTranslatingCount + 2);
             });
@@ -586,11 +514,11 @@ class LimitOffsetFetchClauseIntegrationTests extends AbstractQueryIntegrationTes
         void testCacheInvalidatedDueToQueryOptionsRemoved() {
             getSessionFactoryScope().inTransaction(session -> {
                 setQueryOptionsAndQuery(
-                        session, 10, 5, format(EXPECTED_MQL_TEMPLATE, "{\"$skip\": 10},", "{\"$limit\": 5},"));
+                        session, 10, 5, format(EXPECTED_MQL_TEMPLATE, "\"skip\": 10,", "\"limit\": 5,"));
                 var initialSelectTranslatingCount = translatingCacheTestingDialect.getSelectTranslatingCount();
                 assertThat(initialSelectTranslatingCount).isPositive();
 
-                setQueryOptionsAndQuery(session, null, 5, format(EXPECTED_MQL_TEMPLATE, "", "{\"$limit\": 5},"));
+                setQueryOptionsAndQuery(session, null, 5, format(EXPECTED_MQL_TEMPLATE, "", "\"limit\": 5,"));
                 assertThat(translatingCacheTestingDialect.getSelectTranslatingCount())
                         .isEqualTo(initialSelectTranslatingCount + 1);
 
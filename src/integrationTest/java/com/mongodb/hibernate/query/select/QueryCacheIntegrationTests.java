@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.query.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.DIALECT;
+import static org.hibernate.cfg.AvailableSettings.USE_QUERY_CACHE;
+import static org.hibernate.cfg.AvailableSettings.USE_SECOND_LEVEL_CACHE;
+
+import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
+import com.mongodb.hibernate.query.Book;
+import java.util.List;
+import org.bson.BsonDocument;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@DomainModel(annotatedClasses = Book.class)
+@ServiceRegistry(
+        settings = {
+            @Setting(name = USE_SECOND_LEVEL_CACHE, value = "true"),
+            @Setting(name = USE_QUERY_CACHE, value = "true"),
+            @Setting(name = CACHE_REGION_FACTORY, value = "org.hibernate.testing.cache.CachingRegionFactory"),
+            @Setting(
+                    name = DIALECT,
+                    value = "com.mongodb.hibernate.query.AbstractQueryIntegrationTests$TranslateResultAwareDialect"),
+        })
+class QueryCacheIntegrationTests extends AbstractQueryIntegrationTests {
+
+    private static final BsonDocument EXPECTED_FIND_COMMAND = BsonDocument.parse("{find: 'books'}");
+
+    private static final List<Book> testingBooks = List.of(
+            new Book(1, "War and Peace", 1869, true),
+            new Book(2, "Crime and Punishment", 1866, false),
+            new Book(3, "Anna Karenina", 1877, false),
+            new Book(4, "War and Peace", 2025, false));
+
+    @BeforeEach
+    void beforeEach() {
+        getSessionFactoryScope().inTransaction(session -> testingBooks.forEach(session::persist));
+        getTestCommandListener().clear();
+    }
+
+    @Test
+    void testCachedQueryResult() {
+        assertThat(findTitlesPublishedAfter(1870)).containsExactlyInAnyOrder("Anna Karenina", "War and Peace");
+        assertThat(findTitlesPublishedAfter(1870)).containsExactlyInAnyOrder("Anna Karenina", "War and Peace");
+        assertActualCommandsInOrder(EXPECTED_FIND_COMMAND);
+    }
+
+    @Test
+    void testCachedQueryResultInvalidatedByEntityUpdate() {
+        findTitlesPublishedAfter(1870);
+        getSessionFactoryScope().inTransaction(session -> session.find(Book.class, 2).publishYear = 1880);
+        getTestCommandListener().clear();
+
+        assertThat(findTitlesPublishedAfter(1870))
+                .containsExactlyInAnyOrder("Crime and Punishment", "Anna Karenina", "War and Peace");
+        assertActualCommandsInOrder(EXPECTED_FIND_COMMAND);
+    }
+
+    @Test
+    void testCachedQueryResultInvalidatedByMutationQuery() {
+        findTitlesPublishedAfter(1870);
+        getSessionFactoryScope().inTransaction(session -> session.createMutationQuery(
+                        "update Book set publishYear = 1880 where id = 2")
+                .executeUpdate());
+        getTestCommandListener().clear();
+
+        assertThat(findTitlesPublishedAfter(1870))
+                .containsExactlyInAnyOrder("Crime and Punishment", "Anna Karenina", "War and Peace");
+        assertActualCommandsInOrder(EXPECTED_FIND_COMMAND);
+    }
+
+    private List<String> findTitlesPublishedAfter(int year) {
+        return getSessionFactoryScope().fromTransaction(session -> session.createSelectionQuery(
+                        "select title from Book where publishYear > :year", String.class)
+                .setParameter("year", year)
+                .setCacheable(true)
+                .getResultList());
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.query.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
+import com.mongodb.hibernate.query.Book;
+import com.mongodb.hibernate.query.MongoQueryHints;
+import java.util.List;
+import org.bson.BsonDocument;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@DomainModel(annotatedClasses = Book.class)
+class QueryHintsIntegrationTests extends AbstractQueryIntegrationTests {
+
+    private static final List<Book> testingBooks = List.of(
+            new Book(1, "War and Peace", 1869, true),
+            new Book(2, "Crime and Punishment", 1866, false),
+            new Book(3, "Anna Karenina", 1877, false));
+
+    @BeforeEach
+    void beforeEach() {
+        getSessionFactoryScope().inTransaction(session -> testingBooks.forEach(session::persist));
+        getTestCommandListener().clear();
+    }
+
+    @Test
+    void testFindHints() {
+        getSessionFactoryScope().inTransaction(session -> {
+            var ids = session.createQuery("select b.id from Book b where b.title = 'war and peace'", Integer.class)
+                    .addQueryHint(MongoQueryHints.HINT + "={\"_id\": 1}")
+                    .addQueryHint(MongoQueryHints.COMMENT + "=\"case-insensitive title\"")
+                    .addQueryHint(MongoQueryHints.COLLATION + "={\"locale\": \"en\", \"strength\": 2}")
+                    .addQueryHint(MongoQueryHints.BATCH_SIZE + "=2")
+                    .getResultList();
+            assertActualCommandsInOrder(BsonDocument.parse(
+                    """
+                    {
+                      "find": "books",
+                      "filter": {
+                        "title": {
+                          "$eq": "war and peace"
+                        }
+                      },
+                      "projection": {
+                        "_id": true
+                      },
+                      "hint": {
+                        "_id": 1
+                      },
+                      "comment": "case-insensitive title",
+                      "collation": {
+                        "locale": "en",
+                        "strength": 2
+                      },
+                      "batchSize": 2
+                    }"""));
+            assertThat(ids).containsExactly(1);
+        });
+    }
+
+    @Test
+    void testAggregateHints() {
+        getSessionFactoryScope().inTransaction(session -> {
+            var count = session.createQuery("select count(*) from Book b where b.outOfStock = false", Long.class)
+                    .addQueryHint(MongoQueryHints.HINT + "=\"_id_\"")
+                    .addQueryHint(MongoQueryHints.ALLOW_DISK_USE + "=true")
+                    .addQueryHint(MongoQueryHints.COMMENT + "={\"report\": \"in stock\"}")
+                    .addQueryHint(MongoQueryHints.BATCH_SIZE + "=1")
+                    .getSingleResult();
+            assertActualCommandsInOrder(BsonDocument.parse(
+                    """
+                    {
+                      "aggregate": "books",
+                      "pipeline": [
+                        {
+                          "$match": {
+                            "outOfStock": {
+                              "$eq": false
+                            }
+                          }
+                        },
+                        {
+                          "$count": "a0"
+                        },
+                        {
+                          "$project": {
+                            "a0": true,
+                            "_id": false
+                          }
+                        }
+                      ],
+                      "hint": "_id_",
+                      "allowDiskUse": true,
+                      "comment": {
+                        "report": "in stock"
+                      },
+                      "cursor": {
+                        "batchSize": 1
+                      }
+                    }"""));
+            assertThat(count).isEqualTo(2L);
+        });
+    }
+}
@@ -22,7 +22,6 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 
 import com.mongodb.hibernate.embeddable.StructAggregateEmbeddableIntegrationTests;
 import com.mongodb.hibernate.internal.FeatureNotSupportedException;
-import com.mongodb.hibernate.internal.dialect.MongoAggregateSupport;
 import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
 import com.mongodb.hibernate.query.Book;
 import jakarta.persistence.Entity;
@@ -46,7 +45,7 @@ import org.junit.jupiter.params.provider.ValueSource;
         annotatedClasses = {
             SimpleSelectQueryIntegrationTests.Contact.class,
             Book.class,
-            SimpleSelectQueryIntegrationTests.Unsupported.ItemWithNestedValue.class
+            SimpleSelectQueryIntegrationTests.ItemWithNestedValue.class
         })
 class SimpleSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
     @Test
@@ -92,24 +91,18 @@ class SimpleSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     q -> q.setParameter("country", Country.USA.name()),
                     """
                     {
-                      "aggregate": "contacts",
-                      "pipeline": [
-                        {
-                          "$match": {
-                            "country": {
-                              "$eq": "USA"
-                            }
-                          }
-                        },
-                        {
-                          "$project": {
-                            "_id": true,
-                            "age": true,
-                            "country": true,
-                            "name": true
-                          }
+                      "find": "contacts",
+                      "filter": {
+                        "country": {
+                          "$eq": "USA"
                         }
-                      ]
+                      },
+                      "projection": {
+                        "_id": true,
+                        "age": true,
+                        "country": true,
+                        "name": true
+                      }
                     }""",
                     getTestingContacts(1, 5),
                     Set.of(Contact.COLLECTION_NAME));
@@ -124,24 +117,18 @@ class SimpleSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     q -> q.setParameter(1, Country.USA.name()),
                     """
                     {
-                      "aggregate": "contacts",
-                      "pipeline": [
-                        {
-                          "$match": {
-                            "country": {
-                              "$ne": "USA"
-                            }
-                          }
-                        },
-                        {
-                          "$project": {
-                            "_id": true,
-                            "age": true,
-                            "country": true,
-                            "name": true
-                          }
+                      "find": "contacts",
+                      "filter": {
+                        "country": {
+                          "$ne": "USA"
                         }
-                      ]
+                      },
+                      "projection": {
+                        "_id": true,
+                        "age": true,
+                        "country": true,
+                        "name": true
+                      }
                     }""",
                     getTestingContacts(2, 3, 4),
                     Set.of(Contact.COLLECTION_NAME));
@@ -156,24 +143,18 @@ class SimpleSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     q -> q.setParameter("age", 35),
                     """
                     {
-                      "aggregate": "contacts",
-                      "pipeline": [
-                        {
-                          "$match": {
-                            "age": {
-                              "$lt": 35
-                            }
-                          }
-                        },
-                        {
-                          "$project": {
-                            "_id": true,
-                            "age": true,
-                            "country": true,
-                            "name": true
-                          }
+                      "find": "contacts",
+                      "filter": {
+                        "age": {
+                          "$lt": 35
                         }
-                      ]
+                      },
+                      "projection": {
+                        "_id": true,
+                        "age": true,
+                        "country": true,
+                        "name": true
+                      }
                     }""",
                     getTestingContacts(1, 3, 5),
                     Set.of(Contact.COLLECTION_NAME));
@@ -188,24 +169,18 @@ class SimpleSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     q -> q.setParameter(1, 35),
                     """
                     {
-                      "aggregate": "contacts",
-                      "pipeline": [
-                        {
-                          "$match": {
-                            "age": {
-                              "$lte": 35
-                            }
-                          }
-                        },
-                        {
-                          "$project": {
-                            "_id": true,
-                            "age": true,
-                            "country": true,
-                            "name": true
-                          }
+                      "find": "contacts",
+                      "filter": {
+                        "age": {
+                          "$lte": 35
                         }
-                      ]
+                      },
+                      "projection": {
+                        "_id": true,
+                        "age": true,
+                        "country": true,
+                        "name": true
+                      }
                     }""",
                     getTestingContacts(1, 2, 3, 5),
                     Set.of(Contact.COLLECTION_NAME));
@@ -220,24 +195,18 @@ class SimpleSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     q -> q.setParameter("age", 18),
                     """
                     {
-                      "aggregate": "contacts",
-                      "pipeline": [
-                        {
-                          "$match": {
-                            "age": {
-                              "$gt": 18
-                            }
-                          }
-                        },
-                        {
-                          "$project": {
-                            "_id": true,
-                            "age": true,
-                            "country": true,
-                            "name": true
-                          }
+                      "find": "contacts",
+                      "filter": {
+                        "age": {
+                          "$gt": 18
                         }
-                      ]
+                      },
+                      "projection": {
+                        "_id": true,
+                        "age": true,
+                        "country": true,
+                        "name": true
+                      }
                     }""",
                     getTestingContacts(2, 4, 5),
                     Set.of(Contact.COLLECTION_NAME));
@@ -252,24 +221,18 @@ class SimpleSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     q -> q.setParameter("age", 18),
                     """
                     {
-                      "aggregate": "contacts",
-                      "pipeline": [
-                        {
-                          "$match": {
-                            "age": {
-                              "$gte": 18
-                            }
-                          }
-                        },
-                        {
-                          "$project": {
-                            "_id": true,
-                            "age": true,
-                            "country": true,
-                            "name": true
-                          }
+                      "find": "contacts",
+                      "filter": {
+                        "age": {
+                          "$gte": 18
                         }
-                      ]
+                      },
+                      "projection": {
+                        "_id": true,
+                        "age": true,
+                        "country": true,
+                        "name": true
+                      }
                     }""",
                     getTestingContacts(1, 2, 4, 5),
                     Set.of(Contact.COLLECTION_NAME));
@@ -283,33 +246,27 @@ class SimpleSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     q -> q.setParameter(1, Country.CANADA.name()).setParameter(2, 18),
                     """
                     {
-                      "aggregate": "contacts",
-                      "pipeline": [
-                        {
-                          "$match": {
-                            "$and": [
-                              {
-                                "country": {
-                                  "$eq": "CANADA"
-                                }
-                              },
-                              {
-                                "age": {
-                                  "$gt": 18
-                                }
-                              }
-                            ]
-                          }
-                        },
-                        {
-                          "$project": {
-                            "_id": true,
-                            "age": true,
-                            "country": true,
-                            "name": true
+                      "find": "contacts",
+                      "filter": {
+                        "$and": [
+                          {
+                            "country": {
+                              "$eq": "CANADA"
+                            }
+                          },
+                          {
+                            "age": {
+                              "$gt": 18
+                            }
                           }
-                        }
-                      ]
+                        ]
+                      },
+                      "projection": {
+                        "_id": true,
+                        "age": true,
+                        "country": true,
+                        "name": true
+                      }
                     }""",
                     getTestingContacts(2, 4),
                     Set.of(Contact.COLLECTION_NAME));
@@ -323,33 +280,27 @@ class SimpleSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     q -> q.setParameter("country", Country.CANADA.name()).setParameter("age", 18),
                     """
                     {
-                      "aggregate": "contacts",
-                      "pipeline": [
-                        {
-                          "$match": {
-                            "$or": [
-                              {
-                                "country": {
-                                  "$eq": "CANADA"
-                                }
-                              },
-                              {
-                                "age": {
-                                  "$gt": 18
-                                }
-                              }
-                            ]
-                          }
-                        },
-                        {
-                          "$project": {
-                            "_id": true,
-                            "age": true,
-                            "country": true,
-                            "name": true
+                      "find": "contacts",
+                      "filter": {
+                        "$or": [
+                          {
+                            "country": {
+                              "$eq": "CANADA"
+                            }
+                          },
+                          {
+                            "age": {
+                              "$gt": 18
+                            }
                           }
-                        }
-                      ]
+                        ]
+                      },
+                      "projection": {
+                        "_id": true,
+                        "age": true,
+                        "country": true,
+                        "name": true
+                      }
                     }""",
                     getTestingContacts(2, 3, 4, 5),
                     Set.of(Contact.COLLECTION_NAME));
@@ -362,37 +313,27 @@ class SimpleSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     Contact.class,
                     """
                     {
-                      "aggregate": "contacts",
-                      "pipeline": [
-                        {
-                          "$match": {
-                            "$and": [
-                              {
-                                "age": {
-                                  "$gt": 18
-                                }
-                              },
-                              {
-                                "$nor": [
-                                  {
-                                    "country": {
-                                      "$eq": "USA"
-                                    }
-                                  }
-                                ]
-                              }
-                            ]
-                          }
-                        },
-                        {
-                          "$project": {
-                            "_id": true,
-                            "age": true,
-                            "country": true,
-                            "name": true
+                      "find": "contacts",
+                      "filter": {
+                        "$and": [
+                          {
+                            "age": {
+                              "$gt": 18
+                            }
+                          },
+                          {
+                            "country": {
+                              "$ne": "USA"
+                            }
                           }
-                        }
-                      ]
+                        ]
+                      },
+                      "projection": {
+                        "_id": true,
+                        "age": true,
+                        "country": true,
+                        "name": true
+                      }
                     }""",
                     getTestingContacts(2, 4),
                     Set.of(Contact.COLLECTION_NAME));
@@ -405,39 +346,31 @@ class SimpleSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     Contact.class,
                     """
                     {
-                      "aggregate": "contacts",
-                      "pipeline": [
-                        {
-                          "$match": {
-                            "$nor": [
-                              {
-                                "$and": [
-                                  {
-                                    "country": {
-                                      "$eq": "USA"
-                                    }
-                                  },
-                                  {
-                                    "age": {
-                                      "$gt": {
-                                        "$numberInt": "18"
-                                      }
-                                    }
-                                  }
-                                ]
+                      "find": "contacts",
+                      "filter": {
+                        "$or": [
+                          {
+                            "country": {
+                              "$ne": "USA"
+                            }
+                          },
+                          {
+                            "age": {
+                              "$not": {
+                                "$gt": {
+                                  "$numberInt": "18"
+                                }
                               }
-                            ]
-                          }
-                        },
-                        {
-                          "$project": {
-                            "_id": true,
-                            "age": true,
-                            "country": true,
-                            "name": true
+                            }
                           }
-                        }
-                      ]
+                        ]
+                      },
+                      "projection": {
+                        "_id": true,
+                        "age": true,
+                        "country": true,
+                        "name": true
+                      }
                     }""",
                     getTestingContacts(1, 2, 3, 4),
                     Set.of(Contact.COLLECTION_NAME));
@@ -450,39 +383,29 @@ class SimpleSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     Contact.class,
                     """
                     {
-                      "aggregate": "contacts",
-                      "pipeline": [
-                        {
-                          "$match": {
-                            "$nor": [
-                              {
-                                "$or": [
-                                  {
-                                    "country": {
-                                      "$eq": "USA"
-                                    }
-                                  },
-                                  {
-                                    "age": {
-                                      "$gt": {
-                                        "$numberInt": "18"
-                                      }
-                                    }
-                                  }
-                                ]
+                      "find": "contacts",
+                      "filter": {
+                        "$nor": [
+                          {
+                            "country": {
+                              "$eq": "USA"
+                            }
+                          },
+                          {
+                            "age": {
+                              "$gt": {
+                                "$numberInt": "18"
                               }
-                            ]
-                          }
-                        },
-                        {
-                          "$project": {
-                            "_id": true,
-                            "age": true,
-                            "country": true,
-                            "name": true
+                            }
                           }
-                        }
-                      ]
+                        ]
+                      },
+                      "projection": {
+                        "_id": true,
+                        "age": true,
+                        "country": true,
+                        "name": true
+                      }
                     }""",
                     getTestingContacts(3),
                     Set.of(Contact.COLLECTION_NAME));
@@ -495,50 +418,40 @@ class SimpleSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     Contact.class,
                     """
                     {
-                      "aggregate": "contacts",
-                      "pipeline": [
-                        {
-                          "$match": {
-                            "$nor": [
+                      "find": "contacts",
+                      "filter": {
+                        "$nor": [
+                          {
+                            "$and": [
                               {
-                                "$or": [
-                                  {
-                                    "$and": [
-                                      {
-                                        "country": {
-                                          "$eq": "USA"
-                                        }
-                                      },
-                                      {
-                                        "age": {
-                                          "$gt": {
-                                            "$numberInt": "18"
-                                          }
-                                        }
-                                      }
-                                    ]
-                                  },
-                                  {
-                                    "age": {
-                                      "$lt": {
-                                        "$numberInt": "25"
-                                      }
-                                    }
+                                "country": {
+                                  "$eq": "USA"
+                                }
+                              },
+                              {
+                                "age": {
+                                  "$gt": {
+                                    "$numberInt": "18"
                                   }
-                                ]
+                                }
                               }
                             ]
+                          },
+                          {
+                            "age": {
+                              "$lt": {
+                                "$numberInt": "25"
+                              }
+                            }
                           }
-                        },
-                        {
-                          "$project": {
-                            "_id": true,
-                            "age": true,
-                            "country": true,
-                            "name": true
-                          }
-                        }
-                      ]
+                        ]
+                      },
+                      "projection": {
+                        "_id": true,
+                        "age": true,
+                        "country": true,
+                        "name": true
+                      }
                     }""",
                     getTestingContacts(2, 4),
                     Set.of(Contact.COLLECTION_NAME));
@@ -551,41 +464,27 @@ class SimpleSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     Contact.class,
                     """
                     {
-                      "aggregate": "contacts",
-                      "pipeline": [
-                        {
-                          "$match": {
-                            "$and": [
-                              {
-                                "age": {
-                                  "$gt": 18
-                                }
-                              },
-                              {
-                                "$nor": [
-                                  {
-                                    "$nor": [
-                                      {
-                                        "country": {
-                                          "$eq": "USA"
-                                        }
-                                      }
-                                    ]
-                                  }
-                                ]
-                              }
-                            ]
-                          }
-                        },
-                        {
-                          "$project": {
-                            "_id": true,
-                            "age": true,
-                            "country": true,
-                            "name": true
+                      "find": "contacts",
+                      "filter": {
+                        "$and": [
+                          {
+                            "age": {
+                              "$gt": 18
+                            }
+                          },
+                          {
+                            "country": {
+                              "$eq": "USA"
+                            }
                           }
-                        }
-                      ]
+                        ]
+                      },
+                      "projection": {
+                        "_id": true,
+                        "age": true,
+                        "country": true,
+                        "name": true
+                      }
                     }""",
                     getTestingContacts(5),
                     Set.of(Contact.COLLECTION_NAME));
@@ -599,22 +498,17 @@ class SimpleSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     q -> q.setParameter("country", Country.CANADA.name()),
                     """
                     {
-                      "aggregate": "contacts",
-                      "pipeline": [
-                        {
-                          "$match": {
-                            "country": {
-                              "$eq": "CANADA"
-                            }
-                          }
-                        },
-                        {
-                          "$project": {
-                            "name": true,
-                            "age": true
-                          }
+                      "find": "contacts",
+                      "filter": {
+                        "country": {
+                          "$eq": "CANADA"
                         }
-                      ]
+                      },
+                      "projection": {
+                        "name": true,
+                        "age": true,
+                        "_id": false
+                      }
                     }""",
                     List.of(new Object[] {"Mary", 35}, new Object[] {"Dylan", 7}, new Object[] {"Lucy", 78}),
                     Set.of(Contact.COLLECTION_NAME));
@@ -628,22 +522,17 @@ class SimpleSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     q -> q.setParameter("country", Country.CANADA.name()),
                     """
                     {
-                      "aggregate": "contacts",
-                      "pipeline": [
-                        {
-                          "$match": {
-                            "country": {
-                              "$eq": "CANADA"
-                            }
-                          }
-                        },
-                        {
-                          "$project": {
-                            "name": true,
-                            "age": true
-                          }
+                      "find": "contacts",
+                      "filter": {
+                        "country": {
+                          "$eq": "CANADA"
                         }
-                      ]
+                      },
+                      "projection": {
+                        "name": true,
+                        "age": true,
+                        "_id": false
+                      }
                     }""",
                     List.of(new Object[] {"Mary", 35}, new Object[] {"Dylan", 7}, new Object[] {"Lucy", 78}),
                     Set.of(Contact.COLLECTION_NAME));
@@ -660,6 +549,67 @@ class SimpleSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
         }
     }
 
+    @Nested
+    class StructAggregateEmbeddablePathTests {
+        private final ItemWithNestedValue item1 =
+                new ItemWithNestedValue(1, new StructAggregateEmbeddableIntegrationTests.Single(1));
+        private final ItemWithNestedValue item2 =
+                new ItemWithNestedValue(2, new StructAggregateEmbeddableIntegrationTests.Single(2));
+
+        @BeforeEach
+        void beforeEach() {
+            getSessionFactoryScope().inTransaction(session -> {
+                session.persist(item1);
+                session.persist(item2);
+            });
+            getTestCommandListener().clear();
+        }
+
+        @Test
+        void testPathExpressionSelection() {
+            assertSelectionQuery(
+                    "select nested.a from ItemWithNestedValue order by id",
+                    Integer.class,
+                    """
+                    {
+                      "find": "items",
+                      "sort": {
+                        "_id": 1
+                      },
+                      "projection": {
+                        "nested.a": true,
+                        "_id": false
+                      }
+                    }
+                    """,
+                    List.of(1, 2),
+                    Set.of(COLLECTION_NAME));
+        }
+
+        @Test
+        void testPathExpressionComparison() {
+            assertSelectionQuery(
+                    "from ItemWithNestedValue where nested.a = 2",
+                    ItemWithNestedValue.class,
+                    """
+                    {
+                      "find": "items",
+                      "filter": {
+                        "nested.a": {
+                          "$eq": 2
+                        }
+                      },
+                      "projection": {
+                        "_id": true,
+                        "nested": true
+                      }
+                    }
+                    """,
+                    List.of(item2),
+                    Set.of(COLLECTION_NAME));
+        }
+    }
+
     @Nested
     class Unsupported {
         @Test
@@ -721,38 +671,21 @@ class SimpleSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     .isInstanceOf(SQLFeatureNotSupportedException.class)
                     .hasMessage("TODO-HIBERNATE-74 https://jira.mongodb.org/browse/HIBERNATE-74");
         }
+    }
 
-        @Test
-        void testStructAggregateEmbeddablePathExpressionSelection() {
-            assertSelectQueryFailure(
-                    "select nested.a from ItemWithNestedValue",
-                    int.class,
-                    FeatureNotSupportedException.class,
-                    MongoAggregateSupport.UNSUPPORTED_MESSAGE_PREFIX);
-        }
-
-        @Test
-        void testStructAggregateEmbeddablePathExpressionComparison() {
-            assertSelectQueryFailure(
-                    "from ItemWithNestedValue where nested.a = 0",
-                    ItemWithNestedValue.class,
-                    FeatureNotSupportedException.class,
-                    MongoAggregateSupport.UNSUPPORTED_MESSAGE_PREFIX);
-        }
-
-        @Entity(name = "ItemWithNestedValue")
-        @Table(name = COLLECTION_NAME)
-        static class ItemWithNestedValue {
-            @Id
-            int id;
+    @Entity(name = "ItemWithNestedValue")
+    @Table(name = COLLECTION_NAME)
+    static class ItemWithNestedValue {
+        @Id
+        int id;
 
-            StructAggregateEmbeddableIntegrationTests.Single nested;
+        StructAggregateEmbeddableIntegrationTests.Single nested;
 
-            ItemWithNestedValue() {}
+        ItemWithNestedValue() {}
 
-            ItemWithNestedValue(StructAggregateEmbeddableIntegrationTests.Single nested) {
-                this.nested = nested;
-            }
+        ItemWithNestedValue(int id, StructAggregateEmbeddableIntegrationTests.Single nested) {
+            this.id = id;
+            this.nested = nested;
         }
     }
 
@@ -782,27 +715,21 @@ class SimpleSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     Book.class,
                     """
                     {
-                      "aggregate": "books",
-                      "pipeline": [
-                        {
-                          "$match": {
-                            "outOfStock": {
-                              "$eq": true
-                            }
-                          }
-                        },
-                        {
-                          "$project": {
-                            "_id": true,
-                            "discount": true,
-                            "isbn13": true,
-                            "outOfStock": true,
-                            "price": true,
-                            "publishYear": true,
-                            "title": true
-                          }
+                      "find": "books",
+                      "filter": {
+                        "outOfStock": {
+                          "$eq": true
                         }
-                      ]
+                      },
+                      "projection": {
+                        "_id": true,
+                        "discount": true,
+                        "isbn13": true,
+                        "outOfStock": true,
+                        "price": true,
+                        "publishYear": true,
+                        "title": true
+                      }
                     }""",
                     List.of(testingBook),
                     Set.of(Book.COLLECTION_NAME));
@@ -815,27 +742,21 @@ class SimpleSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     Book.class,
                     """
                     {
-                      "aggregate": "books",
-                      "pipeline": [
-                        {
-                          "$match": {
-                            "publishYear": {
-                              "$eq": 1995
-                            }
-                          }
-                        },
-                        {
-                          "$project": {
-                            "_id": true,
-                            "discount": true,
-                            "isbn13": true,
-                            "outOfStock": true,
-                            "price": true,
-                            "publishYear": true,
-                            "title": true
-                          }
+                      "find": "books",
+                      "filter": {
+                        "publishYear": {
+                          "$eq": 1995
                         }
-                      ]
+                      },
+                      "projection": {
+                        "_id": true,
+                        "discount": true,
+                        "isbn13": true,
+                        "outOfStock": true,
+                        "price": true,
+                        "publishYear": true,
+                        "title": true
+                      }
                     }""",
                     List.of(testingBook),
                     Set.of(Book.COLLECTION_NAME));
@@ -848,27 +769,21 @@ class SimpleSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     Book.class,
                     """
                     {
-                      "aggregate": "books",
-                      "pipeline": [
-                        {
-                          "$match": {
-                            "isbn13": {
-                              "$eq": 9780310904168
-                            }
-                          }
-                        },
-                        {
-                          "$project": {
-                            "_id": true,
-                            "discount": true,
-                            "isbn13": true,
-                            "outOfStock": true,
-                            "price": true,
-                            "publishYear": true,
-                            "title": true
-                          }
+                      "find": "books",
+                      "filter": {
+                        "isbn13": {
+                          "$eq": 9780310904168
                         }
-                      ]
+                      },
+                      "projection": {
+                        "_id": true,
+                        "discount": true,
+                        "isbn13": true,
+                        "outOfStock": true,
+                        "price": true,
+                        "publishYear": true,
+                        "title": true
+                      }
                     }""",
                     List.of(testingBook),
                     Set.of(Book.COLLECTION_NAME));
@@ -881,27 +796,21 @@ class SimpleSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     Book.class,
                     """
                     {
-                      "aggregate": "books",
-                      "pipeline": [
-                        {
-                          "$match": {
-                            "discount": {
-                              "$eq": 0.25
-                            }
-                          }
-                        },
-                        {
-                          "$project": {
-                            "_id": true,
-                            "discount": true,
-                            "isbn13": true,
-                            "outOfStock": true,
-                            "price": true,
-                            "publishYear": true,
-                            "title": true
-                          }
+                      "find": "books",
+                      "filter": {
+                        "discount": {
+                          "$eq": 0.25
                         }
-                      ]
+                      },
+                      "projection": {
+                        "_id": true,
+                        "discount": true,
+                        "isbn13": true,
+                        "outOfStock": true,
+                        "price": true,
+                        "publishYear": true,
+                        "title": true
+                      }
                     }""",
                     List.of(testingBook),
                     Set.of(Book.COLLECTION_NAME));
@@ -914,27 +823,21 @@ class SimpleSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     Book.class,
                     """
                     {
-                      "aggregate": "books",
-                      "pipeline": [
-                        {
-                          "$match": {
-                            "title": {
-                              "$eq": "Holy Bible"
-                            }
-                          }
-                        },
-                        {
-                          "$project": {
-                            "_id": true,
-                            "discount": true,
-                            "isbn13": true,
-                            "outOfStock": true,
-                            "price": true,
-                            "publishYear": true,
-                            "title": true
-                          }
+                      "find": "books",
+                      "filter": {
+                        "title": {
+                          "$eq": "Holy Bible"
                         }
-                      ]
+                      },
+                      "projection": {
+                        "_id": true,
+                        "discount": true,
+                        "isbn13": true,
+                        "outOfStock": true,
+                        "price": true,
+                        "publishYear": true,
+                        "title": true
+                      }
                     }""",
                     List.of(testingBook),
                     Set.of(Book.COLLECTION_NAME));
@@ -947,29 +850,23 @@ class SimpleSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     Book.class,
                     """
                     {
-                      "aggregate": "books",
-                      "pipeline": [
-                        {
-                          "$match": {
-                            "price": {
-                              "$eq": {
-                                "$numberDecimal": "123.50"
-                              }
-                            }
-                          }
-                        },
-                        {
-                          "$project": {
-                            "_id": true,
-                            "discount": true,
-                            "isbn13": true,
-                            "outOfStock": true,
-                            "price": true,
-                            "publishYear": true,
-                            "title": true
+                      "find": "books",
+                      "filter": {
+                        "price": {
+                          "$eq": {
+                            "$numberDecimal": "123.50"
                           }
                         }
-                      ]
+                      },
+                      "projection": {
+                        "_id": true,
+                        "discount": true,
+                        "isbn13": true,
+                        "outOfStock": true,
+                        "price": true,
+                        "publishYear": true,
+                        "title": true
+                      }
                     }""",
                     List.of(testingBook),
                     Set.of(Book.COLLECTION_NAME));
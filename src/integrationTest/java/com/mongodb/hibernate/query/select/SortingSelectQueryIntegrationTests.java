@@ -16,6 +16,7 @@
 
 package com.mongodb.hibernate.query.select;
 
+import static com.mongodb.hibernate.BasicCrudIntegrationTests.Item.COLLECTION_NAME;
 import static com.mongodb.hibernate.MongoTestAssertions.assertIterableEq;
 import static com.mongodb.hibernate.internal.MongoAssertions.fail;
 import static com.mongodb.hibernate.internal.MongoConstants.MONGO_DBMS_NAME;
@@ -25,10 +26,11 @@ import static org.hibernate.cfg.AvailableSettings.DEFAULT_NULL_ORDERING;
 import static org.hibernate.query.NullPrecedence.NONE;
 import static org.hibernate.query.SortDirection.ASCENDING;
 
+import com.mongodb.hibernate.embeddable.StructAggregateEmbeddableIntegrationTests.Single;
 import com.mongodb.hibernate.internal.FeatureNotSupportedException;
-import com.mongodb.hibernate.internal.dialect.MongoAggregateSupport;
 import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
 import com.mongodb.hibernate.query.Book;
+import com.mongodb.hibernate.query.select.SimpleSelectQueryIntegrationTests.ItemWithNestedValue;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
@@ -41,7 +43,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
-@DomainModel(annotatedClasses = {Book.class, SimpleSelectQueryIntegrationTests.Unsupported.ItemWithNestedValue.class})
+@DomainModel(annotatedClasses = {Book.class, ItemWithNestedValue.class})
 class SortingSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
 
     private static final List<Book> testingBooks = List.of(
@@ -74,25 +76,19 @@ class SortingSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                 Book.class,
                 """
                 {
-                  "aggregate": "books",
-                  "pipeline": [
-                    {
-                      "$sort": {
-                        "publishYear": %d
-                      }
-                    },
-                    {
-                      "$project": {
-                        "_id": true,
-                        "discount": true,
-                        "isbn13": true,
-                        "outOfStock": true,
-                        "price": true,
-                        "publishYear": true,
-                        "title": true
-                      }
-                    }
-                  ]
+                  "find": "books",
+                  "sort": {
+                    "publishYear": %d
+                  },
+                  "projection": {
+                    "_id": true,
+                    "discount": true,
+                    "isbn13": true,
+                    "outOfStock": true,
+                    "price": true,
+                    "publishYear": true,
+                    "title": true
+                  }
                 }
                 """
                         .formatted(sortDirection.equals("ASC") ? 1 : -1),
@@ -108,25 +104,19 @@ class SortingSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                 Book.class,
                 """
                 {
-                  "aggregate": "books",
-                  "pipeline": [
-                    {
-                      "$sort": {
-                        "title": %d
-                      }
-                    },
-                    {
-                      "$project": {
-                        "_id": true,
-                        "discount": true,
-                        "isbn13": true,
-                        "outOfStock": true,
-                        "price": true,
-                        "publishYear": true,
-                        "title": true
-                      }
-                    }
-                  ]
+                  "find": "books",
+                  "sort": {
+                    "title": %d
+                  },
+                  "projection": {
+                    "_id": true,
+                    "discount": true,
+                    "isbn13": true,
+                    "outOfStock": true,
+                    "price": true,
+                    "publishYear": true,
+                    "title": true
+                  }
                 }
                 """
                         .formatted(sortDirection.equals("ASC") ? 1 : -1),
@@ -149,34 +139,26 @@ class SortingSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                 Book.class,
                 """
                 {
-                  "aggregate": "books",
-                  "pipeline": [
-                    {
-                      "$match": {
-                        "outOfStock": {
-                          "$eq": false
-                        }
-                      }
-                    },
-                    {
-                      "$sort": {
-                        "title": 1,
-                        "publishYear": -1,
-                        "_id": 1
-                      }
-                    },
-                    {
-                      "$project": {
-                        "_id": true,
-                        "discount": true,
-                        "isbn13": true,
-                        "outOfStock": true,
-                        "price": true,
-                        "publishYear": true,
-                        "title": true
-                      }
+                  "find": "books",
+                  "filter": {
+                    "outOfStock": {
+                      "$eq": false
                     }
-                  ]
+                  },
+                  "sort": {
+                    "title": 1,
+                    "publishYear": -1,
+                    "_id": 1
+                  },
+                  "projection": {
+                    "_id": true,
+                    "discount": true,
+                    "isbn13": true,
+                    "outOfStock": true,
+                    "price": true,
+                    "publishYear": true,
+                    "title": true
+                  }
                 }""",
                 getBooksByIds(3, 2, 4, 5),
                 Set.of(Book.COLLECTION_NAME));
@@ -187,7 +169,7 @@ class SortingSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
         assertSelectionQuery(
                 "from Book ORDER BY title ASC, publishYear DESC, id ASC",
                 Book.class,
-                "{ 'aggregate': 'books', 'pipeline': [ { '$sort': { 'title': 1, 'publishYear': -1, '_id': 1 } }, {'$project': {'_id': true, 'discount': true, 'isbn13': true, 'outOfStock': true, 'price': true, 'publishYear': true, 'title': true} } ] }",
+                "{ 'find': 'books', 'sort': { 'title': 1, 'publishYear': -1, '_id': 1 }, 'projection': {'_id': true, 'discount': true, 'isbn13': true, 'outOfStock': true, 'price': true, 'publishYear': true, 'title': true} }",
                 resultList -> assertThat(resultList)
                         .satisfiesAnyOf(
                                 list -> assertIterableEq(getBooksByIds(3, 2, 4, 1, 5), list),
@@ -202,21 +184,16 @@ class SortingSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                 Object[].class,
                 """
                 {
-                  "aggregate": "books",
-                  "pipeline": [
-                    {
-                      "$sort": {
-                        "publishYear": -1,
-                        "title": 1
-                      }
-                    },
-                    {
-                      "$project": {
-                        "title": true,
-                        "publishYear": true
-                      }
-                    }
-                  ]
+                  "find": "books",
+                  "sort": {
+                    "publishYear": -1,
+                    "title": 1
+                  },
+                  "projection": {
+                    "title": true,
+                    "publishYear": true,
+                    "_id": false
+                  }
                 }
                 """,
                 List.of(
@@ -235,21 +212,16 @@ class SortingSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                 Object[].class,
                 """
                 {
-                  "aggregate": "books",
-                  "pipeline": [
-                    {
-                      "$sort": {
-                        "title": 1,
-                        "publishYear": -1
-                      }
-                    },
-                    {
-                      "$project": {
-                        "title": true,
-                        "publishYear": true
-                      }
-                    }
-                  ]
+                  "find": "books",
+                  "sort": {
+                    "title": 1,
+                    "publishYear": -1
+                  },
+                  "projection": {
+                    "title": true,
+                    "publishYear": true,
+                    "_id": false
+                  }
                 }""",
                 List.of(
                         new Object[] {"Anna Karenina", 1877},
@@ -310,15 +282,6 @@ class SortingSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                         .hasMessage("TODO-HIBERNATE-79 https://jira.mongodb.org/browse/HIBERNATE-79");
             });
         }
-
-        @Test
-        void testStructAggregateEmbeddablePathExpressionSorting() {
-            assertSelectQueryFailure(
-                    "from ItemWithNestedValue order by nested.a",
-                    SimpleSelectQueryIntegrationTests.Unsupported.ItemWithNestedValue.class,
-                    FeatureNotSupportedException.class,
-                    MongoAggregateSupport.UNSUPPORTED_MESSAGE_PREFIX);
-        }
     }
 
     @Nested
@@ -330,26 +293,20 @@ class SortingSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     Book.class,
                     """
                     {
-                      "aggregate": "books",
-                      "pipeline": [
-                        {
-                          "$sort": {
-                            "publishYear": 1,
-                            "title": 1
-                          }
-                        },
-                        {
-                          "$project": {
-                            "_id": true,
-                            "discount": true,
-                            "isbn13": true,
-                            "outOfStock": true,
-                            "price": true,
-                            "publishYear": true,
-                            "title": true
-                          }
-                        }
-                      ]
+                      "find": "books",
+                      "sort": {
+                        "publishYear": 1,
+                        "title": 1
+                      },
+                      "projection": {
+                        "_id": true,
+                        "discount": true,
+                        "isbn13": true,
+                        "outOfStock": true,
+                        "price": true,
+                        "publishYear": true,
+                        "title": true
+                      }
                     }
                     """,
                     getBooksByIds(2, 1, 3, 4, 5),
@@ -363,31 +320,61 @@ class SortingSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     Book.class,
                     """
                     {
-                      "aggregate": "books",
-                      "pipeline": [
-                        {
-                          "$sort": {
-                            "title": -1,
-                            "_id": -1,
-                            "publishYear": -1
-                          }
-                        },
-                        {
-                          "$project": {
-                            "_id": true,
-                            "discount": true,
-                            "isbn13": true,
-                            "outOfStock": true,
-                            "price": true,
-                            "publishYear": true,
-                            "title": true
-                          }
-                        }
-                      ]
+                      "find": "books",
+                      "sort": {
+                        "title": -1,
+                        "_id": -1,
+                        "publishYear": -1
+                      },
+                      "projection": {
+                        "_id": true,
+                        "discount": true,
+                        "isbn13": true,
+                        "outOfStock": true,
+                        "price": true,
+                        "publishYear": true,
+                        "title": true
+                      }
                     }
                     """,
                     getBooksByIds(5, 1, 4, 2, 3),
                     Set.of(Book.COLLECTION_NAME));
         }
     }
+
+    @Nested
+    class StructAggregateEmbeddablePathTests {
+        private final ItemWithNestedValue item1 = new ItemWithNestedValue(1, new Single(2));
+        private final ItemWithNestedValue item2 = new ItemWithNestedValue(2, new Single(1));
+
+        @BeforeEach
+        void beforeEach() {
+            getSessionFactoryScope().inTransaction(session -> {
+                session.persist(item1);
+                session.persist(item2);
+            });
+            getTestCommandListener().clear();
+        }
+
+        @Test
+        void testOrderByPathExpression() {
+            assertSelectionQuery(
+                    "from ItemWithNestedValue order by nested.a",
+                    ItemWithNestedValue.class,
+                    """
+                    {
+                      "find": "items",
+                      "sort": {
+                        "nested.a": 1
+                      },
+                      "projection": {
+                        "_id": true,
+                        "nested": true
+                      }
+                    }
+                    """,
+                    List.of(item2, item1),
+                    Set.of(COLLECTION_NAME));
+        }
+    }
 }
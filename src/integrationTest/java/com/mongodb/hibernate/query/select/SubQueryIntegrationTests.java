@@ -0,0 +1,450 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.query.select;
+
+import static com.mongodb.hibernate.internal.MongoAssertions.fail;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mongodb.hibernate.internal.FeatureNotSupportedException;
+import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
+import com.mongodb.hibernate.query.Book;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@DomainModel(annotatedClasses = {Book.class, SubQueryIntegrationTests.Review.class})
+class SubQueryIntegrationTests extends AbstractQueryIntegrationTests {
+
+    private static final List<Book> testingBooks = List.of(
+            new Book(1, "War and Peace", 1869, true),
+            new Book(2, "Crime and Punishment", 1866, false),
+            new Book(3, "Anna Karenina", 1877, false));
+
+    private static final List<Review> testingReviews =
+            List.of(new Review(1, 1, 5), new Review(2, 1, 1), new Review(3, 2, 3));
+
+    private static final String EXPECTED_MQL_WITH_PARAMETERS_IN_OUTER_QUERY_AND_SUBQUERY =
+            """
+            {
+              "aggregate": "books",
+              "pipeline": [
+                {
+                  "$match": {
+                    "publishYear": {
+                      "$gt": 1867
+                    }
+                  }
+                },
+                {
+                  "$lookup": {
+                    "from": "reviews",
+                    "localField": "_id",
+                    "foreignField": "bookId",
+                    "pipeline": [
+                      {"$match": {"rating": {"$gte": 3}}},
+                      {"$project": {"_id": true}},
+                      {"$limit": 1}
+                    ],
+                    "as": "r1_0"
+                  }
+                },
+                {
+                  "$match": {
+                    "r1_0": {
+                      "$ne": []
+                    }
+                  }
+                },
+                {
+                  "$project": {
+                    "_id": true,
+                    "discount": true,
+                    "isbn13": true,
+                    "outOfStock": true,
+                    "price": true,
+                    "publishYear": true,
+                    "title": true
+                  }
+                }
+              ]
+            }
+            """;
+
+    @BeforeEach
+    void beforeEach() {
+        getSessionFactoryScope().inTransaction(session -> {
+            testingBooks.forEach(session::persist);
+            testingReviews.forEach(session::persist);
+        });
+        getTestCommandListener().clear();
+    }
+
+    private static List<Book> getBooksByIds(int... ids) {
+        return Arrays.stream(ids)
+                .mapToObj(id -> testingBooks.stream()
+                        .filter(c -> c.id == id)
+                        .findAny()
+                        .orElseThrow(() -> fail("id does not exist: " + id)))
+                .toList();
+    }
+
+    @Test
+    void testCorrelatedExists() {
+        assertSelectionQuery(
+                "from Book b where exists (select 1 from Review r where r.bookId = b.id and r.rating >= 4)",
+                Book.class,
+                """
+                {
+                  "aggregate": "books",
+                  "pipeline": [
+                    {
+                      "$lookup": {
+                        "from": "reviews",
+                        "localField": "_id",
+                        "foreignField": "bookId",
+                        "pipeline": [
+                          {"$match": {"rating": {"$gte": 4}}},
+                          {"$project": {"_id": true}},
+                          {"$limit": 1}
+                        ],
+                        "as": "r1_0"
+                      }
+                    },
+                    {
+                      "$match": {
+                        "r1_0": {
+                          "$ne": []
+                        }
+                      }
+                    },
+                    {
+                      "$project": {
+                        "_id": true,
+                        "discount": true,
+                        "isbn13": true,
+                        "outOfStock": true,
+                        "price": true,
+                        "publishYear": true,
+                        "title": true
+                      }
+                    }
+                  ]
+                }
+                """,
+                getBooksByIds(1),
+                Set.of(Book.COLLECTION_NAME, Review.COLLECTION_NAME));
+    }
+
+    @Test
+    void testCorrelatedNotExists() {
+        assertSelectionQuery(
+                "from Book b where not exists (select 1 from Review r where r.bookId = b.id)",
+                Book.class,
+                """
+                {
+                  "aggregate": "books",
+                  "pipeline": [
+                    {
+                      "$lookup": {
+                        "from": "reviews",
+                        "localField": "_id",
+                        "foreignField": "bookId",
+                        "pipeline": [
+                          {"$project": {"_id": true}},
+                          {"$limit": 1}
+                        ],
+                        "as": "r1_0"
+                      }
+                    },
+                    {
+                      "$match": {
+                        "r1_0": {
+                          "$eq": []
+                        }
+                      }
+                    },
+                    {
+                      "$project": {
+                        "_id": true,
+                        "discount": true,
+                        "isbn13": true,
+                        "outOfStock": true,
+                        "price": true,
+                        "publishYear": true,
+                        "title": true
+                      }
+                    }
+                  ]
+                }
+                """,
+                getBooksByIds(3),
+                Set.of(Book.COLLECTION_NAME, Review.COLLECTION_NAME));
+    }
+
+    @Test
+    void testUncorrelatedExists() {
+        assertSelectionQuery(
+                "from Book b where exists (select 1 from Review r where r.rating > 4)",
+                Book.class,
+                """
+                {
+                  "aggregate": "books",
+                  "pipeline": [
+                    {
+                      "$lookup": {
+                        "from": "reviews",
+                        "pipeline": [
+                          {"$match": {"rating": {"$gt": 4}}},
+                          {"$project": {"_id": true}},
+                          {"$limit": 1}
+                        ],
+                        "as": "r1_0"
+                      }
+                    },
+                    {
+                      "$match": {
+                        "r1_0": {
+                          "$ne": []
+                        }
+                      }
+                    },
+                    {
+                      "$project": {
+                        "_id": true,
+                        "discount": true,
+                        "isbn13": true,
+                        "outOfStock": true,
+                        "price": true,
+                        "publishYear": true,
+                        "title": true
+                      }
+                    }
+                  ]
+                }
+                """,
+                resultList -> assertThat(resultList).containsExactlyInAnyOrderElementsOf(testingBooks),
+                Set.of(Book.COLLECTION_NAME, Review.COLLECTION_NAME));
+    }
+
+    @Test
+    void testInSubQuery() {
+        assertSelectionQuery(
+                "from Book b where b.id in (select r.bookId from Review r where r.rating < 2)",
+                Book.class,
+                """
+                {
+                  "aggregate": "books",
+                  "pipeline": [
+                    {
+                      "$lookup": {
+                        "from": "reviews",
+                        "localField": "_id",
+                        "foreignField": "bookId",
+                        "pipeline": [
+                          {"$match": {"rating": {"$lt": 2}}},
+                          {"$project": {"_id": true}},
+                          {"$limit": 1}
+                        ],
+                        "as": "r1_0"
+                      }
+                    },
+                    {
+                      "$match": {
+                        "r1_0": {
+                          "$ne": []
+                        }
+                      }
+                    },
+                    {
+                      "$project": {
+                        "_id": true,
+                        "discount": true,
+                        "isbn13": true,
+                        "outOfStock": true,
+                        "price": true,
+                        "publishYear": true,
+                        "title": true
+                      }
+                    }
+                  ]
+                }
+                """,
+                getBooksByIds(1),
+                Set.of(Book.COLLECTION_NAME, Review.COLLECTION_NAME));
+    }
+
+    @Test
+    void testNotInSubQuery() {
+        assertSelectionQuery(
+                "from Book b where b.id not in (select r.bookId from Review r)",
+                Book.class,
+                """
+                {
+                  "aggregate": "books",
+                  "pipeline": [
+                    {
+                      "$lookup": {
+                        "from": "reviews",
+                        "localField": "_id",
+                        "foreignField": "bookId",
+                        "pipeline": [
+                          {"$project": {"_id": true}},
+                          {"$limit": 1}
+                        ],
+                        "as": "r1_0"
+                      }
+                    },
+                    {
+                      "$match": {
+                        "r1_0": {
+                          "$eq": []
+                        }
+                      }
+                    },
+                    {
+                      "$project": {
+                        "_id": true,
+                        "discount": true,
+                        "isbn13": true,
+                        "outOfStock": true,
+                        "price": true,
+                        "publishYear": true,
+                        "title": true
+                      }
+                    }
+                  ]
+                }
+                """,
+                getBooksByIds(3),
+                Set.of(Book.COLLECTION_NAME, Review.COLLECTION_NAME));
+    }
+
+    @Test
+    void testEqualsAnySubQuery() {
+        assertSelectionQuery(
+                "from Book b where b.id = any (select r.bookId from Review r where r.rating = 3)",
+                Book.class,
+                """
+                {
+                  "aggregate": "books",
+                  "pipeline": [
+                    {
+                      "$lookup": {
+                        "from": "reviews",
+                        "localField": "_id",
+                        "foreignField": "bookId",
+                        "pipeline": [
+                          {"$match": {"rating": {"$eq": 3}}},
+                          {"$project": {"_id": true}},
+                          {"$limit": 1}
+                        ],
+                        "as": "r1_0"
+                      }
+                    },
+                    {
+                      "$match": {
+                        "r1_0": {
+                          "$ne": []
+                        }
+                      }
+                    },
+                    {
+                      "$project": {
+                        "_id": true,
+                        "discount": true,
+                        "isbn13": true,
+                        "outOfStock": true,
+                        "price": true,
+                        "publishYear": true,
+                        "title": true
+                      }
+                    }
+                  ]
+                }
+                """,
+                getBooksByIds(2),
+                Set.of(Book.COLLECTION_NAME, Review.COLLECTION_NAME));
+    }
+
+    @Test
+    void testParametersInOuterQueryAndSubQuery() {
+        assertSelectionQuery(
+                "from Book b where b.publishYear > :year"
+                        + " and exists (select 1 from Review r where r.bookId = b.id and r.rating >= :rating)",
+                Book.class,
+                query -> query.setParameter("year", 1867).setParameter("rating", 3),
+                EXPECTED_MQL_WITH_PARAMETERS_IN_OUTER_QUERY_AND_SUBQUERY,
+                getBooksByIds(1),
+                Set.of(Book.COLLECTION_NAME, Review.COLLECTION_NAME));
+    }
+
+    @Test
+    void testParametersInSubQueryAndOuterQuery() {
+        assertSelectionQuery(
+                "from Book b where exists (select 1 from Review r where r.bookId = b.id and r.rating >= :rating)"
+                        + " and b.publishYear > :year",
+                Book.class,
+                query -> query.setParameter("year", 1867).setParameter("rating", 3),
+                EXPECTED_MQL_WITH_PARAMETERS_IN_OUTER_QUERY_AND_SUBQUERY,
+                getBooksByIds(1),
+                Set.of(Book.COLLECTION_NAME, Review.COLLECTION_NAME));
+    }
+
+    @Test
+    void testSubQueryCorrelatedByNonEqualityNotSupported() {
+        assertSelectQueryFailure(
+                "from Book b where exists (select 1 from Review r where b.title is null)",
+                Book.class,
+                FeatureNotSupportedException.class,
+                "A subquery may reference its outer query only in an equality of columns in its where clause");
+    }
+
+    @Test
+    void testGreaterThanAllSubQueryNotSupported() {
+        assertSelectQueryFailure(
+                "from Book b where b.id > all (select r.bookId from Review r)",
+                Book.class,
+                FeatureNotSupportedException.class,
+                "Only '= any' and '<> all' subquery comparisons are supported");
+    }
+
+    @Entity(name = "Review")
+    @Table(name = Review.COLLECTION_NAME)
+    static class Review {
+        static final String COLLECTION_NAME = "reviews";
+
+        @Id
+        int id;
+
+        int bookId;
+        int rating;
+
+        Review() {}
+
+        Review(int id, int bookId, int rating) {
+            this.id = id;
+            this.bookId = bookId;
+            this.rating = rating;
+        }
+    }
+}
@@ -49,22 +49,16 @@ abstract class AbstractSelectionTemporalIntegrationTests<I, T> extends AbstractQ
                 format(
                         """
                         {
-                          "aggregate": "items",
-                          "pipeline": [
-                            {
-                              "$match": {
-                                "temporal": {
-                                  "$eq": %s
-                                }
-                              }
-                            },
-                            {
-                              "$project": {
-                                "_id": true,
-                                "temporal": true
-                              }
+                          "find": "items",
+                          "filter": {
+                            "temporal": {
+                              "$eq": %s
                             }
-                          ]
+                          },
+                          "projection": {
+                            "_id": true,
+                            "temporal": true
+                          }
                         }""",
                         expectedRenderResult),
                 expectedItems,
@@ -81,22 +75,16 @@ abstract class AbstractSelectionTemporalIntegrationTests<I, T> extends AbstractQ
                 format(
                         """
                         {
-                          "aggregate": "items",
-                          "pipeline": [
-                            {
-                              "$match": {
-                                "temporal": {
-                                  "$ne": %s
-                                }
-                              }
-                            },
-                            {
-                              "$project": {
-                                "_id": true,
-                                "temporal": true
-                              }
+                          "find": "items",
+                          "filter": {
+                            "temporal": {
+                              "$ne": %s
                             }
-                          ]
+                          },
+                          "projection": {
+                            "_id": true,
+                            "temporal": true
+                          }
                         }""",
                         expectedRenderResult),
                 expectedItems,
@@ -113,22 +101,16 @@ abstract class AbstractSelectionTemporalIntegrationTests<I, T> extends AbstractQ
                 format(
                         """
                         {
-                          "aggregate": "items",
-                          "pipeline": [
-                            {
-                              "$match": {
-                                "temporal": {
-                                  "$lt": %s
-                                }
-                              }
-                            },
-                            {
-                              "$project": {
-                                "_id": true,
-                                "temporal": true
-                              }
+                          "find": "items",
+                          "filter": {
+                            "temporal": {
+                              "$lt": %s
                             }
-                          ]
+                          },
+                          "projection": {
+                            "_id": true,
+                            "temporal": true
+                          }
                         }""",
                         expectedRenderResult),
                 expectedItems,
@@ -145,22 +127,16 @@ abstract class AbstractSelectionTemporalIntegrationTests<I, T> extends AbstractQ
                 format(
                         """
                         {
-                          "aggregate": "items",
-                          "pipeline": [
-                            {
-                              "$match": {
-                                "temporal": {
-                                  "$lte": %s
-                                }
-                              }
-                            },
-                            {
-                              "$project": {
-                                "_id": true,
-                                "temporal": true
-                              }
+                          "find": "items",
+                          "filter": {
+                            "temporal": {
+                              "$lte": %s
                             }
-                          ]
+                          },
+                          "projection": {
+                            "_id": true,
+                            "temporal": true
+                          }
                         }""",
                         expectedRenderResult),
                 expectedItems,
@@ -177,22 +153,16 @@ abstract class AbstractSelectionTemporalIntegrationTests<I, T> extends AbstractQ
                 format(
                         """
                         {
-                          "aggregate": "items",
-                          "pipeline": [
-                            {
-                              "$match": {
-                                "temporal": {
-                                  "$gt": %s
-                                }
-                              }
-                            },
-                            {
-                              "$project": {
-                                "_id": true,
-                                "temporal": true
-                              }
+                          "find": "items",
+                          "filter": {
+                            "temporal": {
+                              "$gt": %s
                             }
-                          ]
+                          },
+                          "projection": {
+                            "_id": true,
+                            "temporal": true
+                          }
                         }""",
                         expectedRenderResult),
                 expectedItems,
@@ -209,22 +179,16 @@ abstract class AbstractSelectionTemporalIntegrationTests<I, T> extends AbstractQ
                 format(
                         """
                         {
-                          "aggregate": "items",
-                          "pipeline": [
-                            {
-                              "$match": {
-                                "temporal": {
-                                  "$gte": %s
-                                }
-                              }
-                            },
-                            {
-                              "$project": {
-                                "_id": true,
-                                "temporal": true
-                              }
+                          "find": "items",
+                          "filter": {
+                            "temporal": {
+                              "$gte": %s
                             }
-                          ]
+                          },
+                          "projection": {
+                            "_id": true,
+                            "temporal": true
+                          }
                         }""",
                         expectedRenderResult),
                 expectedItems,
@@ -239,20 +203,14 @@ abstract class AbstractSelectionTemporalIntegrationTests<I, T> extends AbstractQ
                 getItemClass(),
                 """
                 {
-                  "aggregate": "items",
-                  "pipeline": [
-                    {
-                      "$sort": {
-                        "temporal": 1
-                      }
-                    },
-                    {
-                      "$project": {
-                        "_id": true,
-                        "temporal": true
-                      }
-                    }
-                  ]
+                  "find": "items",
+                  "sort": {
+                    "temporal": 1
+                  },
+                  "projection": {
+                    "_id": true,
+                    "temporal": true
+                  }
                 }""",
                 expectedItems,
                 Set.of(COLLECTION_NAME));
@@ -266,20 +224,14 @@ abstract class AbstractSelectionTemporalIntegrationTests<I, T> extends AbstractQ
                 getItemClass(),
                 """
                 {
-                  "aggregate": "items",
-                  "pipeline": [
-                    {
-                      "$sort": {
-                        "temporal": -1
-                      }
-                    },
-                    {
-                      "$project": {
-                        "_id": true,
-                        "temporal": true
-                      }
-                    }
-                  ]
+                  "find": "items",
+                  "sort": {
+                    "temporal": -1
+                  },
+                  "projection": {
+                    "_id": true,
+                    "temporal": true
+                  }
                 }""",
                 expectedItems,
                 Set.of(COLLECTION_NAME));
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.type;
+
+import static com.mongodb.hibernate.MongoTestAssertions.assertEq;
+import static com.mongodb.hibernate.internal.MongoConstants.ID_FIELD_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.hibernate.junit.InjectMongoCollection;
+import com.mongodb.hibernate.junit.MongoExtension;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.List;
+import java.util.UUID;
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonNull;
+import org.bson.BsonString;
+import org.bson.UuidRepresentation;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.Struct;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.SessionFactoryScopeAware;
+import org.hibernate.type.SqlTypes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SessionFactory(exportSchema = false)
+@DomainModel(annotatedClasses = {UuidIntegrationTests.Item.class})
+@ExtendWith(MongoExtension.class)
+class UuidIntegrationTests implements SessionFactoryScopeAware {
+    private static final String COLLECTION_NAME = "items";
+
+    @InjectMongoCollection(COLLECTION_NAME)
+    private static MongoCollection<BsonDocument> mongoCollection;
+
+    private SessionFactoryScope sessionFactoryScope;
+
+    @Override
+    public void injectSessionFactoryScope(SessionFactoryScope sessionFactoryScope) {
+        this.sessionFactoryScope = sessionFactoryScope;
+    }
+
+    @Test
+    void insert() {
+        var item = newItem(new UUID(1, 2));
+        sessionFactoryScope.inTransaction(session -> session.persist(item));
+        assertThat(mongoCollection.find())
+                .containsExactly(new BsonDocument()
+                        .append(ID_FIELD_NAME, toBsonBinary(item.id))
+                        .append("v", toBsonBinary(item.v))
+                        .append("vNull", BsonNull.VALUE)
+                        .append("array", new BsonArray(List.of(toBsonBinary(item.array[0]), BsonNull.VALUE)))
+                        .append("list", new BsonArray(List.of(toBsonBinary(item.list.get(0)))))
+                        .append("struct", new BsonDocument("v", toBsonBinary(item.struct.v)))
+                        .append("vString", new BsonString(item.vString.toString())));
+    }
+
+    @Test
+    void findById() {
+        var item = newItem(new UUID(3, 4));
+        sessionFactoryScope.inTransaction(session -> session.persist(item));
+        var loadedItem = sessionFactoryScope.fromTransaction(session -> session.find(Item.class, item.id));
+        assertEq(item, loadedItem);
+    }
+
+    @Test
+    void findByAttribute() {
+        var item = newItem(new UUID(5, 6));
+        sessionFactoryScope.inTransaction(session -> {
+            session.persist(item);
+            session.persist(newItem(new UUID(7, 8)));
+        });
+        var loadedItems = sessionFactoryScope.fromTransaction(session -> session.createSelectionQuery(
+                        "from Item where v = :v", Item.class)
+                .setParameter("v", item.v)
+                .getResultList());
+        assertThat(loadedItems).singleElement().satisfies(loadedItem -> assertEq(item, loadedItem));
+    }
+
+    @Test
+    void findStoredAsString() {
+        var id = new UUID(9, 10);
+        var v = new UUID(11, 12);
+        mongoCollection.insertOne(new BsonDocument()
+                .append(ID_FIELD_NAME, toBsonBinary(id))
+                .append("v", new BsonString(v.toString())));
+        var loadedItem = sessionFactoryScope.fromTransaction(session -> session.find(Item.class, id));
+        assertThat(loadedItem.v).isEqualTo(v);
+    }
+
+    private static Item newItem(UUID id) {
+        var item = new Item();
+        item.id = id;
+        item.v = new UUID(id.getMostSignificantBits(), id.getLeastSignificantBits() + 1);
+        item.vNull = null;
+        item.array = new UUID[] {new UUID(id.getMostSignificantBits(), id.getLeastSignificantBits() + 2), null};
+        item.list = List.of(new UUID(id.getMostSignificantBits(), id.getLeastSignificantBits() + 3));
+        item.struct = new StructWithUuid();
+        item.struct.v = new UUID(id.getMostSignificantBits(), id.getLeastSignificantBits() + 4);
+        item.vString = new UUID(id.getMostSignificantBits(), id.getLeastSignificantBits() + 5);
+        return item;
+    }
+
+    private static BsonBinary toBsonBinary(UUID value) {
+        return new BsonBinary(value, UuidRepresentation.STANDARD);
+    }
+
+    @Entity
+    @Table(name = COLLECTION_NAME)
+    static class Item {
+        @Id
+        UUID id;
+
+        UUID v;
+        UUID vNull;
+        UUID[] array;
+        List<UUID> list;
+        StructWithUuid struct;
+
+        @JdbcTypeCode(SqlTypes.CHAR)
+        UUID vString;
+    }
+
+    @Embeddable
+    @Struct(name = "StructWithUuid")
+    static class StructWithUuid {
+        UUID v;
+    }
+}
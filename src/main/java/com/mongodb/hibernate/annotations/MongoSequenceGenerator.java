@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.annotations;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+/**
+ * Specifies that the value of an annotated entity identifier of an integral type is generated from a sequence
+ * {@linkplain BeforeExecutionGenerator before} {@linkplain EventType#INSERT inserting}.
+ *
+ * <p>MongoDB does not have sequences. Each sequence is therefore emulated by a document in the {@link #collection()},
+ * whose {@code _id} is the {@link #sequenceName()}. Each access to the sequence atomically increments the document by
+ * the {@link #incrementSize()}, which allocates a block of that many identifier values handed out by the
+ * {@link #optimizer()} without further round trips to the database. The increments are not part of the transaction in
+ * which an entity is persisted, that is, the values of a block are not reused if the transaction is rolled back.
+ */
+@IdGeneratorType(com.mongodb.hibernate.internal.id.sequence.MongoSequenceGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface MongoSequenceGenerator {
+    /**
+     * The name of the sequence, which is the {@code _id} of the document emulating it. If empty, which is the default,
+     * the name is the entity name followed by {@code _SEQ}.
+     *
+     * @return The name of the sequence.
+     */
+    String sequenceName() default "";
+
+    /**
+     * The name of the collection storing the documents that emulate sequences.
+     *
+     * @return The name of the collection.
+     */
+    String collection() default "hibernate_sequences";
+
+    /**
+     * The first value of the sequence.
+     *
+     * @return The first value.
+     */
+    long initialValue() default 1;
+
+    /**
+     * The number of values allocated by each access to the sequence. Must be positive.
+     *
+     * @return The number of values allocated at a time.
+     */
+    int incrementSize() default 50;
+
+    /**
+     * The optimizer that hands out the allocated values.
+     *
+     * @return The optimizer.
+     */
+    Optimizer optimizer() default Optimizer.POOLED_LO;
+
+    /** The optimizers that hand out the values allocated by accessing a sequence. */
+    enum Optimizer {
+        /**
+         * The value returned by accessing the sequence is the upper bound of the allocated block.
+         *
+         * @see org.hibernate.id.enhanced.PooledOptimizer
+         */
+        POOLED,
+        /**
+         * The value returned by accessing the sequence is the lower bound of the allocated block.
+         *
+         * @see org.hibernate.id.enhanced.PooledLoOptimizer
+         */
+        POOLED_LO,
+        /**
+         * Like {@link #POOLED_LO}, but each thread allocates its own blocks, which avoids threads contending for a
+         * shared block at the cost of generated values being not ordered across threads.
+         *
+         * @see org.hibernate.id.enhanced.PooledLoThreadLocalOptimizer
+         */
+        POOLED_LOTL
+    }
+}
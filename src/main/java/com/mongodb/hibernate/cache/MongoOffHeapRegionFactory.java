@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.cache;
+
+import static com.mongodb.hibernate.cfg.MongoAvailableSettings.OFF_HEAP_CACHE_REGION_MAX_SIZE;
+import static java.lang.String.format;
+
+import com.mongodb.hibernate.cfg.MongoAvailableSettings;
+import com.mongodb.hibernate.internal.cache.ConcurrentMapStorageAccess;
+import com.mongodb.hibernate.internal.cache.OffHeapStorageAccess;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.util.Map;
+import org.hibernate.HibernateException;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * A {@link RegionFactory} that stores the entries of the entity, collection and query result regions outside the Java
+ * heap, encoded as BSON, which allows caching large amounts of data without growing the heap. The entries are decoded
+ * on each cache hit. Each region is bounded by {@value MongoAvailableSettings#OFF_HEAP_CACHE_REGION_MAX_SIZE}, and
+ * evicts its least recently used entries when full. The timestamps region is stored on the Java heap, because it must
+ * never evict its entries.
+ *
+ * <p>To use this {@link RegionFactory}, specify its class name as the value of the
+ * {@value AvailableSettings#CACHE_REGION_FACTORY} configuration property.
+ *
+ * <p>The state of an entity is encoded as a BSON document only if {@value AvailableSettings#USE_STRUCTURED_CACHE} is
+ * enabled, and the entity is not cached with the {@linkplain org.hibernate.cache.spi.access.AccessType#READ_WRITE
+ * read-write} access type. Otherwise, Hibernate ORM caches the state wrapped in objects that can only be encoded in
+ * their Java serialized form, which is larger and slower to decode.
+ *
+ * <p>The off-heap memory is {@linkplain java.nio.ByteBuffer#allocateDirect(int) direct} memory, therefore, the JVM
+ * option {@code -XX:MaxDirectMemorySize} must allow for the maximum size of all regions.
+ */
+public final class MongoOffHeapRegionFactory extends RegionFactoryTemplate {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final long DEFAULT_REGION_MAX_SIZE = 64L * 1024 * 1024;
+
+    private long regionMaxSize = DEFAULT_REGION_MAX_SIZE;
+
+    public MongoOffHeapRegionFactory() {}
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        regionMaxSize = getRegionMaxSize(configValues);
+    }
+
+    @Override
+    protected void releaseFromUse() {}
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(
+            DomainDataRegionConfig regionConfig, DomainDataRegionBuildingContext buildingContext) {
+        return new OffHeapStorageAccess(regionMaxSize);
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(
+            String regionName, SessionFactoryImplementor sessionFactory) {
+        return new OffHeapStorageAccess(regionMaxSize);
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(
+            String regionName, SessionFactoryImplementor sessionFactory) {
+        return new ConcurrentMapStorageAccess();
+    }
+
+    private static long getRegionMaxSize(Map<String, Object> configValues) {
+        var regionMaxSize = configValues.get(OFF_HEAP_CACHE_REGION_MAX_SIZE);
+        if (regionMaxSize == null) {
+            return DEFAULT_REGION_MAX_SIZE;
+        }
+        long result;
+        if (regionMaxSize instanceof Number regionMaxSizeNumber) {
+            result = regionMaxSizeNumber.longValue();
+        } else if (regionMaxSize instanceof String regionMaxSizeText) {
+            try {
+                result = Long.parseLong(regionMaxSizeText.trim());
+            } catch (NumberFormatException e) {
+                throw new HibernateException(format(
+                        "Failed to get %s from configuration property [%s] with value [%s]",
+                        Long.class.getTypeName(), OFF_HEAP_CACHE_REGION_MAX_SIZE, regionMaxSize));
+            }
+        } else {
+            throw new HibernateException(format(
+                    "Type %s of configuration property [%s] with value [%s] must be one of %s, %s",
+                    regionMaxSize.getClass().getTypeName(),
+                    OFF_HEAP_CACHE_REGION_MAX_SIZE,
+                    regionMaxSize,
+                    String.class.getTypeName(),
+                    Number.class.getTypeName()));
+        }
+        if (result <= 0) {
+            throw new HibernateException(format(
+                    "Configuration property [%s] must be positive, but is [%s]",
+                    OFF_HEAP_CACHE_REGION_MAX_SIZE, regionMaxSize));
+        }
+        return result;
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        throw new NotSerializableException(
+                "This class is not designed to be serialized despite it having to implement `Serializable`");
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.cfg;
+
+import org.hibernate.cfg.AvailableSettings;
+
+/**
+ * The names of the {@linkplain org.hibernate.service.spi.Configurable#configure(java.util.Map) configuration
+ * properties} specific to the MongoDB Extension for Hibernate ORM, complementing those declared in
+ * {@link AvailableSettings}.
+ *
+ * @see MongoConfigurator
+ */
+public final class MongoAvailableSettings {
+    /**
+     * Enables the {@linkplain MongoConfigurator#changeStreamCacheInvalidation(boolean) change stream-driven
+     * invalidation} of the second-level cache. Supported values are {@code true} and {@code false}, either as
+     * {@link String}s, or as {@link Boolean}s.
+     */
+    public static final String CHANGE_STREAM_CACHE_INVALIDATION =
+            "com.mongodb.hibernate.cache.change_stream_invalidation";
+
+    /**
+     * The maximum size in bytes of each region of the {@link com.mongodb.hibernate.cache.MongoOffHeapRegionFactory},
+     * {@code 67108864} (64 MiB) by default. Supported values are positive integers, either as {@link String}s, or as
+     * {@link Number}s.
+     */
+    public static final String OFF_HEAP_CACHE_REGION_MAX_SIZE = "com.mongodb.hibernate.cache.off_heap.region_max_size";
+
+    private MongoAvailableSettings() {}
+}
@@ -69,6 +69,18 @@ import org.hibernate.service.spi.Configurable;
  *             if {@linkplain ConnectionString#getDatabase() configured};
  *             otherwise a value must be configured via {@link MongoConfigurator#databaseName(String)}.</td>
  *         </tr>
+ *         <tr>
+ *             <td>{@link #changeStreamCacheInvalidation(boolean)}</td>
+ *             <td>✓</td>
+ *             <td>{@value MongoAvailableSettings#CHANGE_STREAM_CACHE_INVALIDATION}</td>
+ *             <td>
+ *                 <ul>
+ *                     <li>{@link String}</li>
+ *                     <li>{@link Boolean}</li>
+ *                 </ul>
+ *             </td>
+ *             <td>{@code false}</td>
+ *         </tr>
  *     </tbody>
  * </table>
  *
@@ -95,4 +107,23 @@ public sealed interface MongoConfigurator permits MongoConfigurationBuilder {
      * @return {@code this}.
      */
     MongoConfigurator databaseName(String databaseName);
+
+    /**
+     * Enables or disables the invalidation of the second-level cache driven by a
+     * <a href="https://www.mongodb.com/docs/manual/changeStreams/">change stream</a>.
+     *
+     * <p>If enabled, and the second-level cache or the query cache is enabled, a background thread watches the
+     * {@linkplain #databaseName(String) database} for changes to the collections of the mapped entities, regardless of
+     * whether the changes are made by this application instance, by another one, or by an application not using
+     * Hibernate ORM. On each change, it evicts the entity and collection cache regions mapped to the changed
+     * collection, and the query cache regions, which allows the second-level cache to be used by multiple application
+     * instances sharing the database. The thread uses resume tokens to resume watching after transient errors without
+     * losing changes. If the changes cannot be resumed, the whole second-level cache is evicted.
+     *
+     * <p>Change streams require a replica set or a sharded cluster.
+     *
+     * @param enabled Whether to enable the change stream-driven cache invalidation.
+     * @return {@code this}.
+     */
+    MongoConfigurator changeStreamCacheInvalidation(boolean enabled);
 }
@@ -21,15 +21,20 @@ import static java.lang.String.format;
 
 import com.mongodb.hibernate.internal.FeatureNotSupportedException;
 import com.mongodb.hibernate.internal.dialect.MongoAggregateSupport;
+import com.mongodb.hibernate.internal.dialect.MongoDatabaseHints;
 import com.mongodb.hibernate.internal.dialect.TestMongoDialect;
 import com.mongodb.hibernate.internal.dialect.function.array.MongoArrayConstructorFunction;
 import com.mongodb.hibernate.internal.dialect.function.array.MongoArrayContainsFunction;
+import com.mongodb.hibernate.internal.dialect.function.array.MongoArrayElemMatchFunction;
 import com.mongodb.hibernate.internal.dialect.function.array.MongoArrayIncludesFunction;
 import com.mongodb.hibernate.internal.translate.MongoTranslatorFactory;
+import com.mongodb.hibernate.internal.translate.OptionalTableUpdateMqlTranslator;
 import com.mongodb.hibernate.internal.type.MongoArrayJdbcType;
 import com.mongodb.hibernate.internal.type.MongoStructJdbcType;
 import com.mongodb.hibernate.internal.type.ObjectIdJavaType;
 import com.mongodb.hibernate.internal.type.ObjectIdJdbcType;
+import com.mongodb.hibernate.internal.type.UuidJavaType;
+import com.mongodb.hibernate.internal.type.UuidJdbcType;
 import com.mongodb.hibernate.jdbc.MongoConnectionProvider;
 import java.math.BigDecimal;
 import java.sql.PreparedStatement;
@@ -38,6 +43,7 @@ import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.List;
 import org.bson.types.ObjectId;
 import org.hibernate.JDBCException;
 import org.hibernate.annotations.Struct;
@@ -47,19 +53,17 @@ import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.dialect.DatabaseVersion;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.aggregate.AggregateSupport;
+import org.hibernate.dialect.function.CommonFunctionFactory;
 import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfo;
-import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
-import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.exception.spi.SQLExceptionConversionDelegate;
 import org.hibernate.persister.entity.mutation.EntityMutationTarget;
+import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.spi.SqlAppender;
 import org.hibernate.sql.model.MutationOperation;
-import org.hibernate.sql.model.ValuesAnalysis;
 import org.hibernate.sql.model.internal.OptionalTableUpdate;
-import org.hibernate.sql.model.jdbc.OptionalTableUpdateOperation;
 import org.hibernate.type.SqlTypes;
 import org.hibernate.type.WrapperArrayHandling;
 import org.hibernate.type.descriptor.jdbc.TimestampUtcAsInstantJdbcType;
@@ -193,6 +197,18 @@ public sealed class MongoDialect extends Dialect permits TestMongoDialect {
         }
     }
 
+    /**
+     * Disables {@value AvailableSettings#BATCH_VERSIONED_DATA} by default, because the update counts of the commands
+     * executed via {@link PreparedStatement#executeBatch()} are {@link java.sql.Statement#SUCCESS_NO_INFO}, which
+     * prevents Hibernate ORM from detecting stale versioned data. If the setting is enabled explicitly, stale versioned
+     * data is not detected when updating or deleting it in a batch.
+     */
+    @Override
+    protected void initDefaultProperties() {
+        super.initDefaultProperties();
+        getDefaultProperties().setProperty(AvailableSettings.BATCH_VERSIONED_DATA, Boolean.FALSE.toString());
+    }
+
     @Override
     public SqlAstTranslatorFactory getSqlAstTranslatorFactory() {
         return new MongoTranslatorFactory();
@@ -202,6 +218,7 @@ public sealed class MongoDialect extends Dialect permits TestMongoDialect {
     public void contribute(TypeContributions typeContributions, ServiceRegistry serviceRegistry) {
         super.contribute(typeContributions, serviceRegistry);
         contributeObjectIdType(typeContributions);
+        contributeUuidType(typeContributions);
         typeContributions.contributeJdbcTypeConstructor(MongoArrayJdbcType.Constructor.INSTANCE);
         typeContributions.contributeJdbcType(MongoStructJdbcType.INSTANCE);
         contributeInstantType(typeContributions);
@@ -210,15 +227,29 @@ public sealed class MongoDialect extends Dialect permits TestMongoDialect {
     private void contributeObjectIdType(TypeContributions typeContributions) {
         typeContributions.contributeJavaType(ObjectIdJavaType.INSTANCE);
         typeContributions.contributeJdbcType(ObjectIdJdbcType.INSTANCE);
-        var objectIdTypeCode = ObjectIdJdbcType.SQL_TYPE.getVendorTypeNumber();
+        contributeUnusedDdlType(
+                typeContributions, ObjectIdJdbcType.SQL_TYPE.getVendorTypeNumber(), "contributeObjectIdType");
+    }
+
+    /**
+     * This replaces the {@link java.util.UUID} type Hibernate ORM provides, which is not stored as BSON binary
+     * {@linkplain org.bson.BsonBinarySubType#UUID_STANDARD subtype 4}.
+     */
+    private void contributeUuidType(TypeContributions typeContributions) {
+        typeContributions.contributeJavaType(UuidJavaType.INSTANCE);
+        typeContributions.contributeJdbcType(UuidJdbcType.INSTANCE);
+        contributeUnusedDdlType(typeContributions, UuidJdbcType.SQL_TYPE.getVendorTypeNumber(), "contributeUuidType");
+    }
+
+    private void contributeUnusedDdlType(TypeContributions typeContributions, int typeCode, String contributorName) {
         typeContributions
                 .getTypeConfiguration()
                 .getDdlTypeRegistry()
                 .addDescriptorIfAbsent(new DdlTypeImpl(
-                        objectIdTypeCode,
+                        typeCode,
                         format(
-                                "unused from %s.contributeObjectIdType for SQL type code [%d]",
-                                MongoDialect.class.getSimpleName(), objectIdTypeCode),
+                                "unused from %s.%s for SQL type code [%d]",
+                                MongoDialect.class.getSimpleName(), contributorName, typeCode),
                         this));
     }
 
@@ -333,6 +364,68 @@ public sealed class MongoDialect extends Dialect permits TestMongoDialect {
      *                 </ul>
      *             </td>
      *         </tr>
+     *         <tr>
+     *             <td>
+     *                 {@code array_elem_match(haystack, elementFieldName, operator, value[, elementFieldName, operator, value]...)}
+     *             </td>
+     *             <td>
+     *                 Is {@code true} iff at least one element of the {@code haystack} array of
+     *                 {@linkplain org.hibernate.annotations.Struct struct} aggregate embeddables satisfies all the
+     *                 comparisons of its fields, for example,
+     *                 {@code array_elem_match(o.lines, 'sku', '=', :sku, 'qty', '>', 5)}.
+     *                 See <a href="https://www.mongodb.com/docs/manual/reference/operator/query/elemMatch/">{@code $elemMatch}</a>.
+     *                 Is allowed only in a
+     *                 <a href="https://docs.jboss.org/hibernate/orm/6.6/userguide/html_single/Hibernate_User_Guide.html#hql-where-clause">
+     *                     {@code where} clause</a>.
+     *                 <ul>
+     *                     <li>
+     *                         The first argument must be an
+     *                         <a href="https://docs.jboss.org/hibernate/orm/6.6/userguide/html_single/Hibernate_User_Guide.html#hql-path-expressions">HQL path expression</a>.
+     *                     </li>
+     *                     <li>
+     *                         Each element field name must be a string literal,
+     *                         and each operator must be one of the string literals
+     *                         {@code '='}, {@code '<>'}, {@code '!='}, {@code '<'}, {@code '<='}, {@code '>'}, {@code '>='}.
+     *                     </li>
+     *                     <li>
+     *                         The values must not be HQL path expressions.
+     *                     </li>
+     *                 </ul>
+     *             </td>
+     *         </tr>
+     *         <tr>
+     *             <td>
+     *                 <a href="https://docs.jboss.org/hibernate/orm/6.6/userguide/html_single/Hibernate_User_Guide.html#hql-aggregate-functions">
+     *                     {@code count}, {@code sum}, {@code avg}, {@code min}, {@code max}</a>,
+     *                 <a href="https://docs.jboss.org/hibernate/orm/6.6/userguide/html_single/Hibernate_User_Guide.html#hql-array-aggregate-functions">
+     *                     {@code array_agg}</a>
+     *             </td>
+     *             <td>
+     *                 Is allowed only in a
+     *                 <a href="https://docs.jboss.org/hibernate/orm/6.6/userguide/html_single/Hibernate_User_Guide.html#hql-select-clause">
+     *                     {@code select}</a>,
+     *                 <a href="https://docs.jboss.org/hibernate/orm/6.6/userguide/html_single/Hibernate_User_Guide.html#hql-group-by">
+     *                     {@code having}</a>, or
+     *                 <a href="https://docs.jboss.org/hibernate/orm/6.6/userguide/html_single/Hibernate_User_Guide.html#hql-order-by">
+     *                     {@code order by}</a> clause.
+     *                 <ul>
+     *                     <li>
+     *                         The argument must be an
+     *                         <a href="https://docs.jboss.org/hibernate/orm/6.6/userguide/html_single/Hibernate_User_Guide.html#hql-path-expressions">HQL path expression</a>,
+     *                         or {@code *} for {@code count}.
+     *                     </li>
+     *                     <li>
+     *                         The {@code distinct}, {@code filter} and {@code within group} clauses are not supported.
+     *                     </li>
+     *                     <li>
+     *                         Unlike in SQL, {@code sum} results in {@code 0} rather than {@code null}
+     *                         for a group all of whose values are {@code null} or missing. If there are no
+     *                         documents to aggregate in a query without {@code group by}, {@code sum} results in
+     *                         {@code null}, as in SQL.
+     *                     </li>
+     *                 </ul>
+     *             </td>
+     *         </tr>
      *     </tbody>
      * </table>
      */
@@ -347,6 +440,14 @@ public sealed class MongoDialect extends Dialect permits TestMongoDialect {
         functionRegistry.register("array_contains_nullable", new MongoArrayContainsFunction(true, typeConfiguration));
         functionRegistry.register("array_includes", new MongoArrayIncludesFunction(false, typeConfiguration));
         functionRegistry.register("array_includes_nullable", new MongoArrayIncludesFunction(true, typeConfiguration));
+        functionRegistry.register("array_elem_match", new MongoArrayElemMatchFunction(typeConfiguration));
+        new CommonFunctionFactory(functionContributions).arrayAggregate();
+    }
+
+    /** See {@link com.mongodb.hibernate.query.MongoQueryHints}. */
+    @Override
+    public String getQueryHintString(String query, List<String> hintList) {
+        return MongoDatabaseHints.apply(query, hintList);
     }
 
     @Override
@@ -354,16 +455,7 @@ public sealed class MongoDialect extends Dialect permits TestMongoDialect {
             EntityMutationTarget mutationTarget,
             OptionalTableUpdate optionalTableUpdate,
             SessionFactoryImplementor factory) {
-        return new OptionalTableUpdateOperation(mutationTarget, optionalTableUpdate, factory) {
-            @Override
-            public void performMutation(
-                    JdbcValueBindings jdbcValueBindings,
-                    ValuesAnalysis valuesAnalysis,
-                    SharedSessionContractImplementor session) {
-                throw new FeatureNotSupportedException(
-                        "TODO-HIBERNATE-94 https://jira.mongodb.org/browse/HIBERNATE-94");
-            }
-        };
+        return new OptionalTableUpdateMqlTranslator(optionalTableUpdate, factory).translate(null, QueryOptions.NONE);
     }
 
     @Override
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.cache;
+
+import static com.mongodb.hibernate.internal.MongoAssertions.fail;
+import static com.mongodb.hibernate.internal.type.ValueConversions.toBigDecimalDomainValue;
+import static com.mongodb.hibernate.internal.type.ValueConversions.toBooleanDomainValue;
+import static com.mongodb.hibernate.internal.type.ValueConversions.toBsonValue;
+import static com.mongodb.hibernate.internal.type.ValueConversions.toByteArrayDomainValue;
+import static com.mongodb.hibernate.internal.type.ValueConversions.toDoubleDomainValue;
+import static com.mongodb.hibernate.internal.type.ValueConversions.toInstantDomainValue;
+import static com.mongodb.hibernate.internal.type.ValueConversions.toIntDomainValue;
+import static com.mongodb.hibernate.internal.type.ValueConversions.toLongDomainValue;
+import static com.mongodb.hibernate.internal.type.ValueConversions.toObjectIdDomainValue;
+import static com.mongodb.hibernate.internal.type.ValueConversions.toUuidDomainValue;
+
+import com.mongodb.hibernate.internal.type.ValueConversions;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonBoolean;
+import org.bson.BsonDateTime;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonNull;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Encodes second-level cache entries as BSON documents, and decodes them back.
+ *
+ * <p>A value whose type has a lossless BSON representation is encoded the same way {@link ValueConversions} encodes
+ * it. {@code Object[]} and {@link HashMap} with {@link String} keys, for example, the disassembled state of an
+ * embeddable and a {@linkplain org.hibernate.cfg.AvailableSettings#USE_STRUCTURED_CACHE structured cache entry}, are
+ * encoded element-wise. Any other value, for example, a {@link Character}, or an {@link Instant} with sub-millisecond
+ * precision, is encoded as a {@linkplain BsonBinarySubType#USER_DEFINED user-defined} BSON binary containing its Java
+ * serialized form.
+ *
+ * <p>Hibernate ORM stores the state of an entity as a {@link org.hibernate.cache.spi.entry.StandardCacheEntryImpl}
+ * unless {@value org.hibernate.cfg.AvailableSettings#USE_STRUCTURED_CACHE} is enabled, and wraps the entries of the
+ * {@linkplain org.hibernate.cache.spi.access.AccessType#READ_WRITE read-write} regions in
+ * {@code AbstractReadWriteAccess.Item} and soft lock objects. None of them can be re-created from its fields outside
+ * Hibernate ORM, therefore, they are encoded in the Java serialized form, including the entity state they hold.
+ */
+final class BsonCacheValueCodec {
+    private static final String VALUE_FIELD_NAME = "v";
+    private static final BsonDocumentCodec DOCUMENT_CODEC = new BsonDocumentCodec();
+
+    private BsonCacheValueCodec() {}
+
+    static byte[] encode(@Nullable Object value) throws IOException {
+        var document = new BsonDocument(VALUE_FIELD_NAME, toCacheBsonValue(value));
+        var outputBuffer = new BasicOutputBuffer();
+        try (var writer = new BsonBinaryWriter(outputBuffer)) {
+            DOCUMENT_CODEC.encode(writer, document, EncoderContext.builder().build());
+        }
+        return outputBuffer.toByteArray();
+    }
+
+    static @Nullable Object decode(byte[] bytes) throws IOException, ClassNotFoundException {
+        BsonDocument document;
+        try (var reader = new BsonBinaryReader(ByteBuffer.wrap(bytes))) {
+            document = DOCUMENT_CODEC.decode(reader, DecoderContext.builder().build());
+        }
+        return toCacheValue(document.get(VALUE_FIELD_NAME, BsonNull.VALUE));
+    }
+
+    private static BsonValue toCacheBsonValue(@Nullable Object value) throws IOException {
+        if (value == null) {
+            return BsonNull.VALUE;
+        } else if (value instanceof Boolean v) {
+            return toBsonValue(v.booleanValue());
+        } else if (value instanceof Integer v) {
+            return toBsonValue(v.intValue());
+        } else if (value instanceof Long v) {
+            return toBsonValue(v.longValue());
+        } else if (value instanceof Double v) {
+            return toBsonValue(v.doubleValue());
+        } else if (value instanceof String v) {
+            return toBsonValue(v);
+        } else if (value instanceof BigDecimal v && isRepresentableAsDecimal128(v)) {
+            return toBsonValue(v);
+        } else if (value instanceof byte[] v) {
+            return toBsonValue(v);
+        } else if (value instanceof ObjectId v) {
+            return toBsonValue(v);
+        } else if (value instanceof UUID v) {
+            return toBsonValue(v);
+        } else if (value instanceof Instant v && isRepresentableAsDateTime(v)) {
+            return toBsonValue(v);
+        } else if (value.getClass().equals(Object[].class)) {
+            var elements = (Object[]) value;
+            var bsonElements = new ArrayList<BsonValue>(elements.length);
+            for (var element : elements) {
+                bsonElements.add(toCacheBsonValue(element));
+            }
+            return new BsonArray(bsonElements);
+        } else if (value.getClass().equals(HashMap.class) && hasOnlyFieldNameKeys((Map<?, ?>) value)) {
+            var document = new BsonDocument();
+            for (var entry : ((Map<?, ?>) value).entrySet()) {
+                document.append((String) entry.getKey(), toCacheBsonValue(entry.getValue()));
+            }
+            return document;
+        }
+        return new BsonBinary(BsonBinarySubType.USER_DEFINED, serialize(value));
+    }
+
+    private static @Nullable Object toCacheValue(BsonValue value) throws IOException, ClassNotFoundException {
+        if (value instanceof BsonNull) {
+            return null;
+        } else if (value instanceof BsonBoolean) {
+            return toBooleanDomainValue(value);
+        } else if (value instanceof BsonInt32) {
+            return toIntDomainValue(value);
+        } else if (value instanceof BsonInt64) {
+            return toLongDomainValue(value);
+        } else if (value instanceof BsonDouble) {
+            return toDoubleDomainValue(value);
+        } else if (value instanceof BsonString v) {
+            return v.getValue();
+        } else if (value instanceof BsonDecimal128) {
+            return toBigDecimalDomainValue(value);
+        } else if (value instanceof BsonBinary v) {
+            if (v.getType() == BsonBinarySubType.USER_DEFINED.getValue()) {
+                return deserialize(v.getData());
+            } else if (v.getType() == BsonBinarySubType.UUID_STANDARD.getValue()) {
+                return toUuidDomainValue(v);
+            }
+            return toByteArrayDomainValue(v);
+        } else if (value instanceof BsonObjectId) {
+            return toObjectIdDomainValue(value);
+        } else if (value instanceof BsonDateTime) {
+            return toInstantDomainValue(value);
+        } else if (value instanceof BsonArray v) {
+            var elements = new Object[v.size()];
+            for (var i = 0; i < elements.length; i++) {
+                elements[i] = toCacheValue(v.get(i));
+            }
+            return elements;
+        } else if (value instanceof BsonDocument v) {
+            var map = new HashMap<String, @Nullable Object>();
+            for (var entry : v.entrySet()) {
+                map.put(entry.getKey(), toCacheValue(entry.getValue()));
+            }
+            return map;
+        }
+        throw fail(value.toString());
+    }
+
+    private static boolean isRepresentableAsDecimal128(BigDecimal value) {
+        try {
+            new Decimal128(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean isRepresentableAsDateTime(Instant value) {
+        if (value.getNano() % 1_000_000 != 0) {
+            return false;
+        }
+        try {
+            value.toEpochMilli();
+            return true;
+        } catch (ArithmeticException e) {
+            return false;
+        }
+    }
+
+    private static boolean hasOnlyFieldNameKeys(Map<?, ?> map) {
+        for (var key : map.keySet()) {
+            if (!(key instanceof String fieldName) || fieldName.indexOf('\0') >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] serialize(Object value) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+    }
+}
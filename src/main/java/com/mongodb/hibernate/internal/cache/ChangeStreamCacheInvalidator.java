@@ -0,0 +1,388 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.cache;
+
+import static com.mongodb.hibernate.internal.MongoAssertions.assertNotNull;
+import static com.mongodb.hibernate.internal.MongoConstants.ID_FIELD_NAME;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.hibernate.dialect.MongoDialect;
+import com.mongodb.hibernate.internal.service.StandardServiceRegistryScopedState;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.persister.entity.EntityPersister;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Watches a <a href="https://www.mongodb.com/docs/manual/changeStreams/">change stream</a> on the configured database,
+ * and evicts the second-level cache data affected by each change. For an entity with a basic identifier, only the
+ * entry of the changed document is evicted, otherwise the whole entity region is. The cached query results that depend
+ * on the changed collection are invalidated via the update timestamps of the collection. The change stream is filtered
+ * to the collections of the mapped entities, and is resumed after errors using the latest resume token. If it cannot be
+ * resumed, the whole second-level cache is evicted, and watching restarts from the current point in time.
+ *
+ * <p>The resume token is not persisted: an application instance starts with an empty second-level cache, thus the
+ * changes made before it starts are irrelevant to it.
+ *
+ * @see com.mongodb.hibernate.cfg.MongoConfigurator#changeStreamCacheInvalidation(boolean)
+ * @hidden
+ */
+@SuppressWarnings("MissingSummary")
+public final class ChangeStreamCacheInvalidator implements AutoCloseable {
+    private static final String THREAD_NAME = "mongo-hibernate-change-stream-cache-invalidator";
+    private static final Duration MAX_AWAIT_TIME = Duration.ofSeconds(1);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(1);
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(5);
+    /**
+     * See <a href="https://github.com/mongodb/mongo/blob/master/src/mongo/base/error_codes.yml">{@code
+     * ChangeStreamHistoryLost}</a>.
+     */
+    private static final int CHANGE_STREAM_HISTORY_LOST_ERROR_CODE = 286;
+
+    private final MongoDatabase database;
+    private final SessionFactoryImplementor sessionFactory;
+    private final CacheImplementor cache;
+    private final boolean queryCacheEnabled;
+    private final Map<String, CacheRegions> cacheRegionsByCollectionName;
+    private final List<Bson> pipeline;
+    private @Nullable BsonDocument resumeToken;
+    private volatile boolean running;
+    private @Nullable Thread thread;
+
+    ChangeStreamCacheInvalidator(MongoDatabase database, SessionFactoryImplementor sessionFactory) {
+        this.database = database;
+        this.sessionFactory = sessionFactory;
+        cache = sessionFactory.getCache();
+        queryCacheEnabled = sessionFactory.getSessionFactoryOptions().isQueryCacheEnabled();
+        cacheRegionsByCollectionName = createCacheRegionsByCollectionName(sessionFactory, queryCacheEnabled);
+        pipeline = List.of(Aggregates.match(Filters.or(
+                Filters.in("ns.coll", cacheRegionsByCollectionName.keySet()),
+                Filters.eq("operationType", OperationType.DROP_DATABASE.getValue()))));
+    }
+
+    /**
+     * Opens the change stream in the calling thread, so that the changes made after this method completes are not
+     * missed, and starts watching it in a background thread.
+     */
+    void start() {
+        var initialCursor = openCursor();
+        running = true;
+        var thread = new Thread(() -> watch(initialCursor), THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+        this.thread = thread;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        var thread = this.thread;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(CLOSE_TIMEOUT.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<BsonDocument>> openCursor() {
+        var changeStream =
+                database.watch(pipeline, BsonDocument.class).maxAwaitTime(MAX_AWAIT_TIME.toMillis(), MILLISECONDS);
+        var resumeToken = this.resumeToken;
+        if (resumeToken != null) {
+            // unlike `resumeAfter`, `startAfter` also allows resuming after an `invalidate` event
+            changeStream = changeStream.startAfter(resumeToken);
+        }
+        return changeStream.cursor();
+    }
+
+    private void watch(MongoChangeStreamCursor<ChangeStreamDocument<BsonDocument>> initialCursor) {
+        @Nullable MongoChangeStreamCursor<ChangeStreamDocument<BsonDocument>> cursor = initialCursor;
+        while (running) {
+            try {
+                if (cursor == null) {
+                    cursor = openCursor();
+                }
+                if (!processNext(cursor)) {
+                    cursor.close();
+                    cursor = null;
+                }
+            } catch (RuntimeException e) {
+                // TODO-HIBERNATE-43 `LOGGER.warn("Failed to watch the change stream", e)`
+                if (cursor != null) {
+                    closeQuietly(cursor);
+                    cursor = null;
+                }
+                if (!running) {
+                    break;
+                }
+                if (!isResumable(e)) {
+                    // the changes made since `resumeToken` may be lost
+                    resumeToken = null;
+                    cache.evictAllRegions();
+                }
+                if (!sleep(RETRY_DELAY)) {
+                    break;
+                }
+            }
+        }
+        if (cursor != null) {
+            closeQuietly(cursor);
+        }
+    }
+
+    /**
+     * Returns {@code false} iff the change stream was invalidated, and {@code cursor} must not be used anymore.
+     */
+    private boolean processNext(MongoChangeStreamCursor<ChangeStreamDocument<BsonDocument>> cursor) {
+        var change = cursor.tryNext();
+        var cursorResumeToken = cursor.getResumeToken();
+        if (change != null) {
+            evict(change);
+        }
+        if (cursorResumeToken != null) {
+            resumeToken = cursorResumeToken;
+        }
+        return change == null || change.getOperationType() != OperationType.INVALIDATE;
+    }
+
+    private void evict(ChangeStreamDocument<BsonDocument> change) {
+        var namespace = change.getNamespace();
+        if (namespace == null) {
+            // `dropDatabase`, `invalidate`
+            cache.evictAllRegions();
+            return;
+        }
+        var documentKey = change.getDocumentKey();
+        evict(namespace.getCollectionName(), documentKey == null ? null : documentKey.get(ID_FIELD_NAME));
+        var destinationNamespace = change.getDestinationNamespace();
+        if (destinationNamespace != null) {
+            evict(destinationNamespace.getCollectionName(), null);
+        }
+    }
+
+    /**
+     * @param documentId The {@code _id} of the changed document, or {@code null} if the change is not limited to a
+     *     single document, for example, {@code drop}.
+     */
+    private void evict(String collectionName, @Nullable BsonValue documentId) {
+        var cacheRegions = cacheRegionsByCollectionName.get(collectionName);
+        if (cacheRegions == null) {
+            return;
+        }
+        var identifier = documentId == null ? null : toIdentifier(documentId);
+        for (var cachedEntity : cacheRegions.entities()) {
+            var identifierType = cachedEntity.basicIdentifierType();
+            if (identifierType != null && identifierType.isInstance(identifier)) {
+                cache.evictEntityData(cachedEntity.entityName(), assertNotNull(identifier));
+            } else {
+                cache.evictEntityData(cachedEntity.entityName());
+            }
+        }
+        cacheRegions.collectionRoles().forEach(cache::evictCollectionData);
+        if (queryCacheEnabled) {
+            // the same as Hibernate ORM does when the collection is changed via this `SessionFactory`
+            try (var session = (SharedSessionContractImplementor) sessionFactory.openStatelessSession()) {
+                cache.getTimestampsCache().invalidate(new String[] {collectionName}, session);
+            }
+        }
+    }
+
+    /**
+     * Returns the value of a basic identifier stored as {@code documentId}, or {@code null} if the BSON type of
+     * {@code documentId} does not correspond to any of the supported identifier types.
+     */
+    private static @Nullable Object toIdentifier(BsonValue documentId) {
+        return switch (documentId.getBsonType()) {
+            case INT32 -> documentId.asInt32().getValue();
+            case INT64 -> documentId.asInt64().getValue();
+            case STRING -> documentId.asString().getValue();
+            case OBJECT_ID -> documentId.asObjectId().getValue();
+            case BINARY -> documentId.asBinary().getType() == BsonBinarySubType.UUID_STANDARD.getValue()
+                    ? documentId.asBinary().asUuid()
+                    : null;
+            default -> null;
+        };
+    }
+
+    private static Map<String, CacheRegions> createCacheRegionsByCollectionName(
+            SessionFactoryImplementor sessionFactory, boolean queryCacheEnabled) {
+        var result = new HashMap<String, CacheRegions>();
+        var mappingMetamodel = sessionFactory.getMappingMetamodel();
+        mappingMetamodel.forEachEntityDescriptor(entityPersister -> {
+            var cached = entityPersister.canWriteToCache();
+            if (cached || queryCacheEnabled) {
+                for (var querySpace : entityPersister.getQuerySpaces()) {
+                    var cacheRegions = result.computeIfAbsent(querySpace.toString(), unused -> CacheRegions.create());
+                    if (cached) {
+                        cacheRegions.entities().add(CachedEntity.create(entityPersister));
+                    }
+                }
+            }
+        });
+        mappingMetamodel.forEachCollectionDescriptor(collectionPersister -> {
+            if (collectionPersister.hasCache()) {
+                for (var collectionSpace : collectionPersister.getCollectionSpaces()) {
+                    result.computeIfAbsent(collectionSpace, unused -> CacheRegions.create())
+                            .collectionRoles()
+                            .add(collectionPersister.getRole());
+                }
+            }
+        });
+        return result;
+    }
+
+    private static boolean isResumable(RuntimeException e) {
+        return e instanceof MongoException mongoException
+                && mongoException.getCode() != CHANGE_STREAM_HISTORY_LOST_ERROR_CODE;
+    }
+
+    private static boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void closeQuietly(MongoChangeStreamCursor<?> cursor) {
+        try {
+            cursor.close();
+        } catch (RuntimeException e) {
+            // TODO-HIBERNATE-43 `LOGGER.debug("Failed to close the change stream cursor", e)`
+        }
+    }
+
+    private record CacheRegions(Set<CachedEntity> entities, Set<String> collectionRoles) {
+        static CacheRegions create() {
+            return new CacheRegions(new HashSet<>(), new HashSet<>());
+        }
+    }
+
+    /**
+     * @param basicIdentifierType The Java type of the identifier if it is basic and stored as is, otherwise
+     *     {@code null}.
+     */
+    private record CachedEntity(String entityName, @Nullable Class<?> basicIdentifierType) {
+        static CachedEntity create(EntityPersister entityPersister) {
+            var identifierMapping = entityPersister.getIdentifierMapping();
+            var basicIdentifierType = identifierMapping instanceof BasicEntityIdentifierMapping basicIdentifierMapping
+                            && basicIdentifierMapping.getJdbcMapping().getValueConverter() == null
+                    ? basicIdentifierMapping.getJavaType().getJavaTypeClass()
+                    : null;
+            return new CachedEntity(entityPersister.getEntityName(), basicIdentifierType);
+        }
+    }
+
+    /**
+     * Starts a {@link ChangeStreamCacheInvalidator} when a {@link SessionFactory} is created, and closes it when the
+     * {@link SessionFactory} is closing, provided that the {@link SessionFactory} uses {@link MongoDialect}, the
+     * second-level cache or the query cache is enabled, and the change stream-driven cache invalidation is enabled.
+     *
+     * @hidden
+     */
+    public static final class Integrator implements org.hibernate.integrator.spi.Integrator {
+        public Integrator() {}
+
+        @Override
+        public void integrate(
+                Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+            var serviceRegistry = sessionFactory.getServiceRegistry();
+            if (!(serviceRegistry.requireService(JdbcServices.class).getDialect() instanceof MongoDialect)) {
+                // avoid interfering with bootstrapping unrelated to the MongoDB Extension for Hibernate ORM
+                return;
+            }
+            var config = serviceRegistry
+                    .requireService(StandardServiceRegistryScopedState.class)
+                    .getConfiguration();
+            var sessionFactoryOptions = sessionFactory.getSessionFactoryOptions();
+            if (!config.changeStreamCacheInvalidation()
+                    || !(sessionFactoryOptions.isSecondLevelCacheEnabled()
+                            || sessionFactoryOptions.isQueryCacheEnabled())) {
+                return;
+            }
+            var mongoClient =
+                    serviceRegistry.requireService(ConnectionProvider.class).unwrap(MongoClient.class);
+            sessionFactory.addObserver(new Observer(mongoClient.getDatabase(config.databaseName())));
+        }
+    }
+
+    private static final class Observer implements SessionFactoryObserver {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient MongoDatabase database;
+        private transient @Nullable ChangeStreamCacheInvalidator changeStreamCacheInvalidator;
+
+        Observer(MongoDatabase database) {
+            this.database = database;
+        }
+
+        @Override
+        public void sessionFactoryCreated(SessionFactory factory) {
+            var changeStreamCacheInvalidator =
+                    new ChangeStreamCacheInvalidator(database, factory.unwrap(SessionFactoryImplementor.class));
+            changeStreamCacheInvalidator.start();
+            this.changeStreamCacheInvalidator = changeStreamCacheInvalidator;
+        }
+
+        @Override
+        public void sessionFactoryClosing(SessionFactory factory) {
+            assertNotNull(changeStreamCacheInvalidator).close();
+        }
+
+        @Serial
+        private void writeObject(ObjectOutputStream out) throws IOException {
+            throw new NotSerializableException(
+                    "This class is not designed to be serialized despite it having to implement `Serializable`");
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An unbounded on-heap {@link StorageAccess} for the timestamps region, which must never evict its entries, and is
+ * small, as it has an entry per collection.
+ *
+ * @hidden
+ */
+@SuppressWarnings("MissingSummary")
+public final class ConcurrentMapStorageAccess implements StorageAccess {
+    private final ConcurrentHashMap<Object, Object> entries = new ConcurrentHashMap<>();
+
+    public ConcurrentMapStorageAccess() {}
+
+    @Override
+    public @Nullable Object getFromCache(Object key, @Nullable SharedSessionContractImplementor session) {
+        return entries.get(key);
+    }
+
+    @Override
+    public void putIntoCache(Object key, @Nullable Object value, @Nullable SharedSessionContractImplementor session) {
+        if (value == null) {
+            entries.remove(key);
+        } else {
+            entries.put(key, value);
+        }
+    }
+
+    @Override
+    public void removeFromCache(Object key, @Nullable SharedSessionContractImplementor session) {
+        evictData(key);
+    }
+
+    @Override
+    public void clearCache(@Nullable SharedSessionContractImplementor session) {
+        evictData();
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        return entries.containsKey(key);
+    }
+
+    @Override
+    public void evictData() {
+        entries.clear();
+    }
+
+    @Override
+    public void evictData(Object key) {
+        entries.remove(key);
+    }
+
+    @Override
+    public void release() {
+        evictData();
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.cache;
+
+import static com.mongodb.hibernate.internal.MongoAssertions.assertNotNull;
+import static com.mongodb.hibernate.internal.MongoAssertions.assertTrue;
+import static com.mongodb.hibernate.internal.VisibleForTesting.AccessModifier.PRIVATE;
+
+import com.mongodb.hibernate.internal.VisibleForTesting;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link DomainDataStorageAccess} that stores {@linkplain BsonCacheValueCodec BSON-encoded} entries outside the Java
+ * heap, and decodes them on each hit.
+ *
+ * <p>The entries are spread over lock-striped stripes by their keys, each stripe owning an equal share of the maximum
+ * size. A stripe allocates its {@linkplain ByteBuffer#allocateDirect(int) direct} memory on first use, and splits it
+ * into blocks of {@value #BLOCK_SIZE} bytes, such that an entry occupies as many blocks as it needs, not necessarily
+ * contiguous, and the blocks of an evicted entry are immediately reusable. When a stripe runs out of blocks, it evicts
+ * its least recently used entries. The keys and the block indexes stay on the Java heap.
+ *
+ * @hidden
+ */
+@SuppressWarnings("MissingSummary")
+public final class OffHeapStorageAccess implements DomainDataStorageAccess {
+    static final int BLOCK_SIZE = 256;
+    private static final int DEFAULT_STRIPE_COUNT = 16;
+
+    private final Stripe[] stripes;
+
+    public OffHeapStorageAccess(long maxSize) {
+        this(maxSize, DEFAULT_STRIPE_COUNT);
+    }
+
+    @VisibleForTesting(otherwise = PRIVATE)
+    OffHeapStorageAccess(long maxSize, int stripeCount) {
+        assertTrue(maxSize > 0);
+        assertTrue(stripeCount > 0 && Integer.bitCount(stripeCount) == 1);
+        var stripeBlockCount =
+                (int) Math.max(1, Math.min(Integer.MAX_VALUE / BLOCK_SIZE, maxSize / stripeCount / BLOCK_SIZE));
+        stripes = new Stripe[stripeCount];
+        for (var i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(stripeBlockCount);
+        }
+    }
+
+    @Override
+    public @Nullable Object getFromCache(Object key, @Nullable SharedSessionContractImplementor session) {
+        var stripe = getStripe(key);
+        var bytes = stripe.get(key);
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            return BsonCacheValueCodec.decode(bytes);
+        } catch (IOException | ClassNotFoundException e) {
+            stripe.remove(key);
+            return null;
+        }
+    }
+
+    @Override
+    public void putIntoCache(Object key, @Nullable Object value, @Nullable SharedSessionContractImplementor session) {
+        var stripe = getStripe(key);
+        byte[] bytes;
+        try {
+            bytes = BsonCacheValueCodec.encode(value);
+        } catch (IOException e) {
+            // the value is not serializable, for example, it refers to an entity instance
+            stripe.remove(key);
+            return;
+        }
+        stripe.put(key, bytes);
+    }
+
+    @Override
+    public void removeFromCache(Object key, @Nullable SharedSessionContractImplementor session) {
+        evictData(key);
+    }
+
+    @Override
+    public void clearCache(@Nullable SharedSessionContractImplementor session) {
+        evictData();
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        return getStripe(key).contains(key);
+    }
+
+    @Override
+    public void evictData() {
+        for (var stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    @Override
+    public void evictData(Object key) {
+        getStripe(key).remove(key);
+    }
+
+    @Override
+    public void release() {
+        for (var stripe : stripes) {
+            stripe.release();
+        }
+    }
+
+    private Stripe getStripe(Object key) {
+        var hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private final int blockCount;
+        private @Nullable ByteBuffer memory;
+        private int unusedBlockIndex;
+        private int[] freeBlockIndexes = new int[0];
+        private int freeBlockCount;
+
+        Stripe(int blockCount) {
+            this.blockCount = blockCount;
+        }
+
+        byte @Nullable [] get(Object key) {
+            lock.lock();
+            try {
+                var entry = entries.get(key);
+                if (entry == null) {
+                    return null;
+                }
+                var memory = assertNotNull(this.memory);
+                var bytes = new byte[entry.length];
+                for (var i = 0; i < entry.blockIndexes.length; i++) {
+                    var offset = i * BLOCK_SIZE;
+                    memory.get(entry.blockIndexes[i] * BLOCK_SIZE, bytes, offset, getBlockLength(bytes, offset));
+                }
+                return bytes;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void put(Object key, byte[] bytes) {
+            var requiredBlockCount = Math.max(1, (bytes.length + BLOCK_SIZE - 1) / BLOCK_SIZE);
+            lock.lock();
+            try {
+                free(entries.remove(key));
+                if (requiredBlockCount > blockCount) {
+                    return;
+                }
+                var iterator = entries.values().iterator();
+                while (getAvailableBlockCount() < requiredBlockCount) {
+                    free(iterator.next());
+                    iterator.remove();
+                }
+                var memory = this.memory;
+                if (memory == null) {
+                    memory = ByteBuffer.allocateDirect(blockCount * BLOCK_SIZE);
+                    this.memory = memory;
+                }
+                var blockIndexes = new int[requiredBlockCount];
+                for (var i = 0; i < requiredBlockCount; i++) {
+                    var blockIndex = allocateBlock();
+                    var offset = i * BLOCK_SIZE;
+                    memory.put(blockIndex * BLOCK_SIZE, bytes, offset, getBlockLength(bytes, offset));
+                    blockIndexes[i] = blockIndex;
+                }
+                entries.put(key, new Entry(bytes.length, blockIndexes));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean contains(Object key) {
+            lock.lock();
+            try {
+                return entries.containsKey(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(Object key) {
+            lock.lock();
+            try {
+                free(entries.remove(key));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                entries.clear();
+                unusedBlockIndex = 0;
+                freeBlockCount = 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void release() {
+            lock.lock();
+            try {
+                clear();
+                freeBlockIndexes = new int[0];
+                memory = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int getAvailableBlockCount() {
+            return freeBlockCount + blockCount - unusedBlockIndex;
+        }
+
+        private int allocateBlock() {
+            return freeBlockCount > 0 ? freeBlockIndexes[--freeBlockCount] : unusedBlockIndex++;
+        }
+
+        private void free(@Nullable Entry entry) {
+            if (entry == null) {
+                return;
+            }
+            var newFreeBlockCount = freeBlockCount + entry.blockIndexes.length;
+            if (newFreeBlockCount > freeBlockIndexes.length) {
+                var newCapacity = Math.min(blockCount, Math.max(newFreeBlockCount, freeBlockIndexes.length * 2));
+                freeBlockIndexes = Arrays.copyOf(freeBlockIndexes, newCapacity);
+            }
+            System.arraycopy(entry.blockIndexes, 0, freeBlockIndexes, freeBlockCount, entry.blockIndexes.length);
+            freeBlockCount = newFreeBlockCount;
+        }
+
+        private static int getBlockLength(byte[] bytes, int offset) {
+            return Math.min(BLOCK_SIZE, bytes.length - offset);
+        }
+    }
+
+    private static final class Entry {
+        final int length;
+        final int[] blockIndexes;
+
+        Entry(int length, int[] blockIndexes) {
+            this.length = length;
+            this.blockIndexes = blockIndexes;
+        }
+    }
+}
@@ -25,7 +25,9 @@ import java.util.function.Consumer;
  *
  * @param mongoClientSettings {@link MongoConfigurator#applyToMongoClientSettings(Consumer)}.
  * @param databaseName {@link MongoConfigurator#databaseName(String)}.
+ * @param changeStreamCacheInvalidation {@link MongoConfigurator#changeStreamCacheInvalidation(boolean)}.
  * @see MongoConfigurationBuilder#build()
  * @hidden
  */
-public record MongoConfiguration(MongoClientSettings mongoClientSettings, String databaseName) {}
+public record MongoConfiguration(
+        MongoClientSettings mongoClientSettings, String databaseName, boolean changeStreamCacheInvalidation) {}
@@ -16,6 +16,7 @@
 
 package com.mongodb.hibernate.internal.cfg;
 
+import static com.mongodb.hibernate.cfg.MongoAvailableSettings.CHANGE_STREAM_CACHE_INVALIDATION;
 import static com.mongodb.hibernate.internal.MongoChecks.notNull;
 import static com.mongodb.hibernate.internal.VisibleForTesting.AccessModifier.PRIVATE;
 import static java.lang.String.format;
@@ -38,6 +39,7 @@ import org.jspecify.annotations.Nullable;
 public final class MongoConfigurationBuilder implements MongoConfigurator {
     private final MongoClientSettings.Builder mongoClientSettingsBuilder;
     private @Nullable String databaseName;
+    private boolean changeStreamCacheInvalidation;
 
     public MongoConfigurationBuilder(Map<String, Object> configurationValues) {
         mongoClientSettingsBuilder = MongoClientSettings.builder();
@@ -47,6 +49,11 @@ public final class MongoConfigurationBuilder implements MongoConfigurator {
             mongoClientSettingsBuilder.applyConnectionString(connectionString);
             databaseName = connectionString.getDatabase();
         }
+        var changeStreamCacheInvalidation =
+                MongoConfigurationBuilder.ConfigPropertiesParser.getChangeStreamCacheInvalidation(configurationValues);
+        if (changeStreamCacheInvalidation != null) {
+            this.changeStreamCacheInvalidation = changeStreamCacheInvalidation;
+        }
     }
 
     @VisibleForTesting(otherwise = PRIVATE)
@@ -66,8 +73,17 @@ public final class MongoConfigurationBuilder implements MongoConfigurator {
         return this;
     }
 
+    @Override
+    public MongoConfigurationBuilder changeStreamCacheInvalidation(boolean enabled) {
+        changeStreamCacheInvalidation = enabled;
+        return this;
+    }
+
     public MongoConfiguration build() {
-        return new MongoConfiguration(mongoClientSettingsBuilder.build(), notNull("databaseName", databaseName));
+        return new MongoConfiguration(
+                mongoClientSettingsBuilder.build(),
+                notNull("databaseName", databaseName),
+                changeStreamCacheInvalidation);
     }
 
     private static final class ConfigPropertiesParser {
@@ -84,6 +100,30 @@ public final class MongoConfigurationBuilder implements MongoConfigurator {
                     JAKARTA_JDBC_URL, jdbcUrl, String.class, ConnectionString.class);
         }
 
+        static @Nullable Boolean getChangeStreamCacheInvalidation(Map<String, Object> configurationValues) {
+            var changeStreamCacheInvalidation = configurationValues.get(CHANGE_STREAM_CACHE_INVALIDATION);
+            if (changeStreamCacheInvalidation == null) {
+                return null;
+            } else if (changeStreamCacheInvalidation instanceof String changeStreamCacheInvalidationText) {
+                return parseBoolean(CHANGE_STREAM_CACHE_INVALIDATION, changeStreamCacheInvalidationText);
+            } else if (changeStreamCacheInvalidation instanceof Boolean changeStreamCacheInvalidationBoolean) {
+                return changeStreamCacheInvalidationBoolean;
+            }
+            throw MongoConfigurationBuilder.ConfigPropertiesParser.Exceptions.unsupportedType(
+                    CHANGE_STREAM_CACHE_INVALIDATION, changeStreamCacheInvalidation, String.class, Boolean.class);
+        }
+
+        private static boolean parseBoolean(String propertyName, String propertyValue) {
+            var trimmedPropertyValue = propertyValue.trim();
+            if (trimmedPropertyValue.equalsIgnoreCase(Boolean.TRUE.toString())) {
+                return true;
+            } else if (trimmedPropertyValue.equalsIgnoreCase(Boolean.FALSE.toString())) {
+                return false;
+            }
+            throw MongoConfigurationBuilder.ConfigPropertiesParser.Exceptions.failedToParse(
+                    propertyName, propertyValue, Boolean.class);
+        }
+
         private static ConnectionString parseConnectionString(String propertyName, String propertyValue) {
             try {
                 return new ConnectionString(propertyValue);
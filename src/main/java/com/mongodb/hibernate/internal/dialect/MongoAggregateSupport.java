@@ -24,6 +24,7 @@ import com.mongodb.hibernate.internal.type.MongoStructJdbcType;
 import org.hibernate.dialect.aggregate.AggregateSupportImpl;
 import org.hibernate.mapping.AggregateColumn;
 import org.hibernate.mapping.Column;
+import org.hibernate.sql.Template;
 
 /** @hidden */
 @SuppressWarnings("MissingSummary")
@@ -32,6 +33,9 @@ public final class MongoAggregateSupport extends AggregateSupportImpl {
     public static final String UNSUPPORTED_MESSAGE_PREFIX =
             "TODO-HIBERNATE-93 https://jira.mongodb.org/browse/HIBERNATE-93";
 
+    /** The read expression of a root aggregate column is its name qualified with the {@link Template#TEMPLATE}. */
+    private static final String AGGREGATE_ROOT_READ_EXPRESSION_PREFIX = Template.TEMPLATE + '.';
+
     private MongoAggregateSupport() {}
 
     @Override
@@ -43,8 +47,11 @@ public final class MongoAggregateSupport extends AggregateSupportImpl {
             AggregateColumn aggregateColumn,
             Column column) {
         var aggregateColumnType = aggregateColumn.getTypeCode();
-        if (aggregateColumnType == MongoStructJdbcType.JDBC_TYPE.getVendorTypeNumber()
-                || aggregateColumnType == MongoArrayJdbcType.HIBERNATE_SQL_TYPE) {
+        if (aggregateColumnType == MongoStructJdbcType.JDBC_TYPE.getVendorTypeNumber()) {
+            // `template` is ignored, as Hibernate ORM passes an empty one when composing the read expression of a
+            // nested aggregate; the dot-separated path is what `AbstractMqlTranslator` uses as the field path
+            return aggregateParentReadExpression + '.' + columnExpression;
+        } else if (aggregateColumnType == MongoArrayJdbcType.HIBERNATE_SQL_TYPE) {
             return """
                    %s: [%s.%s].\
                     This string is generated by %s.aggregateComponentCustomReadExpression\
@@ -91,6 +98,18 @@ public final class MongoAggregateSupport extends AggregateSupportImpl {
         throw new FeatureNotSupportedException(format("The SQL type code [%d] is not supported", aggregateSqlTypeCode));
     }
 
+    /**
+     * Returns the field path to read the column with the {@code columnExpression} from. For a column of a
+     * {@linkplain MongoStructJdbcType struct}, it is the dot-separated path produced by
+     * {@link #aggregateComponentCustomReadExpression(String, String, String, String, AggregateColumn, Column)}, for
+     * example, {@code shippingAddress.city}.
+     */
+    public static String getFieldPath(String columnExpression) {
+        return columnExpression.startsWith(AGGREGATE_ROOT_READ_EXPRESSION_PREFIX)
+                ? columnExpression.substring(AGGREGATE_ROOT_READ_EXPRESSION_PREFIX.length())
+                : columnExpression;
+    }
+
     public static void checkSupported(String mql) {
         if (mql.contains(UNSUPPORTED_MESSAGE_PREFIX)) {
             throw new FeatureNotSupportedException(UNSUPPORTED_MESSAGE_PREFIX);
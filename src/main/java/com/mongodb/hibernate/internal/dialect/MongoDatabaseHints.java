@@ -0,0 +1,209 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.dialect;
+
+import static com.mongodb.hibernate.internal.MongoConstants.EXTENDED_JSON_WRITER_SETTINGS;
+import static java.lang.String.format;
+
+import com.mongodb.hibernate.internal.FeatureNotSupportedException;
+import com.mongodb.hibernate.query.MongoQueryHints;
+import java.util.List;
+import java.util.Set;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Applies the {@linkplain MongoQueryHints database hints} to the MQL of a query when executing it. Doing so at
+ * execution time, rather than when translating, allows the same translation to be reused regardless of the hints.
+ *
+ * @hidden
+ */
+@SuppressWarnings("MissingSummary")
+public final class MongoDatabaseHints {
+    private static final char NAME_VALUE_SEPARATOR = '=';
+
+    private static final Set<String> NAMES_WITH_VALUE = Set.of(
+            MongoQueryHints.HINT,
+            MongoQueryHints.ALLOW_DISK_USE,
+            MongoQueryHints.COMMENT,
+            MongoQueryHints.COLLATION,
+            MongoQueryHints.MAX_TIME_MS,
+            MongoQueryHints.BATCH_SIZE,
+            MongoQueryHints.READ_CONCERN);
+
+    private static final Set<String> AGGREGATE_COMMAND_OPTIONS = Set.of(
+            MongoQueryHints.HINT,
+            MongoQueryHints.ALLOW_DISK_USE,
+            MongoQueryHints.COMMENT,
+            MongoQueryHints.COLLATION,
+            MongoQueryHints.MAX_TIME_MS,
+            MongoQueryHints.READ_CONCERN);
+    private static final Set<String> FIND_COMMAND_OPTIONS = NAMES_WITH_VALUE;
+    private static final Set<String> COUNT_COMMAND_OPTIONS = Set.of(
+            MongoQueryHints.HINT,
+            MongoQueryHints.COMMENT,
+            MongoQueryHints.COLLATION,
+            MongoQueryHints.MAX_TIME_MS,
+            MongoQueryHints.READ_CONCERN);
+    private static final Set<String> WRITE_COMMAND_OPTIONS = Set.of(MongoQueryHints.COMMENT);
+    private static final Set<String> WRITE_STATEMENT_OPTIONS = Set.of(MongoQueryHints.HINT, MongoQueryHints.COLLATION);
+
+    private MongoDatabaseHints() {}
+
+    public static boolean isSupported(String databaseHint) {
+        return MongoQueryHints.ESTIMATED_DOCUMENT_COUNT.equals(databaseHint)
+                || NAMES_WITH_VALUE.contains(getName(databaseHint));
+    }
+
+    public static String apply(String mql, List<String> databaseHints) {
+        var estimatedDocumentCount = false;
+        var options = new BsonDocument();
+        for (var databaseHint : databaseHints) {
+            if (MongoQueryHints.ESTIMATED_DOCUMENT_COUNT.equals(databaseHint)) {
+                estimatedDocumentCount = true;
+            } else if (NAMES_WITH_VALUE.contains(getName(databaseHint))) {
+                options.put(getName(databaseHint), parseValue(databaseHint));
+            } else {
+                throw new FeatureNotSupportedException(format("Database hint [%s] is not supported", databaseHint));
+            }
+        }
+        var command = parseCommand(mql);
+        if (command == null) {
+            return mql;
+        }
+        if (estimatedDocumentCount) {
+            command = applyEstimatedDocumentCount(command);
+        }
+        if (!options.isEmpty()) {
+            applyOptions(command, options);
+        }
+        return estimatedDocumentCount || !options.isEmpty() ? command.toJson(EXTENDED_JSON_WRITER_SETTINGS) : mql;
+    }
+
+    private static String getName(String databaseHint) {
+        var separatorIndex = databaseHint.indexOf(NAME_VALUE_SEPARATOR);
+        return (separatorIndex < 0 ? databaseHint : databaseHint.substring(0, separatorIndex)).strip();
+    }
+
+    private static BsonValue parseValue(String databaseHint) {
+        var name = getName(databaseHint);
+        var separatorIndex = databaseHint.indexOf(NAME_VALUE_SEPARATOR);
+        if (separatorIndex < 0) {
+            throw new IllegalArgumentException(format(
+                    "Database hint [%s] must have the form [%s%cvalue]", databaseHint, name, NAME_VALUE_SEPARATOR));
+        }
+        BsonValue value;
+        try {
+            value = BsonDocument.parse(format("{\"v\": %s}", databaseHint.substring(separatorIndex + 1)))
+                    .get("v");
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(
+                    format("The value of database hint [%s] is not valid Extended JSON", databaseHint), e);
+        }
+        var valid =
+                switch (name) {
+                    case MongoQueryHints.HINT -> value.isString() || value.isDocument();
+                    case MongoQueryHints.ALLOW_DISK_USE -> value.isBoolean();
+                    case MongoQueryHints.COMMENT -> true;
+                    case MongoQueryHints.COLLATION -> value.isDocument();
+                    case MongoQueryHints.MAX_TIME_MS -> (value.isInt32() || value.isInt64())
+                            && value.asNumber().longValue() >= 0;
+                    case MongoQueryHints.BATCH_SIZE -> value.isInt32() && value.asInt32().getValue() >= 0;
+                    case MongoQueryHints.READ_CONCERN -> value.isDocument()
+                            && value.asDocument().isString("level");
+                    default -> throw new IllegalArgumentException(name);
+                };
+        if (!valid) {
+            throw new IllegalArgumentException(
+                    format("The value of database hint [%s] is not valid for [%s]", databaseHint, name));
+        }
+        return value;
+    }
+
+    private static @Nullable BsonDocument parseCommand(String mql) {
+        BsonDocument command;
+        try {
+            command = BsonDocument.parse(mql);
+        } catch (RuntimeException e) {
+            // `MongoStatement` reports invalid MQL
+            return null;
+        }
+        return command.isEmpty() ? null : command;
+    }
+
+    /**
+     * Replaces an {@code aggregate} command that only counts all the documents in a collection with a {@code count}
+     * command without a {@code query}, which {@code MongoStatement} executes using the collection metadata.
+     */
+    private static BsonDocument applyEstimatedDocumentCount(BsonDocument command) {
+        if (!command.getFirstKey().equals("aggregate")) {
+            return command;
+        }
+        var pipeline = command.get("pipeline");
+        if (pipeline == null
+                || !pipeline.isArray()
+                || pipeline.asArray().size() != 2
+                || !isStage(pipeline.asArray().get(0), "$count")
+                || !isStage(pipeline.asArray().get(1), "$project")) {
+            return command;
+        }
+        return new BsonDocument("count", command.get("aggregate"));
+    }
+
+    private static boolean isStage(BsonValue stage, String stageName) {
+        return stage.isDocument() && stage.asDocument().containsKey(stageName);
+    }
+
+    /**
+     * Adds the {@code options} to the fields of the {@code command}, or of its statements, that they correspond to.
+     * The options that do not apply to the {@code command} are ignored.
+     */
+    private static void applyOptions(BsonDocument command, BsonDocument options) {
+        switch (command.getFirstKey()) {
+            case "aggregate" -> {
+                putAll(command, options, AGGREGATE_COMMAND_OPTIONS);
+                var batchSize = options.get(MongoQueryHints.BATCH_SIZE);
+                if (batchSize != null) {
+                    command.put("cursor", new BsonDocument(MongoQueryHints.BATCH_SIZE, batchSize));
+                }
+            }
+            case "find" -> putAll(command, options, FIND_COMMAND_OPTIONS);
+            case "count" -> putAll(command, options, COUNT_COMMAND_OPTIONS);
+            case "update", "delete" -> {
+                putAll(command, options, WRITE_COMMAND_OPTIONS);
+                var statements = command.get(command.getFirstKey().equals("update") ? "updates" : "deletes");
+                if (statements != null && statements.isArray()) {
+                    for (var statement : statements.asArray()) {
+                        if (statement.isDocument()) {
+                            putAll(statement.asDocument(), options, WRITE_STATEMENT_OPTIONS);
+                        }
+                    }
+                }
+            }
+            default -> {}
+        }
+    }
+
+    private static void putAll(BsonDocument target, BsonDocument options, Set<String> names) {
+        options.forEach((name, value) -> {
+            if (names.contains(name)) {
+                target.put(name, value);
+            }
+        });
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.dialect.function.array;
+
+import static com.mongodb.hibernate.internal.dialect.function.array.MongoArrayContainsFunction.checkNotHqlPathExpression;
+import static com.mongodb.hibernate.internal.dialect.function.array.MongoArrayContainsFunction.getArgumentAsExpression;
+import static com.mongodb.hibernate.internal.dialect.function.array.MongoArrayContainsFunction.haystackFieldPath;
+import static com.mongodb.hibernate.internal.translate.AstVisitorValueDescriptor.FILTER;
+import static com.mongodb.hibernate.internal.translate.AstVisitorValueDescriptor.VALUE;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.EQ;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.GT;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.GTE;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.LT;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.LTE;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.NE;
+import static java.lang.String.format;
+
+import com.mongodb.hibernate.internal.translate.AbstractMqlTranslator;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperation;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstElemMatchFilterOperation;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstFieldOperationFilter;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstFilter;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstLogicalFilter;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstLogicalFilterOperator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.query.ReturnableType;
+import org.hibernate.query.sqm.function.AbstractSqmSelfRenderingFunctionDescriptor;
+import org.hibernate.query.sqm.produce.function.FunctionArgumentException;
+import org.hibernate.query.sqm.produce.function.StandardArgumentsValidators;
+import org.hibernate.query.sqm.produce.function.StandardFunctionReturnTypeResolvers;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.tree.SqlAstNode;
+import org.hibernate.sql.ast.tree.expression.Literal;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.spi.TypeConfiguration;
+
+/**
+ * Implements {@code array_elem_match(haystack, elementFieldName, operator, value[, elementFieldName, operator,
+ * value]...)}, which is {@code true} iff at least one element of the {@code haystack} array satisfies all the
+ * conditions on its fields. For example, {@code array_elem_match(o.lines, 'sku', '=', :sku, 'qty', '>', 5)}.
+ *
+ * <p>See <a href="https://www.mongodb.com/docs/manual/reference/operator/query/elemMatch/">{@code $elemMatch}</a>.
+ *
+ * <p>Thread-safe.
+ *
+ * @hidden
+ */
+public final class MongoArrayElemMatchFunction extends AbstractSqmSelfRenderingFunctionDescriptor {
+    private static final Map<String, AstComparisonFilterOperator> OPERATORS = Map.of(
+            "=", EQ,
+            "<>", NE,
+            "!=", NE,
+            "<", LT,
+            "<=", LTE,
+            ">", GT,
+            ">=", GTE);
+
+    public MongoArrayElemMatchFunction(TypeConfiguration typeConfiguration) {
+        super(
+                "array_elem_match",
+                StandardArgumentsValidators.min(4),
+                StandardFunctionReturnTypeResolvers.invariant(
+                        typeConfiguration.getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN)),
+                null);
+    }
+
+    @Override
+    public void render(
+            SqlAppender sqlAppender,
+            List<? extends SqlAstNode> arguments,
+            ReturnableType<?> returnType,
+            SqlAstTranslator<?> walker) {
+        var translator = AbstractMqlTranslator.cast(walker);
+        var functionName = getName();
+        if ((arguments.size() - 1) % 3 != 0) {
+            throw new FunctionArgumentException(format(
+                    "Function '%s()' requires an array argument followed by triples of"
+                            + " an element field name, a comparison operator and a value",
+                    functionName));
+        }
+        var fieldPath = haystackFieldPath(translator, functionName, arguments);
+        var elementFilters = new ArrayList<AstFilter>((arguments.size() - 1) / 3);
+        for (var i = 1; i < arguments.size(); i += 3) {
+            var elementFieldName = getStringLiteralArgument(functionName, arguments, i);
+            var operatorParameterIndex = i + 1;
+            var operator = OPERATORS.get(getStringLiteralArgument(functionName, arguments, operatorParameterIndex));
+            if (operator == null) {
+                throw new FunctionArgumentException(format(
+                        "Parameter %d of function '%s()' must be one of '=', '<>', '!=', '<', '<=', '>', '>='",
+                        operatorParameterIndex, functionName));
+            }
+            var valueParameterIndex = i + 2;
+            var valueExpression = getArgumentAsExpression(arguments, valueParameterIndex);
+            checkNotHqlPathExpression(functionName, valueParameterIndex, valueExpression);
+            var value = translator.acceptAndYield(valueExpression, VALUE);
+            elementFilters.add(
+                    new AstFieldOperationFilter(elementFieldName, new AstComparisonFilterOperation(operator, value)));
+        }
+        var elementFilter = elementFilters.size() == 1
+                ? elementFilters.get(0)
+                : new AstLogicalFilter(AstLogicalFilterOperator.AND, elementFilters);
+        translator.yield(
+                FILTER, new AstFieldOperationFilter(fieldPath, new AstElemMatchFilterOperation(elementFilter)));
+    }
+
+    private static String getStringLiteralArgument(
+            String functionName, List<? extends SqlAstNode> arguments, int parameterIndex) {
+        if (arguments.get(parameterIndex) instanceof Literal literal
+                && literal.getLiteralValue() instanceof String value
+                && !value.isEmpty()) {
+            return value;
+        }
+        throw new FunctionArgumentException(format(
+                "Parameter %d of function '%s()' requires a non-empty string literal", parameterIndex, functionName));
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.id.sequence;
+
+import static com.mongodb.hibernate.internal.MongoAssertions.assertNotNull;
+import static com.mongodb.hibernate.internal.MongoConstants.ID_FIELD_NAME;
+import static java.lang.String.format;
+import static org.hibernate.generator.EventTypeSets.INSERT_ONLY;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.Updates;
+import com.mongodb.hibernate.internal.service.StandardServiceRegistryScopedState;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import org.bson.BsonDocument;
+import org.hibernate.MappingException;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.id.enhanced.OptimizerFactory;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Thread-safe.
+ *
+ * @see com.mongodb.hibernate.annotations.MongoSequenceGenerator
+ * @hidden
+ */
+public final class MongoSequenceGenerator implements BeforeExecutionGenerator {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /** The name of the field storing the number of values allocated from a sequence so far. */
+    private static final String ALLOCATED_FIELD_NAME = "allocated";
+
+    private final transient String collectionName;
+    private final transient String sequenceName;
+    private final transient long initialValue;
+    private final transient int incrementSize;
+    /** A wrapper type, even if the identifier is of a primitive type, as required by {@link OptimizerFactory}. */
+    private final transient Class<?> integralType;
+    private final transient Optimizer optimizer;
+    private transient volatile @Nullable MongoCollection<BsonDocument> collection;
+
+    public MongoSequenceGenerator(
+            com.mongodb.hibernate.annotations.MongoSequenceGenerator config,
+            Member annotatedMember,
+            CustomIdGeneratorCreationContext context) {
+        var entityName = context.getRootClass().getJpaEntityName();
+        incrementSize = config.incrementSize();
+        if (incrementSize < 1) {
+            throw new MappingException(format(
+                    "%s: the increment size of the sequence must be positive, but it is [%d]",
+                    entityName, incrementSize));
+        }
+        collectionName = config.collection();
+        sequenceName = config.sequenceName().isEmpty() ? entityName + "_SEQ" : config.sequenceName();
+        initialValue = config.initialValue();
+        integralType = context.getProperty().getType().getReturnedClass();
+        optimizer = OptimizerFactory.buildOptimizer(
+                toOptimizerDescriptor(config.optimizer()), integralType, incrementSize, initialValue);
+    }
+
+    @Override
+    public Object generate(
+            SharedSessionContractImplementor session,
+            Object owner,
+            @Nullable Object currentValue,
+            EventType eventType) {
+        var collection = getCollection(session);
+        return optimizer.generate(new AccessCallback() {
+            @Override
+            public IntegralDataTypeHolder getNextValue() {
+                return IdentifierGeneratorHelper.getIntegralDataTypeHolder(integralType)
+                        .initialize(allocate(collection));
+            }
+
+            @Override
+            public @Nullable String getTenantIdentifier() {
+                // the sequences are not tenant-specific
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return INSERT_ONLY;
+    }
+
+    /**
+     * Atomically allocates {@link #incrementSize} values, outside of any transaction.
+     *
+     * @return The first of the allocated values, which makes the sequence of the returned values the same as that of a
+     *     database sequence starting with {@link #initialValue} and incremented by {@link #incrementSize}.
+     */
+    private long allocate(MongoCollection<BsonDocument> collection) {
+        var document = assertNotNull(collection.findOneAndUpdate(
+                Filters.eq(ID_FIELD_NAME, sequenceName),
+                Updates.inc(ALLOCATED_FIELD_NAME, (long) incrementSize),
+                new FindOneAndUpdateOptions().upsert(true).returnDocument(ReturnDocument.AFTER)));
+        var allocated = document.getNumber(ALLOCATED_FIELD_NAME).longValue();
+        return initialValue + allocated - incrementSize;
+    }
+
+    private MongoCollection<BsonDocument> getCollection(SharedSessionContractImplementor session) {
+        var result = collection;
+        if (result == null) {
+            var serviceRegistry = session.getFactory().getServiceRegistry();
+            var mongoClient = serviceRegistry.requireService(ConnectionProvider.class).unwrap(MongoClient.class);
+            var databaseName = serviceRegistry
+                    .requireService(StandardServiceRegistryScopedState.class)
+                    .getConfiguration()
+                    .databaseName();
+            result = mongoClient.getDatabase(databaseName).getCollection(collectionName, BsonDocument.class);
+            collection = result;
+        }
+        return result;
+    }
+
+    private static StandardOptimizerDescriptor toOptimizerDescriptor(
+            com.mongodb.hibernate.annotations.MongoSequenceGenerator.Optimizer optimizer) {
+        return switch (optimizer) {
+            case POOLED -> StandardOptimizerDescriptor.POOLED;
+            case POOLED_LO -> StandardOptimizerDescriptor.POOLED_LO;
+            case POOLED_LOTL -> StandardOptimizerDescriptor.POOLED_LOTL;
+        };
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        throw new NotSerializableException(
+                "This class is not designed to be serialized despite it having to implement `Serializable`");
+    }
+}
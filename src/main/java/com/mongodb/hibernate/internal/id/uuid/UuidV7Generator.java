@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.id.uuid;
+
+import static com.mongodb.hibernate.internal.VisibleForTesting.AccessModifier.PRIVATE;
+import static org.hibernate.generator.EventTypeSets.INSERT_ONLY;
+
+import com.mongodb.hibernate.internal.VisibleForTesting;
+import java.io.Serial;
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Thread-safe.
+ *
+ * @see com.mongodb.hibernate.annotations.UuidV7Generator
+ * @hidden
+ */
+public final class UuidV7Generator implements BeforeExecutionGenerator {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final UuidV7Factory FACTORY = new UuidV7Factory(System::currentTimeMillis);
+
+    private final boolean forIdentifier;
+
+    public UuidV7Generator(
+            com.mongodb.hibernate.annotations.UuidV7Generator config,
+            Member annotatedMember,
+            CustomIdGeneratorCreationContext context) {
+        this(true);
+    }
+
+    public UuidV7Generator(
+            com.mongodb.hibernate.annotations.UuidV7Generator config,
+            Member annotatedMember,
+            GeneratorCreationContext context) {
+        this(false);
+    }
+
+    private UuidV7Generator(boolean forIdentifier) {
+        this.forIdentifier = forIdentifier;
+    }
+
+    @Override
+    public Object generate(
+            SharedSessionContractImplementor session,
+            Object owner,
+            @Nullable Object currentValue,
+            EventType eventType) {
+        if (currentValue != null) {
+            return currentValue;
+        } else if (forIdentifier) {
+            // Hibernate ORM provides `null` as `currentValue` when generating an entity identifier value.
+            // To work around that behavior we have to read the value explicitly.
+            var currentId = session.getEntityPersister(null, owner).getIdentifier(owner, session);
+            if (currentId != null) {
+                return currentId;
+            }
+        }
+        return FACTORY.generate();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return INSERT_ONLY;
+    }
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+        return true;
+    }
+
+    /**
+     * Generates <a href="https://www.rfc-editor.org/rfc/rfc9562#name-uuid-version-7">version 7 UUIDs</a>, using the
+     * 12-bit {@code rand_a} field as a counter within a millisecond, as per <a
+     * href="https://www.rfc-editor.org/rfc/rfc9562#name-monotonicity-and-counters">method 1</a>. The counter of a new
+     * millisecond starts at a random value not exceeding half of its range, which leaves room for at least 2048
+     * increments. If the counter overflows, or if the wall clock goes backwards, the last used timestamp is advanced
+     * instead, which keeps the generated values strictly increasing.
+     *
+     * <p>Thread-safe. Lock-free.
+     */
+    @VisibleForTesting(otherwise = PRIVATE)
+    static final class UuidV7Factory {
+        private static final int COUNTER_BITS = 12;
+        private static final long MAX_COUNTER_SEED = (1L << (COUNTER_BITS - 1)) - 1;
+        private static final long VERSION = 7L << COUNTER_BITS;
+        private static final long VARIANT = 0b10L << 62;
+        private static final long RAND_B_MASK = ~(0b11L << 62);
+
+        private final LongSupplier currentTimeMillis;
+        /** The last used timestamp followed by the last used counter in the {@value #COUNTER_BITS} low-order bits. */
+        private final AtomicLong lastTimestampAndCounter;
+
+        UuidV7Factory(LongSupplier currentTimeMillis) {
+            this.currentTimeMillis = currentTimeMillis;
+            lastTimestampAndCounter = new AtomicLong(Long.MIN_VALUE);
+        }
+
+        UUID generate() {
+            var random = ThreadLocalRandom.current();
+            var candidate = (currentTimeMillis.getAsLong() << COUNTER_BITS) | random.nextLong(MAX_COUNTER_SEED + 1);
+            var timestampAndCounter = lastTimestampAndCounter.accumulateAndGet(
+                    candidate, (last, next) -> next > last ? next : last + 1);
+            var timestamp = timestampAndCounter >>> COUNTER_BITS;
+            var counter = timestampAndCounter & ((1L << COUNTER_BITS) - 1);
+            var mostSignificantBits = (timestamp << 16) | VERSION | counter;
+            var leastSignificantBits = VARIANT | (random.nextLong() & RAND_B_MASK);
+            return new UUID(mostSignificantBits, leastSignificantBits);
+        }
+    }
+}
@@ -16,18 +16,53 @@
 
 package com.mongodb.hibernate.internal.jdbc;
 
+import static com.mongodb.hibernate.internal.MongoAssertions.assertNotNull;
+
+import java.sql.SQLException;
+import org.bson.BsonArray;
+import org.jspecify.annotations.Nullable;
+
 /** @hidden */
 @SuppressWarnings("MissingSummary")
 public final class MongoArray implements ArrayAdapter {
-    private final Object contents;
+    private final @Nullable Object contents;
+    private final @Nullable BsonArray bsonContents;
+    private final @Nullable Decoder decoder;
 
     public MongoArray(Object contents) {
         this.contents = contents;
+        bsonContents = null;
+        decoder = null;
+    }
+
+    /**
+     * Creates an array whose contents are decoded from {@code bsonContents} by {@code decoder} only when
+     * {@linkplain #getArray() requested}.
+     */
+    public MongoArray(BsonArray bsonContents, Decoder decoder) {
+        contents = null;
+        this.bsonContents = bsonContents;
+        this.decoder = decoder;
     }
 
     @Override
-    public Object getArray() {
+    public Object getArray() throws SQLException {
         // Hibernate ORM does not call `Connection.getTypeMap`/`setTypeMap`, therefore we are free to ignore it
-        return contents;
+        return bsonContents == null ? assertNotNull(contents) : assertNotNull(decoder).decode(bsonContents);
+    }
+
+    /**
+     * @return The BSON array the contents of this array are decoded from, or {@code null} if this array was created
+     *     with the decoded contents.
+     */
+    public @Nullable BsonArray getBsonContents() {
+        return bsonContents;
+    }
+
+    /** @hidden */
+    @FunctionalInterface
+    @SuppressWarnings("MissingSummary")
+    public interface Decoder {
+        Object decode(BsonArray bsonContents) throws SQLException;
     }
 }
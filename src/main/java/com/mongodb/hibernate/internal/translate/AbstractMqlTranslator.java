@@ -23,6 +23,7 @@ import static com.mongodb.hibernate.internal.MongoAssertions.assertNull;
 import static com.mongodb.hibernate.internal.MongoAssertions.assertTrue;
 import static com.mongodb.hibernate.internal.MongoAssertions.fail;
 import static com.mongodb.hibernate.internal.MongoConstants.EXTENDED_JSON_WRITER_SETTINGS;
+import static com.mongodb.hibernate.internal.MongoConstants.ID_FIELD_NAME;
 import static com.mongodb.hibernate.internal.MongoConstants.MONGO_DBMS_NAME;
 import static com.mongodb.hibernate.internal.translate.AstVisitorValueDescriptor.COLLECTION_NAME;
 import static com.mongodb.hibernate.internal.translate.AstVisitorValueDescriptor.FIELD_PATH;
@@ -32,10 +33,16 @@ import static com.mongodb.hibernate.internal.translate.AstVisitorValueDescriptor
 import static com.mongodb.hibernate.internal.translate.AstVisitorValueDescriptor.PROJECT_STAGE_SPECIFICATIONS;
 import static com.mongodb.hibernate.internal.translate.AstVisitorValueDescriptor.SELECT_RESULT;
 import static com.mongodb.hibernate.internal.translate.AstVisitorValueDescriptor.SORT_FIELDS;
+import static com.mongodb.hibernate.internal.translate.AstVisitorValueDescriptor.STAGES;
 import static com.mongodb.hibernate.internal.translate.AstVisitorValueDescriptor.TUPLE;
 import static com.mongodb.hibernate.internal.translate.AstVisitorValueDescriptor.VALUE;
 import static com.mongodb.hibernate.internal.translate.mongoast.AstLiteral.FALSE;
 import static com.mongodb.hibernate.internal.translate.mongoast.AstLiteral.TRUE;
+import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstAccumulatorOperator.AVG;
+import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstAccumulatorOperator.MAX;
+import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstAccumulatorOperator.MIN;
+import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstAccumulatorOperator.PUSH;
+import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstAccumulatorOperator.SUM;
 import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstSortOrder.ASC;
 import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstSortOrder.DESC;
 import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.EQ;
@@ -51,33 +58,55 @@ import static java.lang.String.format;
 import static org.hibernate.query.sqm.FetchClauseType.ROWS_ONLY;
 
 import com.mongodb.hibernate.internal.FeatureNotSupportedException;
+import com.mongodb.hibernate.internal.dialect.MongoAggregateSupport;
+import com.mongodb.hibernate.internal.dialect.MongoDatabaseHints;
 import com.mongodb.hibernate.internal.service.StandardServiceRegistryScopedState;
+import com.mongodb.hibernate.internal.translate.mongoast.AstArray;
 import com.mongodb.hibernate.internal.translate.mongoast.AstDocument;
 import com.mongodb.hibernate.internal.translate.mongoast.AstElement;
 import com.mongodb.hibernate.internal.translate.mongoast.AstFieldUpdate;
+import com.mongodb.hibernate.internal.translate.mongoast.AstFieldUpdateOperator;
 import com.mongodb.hibernate.internal.translate.mongoast.AstLiteral;
 import com.mongodb.hibernate.internal.translate.mongoast.AstNode;
 import com.mongodb.hibernate.internal.translate.mongoast.AstParameterMarker;
+import com.mongodb.hibernate.internal.translate.mongoast.AstValue;
+import com.mongodb.hibernate.internal.translate.mongoast.command.AstCommand;
 import com.mongodb.hibernate.internal.translate.mongoast.command.AstDeleteCommand;
+import com.mongodb.hibernate.internal.translate.mongoast.command.AstFindCommand;
 import com.mongodb.hibernate.internal.translate.mongoast.command.AstInsertCommand;
+import com.mongodb.hibernate.internal.translate.mongoast.command.AstPipelineUpdateCommand;
 import com.mongodb.hibernate.internal.translate.mongoast.command.AstUpdateCommand;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstAccumulatorOperator;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstAggregateCommand;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstCountStage;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstFacetStage;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstFieldPathExpression;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstGroupStage;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstGroupStageAccumulatorField;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstGroupStageIdField;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstLimitStage;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstLookupStage;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstMatchStage;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstProjectStage;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstProjectStageExcludeSpecification;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstProjectStageIncludeSpecification;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstProjectStageSpecification;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstReplaceWithStage;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstSkipStage;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstSortField;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstSortOrder;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstSortStage;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstStage;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstUnwindStage;
 import com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperation;
 import com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator;
 import com.mongodb.hibernate.internal.translate.mongoast.filter.AstEmptyFilter;
 import com.mongodb.hibernate.internal.translate.mongoast.filter.AstFieldOperationFilter;
 import com.mongodb.hibernate.internal.translate.mongoast.filter.AstFilter;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstFilterOptimizer;
 import com.mongodb.hibernate.internal.translate.mongoast.filter.AstLogicalFilter;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstLogicalFilterOperator;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstRegexFilterOperation;
 import com.mongodb.hibernate.internal.type.ValueConversions;
 import java.io.IOException;
 import java.io.StringWriter;
@@ -85,14 +114,24 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import org.bson.BsonArray;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonNull;
+import org.bson.BsonString;
 import org.bson.BsonValue;
 import org.bson.json.JsonWriter;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.util.collections.Stack;
+import org.hibernate.metamodel.mapping.SelectableMapping;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.internal.SqlFragmentPredicate;
 import org.hibernate.query.NullPrecedence;
@@ -116,6 +155,7 @@ import org.hibernate.sql.ast.tree.Statement;
 import org.hibernate.sql.ast.tree.cte.CteContainer;
 import org.hibernate.sql.ast.tree.delete.DeleteStatement;
 import org.hibernate.sql.ast.tree.expression.AggregateColumnWriteExpression;
+import org.hibernate.sql.ast.tree.expression.AggregateFunctionExpression;
 import org.hibernate.sql.ast.tree.expression.Any;
 import org.hibernate.sql.ast.tree.expression.BinaryArithmeticExpression;
 import org.hibernate.sql.ast.tree.expression.CaseSearchedExpression;
@@ -138,6 +178,7 @@ import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.expression.Literal;
 import org.hibernate.sql.ast.tree.expression.ModifiedSubQueryExpression;
 import org.hibernate.sql.ast.tree.expression.NestedColumnReference;
+import org.hibernate.sql.ast.tree.expression.OrderedSetAggregateFunctionExpression;
 import org.hibernate.sql.ast.tree.expression.Over;
 import org.hibernate.sql.ast.tree.expression.Overflow;
 import org.hibernate.sql.ast.tree.expression.QueryLiteral;
@@ -181,6 +222,7 @@ import org.hibernate.sql.ast.tree.select.QuerySpec;
 import org.hibernate.sql.ast.tree.select.SelectClause;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.ast.tree.select.SortSpecification;
+import org.hibernate.sql.ast.tree.update.Assignable;
 import org.hibernate.sql.ast.tree.update.Assignment;
 import org.hibernate.sql.ast.tree.update.UpdateStatement;
 import org.hibernate.sql.exec.internal.AbstractJdbcParameter;
@@ -190,6 +232,7 @@ import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.model.MutationOperation;
 import org.hibernate.sql.model.ast.AbstractRestrictedTableMutation;
+import org.hibernate.sql.model.ast.ColumnValueBinding;
 import org.hibernate.sql.model.ast.ColumnWriteFragment;
 import org.hibernate.sql.model.internal.OptionalTableUpdate;
 import org.hibernate.sql.model.internal.TableDeleteCustomSql;
@@ -199,12 +242,15 @@ import org.hibernate.sql.model.internal.TableInsertStandard;
 import org.hibernate.sql.model.internal.TableUpdateCustomSql;
 import org.hibernate.sql.model.internal.TableUpdateStandard;
 import org.hibernate.type.BasicType;
+import org.hibernate.type.SqlTypes;
 import org.jspecify.annotations.Nullable;
 
 /** @hidden */
 @SuppressWarnings("MissingSummary")
 public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstTranslator<T> {
 
+    private static final AstLiteral COUNT_ONE = new AstLiteral(new BsonInt64(1));
+
     private final SessionFactoryImplementor sessionFactory;
 
     private final AstVisitorValueHolder astVisitorValueHolder = new AstVisitorValueHolder();
@@ -213,6 +259,33 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
 
     private final Set<String> affectedTableNames = new HashSet<>();
 
+    /**
+     * Maps the identification variables of the {@linkplain TableGroupJoin joined} table groups to the paths of the
+     * fields the joined documents are {@linkplain AstLookupStage looked up} into.
+     */
+    private final Map<String, String> joinedTableGroupFieldPaths = new HashMap<>();
+
+    private boolean joinedTableGroupReferenced;
+
+    /** The {@link AstLookupStage}s of the subqueries referenced by the filter being translated. */
+    private List<AstStage> subQueryLookupStages = new ArrayList<>();
+
+    /**
+     * The {@link JdbcParameterBinder}s of the parameters in {@link #subQueryLookupStages}, in the order of the stages.
+     * They are kept apart from {@link #parameterBinders} until the position of the stages relative to the filter
+     * referencing them is known.
+     */
+    private List<JdbcParameterBinder> subQueryLookupParameterBinders = new ArrayList<>();
+
+    /** The identification variable of the root of the subquery whose filter is being translated. */
+    private @Nullable String subQueryIdentificationVariable;
+
+    /**
+     * The grouping done by the query spec being translated. While it is not {@code null}, field paths are translated
+     * into the paths of the fields in the documents output by the {@link AstGroupStage}.
+     */
+    private @Nullable Grouping grouping;
+
     private @Nullable QueryOptionsLimit queryOptionsLimit;
 
     AbstractMqlTranslator(SessionFactoryImplementor sessionFactory) {
@@ -325,12 +398,7 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
             throw new FeatureNotSupportedException();
         }
         var keyFilter = createKeyFilter(tableUpdate);
-        var updates = new ArrayList<AstFieldUpdate>(tableUpdate.getNumberOfValueBindings());
-        for (var valueBinding : tableUpdate.getValueBindings()) {
-            var fieldName = valueBinding.getColumnReference().getColumnExpression();
-            var fieldValue = acceptAndYield(valueBinding.getValueExpression(), VALUE);
-            updates.add(new AstFieldUpdate(fieldName, fieldValue));
-        }
+        var updates = createFieldUpdates(tableUpdate.getValueBindings());
         astVisitorValueHolder.yield(
                 MODEL_MUTATION_RESULT,
                 ModelMutationMqlTranslator.Result.create(
@@ -338,21 +406,47 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
                         parameterBinders));
     }
 
-    private AstFilter createKeyFilter(AbstractRestrictedTableMutation<? extends MutationOperation> tableMutation) {
-        if (tableMutation.getNumberOfOptimisticLockBindings() > 0) {
-            throw new FeatureNotSupportedException("TODO-HIBERNATE-51 https://jira.mongodb.org/browse/HIBERNATE-51");
+    private List<AstFieldUpdate> createFieldUpdates(List<ColumnValueBinding> valueBindings) {
+        var updates = new ArrayList<AstFieldUpdate>(valueBindings.size());
+        for (var valueBinding : valueBindings) {
+            var fieldName = valueBinding.getColumnReference().getColumnExpression();
+            var fieldValue = acceptAndYield(valueBinding.getValueExpression(), VALUE);
+            updates.add(new AstFieldUpdate(fieldName, fieldValue));
         }
+        return updates;
+    }
 
+    /**
+     * Creates the filter matching the document by its key and, if there are optimistic lock bindings, by the values
+     * of the optimistic lock fields read before the mutation. If the document has been concurrently modified, the
+     * mutation matches no documents, and Hibernate reports the zero update count as a
+     * {@link org.hibernate.StaleObjectStateException}.
+     */
+    private AstFilter createKeyFilter(AbstractRestrictedTableMutation<? extends MutationOperation> tableMutation) {
         if (tableMutation.getNumberOfKeyBindings() > 1) {
             throw new FeatureNotSupportedException(
                     format("%s does not support primary key spanning multiple columns", MONGO_DBMS_NAME));
         }
         assertTrue(tableMutation.getNumberOfKeyBindings() == 1);
-        var keyBinding = tableMutation.getKeyBindings().get(0);
+        var keyFilter = createFieldEqualityFilter(tableMutation.getKeyBindings().get(0));
+        if (tableMutation.getNumberOfOptimisticLockBindings() == 0) {
+            return keyFilter;
+        }
+        var filters = new ArrayList<AstFilter>(1 + tableMutation.getNumberOfOptimisticLockBindings());
+        filters.add(keyFilter);
+        for (var optimisticLockBinding : tableMutation.getOptimisticLockBindings()) {
+            filters.add(createFieldEqualityFilter(optimisticLockBinding));
+        }
+        return new AstLogicalFilter(AND, filters);
+    }
 
-        var astFilterFieldPath = keyBinding.getColumnReference().getColumnExpression();
-        var fieldValue = acceptAndYield(keyBinding.getValueExpression(), VALUE);
-        return new AstFieldOperationFilter(astFilterFieldPath, new AstComparisonFilterOperation(EQ, fieldValue));
+    private AstFieldOperationFilter createFieldEqualityFilter(ColumnValueBinding columnValueBinding) {
+        var fieldPath = columnValueBinding.getColumnReference().getColumnExpression();
+        var valueExpression = columnValueBinding.getValueExpression();
+        // an optimistic lock binding without a value expression restricts the column to `null`
+        var fieldValue =
+                valueExpression == null ? new AstLiteral(BsonNull.VALUE) : acceptAndYield(valueExpression, VALUE);
+        return new AstFieldOperationFilter(fieldPath, new AstComparisonFilterOperation(EQ, fieldValue));
     }
 
     @Override
@@ -372,43 +466,223 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
 
     @Override
     public void visitQuerySpec(QuerySpec querySpec) {
-        if (!querySpec.getGroupByClauseExpressions().isEmpty()) {
-            throw new FeatureNotSupportedException("GroupBy is not supported");
-        }
-
         var collection = acceptAndYield(querySpec.getFromClause(), COLLECTION_NAME);
+        var joinStages = createJoinStages(querySpec.getFromClause().getRoots().get(0));
 
-        var stages = new ArrayList<AstStage>();
-
-        createMatchStage(querySpec).ifPresent(stages::add);
-        createSortStage(querySpec).ifPresent(stages::add);
+        var stages = createFilterStages(getConjuncts(querySpec.getWhereClauseRestrictions()), joinStages);
 
+        // the stages following the `$group` stage reference the fields it outputs,
+        // which are known only after translating all the references to them
+        grouping = createGrouping(querySpec);
+        var havingStage = createHavingStage(querySpec);
+        var sortStage = createSortStage(querySpec);
+        var projectStage = createProjectStage(querySpec.getSelectClause());
         var skipLimitStagesAndJdbcParams =
                 assertNotNull(queryOptionsLimit).createSkipLimitStagesAndJdbcParams(querySpec);
+        if (grouping != null) {
+            // `MongoStatement` makes up for the peculiarities of `$count` only if it immediately precedes `$project`
+            var countStageAllowed = havingStage.isEmpty()
+                    && sortStage.isEmpty()
+                    && skipLimitStagesAndJdbcParams.stages().isEmpty();
+            stages.addAll(grouping.createGroupingStages(countStageAllowed));
+            grouping = null;
+        }
+        havingStage.ifPresent(stages::add);
+        sortStage.ifPresent(stages::add);
         stages.addAll(skipLimitStagesAndJdbcParams.stages());
 
-        stages.add(createProjectStage(querySpec.getSelectClause()));
+        stages.add(projectStage);
 
         astVisitorValueHolder.yield(
                 SELECT_RESULT,
                 new SelectMqlTranslator.Result(
-                        new AstAggregateCommand(collection, stages),
+                        createFindOrAggregateCommand(collection, stages),
                         parameterBinders,
                         affectedTableNames,
                         skipLimitStagesAndJdbcParams.offset(),
                         skipLimitStagesAndJdbcParams.limit()));
     }
 
-    private Optional<AstMatchStage> createMatchStage(QuerySpec querySpec) {
-        var whereClauseRestrictions = querySpec.getWhereClauseRestrictions();
-        if (whereClauseRestrictions != null && !whereClauseRestrictions.isEmpty()) {
-            var filter = acceptAndYield(whereClauseRestrictions, FILTER);
-            return Optional.of(new AstMatchStage(filter));
+    /**
+     * Creates a {@code find} command if the {@code stages} are {@code $match}, {@code $sort}, {@code $skip},
+     * {@code $limit}, each being optional, followed by {@code $project}, and an {@code aggregate} command otherwise.
+     * {@code find} has lower planning and execution overhead than {@code aggregate}, and an {@code _id} equality
+     * {@code find} may use the express path.
+     */
+    private static AstCommand createFindOrAggregateCommand(String collection, List<AstStage> stages) {
+        AstFilter filter = null;
+        Collection<? extends AstSortField> sortFields = List.of();
+        AstValue skip = null;
+        AstValue limit = null;
+        var previousStageOrder = -1;
+        var projectStageIndex = stages.size() - 1;
+        for (var i = 0; i < projectStageIndex; i++) {
+            var stage = stages.get(i);
+            int stageOrder;
+            if (stage instanceof AstMatchStage matchStage) {
+                stageOrder = 0;
+                filter = matchStage.filter();
+            } else if (stage instanceof AstSortStage sortStage) {
+                stageOrder = 1;
+                sortFields = sortStage.sortFields();
+            } else if (stage instanceof AstSkipStage skipStage) {
+                stageOrder = 2;
+                skip = skipStage.value();
+            } else if (stage instanceof AstLimitStage limitStage) {
+                stageOrder = 3;
+                limit = limitStage.value();
+            } else {
+                return new AstAggregateCommand(collection, stages);
+            }
+            if (stageOrder <= previousStageOrder) {
+                return new AstAggregateCommand(collection, stages);
+            }
+            previousStageOrder = stageOrder;
+        }
+        if (stages.get(projectStageIndex) instanceof AstProjectStage projectStage) {
+            return new AstFindCommand(collection, filter, sortFields, skip, limit, projectStage.specifications());
+        }
+        return new AstAggregateCommand(collection, stages);
+    }
+
+    /**
+     * Creates the {@code joinStages}, the {@link AstLookupStage}s of the subqueries referenced by the
+     * {@code conjuncts}, and the {@link AstMatchStage}s filtering by the {@code conjuncts}. The conjuncts referencing
+     * neither the joined documents nor the subqueries are filtered by before the lookups, which allows the filter to
+     * use the indexes, and reduces the number of lookups. The rest are filtered by after the lookups.
+     *
+     * <p>The {@link JdbcParameterBinder}s of the conjuncts and the subqueries are added to {@link #parameterBinders} in
+     * the order of the parameter markers in the created stages, which differs from the order of translation.
+     */
+    private List<AstStage> createFilterStages(List<Predicate> conjuncts, List<AstStage> joinStages) {
+        var outerSubQueryLookupStages = subQueryLookupStages;
+        var outerSubQueryLookupParameterBinders = subQueryLookupParameterBinders;
+        subQueryLookupStages = new ArrayList<>();
+        subQueryLookupParameterBinders = new ArrayList<>();
+        try {
+            var preLookupFilters = new ArrayList<AstFilter>(conjuncts.size());
+            var preLookupParameterBinders = new ArrayList<JdbcParameterBinder>();
+            var postLookupFilters = new ArrayList<AstFilter>(conjuncts.size());
+            var postLookupParameterBinders = new ArrayList<JdbcParameterBinder>();
+            for (var conjunct : conjuncts) {
+                joinedTableGroupReferenced = false;
+                var subQueryLookupStageCount = subQueryLookupStages.size();
+                var parameterBinderCount = parameterBinders.size();
+                var filter = acceptAndYield(conjunct, FILTER);
+                var conjunctParameterBinders = parameterBinders.subList(parameterBinderCount, parameterBinders.size());
+                if (joinedTableGroupReferenced || subQueryLookupStages.size() > subQueryLookupStageCount) {
+                    postLookupFilters.add(filter);
+                    postLookupParameterBinders.addAll(conjunctParameterBinders);
+                } else {
+                    preLookupFilters.add(filter);
+                    preLookupParameterBinders.addAll(conjunctParameterBinders);
+                }
+                conjunctParameterBinders.clear();
+            }
+            var stages = new ArrayList<AstStage>();
+            createMatchStage(preLookupFilters).ifPresent(stages::add);
+            parameterBinders.addAll(preLookupParameterBinders);
+            stages.addAll(joinStages);
+            stages.addAll(subQueryLookupStages);
+            parameterBinders.addAll(subQueryLookupParameterBinders);
+            createMatchStage(postLookupFilters).ifPresent(stages::add);
+            parameterBinders.addAll(postLookupParameterBinders);
+            return stages;
+        } finally {
+            subQueryLookupStages = outerSubQueryLookupStages;
+            subQueryLookupParameterBinders = outerSubQueryLookupParameterBinders;
+        }
+    }
+
+    private static Optional<AstMatchStage> createMatchStage(List<AstFilter> filters) {
+        if (filters.isEmpty()) {
+            return Optional.empty();
+        }
+        var filter = filters.size() == 1 ? filters.get(0) : new AstLogicalFilter(AND, filters);
+        return Optional.of(new AstMatchStage(AstFilterOptimizer.optimize(filter)));
+    }
+
+    private @Nullable Grouping createGrouping(QuerySpec querySpec) {
+        var selectClause = querySpec.getSelectClause();
+        var havingClauseRestrictions = querySpec.getHavingClauseRestrictions();
+        if (querySpec.getGroupByClauseExpressions().isEmpty()
+                && (havingClauseRestrictions == null || havingClauseRestrictions.isEmpty())
+                && selectClause.getSqlSelections().stream()
+                        .map(SqlSelection::getExpression)
+                        .noneMatch(AggregateFunctionExpression.class::isInstance)) {
+            return selectClause.isDistinct() ? createDistinctGrouping(selectClause) : null;
+        }
+        if (selectClause.isDistinct()) {
+            throw new FeatureNotSupportedException("Distinct together with grouping is not supported");
+        }
+        var newGrouping = new Grouping();
+        for (var groupByExpression : querySpec.getGroupByClauseExpressions()) {
+            var sqlTuple = SqlTupleContainer.getSqlTuple(groupByExpression);
+            var expressions = sqlTuple == null ? List.of(groupByExpression) : acceptAndYield(sqlTuple, TUPLE);
+            for (var expression : expressions) {
+                if (!isFieldPathExpression(expression)) {
+                    throw new FeatureNotSupportedException("Only field paths are supported in the group by clause");
+                }
+                newGrouping.addIdField(acceptAndYield(expression, FIELD_PATH));
+            }
+        }
+        return newGrouping;
+    }
+
+    /**
+     * Creates the grouping by all the selected fields, which makes the {@link AstGroupStage} de-duplicate the results
+     * of a {@code distinct} query on the server.
+     */
+    private Grouping createDistinctGrouping(SelectClause selectClause) {
+        var distinctGrouping = new Grouping();
+        for (var sqlSelection : selectClause.getSqlSelections()) {
+            if (sqlSelection.isVirtual()) {
+                continue;
+            }
+            var expression = sqlSelection.getExpression();
+            if (!isFieldPathExpression(expression)) {
+                throw new FeatureNotSupportedException(
+                        "Only field paths are supported in the select clause of a distinct query");
+            }
+            distinctGrouping.addIdField(acceptAndYield(expression, FIELD_PATH));
+        }
+        return distinctGrouping;
+    }
+
+    private Optional<AstMatchStage> createHavingStage(QuerySpec querySpec) {
+        var havingClauseRestrictions = querySpec.getHavingClauseRestrictions();
+        if (havingClauseRestrictions != null && !havingClauseRestrictions.isEmpty()) {
+            var filter = acceptAndYield(havingClauseRestrictions, FILTER);
+            return Optional.of(new AstMatchStage(AstFilterOptimizer.optimize(filter)));
         } else {
             return Optional.empty();
         }
     }
 
+    private List<AstStage> createJoinStages(TableGroup tableGroup) {
+        var joinStages = new ArrayList<AstStage>();
+        for (var tableGroupJoin : tableGroup.getTableGroupJoins()) {
+            addJoinStages(tableGroupJoin, joinStages);
+        }
+        for (var tableGroupJoin : tableGroup.getNestedTableGroupJoins()) {
+            addJoinStages(tableGroupJoin, joinStages);
+        }
+        return joinStages;
+    }
+
+    private void addJoinStages(TableGroupJoin tableGroupJoin, List<AstStage> joinStages) {
+        var joinedTableGroup = tableGroupJoin.getJoinedGroup();
+        if (!joinedTableGroup.isInitialized()) {
+            return;
+        }
+        if (joinedTableGroup.isVirtual()) {
+            // a virtual table group, for example, that of an embeddable, shares the table of its parent
+            joinStages.addAll(createJoinStages(joinedTableGroup));
+        } else {
+            joinStages.addAll(acceptAndYield(tableGroupJoin, STAGES));
+        }
+    }
+
     private Optional<AstSortStage> createSortStage(QuerySpec querySpec) {
         if (querySpec.hasSortSpecifications()) {
             var sortFields = new ArrayList<AstSortField>(
@@ -508,6 +782,32 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
 
     @Override
     public void visitRelationalPredicate(ComparisonPredicate comparisonPredicate) {
+        if (comparisonPredicate.getRightHandExpression() instanceof ModifiedSubQueryExpression modifiedSubQuery) {
+            var operator = comparisonPredicate.getOperator();
+            var isModifierAll = modifiedSubQuery.getModifier() == ModifiedSubQueryExpression.Modifier.ALL;
+            boolean negated;
+            if (operator == ComparisonOperator.EQUAL && !isModifierAll) {
+                negated = false;
+            } else if (operator == ComparisonOperator.NOT_EQUAL && isModifierAll) {
+                negated = true;
+            } else {
+                throw new FeatureNotSupportedException("Only '= any' and '<> all' subquery comparisons are supported");
+            }
+            var lookupField = createSubQueryLookupStage(
+                    modifiedSubQuery.getSubQuery(), comparisonPredicate.getLeftHandExpression());
+            astVisitorValueHolder.yield(FILTER, createSubQueryLookupFilter(lookupField, negated));
+            return;
+        }
+        var lhsTuple = SqlTupleContainer.getSqlTuple(comparisonPredicate.getLeftHandExpression());
+        var rhsTuple = SqlTupleContainer.getSqlTuple(comparisonPredicate.getRightHandExpression());
+        if (lhsTuple != null && rhsTuple != null) {
+            var filter = createTupleComparisonFilter(
+                    acceptAndYield(lhsTuple, TUPLE),
+                    comparisonPredicate.getOperator(),
+                    acceptAndYield(rhsTuple, TUPLE));
+            astVisitorValueHolder.yield(FILTER, filter);
+            return;
+        }
         if (!isComparingFieldWithValue(comparisonPredicate)) {
             throw new FeatureNotSupportedException(
                     "Only the following comparisons are supported: field vs literal, field vs parameter");
@@ -534,6 +834,57 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
         astVisitorValueHolder.yield(FILTER, filter);
     }
 
+    /**
+     * Expands a comparison of tuples into comparisons of their elements. For example, {@code (a, b) > (x, y)} is
+     * expanded into {@code a > x or (a = x and b > y)}, which allows keyset pagination to use an index on the sort keys
+     * instead of skipping all the documents before the page.
+     */
+    private AstFilter createTupleComparisonFilter(
+            List<Expression> lhsExpressions, ComparisonOperator operator, List<Expression> rhsExpressions) {
+        assertTrue(lhsExpressions.size() == rhsExpressions.size());
+        var size = lhsExpressions.size();
+        switch (operator) {
+            case EQUAL, NOT_EQUAL -> {
+                var filters = new ArrayList<AstFilter>(size);
+                for (var i = 0; i < size; i++) {
+                    filters.add(createTupleElementComparisonFilter(lhsExpressions, operator, rhsExpressions, i));
+                }
+                return createLogicalFilter(operator == ComparisonOperator.EQUAL ? AND : OR, filters);
+            }
+            case LESS_THAN, LESS_THAN_OR_EQUAL, GREATER_THAN, GREATER_THAN_OR_EQUAL -> {
+                var strictOperator =
+                        switch (operator) {
+                            case LESS_THAN_OR_EQUAL -> ComparisonOperator.LESS_THAN;
+                            case GREATER_THAN_OR_EQUAL -> ComparisonOperator.GREATER_THAN;
+                            default -> operator;
+                        };
+                var disjuncts = new ArrayList<AstFilter>(size);
+                for (var i = 0; i < size; i++) {
+                    var conjuncts = new ArrayList<AstFilter>(i + 1);
+                    for (var j = 0; j < i; j++) {
+                        conjuncts.add(createTupleElementComparisonFilter(
+                                lhsExpressions, ComparisonOperator.EQUAL, rhsExpressions, j));
+                    }
+                    conjuncts.add(createTupleElementComparisonFilter(
+                            lhsExpressions, i == size - 1 ? operator : strictOperator, rhsExpressions, i));
+                    disjuncts.add(createLogicalFilter(AND, conjuncts));
+                }
+                return createLogicalFilter(OR, disjuncts);
+            }
+            default -> throw new FeatureNotSupportedException("Unsupported comparison operator: " + operator.name());
+        }
+    }
+
+    private AstFilter createTupleElementComparisonFilter(
+            List<Expression> lhsExpressions, ComparisonOperator operator, List<Expression> rhsExpressions, int index) {
+        return acceptAndYield(
+                new ComparisonPredicate(lhsExpressions.get(index), operator, rhsExpressions.get(index)), FILTER);
+    }
+
+    private static AstFilter createLogicalFilter(AstLogicalFilterOperator operator, List<AstFilter> filters) {
+        return filters.size() == 1 ? filters.get(0) : new AstLogicalFilter(operator, filters);
+    }
+
     @Override
     public void visitNegatedPredicate(NegatedPredicate negatedPredicate) {
         var filter = acceptAndYield(negatedPredicate.getPredicate(), FILTER);
@@ -548,22 +899,27 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
 
     @Override
     public void visitSelectClause(SelectClause selectClause) {
-        if (selectClause.isDistinct()) {
-            throw new FeatureNotSupportedException();
-        }
         var projectStageSpecifications = new ArrayList<AstProjectStageSpecification>(
-                selectClause.getSqlSelections().size());
+                selectClause.getSqlSelections().size() + 1);
 
+        var idFieldSelected = false;
         for (var sqlSelection : selectClause.getSqlSelections()) {
             if (sqlSelection.isVirtual()) {
                 continue;
             }
-            if (!(sqlSelection.getExpression() instanceof ColumnReference columnReference)) {
+            var expression = sqlSelection.getExpression();
+            if (!(expression instanceof ColumnReference || expression instanceof AggregateFunctionExpression)) {
                 throw new FeatureNotSupportedException();
             }
-            var field = acceptAndYield(columnReference, FIELD_PATH);
+            var field = acceptAndYield(expression, FIELD_PATH);
+            idFieldSelected |= field.equals(ID_FIELD_NAME) || field.startsWith(ID_FIELD_NAME + '.');
             projectStageSpecifications.add(new AstProjectStageIncludeSpecification(field));
         }
+        if (!idFieldSelected) {
+            // MongoDB includes the field unless it is explicitly excluded, which prevents the query from being covered
+            // by an index that does not contain the field
+            projectStageSpecifications.add(new AstProjectStageExcludeSpecification(ID_FIELD_NAME));
+        }
         astVisitorValueHolder.yield(PROJECT_STAGE_SPECIFICATIONS, projectStageSpecifications);
     }
 
@@ -572,7 +928,23 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
         if (columnReference.isColumnExpressionFormula()) {
             throw new FeatureNotSupportedException("Formula is not supported");
         }
-        astVisitorValueHolder.yield(FIELD_PATH, columnReference.getColumnExpression());
+        var fieldPath = MongoAggregateSupport.getFieldPath(columnReference.getColumnExpression());
+        var qualifier = columnReference.getQualifier();
+        if (subQueryIdentificationVariable != null
+                && qualifier != null
+                && !qualifier.equals(subQueryIdentificationVariable)) {
+            throw new FeatureNotSupportedException(
+                    "A subquery may reference its outer query only in an equality of columns in its where clause");
+        }
+        var joinedTableGroupFieldPath = qualifier == null ? null : joinedTableGroupFieldPaths.get(qualifier);
+        if (joinedTableGroupFieldPath != null) {
+            joinedTableGroupReferenced = true;
+            fieldPath = joinedTableGroupFieldPath + '.' + fieldPath;
+        }
+        if (grouping != null) {
+            fieldPath = grouping.getIdFieldPath(fieldPath);
+        }
+        astVisitorValueHolder.yield(FIELD_PATH, fieldPath);
     }
 
     @Override
@@ -692,24 +1064,130 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
         var filter = createAstFilter(updateStatement);
 
         var assignments = updateStatement.getAssignments();
-        var fieldUpdates = new ArrayList<AstFieldUpdate>(assignments.size());
+        var fieldPaths = new ArrayList<String>(assignments.size());
+        var fieldUpdateOperations = new ArrayList<FieldUpdateOperation>(assignments.size());
         for (var assignment : assignments) {
-            var fieldReferences = assignment.getAssignable().getColumnReferences();
+            var assignable = assignment.getAssignable();
+            var fieldReferences = assignable.getColumnReferences();
             assertTrue(fieldReferences.size() == 1);
 
             var fieldPath = acceptAndYield(fieldReferences.get(0), FIELD_PATH);
             var assignedValue = assignment.getAssignedValue();
-            if (!isValueExpression(assignedValue)) {
+            var fieldUpdateOperation = createFieldUpdateOperation(fieldPath, isNotNullable(assignable), assignedValue);
+            if (fieldUpdateOperation == null && !(assignedValue instanceof BinaryArithmeticExpression)) {
                 throw new FeatureNotSupportedException(
                         getUnsupportedUpdateValueAssignmentMessage(fieldPath, assignedValue));
             }
-            var fieldValue = acceptAndYield(assignedValue, VALUE);
-            fieldUpdates.add(new AstFieldUpdate(fieldPath, fieldValue));
+            fieldPaths.add(fieldPath);
+            if (fieldUpdateOperation != null) {
+                fieldUpdateOperations.add(fieldUpdateOperation);
+            }
+        }
+
+        var fieldUpdates = new ArrayList<AstFieldUpdate>(assignments.size());
+        AstCommand updateCommand;
+        if (fieldUpdateOperations.size() == assignments.size()) {
+            // `AstUpdateCommand` renders the field updates grouped by operator,
+            // and the parameter binders must be added in the order in which the parameter markers are rendered
+            for (var operator : AstFieldUpdateOperator.values()) {
+                for (var i = 0; i < fieldUpdateOperations.size(); i++) {
+                    var fieldUpdateOperation = fieldUpdateOperations.get(i);
+                    if (fieldUpdateOperation.operator() == operator) {
+                        var fieldValue = acceptAndYield(fieldUpdateOperation.operand(), VALUE);
+                        fieldUpdates.add(new AstFieldUpdate(fieldPaths.get(i), fieldValue, operator));
+                    }
+                }
+            }
+            updateCommand = new AstUpdateCommand(collection, filter, fieldUpdates);
+        } else {
+            for (var i = 0; i < assignments.size(); i++) {
+                var fieldPath = fieldPaths.get(i);
+                var fieldValue = createUpdatePipelineExpression(fieldPath, assignments.get(i).getAssignedValue());
+                fieldUpdates.add(new AstFieldUpdate(fieldPath, fieldValue));
+            }
+            updateCommand = new AstPipelineUpdateCommand(collection, filter, fieldUpdates);
         }
         astVisitorValueHolder.yield(
                 MUTATION_RESULT,
-                new MutationMqlTranslator.Result(
-                        new AstUpdateCommand(collection, filter, fieldUpdates), parameterBinders, affectedTableNames));
+                new MutationMqlTranslator.Result(updateCommand, parameterBinders, affectedTableNames));
+    }
+
+    /**
+     * Returns the operation that assigns {@code assignedValue} to the field at {@code fieldPath} without reading the
+     * field on the client side, or {@code null} if the assignment needs an aggregation pipeline update.
+     * {@code f = f + v} and {@code f = f * v} are translated into {@code $inc} and {@code $mul}, which are applied
+     * atomically by the server, only if {@code f} is not nullable: unlike SQL arithmetic, which yields {@code null}
+     * if an operand is {@code null}, {@code $inc} and {@code $mul} fail on a field holding {@code null}. A {@code null}
+     * {@code v} makes them fail too, as assigning {@code null} to a not nullable {@code f} would in SQL.
+     */
+    private @Nullable FieldUpdateOperation createFieldUpdateOperation(
+            String fieldPath, boolean fieldNotNullable, Expression assignedValue) {
+        if (isValueExpression(assignedValue)) {
+            return new FieldUpdateOperation(AstFieldUpdateOperator.SET, assignedValue);
+        }
+        if (!fieldNotNullable || !(assignedValue instanceof BinaryArithmeticExpression arithmeticExpression)) {
+            return null;
+        }
+        AstFieldUpdateOperator operator;
+        switch (arithmeticExpression.getOperator()) {
+            case ADD -> operator = AstFieldUpdateOperator.INC;
+            case MULTIPLY -> operator = AstFieldUpdateOperator.MUL;
+            default -> {
+                return null;
+            }
+        }
+        var lhs = arithmeticExpression.getLeftHandOperand();
+        var rhs = arithmeticExpression.getRightHandOperand();
+        if (isValueExpression(rhs) && isFieldPathExpression(lhs, fieldPath)) {
+            return new FieldUpdateOperation(operator, rhs);
+        } else if (isValueExpression(lhs) && isFieldPathExpression(rhs, fieldPath)) {
+            return new FieldUpdateOperation(operator, lhs);
+        } else {
+            return null;
+        }
+    }
+
+    private static boolean isNotNullable(Assignable assignable) {
+        return assignable instanceof Expression expression
+                && expression.getExpressionType() instanceof SelectableMapping selectableMapping
+                && !selectableMapping.isNullable();
+    }
+
+    private boolean isFieldPathExpression(Expression expression, String fieldPath) {
+        return isFieldPathExpression(expression) && acceptAndYield(expression, FIELD_PATH).equals(fieldPath);
+    }
+
+    /**
+     * Creates the aggregation expression computing the value assigned to the field at {@code fieldPath} in a
+     * {@code $set} stage of an aggregation pipeline update.
+     */
+    private AstValue createUpdatePipelineExpression(String fieldPath, Expression expression) {
+        if (isValueExpression(expression)) {
+            // prevents a string starting with `$` from being interpreted as a field path
+            return new AstDocument(List.of(new AstElement("$literal", acceptAndYield(expression, VALUE))));
+        } else if (isFieldPathExpression(expression)) {
+            return new AstFieldPathExpression(acceptAndYield(expression, FIELD_PATH));
+        } else if (expression instanceof BinaryArithmeticExpression arithmeticExpression) {
+            var operator = arithmeticExpression.getOperator();
+            String operatorName;
+            switch (operator) {
+                case ADD -> operatorName = "$add";
+                case SUBTRACT -> operatorName = "$subtract";
+                case MULTIPLY -> operatorName = "$multiply";
+                case MODULO -> operatorName = "$mod";
+                default ->
+                    throw new FeatureNotSupportedException(
+                            "Arithmetic operator [%s] in update assignment value for field path [%s] is not supported"
+                                    .formatted(operator.getOperatorSqlTextString(), fieldPath));
+            }
+            return new AstDocument(List.of(new AstElement(
+                    operatorName,
+                    new AstArray(List.of(
+                            createUpdatePipelineExpression(fieldPath, arithmeticExpression.getLeftHandOperand()),
+                            createUpdatePipelineExpression(fieldPath, arithmeticExpression.getRightHandOperand()))))));
+        } else {
+            throw new FeatureNotSupportedException(getUnsupportedUpdateValueAssignmentMessage(fieldPath, expression));
+        }
     }
 
     private String addToAffectedTableNames(NamedTableReference tableRef) {
@@ -720,7 +1198,14 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
 
     private AstFilter createAstFilter(final AbstractUpdateOrDeleteStatement updateOrDeleteStatement) {
         var restriction = updateOrDeleteStatement.getRestriction();
-        return restriction == null ? AstEmptyFilter.INSTANCE : acceptAndYield(restriction, FILTER);
+        if (restriction == null) {
+            return AstEmptyFilter.INSTANCE;
+        }
+        var filter = acceptAndYield(restriction, FILTER);
+        if (!subQueryLookupStages.isEmpty()) {
+            throw new FeatureNotSupportedException("Subquery in a mutation statement is not supported");
+        }
+        return AstFilterOptimizer.optimize(filter);
     }
 
     @Override
@@ -791,7 +1276,66 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
 
     @Override
     public void visitTableGroupJoin(TableGroupJoin tableGroupJoin) {
-        throw new FeatureNotSupportedException();
+        var preserveNullAndEmptyArrays =
+                switch (tableGroupJoin.getJoinType()) {
+                    case INNER -> false;
+                    case LEFT -> true;
+                    default ->
+                        throw new FeatureNotSupportedException(format(
+                                "%s does not support '%s' join type", MONGO_DBMS_NAME, tableGroupJoin.getJoinType()));
+                };
+        var joinedTableGroup = tableGroupJoin.getJoinedGroup();
+        if (!joinedTableGroup.getTableReferenceJoins().isEmpty()
+                || !(joinedTableGroup.getPrimaryTableReference() instanceof NamedTableReference joinedTableReference)) {
+            throw new FeatureNotSupportedException("Only single table joins are supported");
+        }
+        var joinedCollection = addToAffectedTableNames(joinedTableReference);
+        var joinedIdentificationVariable = joinedTableReference.getIdentificationVariable();
+
+        var joinColumnReferences = getJoinColumnReferences(tableGroupJoin.getPredicate());
+        ColumnReference localColumnReference;
+        ColumnReference foreignColumnReference;
+        if (joinedIdentificationVariable.equals(joinColumnReferences.get(1).getQualifier())) {
+            localColumnReference = joinColumnReferences.get(0);
+            foreignColumnReference = joinColumnReferences.get(1);
+        } else if (joinedIdentificationVariable.equals(
+                joinColumnReferences.get(0).getQualifier())) {
+            localColumnReference = joinColumnReferences.get(1);
+            foreignColumnReference = joinColumnReferences.get(0);
+        } else {
+            throw new FeatureNotSupportedException("Join predicate must reference the joined table");
+        }
+        var localField = acceptAndYield(localColumnReference, FIELD_PATH);
+        if (foreignColumnReference.isColumnExpressionFormula()) {
+            throw new FeatureNotSupportedException("Formula is not supported");
+        }
+        var foreignField = foreignColumnReference.getColumnExpression();
+
+        // The joined documents are looked up into a top-level field named after the identification variable,
+        // which is unique within a query, and is not a valid field name of a mapped entity.
+        var joinedFieldPath = joinedIdentificationVariable;
+        var joinStages = new ArrayList<AstStage>();
+        joinStages.add(new AstLookupStage(joinedCollection, localField, foreignField, List.of(), joinedFieldPath));
+        // The result of a join is read by Hibernate ORM row by row, regardless of the association cardinality.
+        joinStages.add(new AstUnwindStage(joinedFieldPath, preserveNullAndEmptyArrays));
+        joinedTableGroupFieldPaths.put(joinedIdentificationVariable, joinedFieldPath);
+        joinStages.addAll(createJoinStages(joinedTableGroup));
+        astVisitorValueHolder.yield(STAGES, joinStages);
+    }
+
+    private static List<ColumnReference> getJoinColumnReferences(@Nullable Predicate joinPredicate) {
+        if (joinPredicate instanceof Junction junction
+                && junction.getNature() == Junction.Nature.CONJUNCTION
+                && junction.getPredicates().size() == 1) {
+            joinPredicate = junction.getPredicates().get(0);
+        }
+        if (joinPredicate instanceof ComparisonPredicate comparisonPredicate
+                && comparisonPredicate.getOperator() == ComparisonOperator.EQUAL
+                && comparisonPredicate.getLeftHandExpression() instanceof ColumnReference lhs
+                && comparisonPredicate.getRightHandExpression() instanceof ColumnReference rhs) {
+            return List.of(lhs, rhs);
+        }
+        throw new FeatureNotSupportedException("Only joins on the equality of two single-column keys are supported");
     }
 
     @Override
@@ -896,12 +1440,146 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
 
     @Override
     public void visitSelfRenderingExpression(SelfRenderingExpression selfRenderingExpression) {
+        if (selfRenderingExpression instanceof AggregateFunctionExpression aggregateFunctionExpression) {
+            astVisitorValueHolder.yield(FIELD_PATH, createAccumulatorFieldPath(aggregateFunctionExpression));
+            return;
+        }
         if (!(selfRenderingExpression instanceof SelfRenderingFunctionSqlAstExpression)) {
             throw new FeatureNotSupportedException("Only function expressions are supported");
         }
         selfRenderingExpression.renderToSql(FeatureNotSupportedSqlAppender.INSTANCE, this, sessionFactory);
     }
 
+    private String createAccumulatorFieldPath(AggregateFunctionExpression aggregateFunctionExpression) {
+        var functionName = aggregateFunctionExpression.getFunctionName();
+        var outerGrouping = grouping;
+        if (outerGrouping == null) {
+            throw new FeatureNotSupportedException(format(
+                    "Aggregate function [%s] is supported only in the select, having and order by clauses",
+                    functionName));
+        }
+        if (aggregateFunctionExpression.getFilter() != null) {
+            throw new FeatureNotSupportedException(
+                    format("Filter clause of aggregate function [%s] is not supported", functionName));
+        }
+        if (aggregateFunctionExpression instanceof OrderedSetAggregateFunctionExpression orderedSetAggregate
+                && !orderedSetAggregate.getWithinGroup().isEmpty()) {
+            throw new FeatureNotSupportedException(
+                    format("Within group clause of aggregate function [%s] is not supported", functionName));
+        }
+        var operator =
+                switch (functionName) {
+                    case "count", "sum" -> SUM;
+                    case "avg" -> AVG;
+                    case "min" -> MIN;
+                    case "max" -> MAX;
+                    case "array_agg" -> PUSH;
+                    default -> throw new FeatureNotSupportedException(
+                            format("Aggregate function [%s] is not supported", functionName));
+                };
+        // the argument references the fields of the documents input to the `$group` stage
+        grouping = null;
+        try {
+            var expression =
+                    switch (functionName) {
+                        case "count" -> createCountExpression(aggregateFunctionExpression);
+                        case "sum", "avg" -> createConvertedAccumulatorArgument(aggregateFunctionExpression);
+                        default -> createAccumulatorArgument(aggregateFunctionExpression);
+                    };
+            // SQL aggregate functions other than `count` result in `null` if there are no rows
+            var emptyInputValue = functionName.equals("count") ? new BsonInt64(0) : BsonNull.VALUE;
+            return outerGrouping.getAccumulatorFieldPath(operator, expression, emptyInputValue);
+        } finally {
+            grouping = outerGrouping;
+        }
+    }
+
+    /**
+     * Creates the expression which, when summed up, counts the documents in a group for which the argument of
+     * {@code count} is not {@code null}.
+     */
+    private AstValue createCountExpression(AggregateFunctionExpression countFunctionExpression) {
+        var arguments = countFunctionExpression.getArguments();
+        if (arguments.size() == 1 && arguments.get(0) instanceof Star) {
+            return COUNT_ONE;
+        }
+        var fieldPath = getAccumulatorArgumentFieldPath(countFunctionExpression);
+        if (fieldPath.equals(ID_FIELD_NAME)) {
+            // every document has this field, and it is never `null`
+            return COUNT_ONE;
+        }
+        return new AstDocument(List.of(new AstElement(
+                "$cond",
+                new AstArray(List.of(
+                        new AstDocument(List.of(new AstElement(
+                                "$gt",
+                                new AstArray(List.of(
+                                        new AstFieldPathExpression(fieldPath), new AstLiteral(BsonNull.VALUE)))))),
+                        COUNT_ONE,
+                        new AstLiteral(new BsonInt64(0)))))));
+    }
+
+    private AstValue createAccumulatorArgument(AggregateFunctionExpression aggregateFunctionExpression) {
+        return new AstFieldPathExpression(getAccumulatorArgumentFieldPath(aggregateFunctionExpression));
+    }
+
+    /**
+     * Creates the argument of an accumulator whose result, unlike that of {@code $min}/{@code $max}, may be of a BSON
+     * type different from that of the argument, for example, {@code $sum} of {@code int32} values may result in
+     * {@code int32}, while Hibernate ORM expects the corresponding SQL aggregate function to result in {@code BIGINT}.
+     * Converting the argument to the expected type makes the accumulator result in the expected BSON type.
+     */
+    private AstValue createConvertedAccumulatorArgument(AggregateFunctionExpression aggregateFunctionExpression) {
+        var argument = createAccumulatorArgument(aggregateFunctionExpression);
+        var argumentSqlTypeCode = getSqlTypeCode(getAccumulatorArgument(aggregateFunctionExpression));
+        var resultSqlTypeCode = getSqlTypeCode(aggregateFunctionExpression);
+        if (argumentSqlTypeCode == resultSqlTypeCode) {
+            return argument;
+        }
+        var conversionOperatorName =
+                switch (resultSqlTypeCode) {
+                    case SqlTypes.INTEGER -> "$toInt";
+                    case SqlTypes.BIGINT -> "$toLong";
+                    case SqlTypes.DOUBLE -> "$toDouble";
+                    case SqlTypes.NUMERIC, SqlTypes.DECIMAL -> "$toDecimal";
+                    default -> throw new FeatureNotSupportedException(format(
+                            "Aggregate function [%s] resulting in SQL type code [%d] is not supported",
+                            aggregateFunctionExpression.getFunctionName(), resultSqlTypeCode));
+                };
+        return new AstDocument(List.of(new AstElement(conversionOperatorName, argument)));
+    }
+
+    private String getAccumulatorArgumentFieldPath(AggregateFunctionExpression aggregateFunctionExpression) {
+        return acceptAndYield(getAccumulatorArgument(aggregateFunctionExpression), FIELD_PATH);
+    }
+
+    private static Expression getAccumulatorArgument(AggregateFunctionExpression aggregateFunctionExpression) {
+        var arguments = aggregateFunctionExpression.getArguments();
+        if (arguments.size() == 1 && arguments.get(0) instanceof Expression argument) {
+            if (argument instanceof SqmPathInterpretation<?> pathInterpretation) {
+                // for example, an entity-valued path whose SQL expression is its identifier column
+                argument = pathInterpretation.getSqlExpression();
+            }
+            var sqlTuple = SqlTupleContainer.getSqlTuple(argument);
+            if (sqlTuple != null && sqlTuple.getExpressions().size() == 1) {
+                argument = sqlTuple.getExpressions().get(0);
+            }
+            if (isFieldPathExpression(argument) && !(argument instanceof AggregateFunctionExpression)) {
+                return argument;
+            }
+        }
+        throw new FeatureNotSupportedException(format(
+                "Only a single field path is supported as the argument of aggregate function [%s]",
+                aggregateFunctionExpression.getFunctionName()));
+    }
+
+    private static int getSqlTypeCode(Expression expression) {
+        return assertNotNull(expression.getExpressionType())
+                .getSingleJdbcMapping()
+                .getJdbcType()
+                .getDefaultSqlTypeCode();
+    }
+
     @Override
     public void visitEntityTypeLiteral(EntityTypeLiteral entityTypeLiteral) {
         throw new FeatureNotSupportedException();
@@ -959,7 +1637,10 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
 
     @Override
     public void visitInSubQueryPredicate(InSubQueryPredicate inSubQueryPredicate) {
-        throw new FeatureNotSupportedException();
+        var lookupField =
+                createSubQueryLookupStage(inSubQueryPredicate.getSubQuery(), inSubQueryPredicate.getTestExpression());
+        astVisitorValueHolder.yield(
+                FILTER, createSubQueryLookupFilter(lookupField, inSubQueryPredicate.isNegated()));
     }
 
     @Override
@@ -969,12 +1650,185 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
 
     @Override
     public void visitExistsPredicate(ExistsPredicate existsPredicate) {
-        throw new FeatureNotSupportedException();
+        var lookupField = createSubQueryLookupStage(existsPredicate.getExpression(), null);
+        astVisitorValueHolder.yield(FILTER, createSubQueryLookupFilter(lookupField, existsPredicate.isNegated()));
+    }
+
+    /**
+     * Creates an {@link AstLookupStage} that looks up at most one document of the {@code subQuery} for each document of
+     * the outer query, and adds it to {@link #subQueryLookupStages}. The {@code subQuery} may be correlated with the
+     * outer query either via the {@code testExpression}, or via a single equality of columns in its where clause, which
+     * become the {@code localField}/{@code foreignField} of the {@link AstLookupStage}.
+     *
+     * @return The path of the field the {@code subQuery} documents are looked up into.
+     */
+    private String createSubQueryLookupStage(SelectStatement subQuery, @Nullable Expression testExpression) {
+        if (grouping != null) {
+            throw new FeatureNotSupportedException("Subquery in the having clause is not supported");
+        }
+        checkCteContainerSupportability(subQuery);
+        if (!(subQuery.getQueryPart() instanceof QuerySpec querySpec)) {
+            throw new FeatureNotSupportedException("Only subqueries without set operators are supported");
+        }
+        checkSubQuerySupportability(querySpec);
+        var root = querySpec.getFromClause().getRoots().get(0);
+        if (!(root.getPrimaryTableReference() instanceof NamedTableReference tableReference)) {
+            throw new FeatureNotSupportedException("Only single table subqueries are supported");
+        }
+        var collection = addToAffectedTableNames(tableReference);
+        var identificationVariable = tableReference.getIdentificationVariable();
+
+        String localField = null;
+        String foreignField = null;
+        if (testExpression != null) {
+            if (!isFieldPathExpression(testExpression)) {
+                throw new FeatureNotSupportedException("Only field path is supported as subquery predicate operand");
+            }
+            localField = acceptAndYield(testExpression, FIELD_PATH);
+            foreignField = getSubQuerySelectedField(querySpec, identificationVariable);
+        }
+        var filterPredicates = new ArrayList<Predicate>();
+        for (var predicate : getConjuncts(querySpec.getWhereClauseRestrictions())) {
+            var correlationColumnReferences = getCorrelationColumnReferences(predicate, identificationVariable);
+            if (correlationColumnReferences == null) {
+                filterPredicates.add(predicate);
+            } else if (localField != null) {
+                throw new FeatureNotSupportedException(
+                        "Subquery correlated with its outer query by more than one equality is not supported");
+            } else {
+                localField = acceptAndYield(correlationColumnReferences.get(0), FIELD_PATH);
+                foreignField = correlationColumnReferences.get(1).getColumnExpression();
+            }
+        }
+        var parameterBinderCount = parameterBinders.size();
+        var pipeline = createSubQueryPipeline(identificationVariable, filterPredicates);
+        var pipelineParameterBinders = parameterBinders.subList(parameterBinderCount, parameterBinders.size());
+        subQueryLookupParameterBinders.addAll(pipelineParameterBinders);
+        pipelineParameterBinders.clear();
+        // The subquery documents are looked up into a top-level field named after the identification variable,
+        // which is unique within a query, and is not a valid field name of a mapped entity.
+        subQueryLookupStages.add(
+                new AstLookupStage(collection, localField, foreignField, pipeline, identificationVariable));
+        return identificationVariable;
+    }
+
+    private List<AstStage> createSubQueryPipeline(String identificationVariable, List<Predicate> filterPredicates) {
+        var outerSubQueryIdentificationVariable = subQueryIdentificationVariable;
+        subQueryIdentificationVariable = identificationVariable;
+        try {
+            var pipeline = createFilterStages(filterPredicates, List.of());
+            // only the existence of a matching document matters
+            pipeline.add(new AstProjectStage(List.of(new AstProjectStageIncludeSpecification(ID_FIELD_NAME))));
+            pipeline.add(new AstLimitStage(new AstLiteral(new BsonInt32(1))));
+            return pipeline;
+        } finally {
+            subQueryIdentificationVariable = outerSubQueryIdentificationVariable;
+        }
+    }
+
+    private static AstFilter createSubQueryLookupFilter(String lookupField, boolean negated) {
+        return new AstFieldOperationFilter(
+                lookupField, new AstComparisonFilterOperation(negated ? EQ : NE, new AstLiteral(new BsonArray())));
+    }
+
+    private static String getSubQuerySelectedField(QuerySpec querySpec, String identificationVariable) {
+        var sqlSelections = querySpec.getSelectClause().getSqlSelections().stream()
+                .filter(sqlSelection -> !sqlSelection.isVirtual())
+                .toList();
+        if (sqlSelections.size() != 1
+                || !(sqlSelections.get(0).getExpression() instanceof ColumnReference columnReference)
+                || columnReference.isColumnExpressionFormula()
+                || !identificationVariable.equals(columnReference.getQualifier())) {
+            throw new FeatureNotSupportedException("Only subqueries selecting a single field are supported");
+        }
+        return columnReference.getColumnExpression();
+    }
+
+    /**
+     * @return The column references of the outer query and of the subquery, respectively, if the {@code predicate} is
+     *     an equality of them, otherwise {@code null}.
+     */
+    private static @Nullable List<ColumnReference> getCorrelationColumnReferences(
+            Predicate predicate, String identificationVariable) {
+        if (predicate instanceof ComparisonPredicate comparisonPredicate
+                && comparisonPredicate.getOperator() == ComparisonOperator.EQUAL
+                && comparisonPredicate.getLeftHandExpression() instanceof ColumnReference lhs
+                && comparisonPredicate.getRightHandExpression() instanceof ColumnReference rhs
+                && !lhs.isColumnExpressionFormula()
+                && !rhs.isColumnExpressionFormula()) {
+            var isLhsInner = identificationVariable.equals(lhs.getQualifier());
+            var isRhsInner = identificationVariable.equals(rhs.getQualifier());
+            if (isLhsInner && !isRhsInner) {
+                return List.of(rhs, lhs);
+            } else if (isRhsInner && !isLhsInner) {
+                return List.of(lhs, rhs);
+            }
+        }
+        return null;
+    }
+
+    private static List<Predicate> getConjuncts(@Nullable Predicate predicate) {
+        if (predicate == null || predicate.isEmpty()) {
+            return List.of();
+        } else if (predicate instanceof Junction junction && junction.getNature() == Junction.Nature.CONJUNCTION) {
+            var conjuncts = new ArrayList<Predicate>(junction.getPredicates().size());
+            for (var subPredicate : junction.getPredicates()) {
+                conjuncts.addAll(getConjuncts(subPredicate));
+            }
+            return conjuncts;
+        } else {
+            return List.of(predicate);
+        }
     }
 
     @Override
     public void visitLikePredicate(LikePredicate likePredicate) {
-        throw new FeatureNotSupportedException();
+        var matchExpression = likePredicate.getMatchExpression();
+        if (!isFieldPathExpression(matchExpression)) {
+            throw new FeatureNotSupportedException("Only a field path is supported as the match expression of LIKE");
+        }
+        var fieldPath = acceptAndYield(matchExpression, FIELD_PATH);
+        var escapeCharacter = getLikeEscapeCharacter(likePredicate.getEscapeCharacter());
+        var pattern = likePredicate.getPattern();
+        AstValue regex;
+        if (pattern instanceof Literal literal && literal.getLiteralValue() instanceof String likePattern) {
+            regex = new AstLiteral(new BsonString(LikePatterns.toRegex(likePattern, escapeCharacter)));
+        } else {
+            var patternParameter = pattern instanceof SqmParameterInterpretation parameterInterpretation
+                    ? parameterInterpretation.getResolvedExpression()
+                    : pattern;
+            if (!(patternParameter instanceof JdbcParameter jdbcParameter)) {
+                throw new FeatureNotSupportedException(
+                        "Only a string literal or a parameter is supported as the pattern of LIKE");
+            }
+            // the pattern is converted when binding, as the translation is reused for different parameter values
+            parameterBinders.add(
+                    new LikePatternParameterBinder(jdbcParameter, escapeCharacter, likePredicate.isNegated()));
+            regex = AstParameterMarker.INSTANCE;
+        }
+        // `$regex` ignores the collation, which is why `ilike` uses the `i` option instead,
+        // despite it preventing MongoDB from using an index range scan
+        var regexOptions = likePredicate.isCaseSensitive() ? null : "i";
+        AstFilter filter = new AstFieldOperationFilter(fieldPath, new AstRegexFilterOperation(regex, regexOptions));
+        if (likePredicate.isNegated()) {
+            filter = new AstLogicalFilter(NOR, List.of(filter));
+        }
+        astVisitorValueHolder.yield(FILTER, filter);
+    }
+
+    private static @Nullable Character getLikeEscapeCharacter(@Nullable Expression escapeCharacterExpression) {
+        if (escapeCharacterExpression == null) {
+            return null;
+        }
+        if (escapeCharacterExpression instanceof Literal literal) {
+            var value = literal.getLiteralValue();
+            if (value instanceof Character character) {
+                return character;
+            } else if (value instanceof String string && string.length() == 1) {
+                return string.charAt(0);
+            }
+        }
+        throw new FeatureNotSupportedException("Only a character literal is supported as the escape character of LIKE");
     }
 
     @Override
@@ -1018,9 +1872,21 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
         throw new FeatureNotSupportedException();
     }
 
+    /**
+     * Translates the update of a row which is inserted if it does not exist into a single upsert, instead of the
+     * update followed by an insert that {@link org.hibernate.sql.model.jdbc.OptionalTableUpdateOperation} executes.
+     * Unlike that operation, the upsert does not delete the document when all the values are {@code null}.
+     */
     @Override
     public void visitOptionalTableUpdate(OptionalTableUpdate optionalTableUpdate) {
-        throw new FeatureNotSupportedException();
+        var keyFilter = createKeyFilter(optionalTableUpdate);
+        var updates = createFieldUpdates(optionalTableUpdate.getValueBindings());
+        astVisitorValueHolder.yield(
+                MODEL_MUTATION_RESULT,
+                ModelMutationMqlTranslator.Result.create(
+                        new AstUpdateCommand(
+                                optionalTableUpdate.getMutatingTable().getTableName(), keyFilter, updates, true),
+                        parameterBinders));
     }
 
     @Override
@@ -1049,19 +1915,12 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
         if (Boolean.TRUE.equals(queryOptions.isReadOnly())) {
             throw new FeatureNotSupportedException("'readOnly' in QueryOptions is not supported");
         }
-        if (queryOptions.getAppliedGraph() != null
-                && queryOptions.getAppliedGraph().getGraph() != null) {
-            throw new FeatureNotSupportedException("'appliedGraph' in QueryOptions is not supported");
-        }
         if (queryOptions.getTupleTransformer() != null) {
             throw new FeatureNotSupportedException("'tupleTransformer' in QueryOptions is not supported");
         }
         if (queryOptions.getResultListTransformer() != null) {
             throw new FeatureNotSupportedException("'resultListTransformer' in QueryOptions is not supported");
         }
-        if (Boolean.TRUE.equals(queryOptions.isResultCachingEnabled())) {
-            throw new FeatureNotSupportedException("'resultCaching' in QueryOptions is not supported");
-        }
         if (queryOptions.getDisabledFetchProfiles() != null
                 && !queryOptions.getDisabledFetchProfiles().isEmpty()) {
             throw new FeatureNotSupportedException("'disabledFetchProfiles' in QueryOptions is not supported");
@@ -1074,9 +1933,14 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
                 && !queryOptions.getLockOptions().isEmpty()) {
             throw new FeatureNotSupportedException("'lockOptions' in QueryOptions is not supported");
         }
-        if (queryOptions.getDatabaseHints() != null
-                && !queryOptions.getDatabaseHints().isEmpty()) {
-            throw new FeatureNotSupportedException("'databaseHints' in QueryOptions is not supported");
+        if (queryOptions.getDatabaseHints() != null) {
+            for (var databaseHint : queryOptions.getDatabaseHints()) {
+                // the supported hints are applied to the MQL when executing it, see `MongoDialect.getQueryHintString`
+                if (!MongoDatabaseHints.isSupported(databaseHint)) {
+                    throw new FeatureNotSupportedException(
+                            format("Database hint [%s] in QueryOptions is not supported", databaseHint));
+                }
+            }
         }
         if (queryOptions.getFetchSize() != null) {
             throw new FeatureNotSupportedException("TODO-HIBERNATE-54 https://jira.mongodb.org/browse/HIBERNATE-54");
@@ -1097,6 +1961,7 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
 
     private static boolean isFieldPathExpression(Expression expression) {
         return expression instanceof ColumnReference
+                || expression instanceof AggregateFunctionExpression
                 || expression instanceof BasicValuedPathInterpretation
                 || expression instanceof SqlSelectionExpression;
     }
@@ -1135,7 +2000,26 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
             throw new FeatureNotSupportedException("Returning columns from mutation statements is not supported");
         }
         if (mutationStatement instanceof AbstractUpdateOrDeleteStatement updateOrDeleteStatement) {
-            checkFromClauseSupportability(updateOrDeleteStatement.getFromClause());
+            var fromClause = updateOrDeleteStatement.getFromClause();
+            checkFromClauseSupportability(fromClause);
+            if (fromClause.getRoots().get(0).hasRealJoins()) {
+                throw new FeatureNotSupportedException(
+                        "TODO-HIBERNATE-65 https://jira.mongodb.org/browse/HIBERNATE-65");
+            }
+        }
+    }
+
+    private static void checkSubQuerySupportability(QuerySpec querySpec) {
+        if (!querySpec.getGroupByClauseExpressions().isEmpty() || querySpec.getHavingClauseRestrictions() != null) {
+            throw new FeatureNotSupportedException("Subquery with grouping is not supported");
+        }
+        if (querySpec.getOffsetClauseExpression() != null || querySpec.getFetchClauseExpression() != null) {
+            throw new FeatureNotSupportedException("Subquery with offset or limit is not supported");
+        }
+        var fromClause = querySpec.getFromClause();
+        checkFromClauseSupportability(fromClause);
+        if (fromClause.getRoots().get(0).hasRealJoins()) {
+            throw new FeatureNotSupportedException("TODO-HIBERNATE-65 https://jira.mongodb.org/browse/HIBERNATE-65");
         }
     }
 
@@ -1144,15 +2028,43 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
             throw new FeatureNotSupportedException("Only single root from clause is supported");
         }
         var root = fromClause.getRoots().get(0);
-        if (root.hasRealJoins()) {
-            throw new FeatureNotSupportedException("TODO-HIBERNATE-65 https://jira.mongodb.org/browse/HIBERNATE-65");
-        }
         if (!(root.getModelPart() instanceof EntityPersister entityPersister)
                 || entityPersister.getQuerySpaces().length != 1) {
             throw new FeatureNotSupportedException("Only single table from clause is supported");
         }
     }
 
+    /**
+     * Binds the {@code $regex} pattern converted from the SQL {@code LIKE} pattern bound to {@link #jdbcParameter}.
+     *
+     * <p>{@code $regex} rejects {@code null}, while SQL {@code LIKE} with a {@code null} pattern results in
+     * {@code UNKNOWN}, as does its negation, that is, neither matches. This is why instead of {@code null} we bind the
+     * pattern that matches no string, or, if the {@code $regex} is {@linkplain #negated negated}, any string.
+     */
+    private record LikePatternParameterBinder(
+            JdbcParameter jdbcParameter, @Nullable Character escapeCharacter, boolean negated)
+            implements JdbcParameterBinder {
+        @Override
+        public void bindParameterValue(
+                PreparedStatement statement,
+                int startPosition,
+                JdbcParameterBindings jdbcParamBindings,
+                ExecutionContext executionContext)
+                throws SQLException {
+            var binding = jdbcParamBindings.getBinding(jdbcParameter);
+            var likePattern = binding == null ? null : binding.getBindValue();
+            if (likePattern == null) {
+                statement.setString(startPosition, negated ? LikePatterns.ANY_STRING : LikePatterns.NO_STRING);
+                return;
+            }
+            try {
+                statement.setString(startPosition, LikePatterns.toRegex(likePattern.toString(), escapeCharacter));
+            } catch (IllegalArgumentException e) {
+                throw new SQLException(e.getMessage(), e);
+            }
+        }
+    }
+
     private static final class OffsetJdbcParameter extends AbstractJdbcParameter {
 
         OffsetJdbcParameter(BasicType<Integer> type) {
@@ -1201,6 +2113,85 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
         }
     }
 
+    /** @see #grouping */
+    private static final class Grouping {
+        private static final String GROUPED_FIELD_NAME = "grouped";
+
+        /** Maps the paths of the fields documents are grouped by to the names of the {@code _id} fields. */
+        private final Map<String, String> idFieldNames = new LinkedHashMap<>();
+
+        private final Map<Accumulator, String> accumulatorFieldNames = new LinkedHashMap<>();
+
+        void addIdField(String fieldPath) {
+            idFieldNames.putIfAbsent(fieldPath, "k" + idFieldNames.size());
+        }
+
+        String getIdFieldPath(String fieldPath) {
+            var idFieldName = idFieldNames.get(fieldPath);
+            if (idFieldName == null) {
+                throw new FeatureNotSupportedException(format(
+                        "Field [%s] must be either grouped by, or used in an aggregate function", fieldPath));
+            }
+            return ID_FIELD_NAME + '.' + idFieldName;
+        }
+
+        /**
+         * Equal accumulators share the field they output, for example, when used in both select and having clauses.
+         *
+         * @param emptyInputValue The value the accumulator results in if there are no documents to group.
+         */
+        String getAccumulatorFieldPath(
+                AstAccumulatorOperator operator, AstValue expression, BsonValue emptyInputValue) {
+            return accumulatorFieldNames.computeIfAbsent(
+                    new Accumulator(operator, expression, emptyInputValue),
+                    accumulator -> "a" + accumulatorFieldNames.size());
+        }
+
+        /**
+         * Creates an {@link AstCountStage} instead of an {@link AstGroupStage} if all the documents are just counted,
+         * as {@code $count} is cheaper than {@code $group}.
+         *
+         * <p>Unlike SQL grouping of all rows, {@code $group} outputs no document if there are no input documents. This
+         * is why grouping of all the documents is done by the {@link AstGroupStage} within an {@link AstFacetStage},
+         * which outputs a document regardless, replaced by the grouped document, or, if there is none, by the document
+         * with the values the accumulators result in if there are no documents to group.
+         */
+        List<AstStage> createGroupingStages(boolean countStageAllowed) {
+            if (countStageAllowed && idFieldNames.isEmpty() && accumulatorFieldNames.size() == 1) {
+                var accumulatorFieldName =
+                        accumulatorFieldNames.get(new Accumulator(SUM, COUNT_ONE, new BsonInt64(0)));
+                if (accumulatorFieldName != null) {
+                    return List.of(new AstCountStage(accumulatorFieldName));
+                }
+            }
+            var idFields = new ArrayList<AstGroupStageIdField>(idFieldNames.size());
+            idFieldNames.forEach((fieldPath, name) -> idFields.add(new AstGroupStageIdField(name, fieldPath)));
+            var accumulatorFields = new ArrayList<AstGroupStageAccumulatorField>(accumulatorFieldNames.size());
+            accumulatorFieldNames.forEach((accumulator, name) -> accumulatorFields.add(
+                    new AstGroupStageAccumulatorField(name, accumulator.operator(), accumulator.expression())));
+            var groupStage = new AstGroupStage(idFields, accumulatorFields);
+            if (!idFields.isEmpty()) {
+                return List.of(groupStage);
+            }
+            var emptyInputElements = new ArrayList<AstElement>(1 + accumulatorFieldNames.size());
+            emptyInputElements.add(new AstElement(ID_FIELD_NAME, new AstLiteral(BsonNull.VALUE)));
+            accumulatorFieldNames.forEach((accumulator, name) ->
+                    emptyInputElements.add(new AstElement(name, new AstLiteral(accumulator.emptyInputValue()))));
+            var groupedDocument = new AstDocument(List.of(new AstElement(
+                    "$arrayElemAt",
+                    new AstArray(List.of(
+                            new AstFieldPathExpression(GROUPED_FIELD_NAME), new AstLiteral(new BsonInt32(0)))))));
+            var replacement = new AstDocument(List.of(new AstElement(
+                    "$ifNull", new AstArray(List.of(groupedDocument, new AstDocument(emptyInputElements))))));
+            return List.of(
+                    new AstFacetStage(GROUPED_FIELD_NAME, List.of(groupStage)), new AstReplaceWithStage(replacement));
+        }
+
+        private record Accumulator(AstAccumulatorOperator operator, AstValue expression, BsonValue emptyInputValue) {}
+    }
+
+    private record FieldUpdateOperation(AstFieldUpdateOperator operator, Expression operand) {}
+
     /**
      * This {@link SqlAppender} makes any {@link SelfRenderingExpression} explicitly unsupported, unless we implemented
      * its rendering such that it avoids using this appender. Unfortunately, this class does not give us protection if a
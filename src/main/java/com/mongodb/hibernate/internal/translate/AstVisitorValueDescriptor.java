@@ -22,6 +22,7 @@ import static com.mongodb.hibernate.internal.MongoAssertions.fail;
 import com.mongodb.hibernate.internal.translate.mongoast.AstValue;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstProjectStageSpecification;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstSortField;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstStage;
 import com.mongodb.hibernate.internal.translate.mongoast.filter.AstFilter;
 import java.lang.reflect.Modifier;
 import java.util.Collections;
@@ -54,6 +55,8 @@ public final class AstVisitorValueDescriptor<T> {
 
     static final AstVisitorValueDescriptor<List<Expression>> TUPLE = new AstVisitorValueDescriptor<>();
 
+    static final AstVisitorValueDescriptor<List<AstStage>> STAGES = new AstVisitorValueDescriptor<>();
+
     private static final Map<AstVisitorValueDescriptor<?>, String> CONSTANT_TOSTRING_CONTENT_MAP;
 
     static {
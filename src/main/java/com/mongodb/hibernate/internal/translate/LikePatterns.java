@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate;
+
+import static java.lang.String.format;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Converts SQL {@code LIKE} patterns into <a href="https://www.mongodb.com/docs/manual/reference/operator/query/regex/">
+ * {@code $regex}</a> patterns.
+ */
+final class LikePatterns {
+    /** Unlike {@code .}, matches line terminators without the {@code s} option. */
+    private static final String ANY_CHARACTER = "[\\s\\S]";
+
+    private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+
+    /** A regular expression matching any string. */
+    static final String ANY_STRING = "";
+
+    /** A regular expression matching no string, as the empty negative lookahead fails at any position. */
+    static final String NO_STRING = "(?!)";
+
+    private LikePatterns() {}
+
+    /**
+     * A pattern that has a literal prefix, for example, {@code abc%}, is converted into a regular expression anchored at
+     * the start, for example, {@code ^abc}, which MongoDB answers with an index range scan, provided that the regular
+     * expression is case-sensitive. A pattern ending with {@code %} is not anchored at the end, and a pattern starting
+     * with {@code %} is not anchored at the start.
+     *
+     * @param escapeCharacter The character that makes the {@code %}, {@code _} or {@code escapeCharacter} following it
+     *     match literally.
+     */
+    static String toRegex(String likePattern, @Nullable Character escapeCharacter) {
+        var regex = new StringBuilder(likePattern.length() + 4);
+        var anchoredAtStart = true;
+        var anyCharactersPending = false;
+        var escaping = false;
+        for (var i = 0; i < likePattern.length(); i++) {
+            var c = likePattern.charAt(i);
+            if (!escaping && escapeCharacter != null && c == escapeCharacter) {
+                escaping = true;
+                continue;
+            }
+            if (!escaping && c == '%') {
+                anyCharactersPending = true;
+                continue;
+            }
+            if (anyCharactersPending) {
+                if (regex.isEmpty()) {
+                    anchoredAtStart = false;
+                } else {
+                    regex.append(ANY_CHARACTER).append('*');
+                }
+                anyCharactersPending = false;
+            }
+            if (!escaping && c == '_') {
+                regex.append(ANY_CHARACTER);
+            } else {
+                if (REGEX_METACHARACTERS.indexOf(c) >= 0) {
+                    regex.append('\\');
+                }
+                regex.append(c);
+            }
+            escaping = false;
+        }
+        if (escaping) {
+            throw new IllegalArgumentException(
+                    format("LIKE pattern [%s] must not end with the escape character [%s]", likePattern, escapeCharacter));
+        }
+        if (anchoredAtStart && !(anyCharactersPending && regex.isEmpty())) {
+            regex.insert(0, '^');
+        }
+        if (!anyCharactersPending) {
+            // unlike `$`, does not match before a trailing line terminator
+            regex.append("\\z");
+        }
+        return regex.toString();
+    }
+}
@@ -28,8 +28,10 @@ import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.model.ast.TableMutation;
+import org.hibernate.sql.model.internal.OptionalTableUpdate;
 import org.hibernate.sql.model.internal.TableUpdateNoSet;
 import org.hibernate.sql.model.jdbc.JdbcMutationOperation;
+import org.hibernate.sql.model.jdbc.MergeOperation;
 import org.jspecify.annotations.Nullable;
 
 final class ModelMutationMqlTranslator<O extends JdbcMutationOperation> extends AbstractMqlTranslator<O> {
@@ -77,5 +79,13 @@ final class ModelMutationMqlTranslator<O extends JdbcMutationOperation> extends
             var mql = command == null ? "" : renderMongoAstNode(command);
             return tableMutation.createMutationOperation(mql, parameterBinders);
         }
+
+        MergeOperation createMergeOperation(OptionalTableUpdate optionalTableUpdate) {
+            return new MergeOperation(
+                    optionalTableUpdate.getMutatingTable().getTableMapping(),
+                    optionalTableUpdate.getMutationTarget(),
+                    renderMongoAstNode(assertNotNull(command)),
+                    parameterBinders);
+        }
     }
 }
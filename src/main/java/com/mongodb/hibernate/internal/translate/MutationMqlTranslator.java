@@ -25,6 +25,7 @@ import static org.hibernate.sql.ast.SqlTreePrinter.logSqlAst;
 import com.mongodb.hibernate.internal.translate.mongoast.command.AstCommand;
 import com.mongodb.hibernate.internal.translate.mongoast.command.AstDeleteCommand;
 import com.mongodb.hibernate.internal.translate.mongoast.command.AstInsertCommand;
+import com.mongodb.hibernate.internal.translate.mongoast.command.AstPipelineUpdateCommand;
 import com.mongodb.hibernate.internal.translate.mongoast.command.AstUpdateCommand;
 import java.util.List;
 import java.util.Set;
@@ -75,7 +76,7 @@ final class MutationMqlTranslator extends AbstractMqlTranslator<JdbcOperationQue
             var mql = renderMongoAstNode(command);
             if (command instanceof AstInsertCommand) {
                 return new JdbcOperationQueryInsertImpl(mql, parameterBinders, affectedTableNames);
-            } else if (command instanceof AstUpdateCommand) {
+            } else if (command instanceof AstUpdateCommand || command instanceof AstPipelineUpdateCommand) {
                 return new JdbcOperationQueryUpdate(mql, parameterBinders, affectedTableNames, emptyMap());
             } else if (command instanceof AstDeleteCommand) {
                 return new JdbcOperationQueryDelete(mql, parameterBinders, affectedTableNames, emptyMap());
@@ -16,6 +16,8 @@
 
 package com.mongodb.hibernate.internal.translate.mongoast;
 
+import static com.mongodb.hibernate.internal.translate.mongoast.AstFieldUpdateOperator.SET;
+
 import org.bson.BsonWriter;
 
 /**
@@ -23,7 +25,11 @@ import org.bson.BsonWriter;
  * @hidden
  */
 @SuppressWarnings("MissingSummary")
-public record AstFieldUpdate(String name, AstValue value) implements AstNode {
+public record AstFieldUpdate(String name, AstValue value, AstFieldUpdateOperator operator) implements AstNode {
+    public AstFieldUpdate(String name, AstValue value) {
+        this(name, value, SET);
+    }
+
     @Override
     public void render(BsonWriter writer) {
         writer.writeName(name);
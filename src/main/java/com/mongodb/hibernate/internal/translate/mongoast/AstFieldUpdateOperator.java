@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast;
+
+/**
+ * @see AstFieldUpdate
+ * @hidden
+ */
+@SuppressWarnings("MissingSummary")
+public enum AstFieldUpdateOperator {
+    /** See <a href="https://www.mongodb.com/docs/manual/reference/operator/update/set/">{@code $set}</a>. */
+    SET("$set"),
+    /** See <a href="https://www.mongodb.com/docs/manual/reference/operator/update/inc/">{@code $inc}</a>. */
+    INC("$inc"),
+    /** See <a href="https://www.mongodb.com/docs/manual/reference/operator/update/mul/">{@code $mul}</a>. */
+    MUL("$mul");
+
+    AstFieldUpdateOperator(String operatorName) {
+        this.operatorName = operatorName;
+    }
+
+    public String getOperatorName() {
+        return operatorName;
+    }
+
+    private final String operatorName;
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.command;
+
+import static com.mongodb.hibernate.internal.MongoAssertions.assertFalse;
+
+import com.mongodb.hibernate.internal.translate.mongoast.AstValue;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstProjectStageSpecification;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstSortField;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstFilter;
+import java.util.Collection;
+import org.bson.BsonWriter;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * See <a href="https://www.mongodb.com/docs/manual/reference/command/find/">{@code find}</a>.
+ *
+ * @hidden
+ */
+@SuppressWarnings("InvalidParam")
+public record AstFindCommand(
+        String collection,
+        @Nullable AstFilter filter,
+        Collection<? extends AstSortField> sortFields,
+        @Nullable AstValue skip,
+        @Nullable AstValue limit,
+        Collection<? extends AstProjectStageSpecification> projection)
+        implements AstCommand {
+
+    public AstFindCommand {
+        assertFalse(projection.isEmpty());
+    }
+
+    @Override
+    public void render(BsonWriter writer) {
+        writer.writeStartDocument();
+        {
+            writer.writeString("find", collection);
+            if (filter != null) {
+                writer.writeName("filter");
+                filter.render(writer);
+            }
+            if (!sortFields.isEmpty()) {
+                writer.writeName("sort");
+                writer.writeStartDocument();
+                {
+                    sortFields.forEach(sortField -> sortField.render(writer));
+                }
+                writer.writeEndDocument();
+            }
+            if (skip != null) {
+                writer.writeName("skip");
+                skip.render(writer);
+            }
+            if (limit != null) {
+                writer.writeName("limit");
+                limit.render(writer);
+            }
+            writer.writeName("projection");
+            writer.writeStartDocument();
+            {
+                projection.forEach(specification -> specification.render(writer));
+            }
+            writer.writeEndDocument();
+        }
+        writer.writeEndDocument();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.command;
+
+import com.mongodb.hibernate.internal.translate.mongoast.AstFieldUpdate;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstFilter;
+import java.util.Collection;
+import org.bson.BsonWriter;
+
+/**
+ * See <a href="https://www.mongodb.com/docs/manual/reference/command/update/">{@code update}</a> with an
+ * <a href="https://www.mongodb.com/docs/manual/tutorial/update-documents-with-aggregation-pipeline/">aggregation
+ * pipeline</a>.
+ *
+ * <p>The {@linkplain AstFieldUpdate#operator() operators} of the {@code updates} are ignored: each
+ * {@linkplain AstFieldUpdate#value() value} is an aggregation expression assigned in a single {@code $set} stage.
+ *
+ * @hidden
+ */
+@SuppressWarnings("InvalidParam")
+public record AstPipelineUpdateCommand(
+        String collection, AstFilter filter, Collection<? extends AstFieldUpdate> updates) implements AstCommand {
+    @Override
+    public void render(BsonWriter writer) {
+        writer.writeStartDocument();
+        {
+            writer.writeString("update", collection);
+            writer.writeName("updates");
+            writer.writeStartArray();
+            {
+                writer.writeStartDocument();
+                {
+                    writer.writeName("q");
+                    filter.render(writer);
+                    writer.writeName("u");
+                    writer.writeStartArray();
+                    {
+                        writer.writeStartDocument();
+                        {
+                            writer.writeName("$set");
+                            writer.writeStartDocument();
+                            {
+                                updates.forEach(update -> update.render(writer));
+                            }
+                            writer.writeEndDocument();
+                        }
+                        writer.writeEndDocument();
+                    }
+                    writer.writeEndArray();
+                    writer.writeBoolean("multi", true);
+                }
+                writer.writeEndDocument();
+            }
+            writer.writeEndArray();
+        }
+        writer.writeEndDocument();
+    }
+}
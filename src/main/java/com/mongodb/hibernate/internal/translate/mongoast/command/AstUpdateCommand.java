@@ -17,6 +17,7 @@
 package com.mongodb.hibernate.internal.translate.mongoast.command;
 
 import com.mongodb.hibernate.internal.translate.mongoast.AstFieldUpdate;
+import com.mongodb.hibernate.internal.translate.mongoast.AstFieldUpdateOperator;
 import com.mongodb.hibernate.internal.translate.mongoast.filter.AstFilter;
 import java.util.Collection;
 import org.bson.BsonWriter;
@@ -24,11 +25,22 @@ import org.bson.BsonWriter;
 /**
  * See <a href="https://www.mongodb.com/docs/manual/reference/command/update/">{@code update}</a>.
  *
+ * <p>The {@code updates} are rendered grouped by {@linkplain AstFieldUpdate#operator() operator}, in the order in which
+ * the {@link AstFieldUpdateOperator} constants are declared.
+ *
+ * <p>If {@code upsert} is {@code true}, a single document is updated, or inserted if the {@code filter} matches no
+ * documents.
+ *
  * @hidden
  */
 @SuppressWarnings("InvalidParam")
-public record AstUpdateCommand(String collection, AstFilter filter, Collection<? extends AstFieldUpdate> updates)
+public record AstUpdateCommand(
+        String collection, AstFilter filter, Collection<? extends AstFieldUpdate> updates, boolean upsert)
         implements AstCommand {
+    public AstUpdateCommand(String collection, AstFilter filter, Collection<? extends AstFieldUpdate> updates) {
+        this(collection, filter, updates, false);
+    }
+
     @Override
     public void render(BsonWriter writer) {
         writer.writeStartDocument();
@@ -44,15 +56,26 @@ public record AstUpdateCommand(String collection, AstFilter filter, Collection<?
                     writer.writeName("u");
                     writer.writeStartDocument();
                     {
-                        writer.writeName("$set");
-                        writer.writeStartDocument();
-                        {
-                            updates.forEach(update -> update.render(writer));
+                        for (var operator : AstFieldUpdateOperator.values()) {
+                            var operatorUpdates = updates.stream()
+                                    .filter(update -> update.operator() == operator)
+                                    .toList();
+                            if (!operatorUpdates.isEmpty()) {
+                                writer.writeName(operator.getOperatorName());
+                                writer.writeStartDocument();
+                                {
+                                    operatorUpdates.forEach(update -> update.render(writer));
+                                }
+                                writer.writeEndDocument();
+                            }
                         }
-                        writer.writeEndDocument();
                     }
                     writer.writeEndDocument();
-                    writer.writeBoolean("multi", true);
+                    if (upsert) {
+                        writer.writeBoolean("upsert", true);
+                    } else {
+                        writer.writeBoolean("multi", true);
+                    }
                 }
                 writer.writeEndDocument();
             }
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.command.aggregate;
+
+/**
+ * @see AstGroupStageAccumulatorField
+ * @hidden
+ */
+@SuppressWarnings("MissingSummary")
+public enum AstAccumulatorOperator {
+    /** See <a href="https://www.mongodb.com/docs/manual/reference/operator/aggregation/sum/">{@code $sum}</a>. */
+    SUM("$sum"),
+    /** See <a href="https://www.mongodb.com/docs/manual/reference/operator/aggregation/avg/">{@code $avg}</a>. */
+    AVG("$avg"),
+    /** See <a href="https://www.mongodb.com/docs/manual/reference/operator/aggregation/min/">{@code $min}</a>. */
+    MIN("$min"),
+    /** See <a href="https://www.mongodb.com/docs/manual/reference/operator/aggregation/max/">{@code $max}</a>. */
+    MAX("$max"),
+    /** See <a href="https://www.mongodb.com/docs/manual/reference/operator/aggregation/push/">{@code $push}</a>. */
+    PUSH("$push");
+
+    AstAccumulatorOperator(String operatorName) {
+        this.operatorName = operatorName;
+    }
+
+    String getOperatorName() {
+        return operatorName;
+    }
+
+    private final String operatorName;
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.command.aggregate;
+
+import java.util.Collection;
+import org.bson.BsonWriter;
+
+/**
+ * See <a href="https://www.mongodb.com/docs/manual/reference/operator/aggregation/facet/">{@code $facet}</a>.
+ *
+ * <p>Unlike the stages in its {@code pipeline}, this stage outputs a single document even if there are no input
+ * documents. The document has the {@code field} containing the array of the documents output by the {@code pipeline}.
+ *
+ * @hidden
+ */
+public record AstFacetStage(String field, Collection<? extends AstStage> pipeline) implements AstStage {
+    @Override
+    public void render(BsonWriter writer) {
+        writer.writeStartDocument();
+        {
+            writer.writeName("$facet");
+            writer.writeStartDocument();
+            {
+                writer.writeName(field);
+                writer.writeStartArray();
+                {
+                    pipeline.forEach(stage -> stage.render(writer));
+                }
+                writer.writeEndArray();
+            }
+            writer.writeEndDocument();
+        }
+        writer.writeEndDocument();
+    }
+}
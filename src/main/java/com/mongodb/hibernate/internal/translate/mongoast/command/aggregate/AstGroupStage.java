@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.command.aggregate;
+
+import java.util.Collection;
+import org.bson.BsonWriter;
+
+/**
+ * See <a href="https://www.mongodb.com/docs/manual/reference/operator/aggregation/group/">{@code $group}</a>.
+ *
+ * <p>The {@code _id} of the output documents is {@code null} if {@code idFields} are empty, that is, if all documents
+ * form a single group.
+ *
+ * @hidden
+ */
+public record AstGroupStage(
+        Collection<? extends AstGroupStageIdField> idFields,
+        Collection<? extends AstGroupStageAccumulatorField> accumulatorFields)
+        implements AstStage {
+    @Override
+    public void render(BsonWriter writer) {
+        writer.writeStartDocument();
+        {
+            writer.writeName("$group");
+            writer.writeStartDocument();
+            {
+                writer.writeName("_id");
+                if (idFields.isEmpty()) {
+                    writer.writeNull();
+                } else {
+                    writer.writeStartDocument();
+                    {
+                        idFields.forEach(idField -> idField.render(writer));
+                    }
+                    writer.writeEndDocument();
+                }
+                accumulatorFields.forEach(accumulatorField -> accumulatorField.render(writer));
+            }
+            writer.writeEndDocument();
+        }
+        writer.writeEndDocument();
+    }
+}
@@ -33,7 +33,11 @@ public enum AstComparisonFilterOperator {
     /** See <a href="https://www.mongodb.com/docs/manual/reference/operator/query/lte/">{@code $lte}</a>. */
     LTE("$lte"),
     /** See <a href="https://www.mongodb.com/docs/manual/reference/operator/query/ne/">{@code $ne}</a>. */
-    NE("$ne");
+    NE("$ne"),
+    /** See <a href="https://www.mongodb.com/docs/manual/reference/operator/query/in/">{@code $in}</a>. */
+    IN("$in"),
+    /** See <a href="https://www.mongodb.com/docs/manual/reference/operator/query/nin/">{@code $nin}</a>. */
+    NIN("$nin");
 
     AstComparisonFilterOperator(String operatorName) {
         this.operatorName = operatorName;
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.filter;
+
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.EQ;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.IN;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.NE;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.NIN;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstLogicalFilterOperator.AND;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstLogicalFilterOperator.NOR;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstLogicalFilterOperator.OR;
+
+import com.mongodb.hibernate.internal.translate.mongoast.AstArray;
+import com.mongodb.hibernate.internal.translate.mongoast.AstLiteral;
+import com.mongodb.hibernate.internal.translate.mongoast.AstNode;
+import com.mongodb.hibernate.internal.translate.mongoast.AstParameterMarker;
+import com.mongodb.hibernate.internal.translate.mongoast.AstValue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiFunction;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Rewrites an {@link AstFilter} into an equivalent one that is smaller, and that the server query planner matches to
+ * index bounds more readily:
+ *
+ * <ul>
+ *   <li>nested {@code $and}s and {@code $or}s are flattened, and the ones with a single operand are unwrapped;
+ *   <li>{@code $or} of {@code $eq}s on the same field is folded into {@code $in};
+ *   <li>{@code $and} of comparisons on the same field is merged into a single {@link AstFieldOperationFilter}, for
+ *       example, <code>{"a": {"$gt": 1, "$lt": 5}}</code>;
+ *   <li>{@code $nor} is pushed down to {@code $ne}, {@code $nin} and {@code $not};
+ *   <li>duplicate operands, and the empty filters that make {@code $and} operands or {@code $or} tautological, are
+ *       removed.
+ * </ul>
+ *
+ * <p>{@linkplain AstParameterMarker Parameter markers} are bound in the order they are rendered, which is why neither
+ * their relative order nor their number ever changes.
+ *
+ * @hidden
+ */
+public final class AstFilterOptimizer {
+    private AstFilterOptimizer() {}
+
+    public static AstFilter optimize(AstFilter filter) {
+        if (filter instanceof AstLogicalFilter logicalFilter) {
+            var operands = new ArrayList<AstFilter>(logicalFilter.filters().size());
+            logicalFilter.filters().forEach(operand -> operands.add(optimize(operand)));
+            return switch (logicalFilter.operator()) {
+                case AND -> optimizeAnd(operands);
+                case OR -> optimizeOr(operands);
+                case NOR -> negate(optimizeOr(operands));
+            };
+        }
+        return filter;
+    }
+
+    /** @param operands Already {@linkplain #optimize(AstFilter) optimized}. */
+    private static AstFilter optimizeAnd(List<AstFilter> operands) {
+        var flattenedOperands = new ArrayList<AstFilter>(operands.size());
+        for (var operand : operands) {
+            if (operand instanceof AstLogicalFilter logicalFilter && logicalFilter.operator() == AND) {
+                flattenedOperands.addAll(logicalFilter.filters());
+            } else if (operand != AstEmptyFilter.INSTANCE) {
+                flattenedOperands.add(operand);
+            }
+        }
+        var mergedOperands = mergeFieldOperationFilters(flattenedOperands, AstFilterOptimizer::mergeComparisons);
+        return createLogicalFilter(AND, mergedOperands);
+    }
+
+    /** @param operands Already {@linkplain #optimize(AstFilter) optimized}. */
+    private static AstFilter optimizeOr(List<AstFilter> operands) {
+        var flattenedOperands = new ArrayList<AstFilter>(operands.size());
+        for (var operand : operands) {
+            if (operand instanceof AstLogicalFilter logicalFilter && logicalFilter.operator() == OR) {
+                flattenedOperands.addAll(logicalFilter.filters());
+            } else {
+                flattenedOperands.add(operand);
+            }
+        }
+        if (flattenedOperands.contains(AstEmptyFilter.INSTANCE)
+                && flattenedOperands.stream().noneMatch(AstFilterOptimizer::containsParameterMarker)) {
+            return AstEmptyFilter.INSTANCE;
+        }
+        var mergedOperands = mergeFieldOperationFilters(flattenedOperands, AstFilterOptimizer::mergeEqualities);
+        return createLogicalFilter(OR, mergedOperands);
+    }
+
+    private static AstFilter createLogicalFilter(AstLogicalFilterOperator operator, List<AstFilter> operands) {
+        if (operands.isEmpty()) {
+            return AstEmptyFilter.INSTANCE;
+        }
+        return operands.size() == 1 ? operands.get(0) : new AstLogicalFilter(operator, operands);
+    }
+
+    /**
+     * Returns a filter matching exactly the documents {@code filter} does not match.
+     *
+     * @param filter Already {@linkplain #optimize(AstFilter) optimized}.
+     */
+    private static AstFilter negate(AstFilter filter) {
+        var pushedDownNegation = pushDownNegation(filter);
+        if (pushedDownNegation != null) {
+            return pushedDownNegation;
+        } else if (filter instanceof AstLogicalFilter logicalFilter && logicalFilter.operator() == OR) {
+            return new AstLogicalFilter(NOR, logicalFilter.filters());
+        }
+        return new AstLogicalFilter(NOR, List.of(filter));
+    }
+
+    /**
+     * Returns a filter matching exactly the documents {@code filter} does not match, unless there is no such filter
+     * without {@code $nor} at its root.
+     */
+    private static @Nullable AstFilter pushDownNegation(AstFilter filter) {
+        if (filter instanceof AstFieldOperationFilter fieldOperationFilter) {
+            var filterOperation = fieldOperationFilter.filterOperation();
+            var negatedOperator = filterOperation instanceof AstComparisonFilterOperation comparison
+                    ? getNegatedOperator(comparison.operator())
+                    : null;
+            AstFilterOperation negatedFilterOperation;
+            if (filterOperation instanceof AstNotFilterOperation notFilterOperation) {
+                negatedFilterOperation = notFilterOperation.filterOperation();
+            } else if (negatedOperator != null) {
+                negatedFilterOperation = new AstComparisonFilterOperation(
+                        negatedOperator, ((AstComparisonFilterOperation) filterOperation).value());
+            } else {
+                negatedFilterOperation = new AstNotFilterOperation(filterOperation);
+            }
+            return new AstFieldOperationFilter(fieldOperationFilter.fieldPath(), negatedFilterOperation);
+        } else if (filter instanceof AstLogicalFilter logicalFilter) {
+            return switch (logicalFilter.operator()) {
+                case NOR -> optimizeOr(List.copyOf(logicalFilter.filters()));
+                case OR -> null;
+                case AND -> {
+                    var negatedOperands = new ArrayList<AstFilter>(logicalFilter.filters().size());
+                    for (var operand : logicalFilter.filters()) {
+                        var negatedOperand = pushDownNegation(operand);
+                        if (negatedOperand == null) {
+                            yield null;
+                        }
+                        negatedOperands.add(negatedOperand);
+                    }
+                    yield optimizeOr(negatedOperands);
+                }
+            };
+        }
+        return null;
+    }
+
+    private static @Nullable AstComparisonFilterOperator getNegatedOperator(AstComparisonFilterOperator operator) {
+        return switch (operator) {
+            case EQ -> NE;
+            case NE -> EQ;
+            case IN -> NIN;
+            case NIN -> IN;
+            case GT, GTE, LT, LTE -> null;
+        };
+    }
+
+    /**
+     * Removes duplicate {@code filters}, and merges each {@link AstFieldOperationFilter} into the closest preceding one
+     * with the same field path, if {@code merger} can merge them.
+     *
+     * <p>A filter is moved back only if it contains no {@linkplain AstParameterMarker parameter markers}, or the
+     * filters it moves over contain none, so that the relative order of parameter markers does not change.
+     *
+     * @param merger Returns {@code null} if it cannot merge its arguments.
+     */
+    private static List<AstFilter> mergeFieldOperationFilters(
+            List<AstFilter> filters,
+            BiFunction<AstFieldOperationFilter, AstFieldOperationFilter, @Nullable AstFieldOperationFilter> merger) {
+        var result = new ArrayList<AstFilter>(filters.size());
+        for (var filter : filters) {
+            var filterContainsParameterMarker = containsParameterMarker(filter);
+            if (!filterContainsParameterMarker && result.contains(filter)) {
+                continue;
+            }
+            var merged = false;
+            if (filter instanceof AstFieldOperationFilter fieldOperationFilter) {
+                for (var i = result.size() - 1; i >= 0; i--) {
+                    var candidate = result.get(i);
+                    if (candidate instanceof AstFieldOperationFilter candidateFieldOperationFilter
+                            && candidateFieldOperationFilter.fieldPath().equals(fieldOperationFilter.fieldPath())) {
+                        var mergedFilter = merger.apply(candidateFieldOperationFilter, fieldOperationFilter);
+                        if (mergedFilter != null) {
+                            result.set(i, mergedFilter);
+                            merged = true;
+                        }
+                        break;
+                    }
+                    if (filterContainsParameterMarker && containsParameterMarker(candidate)) {
+                        break;
+                    }
+                }
+            }
+            if (!merged) {
+                result.add(filter);
+            }
+        }
+        return result;
+    }
+
+    /** Merges {@code $and}ed comparisons with distinct operators. */
+    private static @Nullable AstFieldOperationFilter mergeComparisons(
+            AstFieldOperationFilter first, AstFieldOperationFilter second) {
+        var firstComparisons = getComparisons(first);
+        var secondComparisons = getComparisons(second);
+        if (firstComparisons == null || secondComparisons == null) {
+            return null;
+        }
+        var comparisons = new ArrayList<AstComparisonFilterOperation>(firstComparisons);
+        for (var comparison : secondComparisons) {
+            if (comparisons.stream().anyMatch(c -> c.operator() == comparison.operator())) {
+                return null;
+            }
+            comparisons.add(comparison);
+        }
+        return new AstFieldOperationFilter(first.fieldPath(), new AstMultipleComparisonFilterOperation(comparisons));
+    }
+
+    private static @Nullable List<AstComparisonFilterOperation> getComparisons(
+            AstFieldOperationFilter fieldOperationFilter) {
+        var filterOperation = fieldOperationFilter.filterOperation();
+        if (filterOperation instanceof AstComparisonFilterOperation comparison) {
+            return List.of(comparison);
+        } else if (filterOperation instanceof AstMultipleComparisonFilterOperation multipleComparison) {
+            return multipleComparison.comparisons();
+        }
+        return null;
+    }
+
+    /** Merges {@code $or}ed {@code $eq}s and {@code $in}s into {@code $in}. */
+    private static @Nullable AstFieldOperationFilter mergeEqualities(
+            AstFieldOperationFilter first, AstFieldOperationFilter second) {
+        var firstValues = getEqualityValues(first);
+        var secondValues = getEqualityValues(second);
+        if (firstValues == null || secondValues == null) {
+            return null;
+        }
+        var values = new ArrayList<AstValue>(firstValues.size() + secondValues.size());
+        values.addAll(firstValues);
+        values.addAll(secondValues);
+        return new AstFieldOperationFilter(
+                first.fieldPath(), new AstComparisonFilterOperation(IN, new AstArray(values)));
+    }
+
+    /**
+     * Returns the values a field is compared with using {@code $eq} or {@code $in}, unless the comparison cannot be
+     * expressed with {@code $in}. A regular expression, for example, is matched as a pattern by {@code $in}, but
+     * literally by {@code $eq}.
+     */
+    private static @Nullable Collection<AstValue> getEqualityValues(AstFieldOperationFilter fieldOperationFilter) {
+        if (!(fieldOperationFilter.filterOperation() instanceof AstComparisonFilterOperation comparison)) {
+            return null;
+        }
+        var value = comparison.value();
+        if (comparison.operator() == IN && value instanceof AstArray array) {
+            return array.elements();
+        } else if (comparison.operator() == EQ
+                && (value instanceof AstParameterMarker
+                        || value instanceof AstLiteral literal
+                                && !literal.literalValue().isRegularExpression()
+                                && !literal.literalValue().isArray())) {
+            return List.of(value);
+        }
+        return null;
+    }
+
+    private static boolean containsParameterMarker(AstNode node) {
+        if (node instanceof AstParameterMarker) {
+            return true;
+        } else if (node instanceof AstLiteral
+                || node instanceof AstEmptyFilter
+                || node instanceof AstTypeFilterOperation) {
+            return false;
+        } else if (node instanceof AstArray array) {
+            return array.elements().stream().anyMatch(AstFilterOptimizer::containsParameterMarker);
+        } else if (node instanceof AstLogicalFilter logicalFilter) {
+            return logicalFilter.filters().stream().anyMatch(AstFilterOptimizer::containsParameterMarker);
+        } else if (node instanceof AstFieldOperationFilter fieldOperationFilter) {
+            return containsParameterMarker(fieldOperationFilter.filterOperation());
+        } else if (node instanceof AstComparisonFilterOperation comparison) {
+            return containsParameterMarker(comparison.value());
+        } else if (node instanceof AstMultipleComparisonFilterOperation multipleComparison) {
+            return multipleComparison.comparisons().stream().anyMatch(AstFilterOptimizer::containsParameterMarker);
+        } else if (node instanceof AstNotFilterOperation notFilterOperation) {
+            return containsParameterMarker(notFilterOperation.filterOperation());
+        } else if (node instanceof AstRegexFilterOperation regexFilterOperation) {
+            return containsParameterMarker(regexFilterOperation.pattern());
+        } else if (node instanceof AstAllFilterOperation allFilterOperation) {
+            return containsParameterMarker(allFilterOperation.parameterMarkerOrArrayValue());
+        } else if (node instanceof AstElemMatchFilterOperation elemMatchFilterOperation) {
+            return containsParameterMarker(elemMatchFilterOperation.filter());
+        }
+        // conservatively, for the nodes whose content is not inspected
+        return true;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.filter;
+
+import static com.mongodb.hibernate.internal.MongoAssertions.assertTrue;
+
+import java.util.List;
+import org.bson.BsonWriter;
+
+/**
+ * Several {@linkplain AstComparisonFilterOperation comparisons} of the same field, all of which must be satisfied, for
+ * example, <code>{"$gt": 1, "$lt": 5}</code>. The operators must be distinct.
+ *
+ * @hidden
+ */
+public record AstMultipleComparisonFilterOperation(List<AstComparisonFilterOperation> comparisons)
+        implements AstFilterOperation {
+    public AstMultipleComparisonFilterOperation {
+        assertTrue(comparisons.size() > 1);
+        assertTrue(comparisons.stream()
+                        .map(AstComparisonFilterOperation::operator)
+                        .distinct()
+                        .count()
+                == comparisons.size());
+    }
+
+    @Override
+    public void render(BsonWriter writer) {
+        writer.writeStartDocument();
+        {
+            comparisons.forEach(comparison -> {
+                writer.writeName(comparison.operator().getOperatorName());
+                comparison.value().render(writer);
+            });
+        }
+        writer.writeEndDocument();
+    }
+}
@@ -16,16 +16,36 @@
 
 package com.mongodb.hibernate.internal.type;
 
+import static com.mongodb.hibernate.internal.MongoAssertions.assertInstanceOf;
+import static com.mongodb.hibernate.internal.MongoAssertions.assertNotNull;
 import static com.mongodb.hibernate.internal.MongoAssertions.assertTrue;
 
+import com.mongodb.hibernate.internal.jdbc.MongoArray;
 import java.io.Serial;
+import java.io.Serializable;
+import java.sql.CallableStatement;
 import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntFunction;
+import org.bson.BsonArray;
+import org.bson.BsonType;
+import org.bson.BsonValue;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.tool.schema.extract.spi.ColumnTypeInformation;
 import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.ValueExtractor;
 import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.BasicPluralJavaType;
+import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.descriptor.jdbc.ArrayJdbcType;
+import org.hibernate.type.descriptor.jdbc.BasicBinder;
 import org.hibernate.type.descriptor.jdbc.BasicExtractor;
 import org.hibernate.type.descriptor.jdbc.JdbcType;
 import org.hibernate.type.descriptor.jdbc.JdbcTypeConstructor;
@@ -35,6 +55,10 @@ import org.jspecify.annotations.Nullable;
 /**
  * Thread-safe.
  *
+ * <p>Arrays of {@code int}, {@code long}, {@code double}, {@code boolean}, arrays of the corresponding wrapper types,
+ * and {@link List}s/{@link Collection}s of the wrapper types are bound and extracted via a {@link FastPath}, which
+ * neither converts each element via Hibernate ORM, nor goes through an intermediate {@code Object[]}.
+ *
  * @hidden
  */
 public final class MongoArrayJdbcType extends ArrayJdbcType {
@@ -55,10 +79,35 @@ public final class MongoArrayJdbcType extends ArrayJdbcType {
         return result;
     }
 
-    /** This method is overridden to make it accessible from our code. */
+    @Override
+    public <X> ValueBinder<X> getBinder(JavaType<X> javaType) {
+        var fastPath = FastPath.of(javaType, getElementJdbcType());
+        return fastPath == null ? super.getBinder(javaType) : new Binder<>(javaType, fastPath);
+    }
+
+    @Override
+    public <X> ValueExtractor<X> getExtractor(JavaType<X> javaType) {
+        var fastPath = FastPath.of(javaType, getElementJdbcType());
+        return fastPath == null ? super.getExtractor(javaType) : new Extractor<>(javaType, fastPath);
+    }
+
+    /**
+     * This method is overridden to make it accessible from our code, and to decode the
+     * {@linkplain MongoArray#getBsonContents() BSON contents} of {@code array} directly into {@code X} if
+     * {@code extractor} has a {@link FastPath}.
+     */
     @Override
     protected <X> @Nullable X getArray(
             BasicExtractor<X> extractor, java.sql.@Nullable Array array, WrapperOptions options) throws SQLException {
+        if (extractor instanceof Extractor<X> fastPathExtractor && array instanceof MongoArray mongoArray) {
+            var bsonContents = mongoArray.getBsonContents();
+            if (bsonContents != null) {
+                var result = fastPathExtractor.fastPath.decode(bsonContents);
+                if (result != null) {
+                    return extractor.getJavaType().getJavaTypeClass().cast(result);
+                }
+            }
+        }
         return super.getArray(extractor, array, options);
     }
 
@@ -83,4 +132,227 @@ public final class MongoArrayJdbcType extends ArrayJdbcType {
             return JDBC_TYPE.getVendorTypeNumber();
         }
     }
+
+    /** Thread-safe. */
+    private final class Binder<X> extends BasicBinder<X> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final FastPath fastPath;
+
+        Binder(JavaType<X> javaType, FastPath fastPath) {
+            super(javaType, MongoArrayJdbcType.this);
+            this.fastPath = fastPath;
+        }
+
+        /**
+         * @return Either an array of primitives, or an {@code Object[]}, both of which are supported by
+         *     {@link ValueConversions#toBsonValue(Object)}.
+         */
+        @Override
+        public @Nullable Object getBindValue(@Nullable X value, WrapperOptions options) {
+            return value == null ? null : fastPath.toBindValue(value);
+        }
+
+        @Override
+        protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options) throws SQLException {
+            st.setArray(index, new MongoArray(assertNotNull(getBindValue(value, options))));
+        }
+
+        @Override
+        protected void doBind(CallableStatement st, X value, String name, WrapperOptions options) throws SQLException {
+            throw new SQLFeatureNotSupportedException();
+        }
+    }
+
+    /** Thread-safe. */
+    private final class Extractor<X> extends BasicExtractor<X> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final FastPath fastPath;
+
+        Extractor(JavaType<X> javaType, FastPath fastPath) {
+            super(javaType, MongoArrayJdbcType.this);
+            this.fastPath = fastPath;
+        }
+
+        @Override
+        public MongoArrayJdbcType getJdbcType() {
+            return assertInstanceOf(super.getJdbcType(), MongoArrayJdbcType.class);
+        }
+
+        @Override
+        protected @Nullable X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
+            return getJdbcType().getArray(this, rs.getArray(paramIndex), options);
+        }
+
+        @Override
+        protected X doExtract(CallableStatement statement, int index, WrapperOptions options) throws SQLException {
+            throw new SQLFeatureNotSupportedException();
+        }
+
+        @Override
+        protected X doExtract(CallableStatement statement, String name, WrapperOptions options) throws SQLException {
+            throw new SQLFeatureNotSupportedException();
+        }
+    }
+
+    private enum ElementType {
+        INT(SqlTypes.INTEGER, BsonType.INT32, int[].class, Integer[].class, Integer.class, Integer[]::new) {
+            @Override
+            int @Nullable [] decodePrimitives(BsonArray bsonContents) {
+                return ValueConversions.toIntArrayDomainValue(bsonContents);
+            }
+
+            @Override
+            Object decodeNonNull(BsonValue element) {
+                return ValueConversions.toIntDomainValue(element);
+            }
+        },
+        LONG(SqlTypes.BIGINT, BsonType.INT64, long[].class, Long[].class, Long.class, Long[]::new) {
+            @Override
+            long @Nullable [] decodePrimitives(BsonArray bsonContents) {
+                return ValueConversions.toLongArrayDomainValue(bsonContents);
+            }
+
+            @Override
+            Object decodeNonNull(BsonValue element) {
+                return ValueConversions.toLongDomainValue(element);
+            }
+        },
+        DOUBLE(SqlTypes.DOUBLE, BsonType.DOUBLE, double[].class, Double[].class, Double.class, Double[]::new) {
+            @Override
+            double @Nullable [] decodePrimitives(BsonArray bsonContents) {
+                return ValueConversions.toDoubleArrayDomainValue(bsonContents);
+            }
+
+            @Override
+            Object decodeNonNull(BsonValue element) {
+                return ValueConversions.toDoubleDomainValue(element);
+            }
+        },
+        BOOLEAN(SqlTypes.BOOLEAN, BsonType.BOOLEAN, boolean[].class, Boolean[].class, Boolean.class, Boolean[]::new) {
+            @Override
+            boolean @Nullable [] decodePrimitives(BsonArray bsonContents) {
+                return ValueConversions.toBooleanArrayDomainValue(bsonContents);
+            }
+
+            @Override
+            Object decodeNonNull(BsonValue element) {
+                return ValueConversions.toBooleanDomainValue(element);
+            }
+        };
+
+        private final int jdbcTypeCode;
+        private final BsonType bsonType;
+        private final Class<?> primitiveArrayType;
+        private final Class<?> wrapperArrayType;
+        private final Class<?> wrapperType;
+        private final IntFunction<Object[]> wrapperArrayFactory;
+
+        ElementType(
+                int jdbcTypeCode,
+                BsonType bsonType,
+                Class<?> primitiveArrayType,
+                Class<?> wrapperArrayType,
+                Class<?> wrapperType,
+                IntFunction<Object[]> wrapperArrayFactory) {
+            this.jdbcTypeCode = jdbcTypeCode;
+            this.bsonType = bsonType;
+            this.primitiveArrayType = primitiveArrayType;
+            this.wrapperArrayType = wrapperArrayType;
+            this.wrapperType = wrapperType;
+            this.wrapperArrayFactory = wrapperArrayFactory;
+        }
+
+        /** @return {@code null} iff not all elements of {@code bsonContents} are of {@link #bsonType}. */
+        abstract @Nullable Object decodePrimitives(BsonArray bsonContents);
+
+        /** @param element Must be of {@link #bsonType}. */
+        abstract Object decodeNonNull(BsonValue element);
+
+        /**
+         * @return {@code null} iff not all elements of {@code bsonContents} are either
+         *     {@linkplain ValueConversions#isNull(Object) null} or of {@link #bsonType}.
+         */
+        @Nullable Object @Nullable [] decodeWrappers(BsonArray bsonContents) {
+            var size = bsonContents.size();
+            var result = wrapperArrayFactory.apply(size);
+            for (var i = 0; i < size; i++) {
+                var element = bsonContents.get(i);
+                if (ValueConversions.isNull(element)) {
+                    continue;
+                } else if (element.getBsonType() != bsonType) {
+                    return null;
+                }
+                result[i] = decodeNonNull(element);
+            }
+            return result;
+        }
+
+        /** @see #decodeWrappers(BsonArray) */
+        @Nullable List<@Nullable Object> decodeList(BsonArray bsonContents) {
+            var size = bsonContents.size();
+            var result = new ArrayList<@Nullable Object>(size);
+            for (var i = 0; i < size; i++) {
+                var element = bsonContents.get(i);
+                if (ValueConversions.isNull(element)) {
+                    result.add(null);
+                } else if (element.getBsonType() != bsonType) {
+                    return null;
+                } else {
+                    result.add(decodeNonNull(element));
+                }
+            }
+            return result;
+        }
+    }
+
+    private enum ContainerType {
+        PRIMITIVE_ARRAY,
+        WRAPPER_ARRAY,
+        LIST
+    }
+
+    /** Immutable. */
+    private record FastPath(ElementType elementType, ContainerType containerType) implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        static @Nullable FastPath of(JavaType<?> javaType, JdbcType elementJdbcType) {
+            var javaTypeClass = javaType.getJavaTypeClass();
+            for (var elementType : ElementType.values()) {
+                if (elementJdbcType.getJdbcTypeCode() != elementType.jdbcTypeCode) {
+                    continue;
+                }
+                if (javaTypeClass.equals(elementType.primitiveArrayType)) {
+                    return new FastPath(elementType, ContainerType.PRIMITIVE_ARRAY);
+                } else if (javaTypeClass.equals(elementType.wrapperArrayType)) {
+                    return new FastPath(elementType, ContainerType.WRAPPER_ARRAY);
+                } else if ((javaTypeClass.equals(List.class) || javaTypeClass.equals(Collection.class))
+                        && javaType instanceof BasicPluralJavaType<?> pluralJavaType
+                        && pluralJavaType.getElementJavaType().getJavaTypeClass().equals(elementType.wrapperType)) {
+                    return new FastPath(elementType, ContainerType.LIST);
+                }
+            }
+            return null;
+        }
+
+        Object toBindValue(Object value) {
+            return containerType == ContainerType.LIST ? ((Collection<?>) value).toArray() : value;
+        }
+
+        /**
+         * @return {@code null} iff {@code bsonContents} has elements this {@link FastPath} cannot decode, in which case
+         *     the caller must fall back to the conversion done by {@link ArrayJdbcType}.
+         */
+        @Nullable Object decode(BsonArray bsonContents) {
+            return switch (containerType) {
+                case PRIMITIVE_ARRAY -> elementType.decodePrimitives(bsonContents);
+                case WRAPPER_ARRAY -> elementType.decodeWrappers(bsonContents);
+                case LIST -> elementType.decodeList(bsonContents);
+            };
+        }
+    }
 }
@@ -32,6 +32,7 @@ import java.io.IOException;
 import java.io.NotSerializableException;
 import java.io.ObjectOutputStream;
 import java.io.Serial;
+import java.math.BigDecimal;
 import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.JDBCType;
@@ -40,10 +41,17 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Struct;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Function;
 import org.bson.BsonDocument;
+import org.bson.BsonNull;
+import org.bson.BsonType;
 import org.bson.BsonValue;
+import org.bson.types.ObjectId;
 import org.hibernate.dialect.StructAttributeValues;
 import org.hibernate.metamodel.mapping.EmbeddableMappingType;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
 import org.hibernate.type.descriptor.ValueBinder;
 import org.hibernate.type.descriptor.ValueExtractor;
@@ -69,6 +77,7 @@ public final class MongoStructJdbcType implements StructJdbcType {
 
     private final transient @Nullable EmbeddableMappingType embeddableMappingType;
     private final @Nullable String structTypeName;
+    private transient @Nullable Plan plan;
 
     private MongoStructJdbcType() {
         this(null, null);
@@ -123,40 +132,20 @@ public final class MongoStructJdbcType implements StructJdbcType {
         if (domainValue == null) {
             return null;
         }
+        var plan = getPlan();
+        var unsupportedBindingMessage = plan.unsupportedBindingMessage;
+        if (unsupportedBindingMessage != null) {
+            throw new FeatureNotSupportedException(unsupportedBindingMessage);
+        }
         var embeddableMappingType = getEmbeddableMappingType();
+        var fieldNames = plan.fieldNames;
+        var fieldCodecs = plan.fieldCodecs;
         var result = new BsonDocument();
-        var jdbcValueCount = embeddableMappingType.getJdbcValueCount();
-        for (var columnIndex = 0; columnIndex < jdbcValueCount; columnIndex++) {
-            var jdbcValueSelectable = embeddableMappingType.getJdbcValueSelectable(columnIndex);
-            assertFalse(jdbcValueSelectable.isFormula());
-            if (!jdbcValueSelectable.isInsertable()) {
-                throw new FeatureNotSupportedException(
-                        "Persistent attributes of a `@Struct @Embeddable` must be insertable");
-            }
-            if (!jdbcValueSelectable.isUpdateable()) {
-                throw new FeatureNotSupportedException(
-                        "Persistent attributes of a `@Struct @Embeddable` must be updatable");
-            }
-            var fieldName = jdbcValueSelectable.getSelectableName();
+        for (var columnIndex = 0; columnIndex < fieldNames.length; columnIndex++) {
             var value = embeddableMappingType.getValue(domainValue, columnIndex);
-            BsonValue bsonValue;
-            if (value == null) {
-                bsonValue = toBsonValue(value);
-            } else {
-                var jdbcMapping = jdbcValueSelectable.getJdbcMapping();
-                var jdbcTypeCode = jdbcMapping.getJdbcType().getJdbcTypeCode();
-                if (jdbcTypeCode == getJdbcTypeCode()) {
-                    var structValueBinder = assertInstanceOf(jdbcMapping.getJdbcValueBinder(), Binder.class);
-                    bsonValue = structValueBinder.getJdbcType().createBindValue(value, options);
-                } else if (jdbcTypeCode == MongoArrayJdbcType.JDBC_TYPE.getVendorTypeNumber()) {
-                    @SuppressWarnings("unchecked")
-                    ValueBinder<Object> valueBinder = jdbcMapping.getJdbcValueBinder();
-                    bsonValue = toBsonValue(valueBinder.getBindValue(value, options));
-                } else {
-                    bsonValue = toBsonValue(value);
-                }
-            }
-            result.append(fieldName, bsonValue);
+            result.append(
+                    fieldNames[columnIndex],
+                    value == null ? BsonNull.VALUE : fieldCodecs[columnIndex].bind(value, options));
         }
         return result;
     }
@@ -174,33 +163,29 @@ public final class MongoStructJdbcType implements StructJdbcType {
             return null;
         }
         var bsonDocument = assertInstanceOf(assertNotNull(rawJdbcValue), BsonDocument.class);
-        var embeddableMappingType = getEmbeddableMappingType();
-        var jdbcValueCount = embeddableMappingType.getJdbcValueCount();
-        var result = new Object[jdbcValueCount];
-        for (var columnIndex = 0; columnIndex < jdbcValueCount; columnIndex++) {
-            var jdbcValueSelectable = embeddableMappingType.getJdbcValueSelectable(columnIndex);
-            assertFalse(jdbcValueSelectable.isFormula());
-            var fieldName = jdbcValueSelectable.getSelectableName();
-            var value = bsonDocument.get(fieldName);
-            var jdbcMapping = jdbcValueSelectable.getJdbcMapping();
-            var jdbcTypeCode = jdbcMapping.getJdbcType().getJdbcTypeCode();
-            Object domainValue;
-            if (isNull(value)) {
-                domainValue = null;
-            } else if (jdbcTypeCode == getJdbcTypeCode()) {
-                var structValueExtractor = assertInstanceOf(jdbcMapping.getJdbcValueExtractor(), Extractor.class);
-                domainValue = structValueExtractor.getJdbcType().extractJdbcValues(value, options);
-            } else if (jdbcTypeCode == MongoArrayJdbcType.JDBC_TYPE.getVendorTypeNumber()) {
-                var arrayJdbcType = assertInstanceOf(jdbcMapping.getJdbcType(), MongoArrayJdbcType.class);
-                BasicExtractor<?> jdbcValueExtractor =
-                        assertInstanceOf(jdbcMapping.getJdbcValueExtractor(), BasicExtractor.class);
-                domainValue =
-                        arrayJdbcType.getArray(jdbcValueExtractor, toArrayDomainValue(assertNotNull(value)), options);
-            } else {
-                domainValue = toDomainValue(
-                        assertNotNull(value), jdbcMapping.getMappedJavaType().getJavaTypeClass());
-            }
-            result[columnIndex] = domainValue;
+        var plan = getPlan();
+        var fieldNames = plan.fieldNames;
+        var fieldCodecs = plan.fieldCodecs;
+        var result = new Object[fieldNames.length];
+        for (var columnIndex = 0; columnIndex < fieldNames.length; columnIndex++) {
+            var value = bsonDocument.get(fieldNames[columnIndex]);
+            result[columnIndex] =
+                    isNull(value) ? null : fieldCodecs[columnIndex].extract(assertNotNull(value), options);
+        }
+        return result;
+    }
+
+    /**
+     * Compiles the {@link Plan} on first use, rather than in
+     * {@link #resolveAggregateJdbcType(EmbeddableMappingType, String, RuntimeModelCreationContext)}, because the
+     * latter is called before the attributes of the {@link EmbeddableMappingType} are initialized. Concurrent first
+     * uses may compile equal {@link Plan}s, which is harmless, as {@link Plan} is immutable.
+     */
+    private Plan getPlan() {
+        var result = plan;
+        if (result == null) {
+            result = Plan.compile(getEmbeddableMappingType());
+            plan = result;
         }
         return result;
     }
@@ -294,4 +279,191 @@ public final class MongoStructJdbcType implements StructJdbcType {
             throw new SQLFeatureNotSupportedException();
         }
     }
+
+    /** Immutable, thus thread-safe. */
+    private static final class Plan {
+        final String[] fieldNames;
+        final FieldCodec[] fieldCodecs;
+        final @Nullable String unsupportedBindingMessage;
+
+        private Plan(String[] fieldNames, FieldCodec[] fieldCodecs, @Nullable String unsupportedBindingMessage) {
+            this.fieldNames = fieldNames;
+            this.fieldCodecs = fieldCodecs;
+            this.unsupportedBindingMessage = unsupportedBindingMessage;
+        }
+
+        static Plan compile(EmbeddableMappingType embeddableMappingType) {
+            var jdbcValueCount = embeddableMappingType.getJdbcValueCount();
+            var fieldNames = new String[jdbcValueCount];
+            var fieldCodecs = new FieldCodec[jdbcValueCount];
+            String unsupportedBindingMessage = null;
+            for (var columnIndex = 0; columnIndex < jdbcValueCount; columnIndex++) {
+                var jdbcValueSelectable = embeddableMappingType.getJdbcValueSelectable(columnIndex);
+                assertFalse(jdbcValueSelectable.isFormula());
+                if (unsupportedBindingMessage == null) {
+                    if (!jdbcValueSelectable.isInsertable()) {
+                        unsupportedBindingMessage =
+                                "Persistent attributes of a `@Struct @Embeddable` must be insertable";
+                    } else if (!jdbcValueSelectable.isUpdateable()) {
+                        unsupportedBindingMessage =
+                                "Persistent attributes of a `@Struct @Embeddable` must be updatable";
+                    }
+                }
+                fieldNames[columnIndex] = jdbcValueSelectable.getSelectableName();
+                fieldCodecs[columnIndex] = createFieldCodec(jdbcValueSelectable.getJdbcMapping());
+            }
+            return new Plan(fieldNames, fieldCodecs, unsupportedBindingMessage);
+        }
+
+        private static FieldCodec createFieldCodec(JdbcMapping jdbcMapping) {
+            var jdbcTypeCode = jdbcMapping.getJdbcType().getJdbcTypeCode();
+            if (jdbcTypeCode == JDBC_TYPE.getVendorTypeNumber()) {
+                var structValueBinder = assertInstanceOf(jdbcMapping.getJdbcValueBinder(), Binder.class);
+                var structValueExtractor = assertInstanceOf(jdbcMapping.getJdbcValueExtractor(), Extractor.class);
+                return new StructFieldCodec(structValueBinder.getJdbcType(), structValueExtractor.getJdbcType());
+            } else if (jdbcTypeCode == MongoArrayJdbcType.JDBC_TYPE.getVendorTypeNumber()) {
+                @SuppressWarnings("unchecked")
+                ValueBinder<Object> valueBinder = jdbcMapping.getJdbcValueBinder();
+                var arrayJdbcType = assertInstanceOf(jdbcMapping.getJdbcType(), MongoArrayJdbcType.class);
+                BasicExtractor<?> valueExtractor =
+                        assertInstanceOf(jdbcMapping.getJdbcValueExtractor(), BasicExtractor.class);
+                return new ArrayFieldCodec(valueBinder, arrayJdbcType, valueExtractor);
+            }
+            return createBasicFieldCodec(jdbcMapping.getMappedJavaType().getJavaTypeClass());
+        }
+
+        private static FieldCodec createBasicFieldCodec(Class<?> domainType) {
+            if (domainType.equals(Boolean.class) || domainType.equals(boolean.class)) {
+                return new BasicFieldCodec(
+                        domainType,
+                        BsonType.BOOLEAN,
+                        value -> toBsonValue((boolean) value),
+                        ValueConversions::toBooleanDomainValue);
+            } else if (domainType.equals(Integer.class) || domainType.equals(int.class)) {
+                return new BasicFieldCodec(
+                        domainType,
+                        BsonType.INT32,
+                        value -> toBsonValue((int) value),
+                        ValueConversions::toIntDomainValue);
+            } else if (domainType.equals(Long.class) || domainType.equals(long.class)) {
+                return new BasicFieldCodec(
+                        domainType,
+                        BsonType.INT64,
+                        value -> toBsonValue((long) value),
+                        ValueConversions::toLongDomainValue);
+            } else if (domainType.equals(Double.class) || domainType.equals(double.class)) {
+                return new BasicFieldCodec(
+                        domainType,
+                        BsonType.DOUBLE,
+                        value -> toBsonValue((double) value),
+                        ValueConversions::toDoubleDomainValue);
+            } else if (domainType.equals(String.class)) {
+                return new BasicFieldCodec(
+                        domainType,
+                        BsonType.STRING,
+                        value -> toBsonValue((String) value),
+                        value -> value.asString().getValue());
+            } else if (domainType.equals(BigDecimal.class)) {
+                return new BasicFieldCodec(
+                        domainType,
+                        BsonType.DECIMAL128,
+                        value -> toBsonValue((BigDecimal) value),
+                        ValueConversions::toBigDecimalDomainValue);
+            } else if (domainType.equals(byte[].class)) {
+                return new BasicFieldCodec(
+                        domainType,
+                        BsonType.BINARY,
+                        value -> toBsonValue((byte[]) value),
+                        ValueConversions::toByteArrayDomainValue);
+            } else if (domainType.equals(ObjectId.class)) {
+                return new BasicFieldCodec(
+                        domainType,
+                        BsonType.OBJECT_ID,
+                        value -> toBsonValue((ObjectId) value),
+                        ValueConversions::toObjectIdDomainValue);
+            } else if (domainType.equals(UUID.class)) {
+                return new BasicFieldCodec(
+                        domainType,
+                        BsonType.BINARY,
+                        value -> toBsonValue((UUID) value),
+                        ValueConversions::toUuidDomainValue);
+            } else if (domainType.equals(Instant.class)) {
+                return new BasicFieldCodec(
+                        domainType,
+                        BsonType.DATE_TIME,
+                        value -> toBsonValue((Instant) value),
+                        ValueConversions::toInstantDomainValue);
+            }
+            return new GenericFieldCodec(domainType);
+        }
+    }
+
+    /** Converts the non-{@code null} values of a field. Thread-safe. */
+    private interface FieldCodec {
+        BsonValue bind(Object value, WrapperOptions options) throws SQLException;
+
+        @Nullable Object extract(BsonValue value, WrapperOptions options) throws SQLException;
+    }
+
+    private record StructFieldCodec(MongoStructJdbcType bindingJdbcType, MongoStructJdbcType extractingJdbcType)
+            implements FieldCodec {
+        @Override
+        public BsonValue bind(Object value, WrapperOptions options) throws SQLException {
+            return assertNotNull(bindingJdbcType.createBindValue(value, options));
+        }
+
+        @Override
+        public Object @Nullable [] extract(BsonValue value, WrapperOptions options) throws SQLException {
+            return extractingJdbcType.extractJdbcValues(value, options);
+        }
+    }
+
+    private record ArrayFieldCodec(
+            ValueBinder<Object> valueBinder, MongoArrayJdbcType arrayJdbcType, BasicExtractor<?> valueExtractor)
+            implements FieldCodec {
+        @Override
+        public BsonValue bind(Object value, WrapperOptions options) throws SQLException {
+            return toBsonValue(valueBinder.getBindValue(value, options));
+        }
+
+        @Override
+        public @Nullable Object extract(BsonValue value, WrapperOptions options) throws SQLException {
+            return arrayJdbcType.getArray(valueExtractor, toArrayDomainValue(value), options);
+        }
+    }
+
+    /**
+     * Converts values without dispatching on their runtime types, unless the BSON type of a value to be extracted is
+     * not {@link #bsonType()}, in which case the conversion is the same as that of {@link GenericFieldCodec}.
+     */
+    private record BasicFieldCodec(
+            Class<?> domainType,
+            BsonType bsonType,
+            Function<Object, BsonValue> bsonValueConverter,
+            Function<BsonValue, Object> domainValueConverter)
+            implements FieldCodec {
+        @Override
+        public BsonValue bind(Object value, WrapperOptions options) {
+            return bsonValueConverter.apply(value);
+        }
+
+        @Override
+        public @Nullable Object extract(BsonValue value, WrapperOptions options) throws SQLException {
+            return value.getBsonType() == bsonType
+                    ? domainValueConverter.apply(value)
+                    : toDomainValue(value, domainType);
+        }
+    }
+
+    private record GenericFieldCodec(Class<?> domainType) implements FieldCodec {
+        @Override
+        public BsonValue bind(Object value, WrapperOptions options) throws SQLException {
+            return toBsonValue(value);
+        }
+
+        @Override
+        public @Nullable Object extract(BsonValue value, WrapperOptions options) throws SQLException {
+            return toDomainValue(value, domainType);
+        }
+    }
 }
@@ -29,7 +29,8 @@ import java.util.function.ToIntFunction;
 import org.hibernate.type.SqlTypes;
 
 enum MqlType implements SQLType {
-    OBJECT_ID(11_000);
+    OBJECT_ID(11_000),
+    UUID(11_001);
 
     static {
         assertTrue(maxHibernateSqlTypeCode() < minMqlTypeCode());
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.type;
+
+import static com.mongodb.hibernate.internal.type.ValueConversions.toUuidDomainValue;
+
+import java.io.Serial;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.bson.BsonValue;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractClassJavaType;
+import org.hibernate.type.descriptor.java.UUIDJavaType;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcTypeIndicators;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Differs from {@link UUIDJavaType} only in that it recommends {@link UuidJdbcType}, and converts from
+ * {@link BsonValue}s. Thread-safe.
+ *
+ * @hidden
+ */
+public final class UuidJavaType extends AbstractClassJavaType<UUID> {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final int hashCode = ThreadLocalRandom.current().nextInt();
+
+    public static final UuidJavaType INSTANCE = new UuidJavaType();
+
+    private UuidJavaType() {
+        super(UUID.class);
+    }
+
+    @Override
+    public JdbcType getRecommendedJdbcType(JdbcTypeIndicators indicators) {
+        return UuidJdbcType.INSTANCE;
+    }
+
+    @Override
+    public <X> @Nullable X unwrap(@Nullable UUID value, Class<X> type, WrapperOptions options) {
+        if (type.equals(Object.class)) {
+            return type.cast(value);
+        }
+        return UUIDJavaType.INSTANCE.unwrap(value, type, options);
+    }
+
+    @Override
+    public <X> @Nullable UUID wrap(@Nullable X value, WrapperOptions options) {
+        if (value instanceof BsonValue v) {
+            return toUuidDomainValue(v);
+        }
+        return UUIDJavaType.INSTANCE.wrap(value, options);
+    }
+
+    @Override
+    public UUID fromString(CharSequence string) {
+        return UUIDJavaType.INSTANCE.fromString(string);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        return o != null && getClass() == o.getClass();
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
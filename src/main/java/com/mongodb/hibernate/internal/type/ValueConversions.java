@@ -32,8 +32,10 @@ import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.UUID;
 import org.bson.BsonArray;
 import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
 import org.bson.BsonBoolean;
 import org.bson.BsonDateTime;
 import org.bson.BsonDecimal128;
@@ -45,6 +47,7 @@ import org.bson.BsonNull;
 import org.bson.BsonObjectId;
 import org.bson.BsonString;
 import org.bson.BsonValue;
+import org.bson.UuidRepresentation;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 import org.jspecify.annotations.Nullable;
@@ -84,10 +87,20 @@ public final class ValueConversions {
             return toBsonValue(v);
         } else if (value instanceof ObjectId v) {
             return toBsonValue(v);
+        } else if (value instanceof UUID v) {
+            return toBsonValue(v);
         } else if (value instanceof Instant v) {
             return toBsonValue(v);
         } else if (value instanceof Object[] v) {
             return arrayToBsonValue(v);
+        } else if (value instanceof int[] v) {
+            return toBsonValue(v);
+        } else if (value instanceof long[] v) {
+            return toBsonValue(v);
+        } else if (value instanceof double[] v) {
+            return toBsonValue(v);
+        } else if (value instanceof boolean[] v) {
+            return toBsonValue(v);
         }
         throw new SQLFeatureNotSupportedException(format(
                 "Value [%s] of type [%s] is not supported",
@@ -156,11 +169,21 @@ public final class ValueConversions {
         return new BsonObjectId(value);
     }
 
+    public static BsonBinary toBsonValue(UUID value) {
+        return new BsonBinary(value, UuidRepresentation.STANDARD);
+    }
+
     public static BsonDateTime toBsonValue(Instant instant) {
         return new BsonDateTime(instant.toEpochMilli());
     }
 
     public static BsonArray toBsonValue(java.sql.Array value) throws SQLFeatureNotSupportedException {
+        if (value instanceof MongoArray mongoArray) {
+            var bsonContents = mongoArray.getBsonContents();
+            if (bsonContents != null) {
+                return bsonContents;
+            }
+        }
         Object contents;
         try {
             contents = value.getArray();
@@ -171,6 +194,17 @@ public final class ValueConversions {
     }
 
     private static BsonArray arrayToBsonValue(Object value) throws SQLFeatureNotSupportedException {
+        if (value instanceof Object[] v) {
+            return arrayToBsonValue(v);
+        } else if (value instanceof int[] v) {
+            return toBsonValue(v);
+        } else if (value instanceof long[] v) {
+            return toBsonValue(v);
+        } else if (value instanceof double[] v) {
+            return toBsonValue(v);
+        } else if (value instanceof boolean[] v) {
+            return toBsonValue(v);
+        }
         var length = Array.getLength(value);
         var elements = new ArrayList<BsonValue>(length);
         for (var i = 0; i < length; i++) {
@@ -179,6 +213,46 @@ public final class ValueConversions {
         return new BsonArray(elements);
     }
 
+    private static BsonArray arrayToBsonValue(Object[] value) throws SQLFeatureNotSupportedException {
+        var elements = new ArrayList<BsonValue>(value.length);
+        for (var element : value) {
+            elements.add(toBsonValue(element));
+        }
+        return new BsonArray(elements);
+    }
+
+    private static BsonArray toBsonValue(int[] value) {
+        var elements = new ArrayList<BsonValue>(value.length);
+        for (var element : value) {
+            elements.add(toBsonValue(element));
+        }
+        return new BsonArray(elements);
+    }
+
+    private static BsonArray toBsonValue(long[] value) {
+        var elements = new ArrayList<BsonValue>(value.length);
+        for (var element : value) {
+            elements.add(toBsonValue(element));
+        }
+        return new BsonArray(elements);
+    }
+
+    private static BsonArray toBsonValue(double[] value) {
+        var elements = new ArrayList<BsonValue>(value.length);
+        for (var element : value) {
+            elements.add(toBsonValue(element));
+        }
+        return new BsonArray(elements);
+    }
+
+    private static BsonArray toBsonValue(boolean[] value) {
+        var elements = new ArrayList<BsonValue>(value.length);
+        for (var element : value) {
+            elements.add(toBsonValue(element));
+        }
+        return new BsonArray(elements);
+    }
+
     static @Nullable Object toDomainValue(BsonValue value, Class<?> domainType) throws SQLFeatureNotSupportedException {
         if (isNull(value)) {
             return null;
@@ -197,7 +271,7 @@ public final class ValueConversions {
         } else if (value instanceof BsonString v) {
             return uncheckedToDomainValue(v, domainType);
         } else if (value instanceof BsonBinary v) {
-            return toDomainValue(v);
+            return isUuid(v) && !domainType.equals(byte[].class) ? toUuidDomainValue(v) : toDomainValue(v);
         } else if (value instanceof BsonObjectId v) {
             return toDomainValue(v);
         } else if (value instanceof BsonDateTime v) {
@@ -325,6 +399,24 @@ public final class ValueConversions {
         return value.getValue();
     }
 
+    /**
+     * Also supports the {@linkplain UUID#toString() string representation} of a {@link UUID}, so that {@link UUID}s
+     * stored as strings can be read.
+     *
+     * @see #toBsonValue(UUID)
+     */
+    public static UUID toUuidDomainValue(BsonValue value) {
+        return value instanceof BsonString v ? UUID.fromString(v.getValue()) : toUuidDomainValue(value.asBinary());
+    }
+
+    private static UUID toUuidDomainValue(BsonBinary value) {
+        return value.asUuid(UuidRepresentation.STANDARD);
+    }
+
+    private static boolean isUuid(BsonBinary value) {
+        return value.getType() == BsonBinarySubType.UUID_STANDARD.getValue();
+    }
+
     public static Instant toInstantDomainValue(BsonValue value) {
         return toDomainValue(value.asDateTime());
     }
@@ -333,11 +425,30 @@ public final class ValueConversions {
         return Instant.ofEpochMilli(value.getValue());
     }
 
-    public static MongoArray toArrayDomainValue(BsonValue value) throws SQLFeatureNotSupportedException {
-        return new MongoArray(toDomainValue(value.asArray(), UnknownDomainClass.class));
+    /**
+     * The contents of the returned {@link MongoArray} are decoded only when {@linkplain MongoArray#getArray()
+     * requested}, which allows {@link MongoArrayJdbcType} to decode them directly into the Java type it needs.
+     */
+    public static MongoArray toArrayDomainValue(BsonValue value) {
+        return new MongoArray(value.asArray(), v -> toDomainValue(v, UnknownDomainClass.class));
     }
 
     private static Object toDomainValue(BsonArray value, Class<?> elementType) throws SQLFeatureNotSupportedException {
+        @Nullable Object fastPathResult = null;
+        if (elementType.equals(UnknownDomainClass.class)) {
+            fastPathResult = toObjectArrayDomainValue(value);
+        } else if (elementType.equals(int.class)) {
+            fastPathResult = toIntArrayDomainValue(value);
+        } else if (elementType.equals(long.class)) {
+            fastPathResult = toLongArrayDomainValue(value);
+        } else if (elementType.equals(double.class)) {
+            fastPathResult = toDoubleArrayDomainValue(value);
+        } else if (elementType.equals(boolean.class)) {
+            fastPathResult = toBooleanArrayDomainValue(value);
+        }
+        if (fastPathResult != null) {
+            return fastPathResult;
+        }
         var size = value.size();
         var elementTypeForArrayInstantiation =
                 elementType.equals(UnknownDomainClass.class) ? Object.class : elementType;
@@ -349,6 +460,67 @@ public final class ValueConversions {
         return result;
     }
 
+    private static Object[] toObjectArrayDomainValue(BsonArray value) throws SQLFeatureNotSupportedException {
+        var size = value.size();
+        var result = new Object[size];
+        for (var i = 0; i < size; i++) {
+            result[i] = toDomainValue(value.get(i), UnknownDomainClass.class);
+        }
+        return result;
+    }
+
+    /** @return {@code null} iff not all elements of {@code value} are {@link BsonInt32}. */
+    public static int @Nullable [] toIntArrayDomainValue(BsonArray value) {
+        var size = value.size();
+        var result = new int[size];
+        for (var i = 0; i < size; i++) {
+            if (!(value.get(i) instanceof BsonInt32 element)) {
+                return null;
+            }
+            result[i] = toDomainValue(element);
+        }
+        return result;
+    }
+
+    /** @return {@code null} iff not all elements of {@code value} are {@link BsonInt64}. */
+    public static long @Nullable [] toLongArrayDomainValue(BsonArray value) {
+        var size = value.size();
+        var result = new long[size];
+        for (var i = 0; i < size; i++) {
+            if (!(value.get(i) instanceof BsonInt64 element)) {
+                return null;
+            }
+            result[i] = toDomainValue(element);
+        }
+        return result;
+    }
+
+    /** @return {@code null} iff not all elements of {@code value} are {@link BsonDouble}. */
+    public static double @Nullable [] toDoubleArrayDomainValue(BsonArray value) {
+        var size = value.size();
+        var result = new double[size];
+        for (var i = 0; i < size; i++) {
+            if (!(value.get(i) instanceof BsonDouble element)) {
+                return null;
+            }
+            result[i] = toDomainValue(element);
+        }
+        return result;
+    }
+
+    /** @return {@code null} iff not all elements of {@code value} are {@link BsonBoolean}. */
+    public static boolean @Nullable [] toBooleanArrayDomainValue(BsonArray value) {
+        var size = value.size();
+        var result = new boolean[size];
+        for (var i = 0; i < size; i++) {
+            if (!(value.get(i) instanceof BsonBoolean element)) {
+                return null;
+            }
+            result[i] = toDomainValue(element);
+        }
+        return result;
+    }
+
     private static SQLFeatureNotSupportedException exceptionDomainTypeUnsupportedOrMustBeExplicit(
             BsonValue value, Class<?> domainType) {
         var valueTypeName = value.getClass().getTypeName();
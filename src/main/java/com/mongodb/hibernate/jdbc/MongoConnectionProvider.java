@@ -96,13 +96,25 @@ public final class MongoConnectionProvider implements ConnectionProvider, Stoppa
         return false;
     }
 
+    /**
+     * Returns {@code true} only for {@link MongoClient}.
+     *
+     * @see #unwrap(Class)
+     */
     @Override
     public boolean isUnwrappableAs(Class<?> unwrapType) {
-        return false;
+        return MongoClient.class.equals(unwrapType);
     }
 
+    /**
+     * Unwraps this {@link ConnectionProvider} as the {@link MongoClient} it uses. The {@link MongoClient} is owned by
+     * this {@link ConnectionProvider}, and must not be {@linkplain MongoClient#close() closed} by the caller.
+     */
     @Override
     public <T> T unwrap(Class<T> unwrapType) {
+        if (isUnwrappableAs(unwrapType)) {
+            return unwrapType.cast(assertNotNull(mongoClient));
+        }
         throw new UnknownUnwrapTypeException(unwrapType);
     }
 
@@ -45,8 +45,10 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.time.Instant;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 import org.bson.BsonDocument;
 import org.bson.BsonValue;
 import org.bson.types.ObjectId;
@@ -54,7 +56,9 @@ import org.jspecify.annotations.Nullable;
 
 final class MongoResultSet implements ResultSetAdapter {
 
-    private final MongoCursor<BsonDocument> mongoCursor;
+    private final Iterator<BsonDocument> documents;
+
+    private final @Nullable MongoCursor<BsonDocument> mongoCursor;
 
     private final List<String> fieldNames;
 
@@ -66,15 +70,24 @@ final class MongoResultSet implements ResultSetAdapter {
 
     MongoResultSet(MongoCursor<BsonDocument> mongoCursor, List<String> fieldNames) {
         assertFalse(fieldNames.isEmpty());
+        this.documents = mongoCursor;
         this.mongoCursor = mongoCursor;
         this.fieldNames = fieldNames;
     }
 
+    /** Creates a {@link MongoResultSet} over the {@code documents} that are not backed by a {@link MongoCursor}. */
+    MongoResultSet(List<BsonDocument> documents, List<String> fieldNames) {
+        assertFalse(fieldNames.isEmpty());
+        this.documents = documents.iterator();
+        this.mongoCursor = null;
+        this.fieldNames = fieldNames;
+    }
+
     @Override
     public boolean next() throws SQLException {
         checkClosed();
-        if (mongoCursor.hasNext()) {
-            currentDocument = mongoCursor.next();
+        if (documents.hasNext()) {
+            currentDocument = documents.next();
             return true;
         } else {
             return false;
@@ -85,6 +98,9 @@ final class MongoResultSet implements ResultSetAdapter {
     public void close() throws SQLException {
         if (!closed) {
             closed = true;
+            if (mongoCursor == null) {
+                return;
+            }
             try {
                 mongoCursor.close();
             } catch (RuntimeException e) {
@@ -177,6 +193,8 @@ final class MongoResultSet implements ResultSetAdapter {
             value = getValue(columnIndex, ValueConversions::toBsonDocumentDomainValue);
         } else if (type.equals(ObjectId.class)) {
             value = getValue(columnIndex, ValueConversions::toObjectIdDomainValue);
+        } else if (type.equals(UUID.class)) {
+            value = getValue(columnIndex, ValueConversions::toUuidDomainValue);
         } else if (type.equals(Instant.class)) {
             value = getValue(columnIndex, ValueConversions::toInstantDomainValue);
         } else {
@@ -236,7 +254,7 @@ final class MongoResultSet implements ResultSetAdapter {
     private <T> @Nullable T getValue(int columnIndex, SqlFunction<BsonValue, T> toJavaConverter) throws SQLException {
         try {
             var key = getKey(columnIndex);
-            var bsonValue = assertNotNull(currentDocument).get(key);
+            var bsonValue = getFieldValue(assertNotNull(currentDocument), key);
             T value = ValueConversions.isNull(bsonValue) ? null : toJavaConverter.apply(assertNotNull(bsonValue));
             lastReadColumnValueWasNull = value == null;
             return value;
@@ -245,6 +263,29 @@ final class MongoResultSet implements ResultSetAdapter {
         }
     }
 
+    /**
+     * The {@code fieldPath} may be a dot-separated path, for example, when the field belongs to a document looked up
+     * by a join. Field names themselves never contain dots, as that is not supported.
+     */
+    private static @Nullable BsonValue getFieldValue(BsonDocument document, String fieldPath) {
+        var dotIndex = fieldPath.indexOf('.');
+        if (dotIndex < 0) {
+            return document.get(fieldPath);
+        }
+        BsonDocument currentDocument = document;
+        var fieldNameStartIndex = 0;
+        while (dotIndex >= 0) {
+            var value = currentDocument.get(fieldPath.substring(fieldNameStartIndex, dotIndex));
+            if (!(value instanceof BsonDocument nestedDocument)) {
+                return null;
+            }
+            currentDocument = nestedDocument;
+            fieldNameStartIndex = dotIndex + 1;
+            dotIndex = fieldPath.indexOf('.', fieldNameStartIndex);
+        }
+        return currentDocument.get(fieldPath.substring(fieldNameStartIndex));
+    }
+
     private void checkColumnIndex(int columnIndex) throws SQLException {
         if (columnIndex < 1 || columnIndex > fieldNames.size()) {
             throw new SQLException(format(
@@ -24,6 +24,7 @@ import static com.mongodb.hibernate.internal.MongoConstants.EXTENDED_JSON_WRITER
 import static com.mongodb.hibernate.internal.MongoConstants.ID_FIELD_NAME;
 import static com.mongodb.hibernate.internal.VisibleForTesting.AccessModifier.PRIVATE;
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.toCollection;
 import static org.bson.BsonBoolean.FALSE;
 
@@ -33,15 +34,28 @@ import com.mongodb.MongoException;
 import com.mongodb.MongoSocketReadTimeoutException;
 import com.mongodb.MongoSocketWriteTimeoutException;
 import com.mongodb.MongoTimeoutException;
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadConcernLevel;
 import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Collation;
+import com.mongodb.client.model.CollationAlternate;
+import com.mongodb.client.model.CollationCaseFirst;
+import com.mongodb.client.model.CollationMaxVariable;
+import com.mongodb.client.model.CollationStrength;
+import com.mongodb.client.model.CountOptions;
 import com.mongodb.client.model.DeleteManyModel;
 import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.DeleteOptions;
+import com.mongodb.client.model.EstimatedDocumentCountOptions;
 import com.mongodb.client.model.InsertOneModel;
 import com.mongodb.client.model.UpdateManyModel;
 import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.WriteModel;
 import com.mongodb.hibernate.internal.FeatureNotSupportedException;
 import com.mongodb.hibernate.internal.VisibleForTesting;
@@ -62,11 +76,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import org.bson.BSONException;
+import org.bson.BsonArray;
 import org.bson.BsonDocument;
+import org.bson.BsonInt64;
 import org.bson.BsonInvalidOperationException;
 import org.bson.BsonString;
 import org.bson.BsonValue;
+import org.bson.conversions.Bson;
 import org.jspecify.annotations.Nullable;
 
 class MongoStatement implements StatementAdapter {
@@ -79,6 +99,24 @@ class MongoStatement implements StatementAdapter {
 
     static final @Nullable String NULL_SQL_STATE = null;
 
+    private static final Set<String> SUPPORTED_FIND_COMMAND_FIELDS = Set.of(
+            "filter",
+            "sort",
+            "skip",
+            "limit",
+            "projection",
+            "hint",
+            "allowDiskUse",
+            "comment",
+            "collation",
+            "maxTimeMS",
+            "readConcern",
+            "batchSize");
+    private static final Set<String> SUPPORTED_COUNT_COMMAND_FIELDS =
+            Set.of("query", "hint", "collation", "comment", "maxTimeMS", "readConcern");
+    /** The name of the field the {@code count} command outputs its result into. */
+    private static final String COUNT_FIELD_NAME = "n";
+
     private final MongoDatabase mongoDatabase;
     private final MongoConnection mongoConnection;
     private final ClientSession clientSession;
@@ -112,6 +150,12 @@ class MongoStatement implements StatementAdapter {
         try {
             var commandDescription = getCommandDescription(command);
             var collection = getCollection(commandDescription, command);
+            if (commandDescription == CommandDescription.COUNT) {
+                return resultSet = executeCount(collection, command);
+            }
+            if (commandDescription == CommandDescription.FIND) {
+                return resultSet = executeFind(collection, command);
+            }
             var pipeline = command.getArray("pipeline").stream()
                     .map(BsonValue::asDocument)
                     .toList();
@@ -122,8 +166,12 @@ class MongoStatement implements StatementAdapter {
             var fieldNames = getFieldNamesFromProjectStage(
                     pipeline.get(projectStageIndex).getDocument("$project"));
             startTransactionIfNeeded();
-            return resultSet = new MongoResultSet(
-                    collection.aggregate(clientSession, pipeline).cursor(), fieldNames);
+            var aggregateIterable = aggregate(withReadConcern(collection, command), pipeline, command);
+            if (projectStageIndex > 0 && pipeline.get(projectStageIndex - 1).containsKey("$count")) {
+                var countField = pipeline.get(projectStageIndex - 1).getString("$count");
+                return resultSet = executeCountStage(aggregateIterable, countField.getValue(), fieldNames);
+            }
+            return resultSet = new MongoResultSet(aggregateIterable.cursor(), fieldNames);
         } catch (BSONException bsonException) {
             throw createSyntaxErrorException("%s: [%s]", command, bsonException);
         } catch (RuntimeException exception) {
@@ -131,6 +179,192 @@ class MongoStatement implements StatementAdapter {
         }
     }
 
+    /**
+     * Unlike SQL {@code count}, {@code $count} outputs no document if there are no input documents, and outputs an
+     * {@code int32} rather than an {@code int64} otherwise, which is why we make up the single row ourselves.
+     */
+    private static MongoResultSet executeCountStage(
+            AggregateIterable<BsonDocument> aggregateIterable, String countField, List<String> fieldNames) {
+        var countDocument = aggregateIterable.first();
+        var count = countDocument == null ? 0 : countDocument.getNumber(countField).longValue();
+        return new MongoResultSet(List.of(new BsonDocument(countField, new BsonInt64(count))), fieldNames);
+    }
+
+    /**
+     * Executes a {@code find} command. Unlike {@code aggregate}, its {@code batchSize} is a field of the command itself
+     * rather than of a {@code cursor} field.
+     */
+    private MongoResultSet executeFind(MongoCollection<BsonDocument> collection, BsonDocument command)
+            throws SQLException {
+        WriteModelConverter.checkCommandFields(command, CommandDescription.FIND, SUPPORTED_FIND_COMMAND_FIELDS);
+        var projection = command.get("projection");
+        if (projection == null) {
+            throw createSyntaxErrorException("%s. projection is missing [%s]", command, null);
+        }
+        var fieldNames = getFieldNamesFromProjectStage(projection.asDocument());
+        startTransactionIfNeeded();
+        var findIterable = withReadConcern(collection, command)
+                .find(clientSession, command.getDocument("filter", new BsonDocument()));
+        findIterable.projection(projection.asDocument());
+        if (command.containsKey("sort")) {
+            findIterable.sort(command.getDocument("sort"));
+        }
+        if (command.containsKey("skip")) {
+            findIterable.skip(command.getNumber("skip").intValue());
+        }
+        if (command.containsKey("limit")) {
+            findIterable.limit(command.getNumber("limit").intValue());
+        }
+        applyOptions(
+                command,
+                findIterable::hint,
+                findIterable::hintString,
+                findIterable::allowDiskUse,
+                findIterable::comment,
+                findIterable::collation,
+                findIterable::maxTime);
+        if (command.containsKey("batchSize")) {
+            findIterable.batchSize(command.getNumber("batchSize").intValue());
+        }
+        return new MongoResultSet(findIterable.cursor(), fieldNames);
+    }
+
+    /**
+     * Counts the documents matching the optional {@code query} of the {@code count} command. If there is no
+     * {@code query}, and the connection is in the auto-commit mode, the count is taken from the collection metadata,
+     * see {@link MongoCollection#estimatedDocumentCount()}. Otherwise, the documents are counted in a transaction, even
+     * if the {@code count} command is the first one executed in it.
+     */
+    private MongoResultSet executeCount(MongoCollection<BsonDocument> collection, BsonDocument command)
+            throws SQLException {
+        WriteModelConverter.checkCommandFields(command, CommandDescription.COUNT, SUPPORTED_COUNT_COMMAND_FIELDS);
+        var query = command.getDocument("query", new BsonDocument());
+        long count;
+        if (query.isEmpty() && mongoConnection.getAutoCommit() && !clientSession.hasActiveTransaction()) {
+            // `estimatedDocumentCount` is not allowed in a transaction, and we do not start one for it
+            var options = new EstimatedDocumentCountOptions();
+            applyOptions(command, null, null, null, options::comment, null, options::maxTime);
+            count = withReadConcern(collection, command).estimatedDocumentCount(options);
+        } else {
+            startTransactionIfNeeded();
+            var options = new CountOptions();
+            applyOptions(
+                    command,
+                    options::hint,
+                    options::hintString,
+                    null,
+                    options::comment,
+                    options::collation,
+                    options::maxTime);
+            count = withReadConcern(collection, command).countDocuments(clientSession, query, options);
+        }
+        return new MongoResultSet(
+                List.of(new BsonDocument(COUNT_FIELD_NAME, new BsonInt64(count))), List.of(COUNT_FIELD_NAME));
+    }
+
+    /**
+     * Creates an {@link AggregateIterable} with the options that {@code MongoDialect.getQueryHintString} may have added
+     * to the {@code aggregate} command.
+     */
+    private AggregateIterable<BsonDocument> aggregate(
+            MongoCollection<BsonDocument> collection, List<BsonDocument> pipeline, BsonDocument command)
+            throws SQLFeatureNotSupportedException {
+        var aggregateIterable = collection.aggregate(clientSession, pipeline);
+        applyOptions(
+                command,
+                aggregateIterable::hint,
+                aggregateIterable::hintString,
+                aggregateIterable::allowDiskUse,
+                aggregateIterable::comment,
+                aggregateIterable::collation,
+                aggregateIterable::maxTime);
+        if (command.containsKey("cursor")) {
+            aggregateIterable.batchSize(command.getDocument("cursor").getNumber("batchSize").intValue());
+        }
+        return aggregateIterable;
+    }
+
+    /**
+     * Applies the {@code readConcern} of the {@code command}, if any. A transaction has its own read concern, which
+     * the driver would silently use instead, which is why we reject the {@code readConcern} in a transaction.
+     */
+    private MongoCollection<BsonDocument> withReadConcern(
+            MongoCollection<BsonDocument> collection, BsonDocument command) throws SQLFeatureNotSupportedException {
+        var readConcern = command.get("readConcern");
+        if (readConcern == null) {
+            return collection;
+        }
+        if (clientSession.hasActiveTransaction()) {
+            throw new SQLFeatureNotSupportedException(
+                    format("Read concern [%s] is not supported in a transaction", readConcern));
+        }
+        var level = readConcern.asDocument().getString("level").getValue();
+        return collection.withReadConcern(new ReadConcern(ReadConcernLevel.fromString(level)));
+    }
+
+    /**
+     * Applies the {@code hint}, {@code allowDiskUse}, {@code comment}, {@code collation} and {@code maxTimeMS} fields
+     * of a command or a statement, which {@code MongoDialect.getQueryHintString} may have added, via the given setters.
+     * A field whose setter is {@code null} is ignored; the fields a command does not support are rejected before this
+     * method is called.
+     */
+    private static void applyOptions(
+            BsonDocument source,
+            @Nullable Consumer<Bson> hint,
+            @Nullable Consumer<String> hintString,
+            @Nullable Consumer<Boolean> allowDiskUse,
+            @Nullable Consumer<BsonValue> comment,
+            @Nullable Consumer<Collation> collation,
+            @Nullable BiConsumer<Long, TimeUnit> maxTime)
+            throws SQLFeatureNotSupportedException {
+        var hintValue = source.get("hint");
+        if (hintValue != null && hint != null && hintString != null) {
+            if (hintValue.isString()) {
+                hintString.accept(hintValue.asString().getValue());
+            } else {
+                hint.accept(hintValue.asDocument());
+            }
+        }
+        if (allowDiskUse != null && source.containsKey("allowDiskUse")) {
+            allowDiskUse.accept(source.getBoolean("allowDiskUse").getValue());
+        }
+        var commentValue = source.get("comment");
+        if (commentValue != null && comment != null) {
+            comment.accept(commentValue);
+        }
+        if (collation != null && source.containsKey("collation")) {
+            collation.accept(toCollation(source.getDocument("collation")));
+        }
+        if (maxTime != null && source.containsKey("maxTimeMS")) {
+            maxTime.accept(source.getNumber("maxTimeMS").longValue(), MILLISECONDS);
+        }
+    }
+
+    private static Collation toCollation(BsonDocument collation) throws SQLFeatureNotSupportedException {
+        var builder = Collation.builder();
+        for (var field : collation.entrySet()) {
+            var value = field.getValue();
+            switch (field.getKey()) {
+                case "locale" -> builder.locale(value.asString().getValue());
+                case "caseLevel" -> builder.caseLevel(value.asBoolean().getValue());
+                case "caseFirst" -> builder.collationCaseFirst(
+                        CollationCaseFirst.fromString(value.asString().getValue()));
+                case "strength" -> builder.collationStrength(
+                        CollationStrength.fromInt(value.asNumber().intValue()));
+                case "numericOrdering" -> builder.numericOrdering(value.asBoolean().getValue());
+                case "alternate" -> builder.collationAlternate(
+                        CollationAlternate.fromString(value.asString().getValue()));
+                case "maxVariable" -> builder.collationMaxVariable(
+                        CollationMaxVariable.fromString(value.asString().getValue()));
+                case "normalization" -> builder.normalization(value.asBoolean().getValue());
+                case "backwards" -> builder.backwards(value.asBoolean().getValue());
+                default -> throw new SQLFeatureNotSupportedException(
+                        format("Unsupported field in collation: [%s]", field.getKey()));
+            }
+        }
+        return builder.build();
+    }
+
     @VisibleForTesting(otherwise = PRIVATE)
     static List<String> getFieldNamesFromProjectStage(BsonDocument projectStage) {
         var fieldNames = projectStage.entrySet().stream()
@@ -206,8 +440,11 @@ class MongoStatement implements StatementAdapter {
             var writeModels = new ArrayList<WriteModel<BsonDocument>>();
             WriteModelConverter.convertToWriteModels(commandDescription, command, writeModels);
             startTransactionIfNeeded();
-            var bulkWriteResult = collection.bulkWrite(clientSession, writeModels);
-            return getUpdateCount(commandDescription, bulkWriteResult);
+            var comment = command.get("comment");
+            var bulkWriteResult = comment == null
+                    ? collection.bulkWrite(clientSession, writeModels)
+                    : collection.bulkWrite(clientSession, writeModels, new BulkWriteOptions().comment(comment));
+            return getUpdateCount(commandDescription, bulkWriteResult, writeModels);
         } catch (RuntimeException exception) {
             throw handleExecuteQueryOrUpdateException(exception);
         }
@@ -343,15 +580,34 @@ class MongoStatement implements StatementAdapter {
         return mongoDatabase.getCollection(collectionName.getValue(), BsonDocument.class);
     }
 
-    private static int getUpdateCount(CommandDescription commandDescription, BulkWriteResult bulkWriteResult) {
+    /**
+     * The update count of an upsert includes the matched documents rather than only the modified ones, because
+     * Hibernate expects an upsert to affect one row even if it does not change the values of an existing document.
+     */
+    private static int getUpdateCount(
+            CommandDescription commandDescription,
+            BulkWriteResult bulkWriteResult,
+            List<WriteModel<BsonDocument>> writeModels) {
         return switch (commandDescription) {
             case INSERT -> bulkWriteResult.getInsertedCount();
-            case UPDATE -> bulkWriteResult.getModifiedCount();
+            case UPDATE -> {
+                var updatedCount = writeModels.stream().anyMatch(MongoStatement::isUpsert)
+                        ? bulkWriteResult.getMatchedCount()
+                        : bulkWriteResult.getModifiedCount();
+                yield updatedCount + bulkWriteResult.getUpserts().size();
+            }
             case DELETE -> bulkWriteResult.getDeletedCount();
             default -> throw fail();
         };
     }
 
+    private static boolean isUpsert(WriteModel<BsonDocument> writeModel) {
+        return (writeModel instanceof UpdateOneModel<BsonDocument> updateOneModel
+                        && updateOneModel.getOptions().isUpsert())
+                || (writeModel instanceof UpdateManyModel<BsonDocument> updateManyModel
+                        && updateManyModel.getOptions().isUpsert());
+    }
+
     private static SQLException handleExecuteBatchException(
             RuntimeException exceptionToHandle, @Nullable WriteModelsToCommandMapper writeModelsToCommandMapper) {
         var errorCode = getErrorCode(exceptionToHandle);
@@ -456,7 +712,11 @@ class MongoStatement implements StatementAdapter {
         /** See <a href="https://www.mongodb.com/docs/manual/reference/command/delete/">{@code delete}</a>. */
         DELETE("delete", false, true),
         /** See <a href="https://www.mongodb.com/docs/manual/reference/command/aggregate/">{@code aggregate}</a>. */
-        AGGREGATE("aggregate", true, false);
+        AGGREGATE("aggregate", true, false),
+        /** See <a href="https://www.mongodb.com/docs/manual/reference/command/find/">{@code find}</a>. */
+        FIND("find", true, false),
+        /** See <a href="https://www.mongodb.com/docs/manual/reference/command/count/">{@code count}</a>. */
+        COUNT("count", true, false);
 
         private final String commandName;
         private final boolean isQuery;
@@ -496,6 +756,8 @@ class MongoStatement implements StatementAdapter {
                 case "update" -> UPDATE;
                 case "delete" -> DELETE;
                 case "aggregate" -> AGGREGATE;
+                case "find" -> FIND;
+                case "count" -> COUNT;
                 default -> throw new SQLFeatureNotSupportedException("Unsupported command: %s".formatted(commandName));
             };
         }
@@ -509,11 +771,12 @@ class MongoStatement implements StatementAdapter {
 
         private static final Set<String> SUPPORTED_INSERT_COMMAND_FIELDS = Set.of("documents");
 
-        private static final Set<String> SUPPORTED_UPDATE_COMMAND_FIELDS = Set.of("updates");
-        private static final Set<String> SUPPORTED_UPDATE_STATEMENT_FIELDS = Set.of("q", "u", "multi");
+        private static final Set<String> SUPPORTED_UPDATE_COMMAND_FIELDS = Set.of("updates", "comment");
+        private static final Set<String> SUPPORTED_UPDATE_STATEMENT_FIELDS =
+                Set.of("q", "u", "multi", "upsert", "hint", "collation");
 
-        private static final Set<String> SUPPORTED_DELETE_COMMAND_FIELDS = Set.of("deletes");
-        private static final Set<String> SUPPORTED_DELETE_STATEMENT_FIELDS = Set.of("q", "limit");
+        private static final Set<String> SUPPORTED_DELETE_COMMAND_FIELDS = Set.of("deletes", "comment");
+        private static final Set<String> SUPPORTED_DELETE_STATEMENT_FIELDS = Set.of("q", "limit", "hint", "collation");
 
         private WriteModelConverter() {}
 
@@ -567,13 +830,22 @@ class MongoStatement implements StatementAdapter {
                 // We force exception here because the field is mandatory.
                 updateStatement.getDocument("u");
             }
-            if (!(updateModification instanceof BsonDocument updateDocument)) {
-                throw new SQLFeatureNotSupportedException("Only document type is supported as value for field: [u]");
+            if (!(updateModification instanceof BsonDocument) && !(updateModification instanceof BsonArray)) {
+                throw new SQLFeatureNotSupportedException(
+                        "Only document and array types are supported as value for field: [u]");
             }
-            if (isMulti) {
-                return new UpdateManyModel<>(filter, updateDocument);
+            var options = new UpdateOptions().upsert(updateStatement.getBoolean("upsert", FALSE).getValue());
+            applyOptions(updateStatement, options::hint, options::hintString, null, null, options::collation, null);
+            if (updateModification instanceof BsonArray updatePipeline) {
+                var pipeline = updatePipeline.stream().map(BsonValue::asDocument).toList();
+                return isMulti
+                        ? new UpdateManyModel<>(filter, pipeline, options)
+                        : new UpdateOneModel<>(filter, pipeline, options);
             }
-            return new UpdateOneModel<>(filter, updateDocument);
+            var updateDocument = updateModification.asDocument();
+            return isMulti
+                    ? new UpdateManyModel<>(filter, updateDocument, options)
+                    : new UpdateOneModel<>(filter, updateDocument, options);
         }
 
         private static WriteModel<BsonDocument> createDeleteModel(
@@ -582,11 +854,13 @@ class MongoStatement implements StatementAdapter {
             checkStatementFields(deleteStatement, commandDescription, SUPPORTED_DELETE_STATEMENT_FIELDS);
             var isSingleDelete = deleteStatement.getNumber("limit").intValue() == 1;
             var filter = deleteStatement.getDocument("q");
+            var options = new DeleteOptions();
+            applyOptions(deleteStatement, options::hint, options::hintString, null, null, options::collation, null);
 
             if (isSingleDelete) {
-                return new DeleteOneModel<>(filter);
+                return new DeleteOneModel<>(filter, options);
             }
-            return new DeleteManyModel<>(filter);
+            return new DeleteManyModel<>(filter, options);
         }
 
         private static void checkStatementFields(
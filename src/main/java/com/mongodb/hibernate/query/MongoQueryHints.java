@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.query;
+
+/**
+ * The database hints that may be {@linkplain org.hibernate.query.Query#addQueryHint(String) added} to a query.
+ * Specifying any other database hint results in an exception.
+ *
+ * <p>Apart from {@link #ESTIMATED_DOCUMENT_COUNT}, a database hint has the form {@code name=value}, where {@code name}
+ * is one of the constants declared here, and {@code value} is a value in the <a
+ * href="https://www.mongodb.com/docs/manual/reference/mongodb-extended-json/">Extended JSON</a> format, for example:
+ *
+ * <pre>{@code
+ * session.createSelectionQuery("from Book b where b.publishYear > 1900 order by b.title", Book.class)
+ *         .addQueryHint(MongoQueryHints.HINT + "={\"publishYear\": 1}")
+ *         .addQueryHint(MongoQueryHints.ALLOW_DISK_USE + "=true")
+ *         .addQueryHint(MongoQueryHints.COMMENT + "=\"books of the 20th century\"");
+ * }</pre>
+ *
+ * <p>The database hints are applied when executing a query, and do not affect how it is translated. A database hint is
+ * ignored if it does not apply to a query, for example, {@link #ALLOW_DISK_USE} is ignored for an update query.
+ */
+public final class MongoQueryHints {
+    /**
+     * Allows an unfiltered {@code select count(*) from Entity} query without grouping to be answered from the
+     * collection metadata instead of scanning the collection, provided that no transaction is active when executing
+     * the query. The count may be inaccurate, see <a
+     * href="https://www.mongodb.com/docs/manual/reference/method/db.collection.estimatedDocumentCount/">{@code
+     * estimatedDocumentCount}</a>. The hint is ignored for any other query.
+     */
+    public static final String ESTIMATED_DOCUMENT_COUNT = "estimatedDocumentCount";
+
+    /**
+     * The index to use, specified either by its name as a string, or by its key pattern as a document. Applies to
+     * select, update and delete queries. See <a
+     * href="https://www.mongodb.com/docs/manual/reference/command/aggregate/#std-label-aggregate-cmd-hint">{@code
+     * hint}</a>.
+     */
+    public static final String HINT = "hint";
+
+    /**
+     * A boolean that allows the stages of a select query, for example, {@code $sort}, to write temporary files when
+     * they exceed their memory limit. See <a
+     * href="https://www.mongodb.com/docs/manual/reference/command/aggregate/#std-label-aggregate-cmd-allowDiskUse">
+     * {@code allowDiskUse}</a>.
+     */
+    public static final String ALLOW_DISK_USE = "allowDiskUse";
+
+    /**
+     * A value that is attached to the command, and appears in the database profiler output and logs. Applies to select,
+     * update and delete queries. See <a
+     * href="https://www.mongodb.com/docs/manual/reference/command/aggregate/#std-label-aggregate-cmd-comment">{@code
+     * comment}</a>.
+     */
+    public static final String COMMENT = "comment";
+
+    /**
+     * A document specifying the language-specific rules for string comparison. Applies to select, update and delete
+     * queries. See <a href="https://www.mongodb.com/docs/manual/reference/collation/">collation</a>.
+     */
+    public static final String COLLATION = "collation";
+
+    /**
+     * An integer specifying the time limit in milliseconds for executing a select query. See <a
+     * href="https://www.mongodb.com/docs/manual/reference/command/aggregate/#std-label-aggregate-cmd-maxTimeMS">{@code
+     * maxTimeMS}</a>.
+     */
+    public static final String MAX_TIME_MS = "maxTimeMS";
+
+    /**
+     * An integer specifying the number of documents to return in each batch of the result of a select query. See <a
+     * href="https://www.mongodb.com/docs/manual/reference/method/cursor.batchSize/">{@code batchSize}</a>.
+     */
+    public static final String BATCH_SIZE = "batchSize";
+
+    /**
+     * A document specifying the read concern of a select query, for example, <code>{"level": "majority"}</code>. A
+     * transaction has its own read concern, which is why this hint results in an exception when executing a query in a
+     * transaction. See <a href="https://www.mongodb.com/docs/manual/reference/read-concern/">read concern</a>.
+     */
+    public static final String READ_CONCERN = "readConcern";
+
+    private MongoQueryHints() {}
+}
@@ -15,6 +15,7 @@
  */
 
 import com.mongodb.hibernate.internal.boot.MongoAdditionalMappingContributor;
+import com.mongodb.hibernate.internal.cache.ChangeStreamCacheInvalidator;
 import com.mongodb.hibernate.internal.service.StandardServiceRegistryScopedState;
 import org.hibernate.boot.spi.AdditionalMappingContributor;
 import org.hibernate.service.spi.ServiceContributor;
@@ -34,15 +35,25 @@ module com.mongodb.hibernate {
             StandardServiceRegistryScopedState.ServiceContributor;
     provides AdditionalMappingContributor with
             MongoAdditionalMappingContributor;
+    provides org.hibernate.integrator.spi.Integrator with
+            ChangeStreamCacheInvalidator.Integrator;
 
+    opens com.mongodb.hibernate.cache to
+            org.hibernate.orm.core;
     opens com.mongodb.hibernate.dialect to
             org.hibernate.orm.core;
     opens com.mongodb.hibernate.jdbc to
             org.hibernate.orm.core;
     opens com.mongodb.hibernate.internal.id.objectid to
             org.hibernate.orm.core;
+    opens com.mongodb.hibernate.internal.id.uuid to
+            org.hibernate.orm.core;
+    opens com.mongodb.hibernate.internal.id.sequence to
+            org.hibernate.orm.core;
 
+    exports com.mongodb.hibernate.cache;
     exports com.mongodb.hibernate.cfg;
     exports com.mongodb.hibernate.cfg.spi;
     exports com.mongodb.hibernate.annotations;
+    exports com.mongodb.hibernate.query;
 }
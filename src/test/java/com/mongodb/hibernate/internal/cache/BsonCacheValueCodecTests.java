@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.types.ObjectId;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class BsonCacheValueCodecTests {
+
+    static List<Object> nativelyEncodedValues() {
+        return List.of(
+                true,
+                1,
+                2L,
+                3.5,
+                "string",
+                new BigDecimal("1.50"),
+                new byte[] {1, 2},
+                new ObjectId("68c1a1b2c3d4e5f6a7b8c9d0"),
+                Instant.ofEpochMilli(1_000));
+    }
+
+    static List<Object> serializedValues() {
+        return List.of(
+                'c',
+                (short) 1,
+                Instant.ofEpochSecond(1, 1),
+                new BigDecimal("1" + "0".repeat(40) + ".1"),
+                new int[] {1, 2},
+                new Serializable[] {"string"},
+                new SerializableValue("string", 1));
+    }
+
+    @ParameterizedTest
+    @MethodSource("nativelyEncodedValues")
+    void testNativelyEncodedValueRoundTrip(Object value) throws IOException, ClassNotFoundException {
+        var encoded = BsonCacheValueCodec.encode(value);
+        assertThat(isSerialized(encoded)).isFalse();
+        assertThat(BsonCacheValueCodec.decode(encoded)).isEqualTo(value).hasSameClassAs(value);
+    }
+
+    @ParameterizedTest
+    @MethodSource("serializedValues")
+    void testSerializedValueRoundTrip(Object value) throws IOException, ClassNotFoundException {
+        var encoded = BsonCacheValueCodec.encode(value);
+        assertThat(isSerialized(encoded)).isTrue();
+        assertThat(BsonCacheValueCodec.decode(encoded)).isEqualTo(value).hasSameClassAs(value);
+    }
+
+    @Test
+    void testNull() throws IOException, ClassNotFoundException {
+        assertThat(BsonCacheValueCodec.decode(BsonCacheValueCodec.encode(null))).isNull();
+    }
+
+    @Test
+    void testObjectArray() throws IOException, ClassNotFoundException {
+        var value = new Object[] {1, null, new Object[] {"string", 'c'}};
+        var encoded = BsonCacheValueCodec.encode(value);
+        assertThat(new RawBsonDocument(encoded).get("v").isArray()).isTrue();
+        assertThat(BsonCacheValueCodec.decode(encoded)).isEqualTo(value).hasSameClassAs(value);
+    }
+
+    @Test
+    void testMap() throws IOException, ClassNotFoundException {
+        var value = new HashMap<String, @Nullable Object>(Map.of("_subclass", "Item", "int", 1));
+        value.put("null", null);
+        var encoded = BsonCacheValueCodec.encode(value);
+        assertThat(new RawBsonDocument(encoded))
+                .isEqualTo(BsonDocument.parse("{v: {_subclass: 'Item', int: 1, null: null}}"));
+        assertThat(BsonCacheValueCodec.decode(encoded)).isEqualTo(value).hasSameClassAs(value);
+    }
+
+    @Test
+    void testNotSerializableValue() {
+        assertThatThrownBy(() -> BsonCacheValueCodec.encode(new Object())).isInstanceOf(NotSerializableException.class);
+    }
+
+    private static boolean isSerialized(byte[] encoded) {
+        var value = new RawBsonDocument(encoded).get("v");
+        return value.isBinary() && value.asBinary().getType() == BsonBinarySubType.USER_DEFINED.getValue();
+    }
+
+    private record SerializableValue(String string, int i) implements Serializable {}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.cache;
+
+import static com.mongodb.hibernate.internal.cache.OffHeapStorageAccess.BLOCK_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class OffHeapStorageAccessTests {
+
+    @Test
+    void testPutAndGet() {
+        var storageAccess = new OffHeapStorageAccess(1024 * BLOCK_SIZE);
+        var value = new Object[] {1, "x".repeat(3 * BLOCK_SIZE), null};
+        storageAccess.putIntoCache("key", value, null);
+        assertThat(storageAccess.contains("key")).isTrue();
+        assertThat(storageAccess.getFromCache("key", null)).isEqualTo(value);
+        assertThat(storageAccess.getFromCache("absent", null)).isNull();
+    }
+
+    @Test
+    void testPutReplaces() {
+        var storageAccess = new OffHeapStorageAccess(2 * BLOCK_SIZE, 1);
+        storageAccess.putIntoCache("key", "x".repeat(BLOCK_SIZE), null);
+        storageAccess.putIntoCache("key", "y", null);
+        storageAccess.putIntoCache("other", "z", null);
+        assertThat(storageAccess.getFromCache("key", null)).isEqualTo("y");
+        assertThat(storageAccess.getFromCache("other", null)).isEqualTo("z");
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryEvicted() {
+        var storageAccess = new OffHeapStorageAccess(2 * BLOCK_SIZE, 1);
+        storageAccess.putIntoCache("first", 1, null);
+        storageAccess.putIntoCache("second", 2, null);
+        storageAccess.getFromCache("first", null);
+        storageAccess.putIntoCache("third", 3, null);
+        assertThat(storageAccess.contains("first")).isTrue();
+        assertThat(storageAccess.contains("second")).isFalse();
+        assertThat(storageAccess.contains("third")).isTrue();
+    }
+
+    @Test
+    void testEntryLargerThanStripeNotCached() {
+        var storageAccess = new OffHeapStorageAccess(2 * BLOCK_SIZE, 1);
+        storageAccess.putIntoCache("key", 1, null);
+        storageAccess.putIntoCache("key", "x".repeat(2 * BLOCK_SIZE), null);
+        assertThat(storageAccess.contains("key")).isFalse();
+    }
+
+    @Test
+    void testNotSerializableValueNotCached() {
+        var storageAccess = new OffHeapStorageAccess(2 * BLOCK_SIZE, 1);
+        storageAccess.putIntoCache("key", 1, null);
+        storageAccess.putIntoCache("key", new Object(), null);
+        assertThat(storageAccess.contains("key")).isFalse();
+    }
+
+    @Test
+    void testEvictData() {
+        var storageAccess = new OffHeapStorageAccess(4 * BLOCK_SIZE, 1);
+        storageAccess.putIntoCache("first", 1, null);
+        storageAccess.putIntoCache("second", 2, null);
+        storageAccess.evictData("first");
+        assertThat(storageAccess.contains("first")).isFalse();
+        assertThat(storageAccess.contains("second")).isTrue();
+        storageAccess.evictData();
+        assertThat(storageAccess.contains("second")).isFalse();
+        storageAccess.putIntoCache("third", 3, null);
+        assertThat(storageAccess.getFromCache("third", null)).isEqualTo(3);
+    }
+}
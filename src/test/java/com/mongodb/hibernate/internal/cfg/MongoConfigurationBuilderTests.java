@@ -16,10 +16,12 @@
 
 package com.mongodb.hibernate.internal.cfg;
 
+import static com.mongodb.hibernate.cfg.MongoAvailableSettings.CHANGE_STREAM_CACHE_INVALIDATION;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hibernate.cfg.AvailableSettings.JAKARTA_JDBC_URL;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.mongodb.ConnectionString;
@@ -39,6 +41,7 @@ class MongoConfigurationBuilderTests {
     void defaults() {
         var config = new MongoConfigurationBuilder().databaseName("testDbName").build();
         assertEquals(MongoClientSettings.builder().build(), config.mongoClientSettings());
+        assertFalse(config.changeStreamCacheInvalidation());
     }
 
     @Test
@@ -90,6 +93,23 @@ class MongoConfigurationBuilderTests {
                     () -> assertEquals(expectedDatabaseName, config.databaseName()));
         }
 
+        @Test
+        void changeStreamCacheInvalidation() {
+            assertAll(
+                    () -> assertChangeStreamCacheInvalidation(true, "true"),
+                    () -> assertChangeStreamCacheInvalidation(false, " FALSE "),
+                    () -> assertChangeStreamCacheInvalidation(true, Boolean.TRUE),
+                    () -> assertFailedToParse(CHANGE_STREAM_CACHE_INVALIDATION, "yes"),
+                    () -> assertUnsupportedType(CHANGE_STREAM_CACHE_INVALIDATION, 1));
+        }
+
+        private static void assertChangeStreamCacheInvalidation(boolean expected, Object propertyValue) {
+            var config = new MongoConfigurationBuilder(Map.of(CHANGE_STREAM_CACHE_INVALIDATION, propertyValue))
+                    .databaseName("testDbName")
+                    .build();
+            assertEquals(expected, config.changeStreamCacheInvalidation());
+        }
+
         private static void assertFailedToParse(String propertyName, Object propertyValue) {
             var e = assertThrows(
                     RuntimeException.class,
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.id.uuid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.mongodb.hibernate.internal.id.uuid.UuidV7Generator.UuidV7Factory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class UuidV7GeneratorTests {
+    private static final Comparator<UUID> UNSIGNED_ORDER = Comparator.comparing(
+                    UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    @Test
+    void versionVariantAndTimestamp() {
+        var currentTimeMillis = 1_700_000_000_000L;
+        var uuid = new UuidV7Factory(() -> currentTimeMillis).generate();
+        assertAll(
+                () -> assertEquals(7, uuid.version()),
+                () -> assertEquals(2, uuid.variant()),
+                () -> assertEquals(currentTimeMillis, uuid.getMostSignificantBits() >>> 16));
+    }
+
+    @Test
+    void strictlyIncreasingWithinMillisecond() {
+        var factory = new UuidV7Factory(() -> 1_700_000_000_000L);
+        assertStrictlyIncreasing(factory, 10_000);
+    }
+
+    @Test
+    void strictlyIncreasingWhenClockGoesBackwards() {
+        var currentTimeMillis = new AtomicLong(1_700_000_000_000L);
+        var factory = new UuidV7Factory(() -> currentTimeMillis.getAndAdd(-1));
+        assertStrictlyIncreasing(factory, 100);
+    }
+
+    private static void assertStrictlyIncreasing(UuidV7Factory factory, int count) {
+        var uuids = new ArrayList<UUID>(count);
+        for (var i = 0; i < count; i++) {
+            uuids.add(factory.generate());
+        }
+        for (var i = 1; i < count; i++) {
+            assertThat(UNSIGNED_ORDER.compare(uuids.get(i - 1), uuids.get(i))).isNegative();
+        }
+        assertThat(uuids).allSatisfy(uuid -> assertEquals(7, uuid.version()));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LikePatternsTests {
+    @ParameterizedTest
+    @CsvSource(
+            delimiterString = "->",
+            quoteCharacter = '"',
+            textBlock =
+                    """
+                    abc%        -> ^abc
+                    abc%%       -> ^abc
+                    abc         -> ^abc\\z
+                    ""          -> ^\\z
+                    %abc        -> abc\\z
+                    %abc%       -> abc
+                    %           -> ""
+                    %_          -> [\\s\\S]\\z
+                    a%b_c       -> ^a[\\s\\S]*b[\\s\\S]c\\z
+                    _%          -> ^[\\s\\S]
+                    a.b*(c)%    -> ^a\\.b\\*\\(c\\)
+                    ^$|?+[]{}\\ -> ^\\^\\$\\|\\?\\+\\[\\]\\{\\}\\\\\\z
+                    """)
+    void testToRegexWithoutEscapeCharacter(String likePattern, String expectedRegex) {
+        assertThat(LikePatterns.toRegex(likePattern, null)).isEqualTo(expectedRegex);
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+            delimiterString = "->",
+            textBlock =
+                    """
+                    100!%%  -> ^100%
+                    a!_b    -> ^a_b\\z
+                    a!!%    -> ^a!
+                    a!b     -> ^ab\\z
+                    """)
+    void testToRegexWithEscapeCharacter(String likePattern, String expectedRegex) {
+        assertThat(LikePatterns.toRegex(likePattern, '!')).isEqualTo(expectedRegex);
+    }
+
+    @Test
+    void testToRegexEndingWithEscapeCharacter() {
+        assertThatThrownBy(() -> LikePatterns.toRegex("abc!", '!')).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "abc", "a\nb"})
+    void testAnyStringAndNoString(String string) {
+        assertThat(Pattern.compile(LikePatterns.ANY_STRING).matcher(string).find())
+                .isTrue();
+        assertThat(Pattern.compile(LikePatterns.NO_STRING).matcher(string).find())
+                .isFalse();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.command;
+
+import static com.mongodb.hibernate.internal.translate.mongoast.AstNodeAssertions.assertRendering;
+
+import com.mongodb.hibernate.internal.translate.mongoast.AstLiteral;
+import com.mongodb.hibernate.internal.translate.mongoast.AstParameterMarker;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstProjectStageIncludeSpecification;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstSortField;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstSortOrder;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperation;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstFieldOperationFilter;
+import java.util.List;
+import org.bson.BsonInt32;
+import org.junit.jupiter.api.Test;
+
+class AstFindCommandTests {
+
+    @Test
+    void testRendering() {
+        var filter = new AstFieldOperationFilter(
+                "_id",
+                new AstComparisonFilterOperation(AstComparisonFilterOperator.EQ, new AstLiteral(new BsonInt32(1))));
+        var projection = List.of(new AstProjectStageIncludeSpecification("title"));
+        var findCommand = new AstFindCommand("books", filter, List.of(), null, null, projection);
+        var expectedJson =
+                """
+                {"find": "books", "filter": {"_id": {"$eq": {"$numberInt": "1"}}}, "projection": {"title": true}}\
+                """;
+        assertRendering(expectedJson, findCommand);
+    }
+
+    @Test
+    void testRenderingWithSortSkipAndLimit() {
+        var sortFields = List.of(new AstSortField("title", AstSortOrder.DESC));
+        var projection = List.of(new AstProjectStageIncludeSpecification("title"));
+        var findCommand = new AstFindCommand(
+                "books",
+                null,
+                sortFields,
+                AstParameterMarker.INSTANCE,
+                new AstLiteral(new BsonInt32(5)),
+                projection);
+        var expectedJson =
+                """
+                {"find": "books", "sort": {"title": {"$numberInt": "-1"}}, "skip": {"$undefined": true}, "limit": {"$numberInt": "5"}, \
+                "projection": {"title": true}}\
+                """;
+        assertRendering(expectedJson, findCommand);
+    }
+}
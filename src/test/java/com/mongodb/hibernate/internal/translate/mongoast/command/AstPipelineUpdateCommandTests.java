@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.command;
+
+import static com.mongodb.hibernate.internal.translate.mongoast.AstNodeAssertions.assertRendering;
+
+import com.mongodb.hibernate.internal.translate.mongoast.AstArray;
+import com.mongodb.hibernate.internal.translate.mongoast.AstDocument;
+import com.mongodb.hibernate.internal.translate.mongoast.AstElement;
+import com.mongodb.hibernate.internal.translate.mongoast.AstFieldUpdate;
+import com.mongodb.hibernate.internal.translate.mongoast.AstLiteral;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstFieldPathExpression;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperation;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstFieldOperationFilter;
+import java.util.List;
+import org.bson.BsonBoolean;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.junit.jupiter.api.Test;
+
+class AstPipelineUpdateCommandTests {
+
+    @Test
+    void testRendering() {
+        var filter = new AstFieldOperationFilter(
+                "_id",
+                new AstComparisonFilterOperation(
+                        AstComparisonFilterOperator.EQ, new AstLiteral(new BsonInt64(12345L))));
+        var publishYearUpdate = new AstFieldUpdate(
+                "publishYear",
+                new AstDocument(List.of(new AstElement(
+                        "$subtract",
+                        new AstArray(List.of(
+                                new AstFieldPathExpression("publishYear"),
+                                new AstDocument(List.of(
+                                        new AstElement("$literal", new AstLiteral(new BsonInt32(10)))))))))));
+        var outOfStockUpdate = new AstFieldUpdate(
+                "outOfStock",
+                new AstDocument(List.of(new AstElement("$literal", new AstLiteral(BsonBoolean.TRUE)))));
+
+        var updateCommand =
+                new AstPipelineUpdateCommand("books", filter, List.of(publishYearUpdate, outOfStockUpdate));
+
+        var expectedJson =
+                """
+                {"update": "books", "updates": [{"q": {"_id": {"$eq": {"$numberLong": "12345"}}}, "u": [{"$set": {"publishYear": {"$subtract": ["$publishYear", {"$literal": {"$numberInt": "10"}}]}, "outOfStock": {"$literal": true}}}], "multi": true}]}\
+                """;
+        assertRendering(expectedJson, updateCommand);
+    }
+}
@@ -16,6 +16,8 @@
 
 package com.mongodb.hibernate.internal.translate.mongoast.command;
 
+import static com.mongodb.hibernate.internal.translate.mongoast.AstFieldUpdateOperator.INC;
+import static com.mongodb.hibernate.internal.translate.mongoast.AstFieldUpdateOperator.MUL;
 import static com.mongodb.hibernate.internal.translate.mongoast.AstNodeAssertions.assertRendering;
 
 import com.mongodb.hibernate.internal.translate.mongoast.AstFieldUpdate;
@@ -24,6 +26,7 @@ import com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFil
 import com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator;
 import com.mongodb.hibernate.internal.translate.mongoast.filter.AstFieldOperationFilter;
 import java.util.List;
+import org.bson.BsonInt32;
 import org.bson.BsonInt64;
 import org.bson.BsonString;
 import org.junit.jupiter.api.Test;
@@ -50,4 +53,45 @@ class AstUpdateCommandTests {
                 """;
         assertRendering(expectedJson, updateCommand);
     }
+
+    @Test
+    void testRenderingGroupedByOperator() {
+        var filter = new AstFieldOperationFilter(
+                "_id",
+                new AstComparisonFilterOperation(
+                        AstComparisonFilterOperator.EQ, new AstLiteral(new BsonInt64(12345L))));
+
+        var updateCommand = new AstUpdateCommand(
+                "books",
+                filter,
+                List.of(
+                        new AstFieldUpdate("publishYear", new AstLiteral(new BsonInt32(1)), INC),
+                        new AstFieldUpdate("title", new AstLiteral(new BsonString("War and Peace"))),
+                        new AstFieldUpdate("price", new AstLiteral(new BsonInt32(2)), MUL),
+                        new AstFieldUpdate("discount", new AstLiteral(new BsonInt32(3)), INC)));
+
+        var expectedJson =
+                """
+                {"update": "books", "updates": [{"q": {"_id": {"$eq": {"$numberLong": "12345"}}}, "u": {"$set": {"title": "War and Peace"}, "$inc": {"publishYear": {"$numberInt": "1"}, "discount": {"$numberInt": "3"}}, "$mul": {"price": {"$numberInt": "2"}}}, "multi": true}]}\
+                """;
+        assertRendering(expectedJson, updateCommand);
+    }
+
+    @Test
+    void testUpsertRendering() {
+        var filter = new AstFieldOperationFilter(
+                "_id",
+                new AstComparisonFilterOperation(
+                        AstComparisonFilterOperator.EQ, new AstLiteral(new BsonInt64(12345L))));
+
+        var astFieldUpdate = new AstFieldUpdate("title", new AstLiteral(new BsonString("War and Peace")));
+
+        var updateCommand = new AstUpdateCommand("books", filter, List.of(astFieldUpdate), true);
+
+        var expectedJson =
+                """
+                {"update": "books", "updates": [{"q": {"_id": {"$eq": {"$numberLong": "12345"}}}, "u": {"$set": {"title": "War and Peace"}}, "upsert": true}]}\
+                """;
+        assertRendering(expectedJson, updateCommand);
+    }
 }
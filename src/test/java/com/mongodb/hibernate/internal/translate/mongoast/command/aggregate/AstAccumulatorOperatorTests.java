@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.command.aggregate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class AstAccumulatorOperatorTests {
+
+    @ParameterizedTest
+    @CsvSource({
+        "SUM,$sum",
+        "AVG,$avg",
+        "MIN,$min",
+        "MAX,$max",
+        "PUSH,$push",
+    })
+    void testRendering(String operatorValue, String expectedRenderResult) {
+        var operator = AstAccumulatorOperator.valueOf(operatorValue);
+        assertEquals(expectedRenderResult, operator.getOperatorName());
+    }
+}
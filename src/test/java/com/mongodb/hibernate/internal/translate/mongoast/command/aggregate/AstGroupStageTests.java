@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.command.aggregate;
+
+import static com.mongodb.hibernate.internal.translate.mongoast.AstNodeAssertions.assertRendering;
+import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstAccumulatorOperator.MAX;
+import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstAccumulatorOperator.SUM;
+
+import com.mongodb.hibernate.internal.translate.mongoast.AstLiteral;
+import java.util.List;
+import org.bson.BsonInt64;
+import org.junit.jupiter.api.Test;
+
+class AstGroupStageTests {
+
+    @Test
+    void testRendering() {
+        var astGroupStage = new AstGroupStage(
+                List.of(new AstGroupStageIdField("k0", "field1"), new AstGroupStageIdField("k1", "field2.nested")),
+                List.of(
+                        new AstGroupStageAccumulatorField("a0", SUM, new AstLiteral(new BsonInt64(1))),
+                        new AstGroupStageAccumulatorField("a1", MAX, new AstFieldPathExpression("field3"))));
+
+        var expectedJson =
+                """
+                {"$group": {"_id": {"k0": "$field1", "k1": "$field2.nested"}, \
+                "a0": {"$sum": {"$numberLong": "1"}}, "a1": {"$max": "$field3"}}}\
+                """;
+        assertRendering(expectedJson, astGroupStage);
+    }
+
+    @Test
+    void testRenderingWithoutIdFields() {
+        var astGroupStage = new AstGroupStage(
+                List.of(), List.of(new AstGroupStageAccumulatorField("a0", SUM, new AstFieldPathExpression("field"))));
+
+        var expectedJson = """
+                {"$group": {"_id": null, "a0": {"$sum": "$field"}}}\
+                """;
+        assertRendering(expectedJson, astGroupStage);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.command.aggregate;
+
+import static com.mongodb.hibernate.internal.translate.mongoast.AstNodeAssertions.assertRendering;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.GTE;
+
+import com.mongodb.hibernate.internal.translate.mongoast.AstLiteral;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperation;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstFieldOperationFilter;
+import java.util.List;
+import org.bson.BsonInt32;
+import org.junit.jupiter.api.Test;
+
+class AstLookupStageTests {
+
+    @Test
+    void testRenderingWithLocalAndForeignFields() {
+        var astLookupStage = new AstLookupStage("customers", "customer_id", "_id", List.of(), "c1_0");
+
+        var expectedJson =
+                """
+                {"$lookup": {"from": "customers", "localField": "customer_id", "foreignField": "_id", "as": "c1_0"}}\
+                """;
+        assertRendering(expectedJson, astLookupStage);
+    }
+
+    @Test
+    void testRenderingWithPipeline() {
+        var astMatchStage = new AstMatchStage(new AstFieldOperationFilter(
+                "rating", new AstComparisonFilterOperation(GTE, new AstLiteral(new BsonInt32(4)))));
+        var astLimitStage = new AstLimitStage(new AstLiteral(new BsonInt32(1)));
+        var astLookupStage = new AstLookupStage("reviews", null, null, List.of(astMatchStage, astLimitStage), "r1_0");
+
+        var expectedJson =
+                """
+                {"$lookup": {"from": "reviews", "pipeline": [{"$match": {"rating": {"$gte": {"$numberInt": "4"}}}}, \
+                {"$limit": {"$numberInt": "1"}}], "as": "r1_0"}}\
+                """;
+        assertRendering(expectedJson, astLookupStage);
+    }
+
+    @Test
+    void testRenderingWithLocalAndForeignFieldsAndPipeline() {
+        var astLimitStage = new AstLimitStage(new AstLiteral(new BsonInt32(1)));
+        var astLookupStage = new AstLookupStage("reviews", "_id", "bookId", List.of(astLimitStage), "r1_0");
+
+        var expectedJson =
+                """
+                {"$lookup": {"from": "reviews", "localField": "_id", "foreignField": "bookId", \
+                "pipeline": [{"$limit": {"$numberInt": "1"}}], "as": "r1_0"}}\
+                """;
+        assertRendering(expectedJson, astLookupStage);
+    }
+}
@@ -31,6 +31,8 @@ class AstComparisonFilterOperatorTests {
         "LT,$lt",
         "LTE,$lte",
         "NE,$ne",
+        "IN,$in",
+        "NIN,$nin",
     })
     void testRendering(String operatorValue, String expectedRennderResult) {
         var operator = AstComparisonFilterOperator.valueOf(operatorValue);
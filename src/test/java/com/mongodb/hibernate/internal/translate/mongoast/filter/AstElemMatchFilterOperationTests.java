@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.filter;
+
+import static com.mongodb.hibernate.internal.translate.mongoast.AstNodeAssertions.assertRendering;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.EQ;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.GT;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstLogicalFilterOperator.AND;
+
+import com.mongodb.hibernate.internal.translate.mongoast.AstLiteral;
+import java.util.List;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.junit.jupiter.api.Test;
+
+class AstElemMatchFilterOperationTests {
+    @Test
+    void testRendering() {
+        var astElemMatchFilterOperation = new AstElemMatchFilterOperation(new AstLogicalFilter(
+                AND,
+                List.of(
+                        new AstFieldOperationFilter(
+                                "sku", new AstComparisonFilterOperation(EQ, new AstLiteral(new BsonString("X")))),
+                        new AstFieldOperationFilter(
+                                "qty", new AstComparisonFilterOperation(GT, new AstLiteral(new BsonInt32(5)))))));
+        var expectedJson =
+                """
+                {"$elemMatch": {"$and": [{"sku": {"$eq": "X"}}, {"qty": {"$gt": {"$numberInt": "5"}}}]}}\
+                """;
+        assertRendering(expectedJson, astElemMatchFilterOperation);
+    }
+}
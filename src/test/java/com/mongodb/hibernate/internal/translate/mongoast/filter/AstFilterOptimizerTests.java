@@ -0,0 +1,297 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.filter;
+
+import static com.mongodb.hibernate.internal.translate.mongoast.AstNodeAssertions.assertRendering;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.EQ;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.GT;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.LT;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstLogicalFilterOperator.AND;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstLogicalFilterOperator.NOR;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstLogicalFilterOperator.OR;
+
+import com.mongodb.hibernate.internal.translate.mongoast.AstLiteral;
+import com.mongodb.hibernate.internal.translate.mongoast.AstParameterMarker;
+import com.mongodb.hibernate.internal.translate.mongoast.AstValue;
+import java.util.List;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonString;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class AstFilterOptimizerTests {
+
+    @Nested
+    class Flattening {
+        @Test
+        void testNestedAnd() {
+            var filter = and(compare("a", EQ, "1"), and(compare("b", EQ, "2"), compare("c", EQ, "3")));
+            assertOptimized(
+                    """
+                    {"$and": [{"a": {"$eq": "1"}}, {"b": {"$eq": "2"}}, {"c": {"$eq": "3"}}]}\
+                    """,
+                    filter);
+        }
+
+        @Test
+        void testNestedOr() {
+            var filter = or(or(compare("a", GT, "1"), compare("b", EQ, "2")), compare("c", EQ, "3"));
+            assertOptimized(
+                    """
+                    {"$or": [{"a": {"$gt": "1"}}, {"b": {"$eq": "2"}}, {"c": {"$eq": "3"}}]}\
+                    """,
+                    filter);
+        }
+
+        @Test
+        void testSingleOperand() {
+            var filter = and(or(compare("a", EQ, "1")));
+            assertOptimized("""
+                    {"a": {"$eq": "1"}}\
+                    """, filter);
+        }
+    }
+
+    @Nested
+    class EqualitiesFolding {
+        @Test
+        void testOrOfEqualities() {
+            var filter = or(compare("a", EQ, "1"), compare("b", EQ, "2"), compare("a", EQ, "3"));
+            assertOptimized(
+                    """
+                    {"$or": [{"a": {"$in": ["1", "3"]}}, {"b": {"$eq": "2"}}]}\
+                    """,
+                    filter);
+        }
+
+        @Test
+        void testOrOfEqualitiesWithParameterMarkers() {
+            var filter =
+                    or(compare("a", EQ, AstParameterMarker.INSTANCE), compare("a", EQ, AstParameterMarker.INSTANCE));
+            assertOptimized(
+                    """
+                    {"a": {"$in": [{"$undefined": true}, {"$undefined": true}]}}\
+                    """,
+                    filter);
+        }
+
+        @Test
+        void testParameterMarkersAreNotReordered() {
+            var filter = or(
+                    compare("a", EQ, AstParameterMarker.INSTANCE),
+                    compare("b", EQ, AstParameterMarker.INSTANCE),
+                    compare("a", EQ, AstParameterMarker.INSTANCE));
+            assertOptimized(
+                    """
+                    {"$or": [{"a": {"$eq": {"$undefined": true}}}, {"b": {"$eq": {"$undefined": true}}}, \
+                    {"a": {"$eq": {"$undefined": true}}}]}\
+                    """,
+                    filter);
+        }
+
+        @Test
+        void testRegularExpressionIsNotFolded() {
+            var filter = or(
+                    compare("a", EQ, new AstLiteral(new BsonRegularExpression("^x"))), compare("a", EQ, "y"));
+            assertOptimized(
+                    """
+                    {"$or": [{"a": {"$eq": {"$regularExpression": {"pattern": "^x", "options": ""}}}}, \
+                    {"a": {"$eq": "y"}}]}\
+                    """,
+                    filter);
+        }
+    }
+
+    @Nested
+    class ComparisonsMerging {
+        @Test
+        void testAndOfRange() {
+            var filter = and(compare("a", GT, "1"), compare("b", EQ, "2"), compare("a", LT, "5"));
+            assertOptimized(
+                    """
+                    {"$and": [{"a": {"$gt": "1", "$lt": "5"}}, {"b": {"$eq": "2"}}]}\
+                    """,
+                    filter);
+        }
+
+        @Test
+        void testSameOperatorIsNotMerged() {
+            var filter = and(compare("a", GT, "1"), compare("a", GT, "2"));
+            assertOptimized(
+                    """
+                    {"$and": [{"a": {"$gt": "1"}}, {"a": {"$gt": "2"}}]}\
+                    """,
+                    filter);
+        }
+
+        @Test
+        void testParameterMarkersAreNotReordered() {
+            var filter = and(
+                    compare("a", GT, AstParameterMarker.INSTANCE),
+                    compare("b", EQ, AstParameterMarker.INSTANCE),
+                    compare("a", LT, AstParameterMarker.INSTANCE));
+            assertOptimized(
+                    """
+                    {"$and": [{"a": {"$gt": {"$undefined": true}}}, {"b": {"$eq": {"$undefined": true}}}, \
+                    {"a": {"$lt": {"$undefined": true}}}]}\
+                    """,
+                    filter);
+        }
+
+        @Test
+        void testParameterMarkerIsMovedOverFiltersWithoutParameterMarkers() {
+            var filter = and(
+                    compare("a", GT, AstParameterMarker.INSTANCE),
+                    compare("b", EQ, "2"),
+                    compare("a", LT, AstParameterMarker.INSTANCE));
+            assertOptimized(
+                    """
+                    {"$and": [{"a": {"$gt": {"$undefined": true}, "$lt": {"$undefined": true}}}, \
+                    {"b": {"$eq": "2"}}]}\
+                    """,
+                    filter);
+        }
+    }
+
+    @Nested
+    class NegationPushingDown {
+        @Test
+        void testEquality() {
+            assertOptimized("""
+                    {"a": {"$ne": "1"}}\
+                    """, nor(compare("a", EQ, "1")));
+        }
+
+        @Test
+        void testOrOfEqualities() {
+            assertOptimized(
+                    """
+                    {"a": {"$nin": ["1", "2"]}}\
+                    """,
+                    nor(compare("a", EQ, "1"), compare("a", EQ, "2")));
+        }
+
+        @Test
+        void testRange() {
+            assertOptimized(
+                    """
+                    {"a": {"$not": {"$gt": "1"}}}\
+                    """,
+                    nor(compare("a", GT, "1")));
+        }
+
+        @Test
+        void testDoubleNegation() {
+            assertOptimized(
+                    """
+                    {"a": {"$gt": "1"}}\
+                    """,
+                    nor(nor(compare("a", GT, "1"))));
+        }
+
+        @Test
+        void testAnd() {
+            assertOptimized(
+                    """
+                    {"$or": [{"a": {"$ne": "1"}}, {"b": {"$not": {"$gt": "2"}}}]}\
+                    """,
+                    nor(and(compare("a", EQ, "1"), compare("b", GT, "2"))));
+        }
+
+        @Test
+        void testOr() {
+            assertOptimized(
+                    """
+                    {"$nor": [{"a": {"$gt": "1"}}, {"b": {"$gt": "2"}}]}\
+                    """,
+                    nor(or(compare("a", GT, "1"), compare("b", GT, "2"))));
+        }
+
+        @Test
+        void testAndContainingOr() {
+            assertOptimized(
+                    """
+                    {"$nor": [{"$and": [{"a": {"$eq": "1"}}, {"$or": [{"b": {"$gt": "2"}}, {"c": {"$gt": "3"}}]}]}]}\
+                    """,
+                    nor(and(compare("a", EQ, "1"), or(compare("b", GT, "2"), compare("c", GT, "3")))));
+        }
+    }
+
+    @Nested
+    class TautologyRemoval {
+        @Test
+        void testAndWithEmptyFilter() {
+            assertOptimized(
+                    """
+                    {"a": {"$eq": "1"}}\
+                    """,
+                    and(AstEmptyFilter.INSTANCE, compare("a", EQ, "1")));
+        }
+
+        @Test
+        void testAndOfEmptyFilters() {
+            assertOptimized("{}", and(AstEmptyFilter.INSTANCE, AstEmptyFilter.INSTANCE));
+        }
+
+        @Test
+        void testOrWithEmptyFilter() {
+            assertOptimized("{}", or(compare("a", EQ, "1"), AstEmptyFilter.INSTANCE));
+        }
+
+        @Test
+        void testOrWithEmptyFilterAndParameterMarker() {
+            assertOptimized(
+                    """
+                    {"$or": [{"a": {"$eq": {"$undefined": true}}}, {}]}\
+                    """,
+                    or(compare("a", EQ, AstParameterMarker.INSTANCE), AstEmptyFilter.INSTANCE));
+        }
+
+        @Test
+        void testDuplicates() {
+            assertOptimized(
+                    """
+                    {"a": {"$eq": "1"}}\
+                    """,
+                    and(compare("a", EQ, "1"), compare("a", EQ, "1")));
+        }
+    }
+
+    private static void assertOptimized(String expectedJson, AstFilter filter) {
+        assertRendering(expectedJson, AstFilterOptimizer.optimize(filter));
+    }
+
+    private static AstFilter compare(String fieldPath, AstComparisonFilterOperator operator, String value) {
+        return compare(fieldPath, operator, new AstLiteral(new BsonString(value)));
+    }
+
+    private static AstFilter compare(String fieldPath, AstComparisonFilterOperator operator, AstValue value) {
+        return new AstFieldOperationFilter(fieldPath, new AstComparisonFilterOperation(operator, value));
+    }
+
+    private static AstFilter and(AstFilter... filters) {
+        return new AstLogicalFilter(AND, List.of(filters));
+    }
+
+    private static AstFilter or(AstFilter... filters) {
+        return new AstLogicalFilter(OR, List.of(filters));
+    }
+
+    private static AstFilter nor(AstFilter... filters) {
+        return new AstLogicalFilter(NOR, List.of(filters));
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.filter;
+
+import static com.mongodb.hibernate.internal.translate.mongoast.AstNodeAssertions.assertRendering;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.GT;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.LTE;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mongodb.hibernate.internal.translate.mongoast.AstLiteral;
+import com.mongodb.hibernate.internal.translate.mongoast.AstParameterMarker;
+import java.util.List;
+import org.bson.BsonInt32;
+import org.junit.jupiter.api.Test;
+
+class AstMultipleComparisonFilterOperationTests {
+    @Test
+    void testRendering() {
+        var astMultipleComparisonFilterOperation = new AstMultipleComparisonFilterOperation(List.of(
+                new AstComparisonFilterOperation(GT, new AstLiteral(new BsonInt32(1))),
+                new AstComparisonFilterOperation(LTE, AstParameterMarker.INSTANCE)));
+        var expectedJson = """
+                {"$gt": {"$numberInt": "1"}, "$lte": {"$undefined": true}}\
+                """;
+        assertRendering(expectedJson, astMultipleComparisonFilterOperation);
+    }
+
+    @Test
+    void testDuplicateOperators() {
+        assertThatThrownBy(() -> new AstMultipleComparisonFilterOperation(List.of(
+                        new AstComparisonFilterOperation(GT, new AstLiteral(new BsonInt32(1))),
+                        new AstComparisonFilterOperation(GT, new AstLiteral(new BsonInt32(2))))))
+                .isInstanceOf(AssertionError.class);
+    }
+}
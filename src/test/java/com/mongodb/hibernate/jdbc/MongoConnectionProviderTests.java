@@ -17,15 +17,21 @@
 package com.mongodb.hibernate.jdbc;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.mongodb.ConnectionString;
 import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
 import com.mongodb.client.internal.MongoClientImpl;
 import com.mongodb.hibernate.internal.BuildConfig;
 import com.mongodb.hibernate.internal.cfg.MongoConfiguration;
 import com.mongodb.hibernate.internal.service.StandardServiceRegistryScopedState;
 import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.hibernate.service.UnknownUnwrapTypeException;
 import org.junit.jupiter.api.AutoClose;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -59,12 +65,23 @@ class MongoConnectionProviderTests {
                 () -> assertTrue(driverInformation.getDriverVersions().contains(BuildConfig.VERSION)));
     }
 
+    @Test
+    void testUnwrapMongoClient() {
+        assertAll(
+                () -> assertTrue(connectionProvider.isUnwrappableAs(MongoClient.class)),
+                () -> assertSame(connectionProvider.getMongoClient(), connectionProvider.unwrap(MongoClient.class)),
+                () -> assertFalse(connectionProvider.isUnwrappableAs(DataSource.class)),
+                () -> assertThrows(
+                        UnknownUnwrapTypeException.class, () -> connectionProvider.unwrap(DataSource.class)));
+    }
+
     private MongoConnectionProvider createMongoConnectionProvider() {
         var mongoConfiguration = new MongoConfiguration(
                 MongoClientSettings.builder()
                         .applyConnectionString(new ConnectionString("mongodb://host"))
                         .build(),
-                "db");
+                "db",
+                false);
         var standardServiceRegistryScopedState = new StandardServiceRegistryScopedState(mongoConfiguration);
         var result = new MongoConnectionProvider();
         result.injectStandardServiceRegistryScopedState(standardServiceRegistryScopedState);
@@ -19,6 +19,7 @@ package com.mongodb.hibernate.jdbc;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -43,6 +44,7 @@ import org.bson.BsonNull;
 import org.bson.BsonObjectId;
 import org.bson.BsonString;
 import org.bson.BsonValue;
+import org.bson.UuidRepresentation;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.AutoClose;
@@ -86,6 +88,23 @@ class MongoResultSetTests {
         checkMethodsWithOpenPrecondition(MongoResultSetTests::assertThrowsClosedException);
     }
 
+    @Test
+    void testGettersForFieldPath() throws SQLException {
+        var bsonDocument = new BsonDocument()
+                .append("_id", new BsonInt32(1))
+                .append("c1_0", new BsonDocument("name", new BsonString("Jane")))
+                .append("l1_0", new BsonString("not a document"));
+        doReturn(true).when(mongoCursor).hasNext();
+        doReturn(bsonDocument).when(mongoCursor).next();
+        mongoResultSet = new MongoResultSet(mongoCursor, List.of("_id", "c1_0.name", "c1_0._id", "l1_0._id"));
+        assertTrue(mongoResultSet.next());
+        assertAll(
+                () -> assertEquals(1, mongoResultSet.getInt(1)),
+                () -> assertEquals("Jane", mongoResultSet.getString(2)),
+                () -> assertNull(mongoResultSet.getObject(3, ObjectId.class)),
+                () -> assertNull(mongoResultSet.getObject(4, ObjectId.class)));
+    }
+
     @Nested
     class GettersTests {
 
@@ -222,6 +241,31 @@ class MongoResultSetTests {
                     () -> assertFalse(mongoResultSet.wasNull()));
         }
 
+        @Test
+        void testGettersForUuid() throws SQLException {
+            var uuid = UUID.randomUUID();
+            var value = new BsonBinary(uuid, UuidRepresentation.STANDARD);
+            createResultSetWith(value);
+            assertAll(
+                    () -> assertThrowsTypeMismatchException(() -> mongoResultSet.getString(1)),
+                    () -> assertThrowsTypeMismatchException(() -> mongoResultSet.getInt(1)),
+                    () -> assertArrayEquals(value.getData(), mongoResultSet.getBytes(1)),
+                    () -> assertEquals(uuid, mongoResultSet.getObject(1, UUID.class)),
+                    () -> assertEquals(uuid, mongoResultSet.getObject(1)),
+                    () -> assertThrowsTypeMismatchException(() -> mongoResultSet.getObject(1, ObjectId.class)),
+                    () -> assertFalse(mongoResultSet.wasNull()));
+        }
+
+        @Test
+        void testGettersForUuidString() throws SQLException {
+            var uuid = UUID.randomUUID();
+            createResultSetWith(new BsonString(uuid.toString()));
+            assertAll(
+                    () -> assertEquals(uuid.toString(), mongoResultSet.getString(1)),
+                    () -> assertEquals(uuid, mongoResultSet.getObject(1, UUID.class)),
+                    () -> assertFalse(mongoResultSet.wasNull()));
+        }
+
         @Test
         void testGettersForObject() throws SQLException {
             var objectId = new ObjectId(1, 0);
@@ -17,26 +17,40 @@
 package com.mongodb.hibernate.jdbc;
 
 import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 
+import com.mongodb.ReadConcern;
 import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.ClientSession;
+import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Collation;
+import com.mongodb.client.model.CollationStrength;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
@@ -44,11 +58,15 @@ import java.sql.SQLSyntaxErrorException;
 import java.util.List;
 import java.util.function.BiConsumer;
 import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.function.Executable;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -204,9 +222,214 @@ class MongoStatementTests {
                         "{title: {fieldName: 'document literal'}}", "Expressions and literals are not supported"));
     }
 
+    @Nested
+    class CommandOptionsTests {
+
+        @Mock
+        AggregateIterable<BsonDocument> aggregateIterable;
+
+        @Mock
+        MongoCursor<BsonDocument> mongoCursor;
+
+        @Captor
+        ArgumentCaptor<List<WriteModel<BsonDocument>>> writeModelsCaptor;
+
+        @Captor
+        ArgumentCaptor<BulkWriteOptions> bulkWriteOptionsCaptor;
+
+        @BeforeEach
+        void beforeEach() {
+            doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
+        }
+
+        @Test
+        void testAggregateOptions() throws SQLException {
+            doReturn(aggregateIterable).when(mongoCollection).aggregate(same(clientSession), anyList());
+            doReturn(mongoCursor).when(aggregateIterable).cursor();
+
+            mongoStatement.executeQuery(
+                    """
+                    {
+                        aggregate: "books",
+                        pipeline: [ { $project: { title: 1 } } ],
+                        hint: { title: 1 },
+                        allowDiskUse: true,
+                        comment: "books",
+                        collation: { locale: "fr", strength: 2 },
+                        maxTimeMS: 1000,
+                        cursor: { batchSize: 10 }
+                    }""");
+
+            verify(aggregateIterable).hint(BsonDocument.parse("{title: 1}"));
+            verify(aggregateIterable).allowDiskUse(true);
+            verify(aggregateIterable).comment(new BsonString("books"));
+            verify(aggregateIterable)
+                    .collation(Collation.builder()
+                            .locale("fr")
+                            .collationStrength(CollationStrength.SECONDARY)
+                            .build());
+            verify(aggregateIterable).maxTime(1000, MILLISECONDS);
+            verify(aggregateIterable).batchSize(10);
+        }
+
+        @Test
+        void testFindOptions(@Mock FindIterable<BsonDocument> findIterable) throws SQLException {
+            doReturn(findIterable).when(mongoCollection).find(same(clientSession), any(BsonDocument.class));
+            doReturn(mongoCursor).when(findIterable).cursor();
+
+            mongoStatement.executeQuery(
+                    """
+                    {
+                        find: "books",
+                        filter: { _id: { $eq: 1 } },
+                        sort: { title: 1 },
+                        skip: 5,
+                        limit: 10,
+                        projection: { title: 1 },
+                        hint: "title_1",
+                        comment: "books",
+                        maxTimeMS: 1000,
+                        batchSize: 10
+                    }""");
+
+            verify(mongoCollection).find(clientSession, BsonDocument.parse("{_id: {$eq: 1}}"));
+            verify(findIterable).sort(BsonDocument.parse("{title: 1}"));
+            verify(findIterable).skip(5);
+            verify(findIterable).limit(10);
+            verify(findIterable).projection(BsonDocument.parse("{title: 1}"));
+            verify(findIterable).hintString("title_1");
+            verify(findIterable).comment(new BsonString("books"));
+            verify(findIterable).maxTime(1000, MILLISECONDS);
+            verify(findIterable).batchSize(10);
+        }
+
+        @Test
+        void testReadConcern() throws SQLException {
+            doReturn(mongoCollection).when(mongoCollection).withReadConcern(ReadConcern.MAJORITY);
+            doReturn(aggregateIterable).when(mongoCollection).aggregate(same(clientSession), anyList());
+            doReturn(mongoCursor).when(aggregateIterable).cursor();
+
+            mongoStatement.executeQuery(
+                    """
+                    {
+                        aggregate: "books",
+                        pipeline: [ { $project: { title: 1 } } ],
+                        readConcern: { level: "majority" }
+                    }""");
+
+            verify(mongoCollection).withReadConcern(ReadConcern.MAJORITY);
+        }
+
+        @Test
+        void testReadConcernInTransaction() {
+            doReturn(true).when(clientSession).hasActiveTransaction();
+
+            assertThrows(
+                    SQLFeatureNotSupportedException.class,
+                    () -> mongoStatement.executeQuery(
+                            """
+                            {
+                                aggregate: "books",
+                                pipeline: [ { $project: { title: 1 } } ],
+                                readConcern: { level: "majority" }
+                            }"""));
+        }
+
+        @Test
+        void testWriteOptions() throws SQLException {
+            doReturn(BulkWriteResult.acknowledged(0, 0, 0, 0, emptyList(), emptyList()))
+                    .when(mongoCollection)
+                    .bulkWrite(eq(clientSession), anyList(), any(BulkWriteOptions.class));
+
+            mongoStatement.executeUpdate(
+                    """
+                    {
+                        delete: "books",
+                        deletes: [ { q: { outOfStock: true }, limit: 0, hint: "outOfStock_1" } ],
+                        comment: "books"
+                    }""");
+
+            verify(mongoCollection)
+                    .bulkWrite(eq(clientSession), writeModelsCaptor.capture(), bulkWriteOptionsCaptor.capture());
+            assertEquals(new BsonString("books"), bulkWriteOptionsCaptor.getValue().getComment());
+            var deleteModel = (DeleteManyModel<BsonDocument>) writeModelsCaptor.getValue().get(0);
+            assertEquals("outOfStock_1", deleteModel.getOptions().getHintString());
+        }
+    }
+
     @Nested
     class ExecuteUpdateTests {
 
+        @Test
+        void testPipelineUpdate(@Captor ArgumentCaptor<List<WriteModel<BsonDocument>>> writeModelsCaptor)
+                throws SQLException {
+            doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
+            doReturn(BulkWriteResult.acknowledged(0, 0, 0, 0, emptyList(), emptyList()))
+                    .when(mongoCollection)
+                    .bulkWrite(eq(clientSession), anyList());
+
+            mongoStatement.executeUpdate(
+                    """
+                    {
+                        update: "books",
+                        updates: [
+                            {
+                                q: { outOfStock: true },
+                                u: [ { $set: { publishYear: { $add: [ "$publishYear", { $literal: 1 } ] } } } ],
+                                multi: true
+                            }
+                        ]
+                    }""");
+
+            verify(mongoCollection).bulkWrite(eq(clientSession), writeModelsCaptor.capture());
+            var updateModel = (UpdateManyModel<BsonDocument>) writeModelsCaptor.getValue().get(0);
+            assertNull(updateModel.getUpdate());
+            assertEquals(
+                    List.of(BsonDocument.parse(
+                            """
+                            { $set: { publishYear: { $add: [ "$publishYear", { $literal: 1 } ] } } }""")),
+                    updateModel.getUpdatePipeline());
+        }
+
+        @Test
+        void testUpsert(@Captor ArgumentCaptor<List<WriteModel<BsonDocument>>> writeModelsCaptor)
+                throws SQLException {
+            doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
+            doReturn(BulkWriteResult.acknowledged(
+                            0, 0, 0, 0, List.of(new BulkWriteUpsert(0, new BsonInt32(1))), emptyList()))
+                    .when(mongoCollection)
+                    .bulkWrite(eq(clientSession), anyList());
+
+            var updateCount = mongoStatement.executeUpdate(
+                    """
+                    {
+                        update: "books",
+                        updates: [ { q: { _id: { $eq: 1 } }, u: { $set: { title: "War and Peace" } }, upsert: true } ]
+                    }""");
+
+            assertEquals(1, updateCount);
+            verify(mongoCollection).bulkWrite(eq(clientSession), writeModelsCaptor.capture());
+            var updateModel = (UpdateOneModel<BsonDocument>) writeModelsCaptor.getValue().get(0);
+            assertTrue(updateModel.getOptions().isUpsert());
+        }
+
+        @Test
+        void testUpsertOfUnchangedDocument() throws SQLException {
+            doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
+            doReturn(BulkWriteResult.acknowledged(0, 1, 0, 0, emptyList(), emptyList()))
+                    .when(mongoCollection)
+                    .bulkWrite(eq(clientSession), anyList());
+
+            var updateCount = mongoStatement.executeUpdate(
+                    """
+                    {
+                        update: "books",
+                        updates: [ { q: { _id: { $eq: 1 } }, u: { $set: { title: "War and Peace" } }, upsert: true } ]
+                    }""");
+
+            assertEquals(1, updateCount);
+        }
+
         @Test
         void testSQLExceptionThrownWhenCalledWithInvalidMql() {
 